@@ -26,6 +26,8 @@ public class ExpiredPasswordIdentificationConstants {
     public static final String EXPIRED_PASSWORD_IDENTIFICATION_MANAGEMENT_SERVICE_ERROR_PREFIX = "PASS-EXP_ACC-";
     public static final String DATE_EXPIRED_AFTER = "expiredAfter";
     public static final String DATE_EXCLUDE_AFTER = "excludeAfter";
+    public static final String AFTER = "after";
+    public static final String LIMIT = "limit";
     public static final String DATE_FORMAT_REGEX = "^\\d{4}-\\d{2}-\\d{2}$";
 
     /**
@@ -48,6 +50,9 @@ public class ExpiredPasswordIdentificationConstants {
         PASSWORD_EXPIRY_FEATURE_NOT_ENABLED("60004",
                 "The password expiry feature is not enabled.",
                 "The password expiry feature needs to be enabled to retrieve the password expired users."),
+        ERROR_INVALID_LIMIT("60005",
+                "Invalid limit provided.",
+                "The value provided for limit parameter should be a positive integer."),
 
         // Server errors 650xx.
         ERROR_RETRIEVING_PASSWORD_EXPIRED_USERS("65001",
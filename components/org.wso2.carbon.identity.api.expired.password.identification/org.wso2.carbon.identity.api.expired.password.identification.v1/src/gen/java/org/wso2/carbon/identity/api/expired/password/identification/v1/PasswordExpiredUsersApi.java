@@ -46,7 +46,7 @@ public class PasswordExpiredUsersApi  {
     @GET
     
     
-    @Produces({ "application/json" })
+    @Produces({ "application/json", "application/x-ndjson", "text/csv" })
     @ApiOperation(value = "", notes = "Get password expired users list for a specified period.<br>    <b>Scope(Permission) required:</b> `internal_password_expired_user_view` ", response = PasswordExpiredUser.class, responseContainer = "List", tags={ "Get password expired users" })
     @ApiResponses(value = { 
         @ApiResponse(code = 200, message = "Password expired users returned successfully", response = PasswordExpiredUser.class, responseContainer = "List"),
@@ -55,9 +55,9 @@ public class PasswordExpiredUsersApi  {
         @ApiResponse(code = 403, message = "Resource Forbidden", response = Void.class),
         @ApiResponse(code = 500, message = "Internal Server Error", response = Error.class)
     })
-    public Response getPasswordExpiredUsers(    @Valid @NotNull(message = "Property  cannot be null.") @ApiParam(value = "The date after which passwords will expire.",required=true)  @QueryParam("expiredAfter") String expiredAfter,     @Valid@ApiParam(value = "The date after which should be excluded.")  @QueryParam("excludeAfter") String excludeAfter) {
+    public Response getPasswordExpiredUsers(    @Valid @NotNull(message = "Property  cannot be null.") @ApiParam(value = "The date after which passwords will expire.",required=true)  @QueryParam("expiredAfter") String expiredAfter,     @Valid@ApiParam(value = "The date after which should be excluded.")  @QueryParam("excludeAfter") String excludeAfter,     @Valid@ApiParam(value = "User ID of the last user of the previous page.")  @QueryParam("after") String after,     @Valid@ApiParam(value = "Maximum number of users to be returned.")  @QueryParam("limit") Integer limit,     @Valid @ApiParam(value = "Content type of the response. " , allowableValues="application/json, application/x-ndjson, text/csv", defaultValue="application/json")@HeaderParam("Accept") String accept) {
 
-        return delegate.getPasswordExpiredUsers(expiredAfter,  excludeAfter );
+        return delegate.getPasswordExpiredUsers(expiredAfter,  excludeAfter,  after,  limit,  accept );
     }
 
 }
@@ -25,6 +25,8 @@ import org.wso2.carbon.identity.api.expired.password.identification.common.util.
 import org.wso2.carbon.identity.api.expired.password.identification.v1.model.PasswordExpiredUser;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
+import org.wso2.carbon.identity.api.server.common.report.ReportFormat;
+import org.wso2.carbon.identity.api.server.common.report.ReportWriter;
 import org.wso2.carbon.identity.application.authentication.framework.exception.PostAuthenticationFailedException;
 import org.wso2.carbon.identity.password.expiry.exceptions.ExpiredPasswordIdentificationClientException;
 import org.wso2.carbon.identity.password.expiry.exceptions.ExpiredPasswordIdentificationException;
@@ -36,11 +38,17 @@ import org.wso2.carbon.identity.password.expiry.util.PasswordPolicyUtils;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeParseException;
-import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 
 import static org.wso2.carbon.identity.api.expired.password.identification.common.util.ExpiredPasswordIdentificationConstants.DATE_EXCLUDE_AFTER;
 import static org.wso2.carbon.identity.api.expired.password.identification.common.util.ExpiredPasswordIdentificationConstants.DATE_EXPIRED_AFTER;
@@ -53,6 +61,7 @@ public class PasswordExpiredUsersManagementApiService {
 
     private final ExpiredPasswordIdentificationService expiredPasswordIdentificationService;
     private static final Log LOG = LogFactory.getLog(PasswordExpiredUsersManagementApiService.class);
+    private static final Map<String, Function<PasswordExpiredUser, String>> CSV_COLUMNS = createCsvColumns();
 
     public PasswordExpiredUsersManagementApiService(
             ExpiredPasswordIdentificationService expiredPasswordIdentificationService) {
@@ -71,9 +80,56 @@ public class PasswordExpiredUsersManagementApiService {
     public List<PasswordExpiredUser> getPasswordExpiredUsers(
             String expiredAfter, String excludeAfter, String tenantDomain) {
 
-        List<PasswordExpiredUserModel> passwordExpiredUsers = null;
+        return getPasswordExpiredUsers(expiredAfter, excludeAfter, tenantDomain, null, null);
+    }
+
+    /**
+     * Get a page of password expired users. If a cursor or a limit is given, the users are ordered by the user ID
+     * and only the users following the cursor are returned. Otherwise, all the password expired users are returned.
+     *
+     * @param expiredAfter The date after which passwords will expire.
+     * @param excludeAfter The date after which should be excluded.
+     * @param tenantDomain Tenant domain.
+     * @param after        User ID of the last user of the previous page.
+     * @param limit        Maximum number of users to be returned.
+     * @return List of password expired users.
+     */
+    public List<PasswordExpiredUser> getPasswordExpiredUsers(String expiredAfter, String excludeAfter,
+                                                             String tenantDomain, String after, Integer limit) {
+
+        return retrievePasswordExpiredUsers(expiredAfter, excludeAfter, tenantDomain, after, limit).stream()
+                .map(this::buildPasswordExpiredUser).collect(Collectors.toList());
+    }
+
+    /**
+     * Stream the password expired users in the given format. The users are written to the response one by one,
+     * without building the whole response in memory.
+     *
+     * @param expiredAfter The date after which passwords will expire.
+     * @param excludeAfter The date after which should be excluded.
+     * @param tenantDomain Tenant domain.
+     * @param after        User ID of the last user of the previous page.
+     * @param limit        Maximum number of users to be returned.
+     * @param format       Streaming report format.
+     * @return Streaming output writing the password expired users.
+     */
+    public StreamingOutput streamPasswordExpiredUsers(String expiredAfter, String excludeAfter, String tenantDomain,
+                                                      String after, Integer limit, ReportFormat format) {
+
+        Collection<PasswordExpiredUserModel> passwordExpiredUsers =
+                retrievePasswordExpiredUsers(expiredAfter, excludeAfter, tenantDomain, after, limit);
+        return ReportWriter.stream(passwordExpiredUsers, this::buildPasswordExpiredUser, format, CSV_COLUMNS);
+    }
+
+    private Collection<PasswordExpiredUserModel> retrievePasswordExpiredUsers(String expiredAfter,
+                                                                              String excludeAfter,
+                                                                              String tenantDomain, String after,
+                                                                              Integer limit) {
+
+        List<PasswordExpiredUserModel> passwordExpiredUsers;
         try {
             validateDates(expiredAfter, excludeAfter);
+            validateLimit(limit);
             validatePasswordExpiryFeatureEnabled(tenantDomain);
             LocalDateTime expiredAfterDate = convertToDateObject(expiredAfter, DATE_EXPIRED_AFTER);
             LocalDateTime excludeAfterDate = convertToDateObject(excludeAfter, DATE_EXCLUDE_AFTER);
@@ -84,11 +140,30 @@ public class PasswordExpiredUsersManagementApiService {
                 passwordExpiredUsers = expiredPasswordIdentificationService
                         .getPasswordExpiredUsersBetweenSpecificDates(expiredAfterDate, excludeAfterDate, tenantDomain);
             }
-            return buildResponse(passwordExpiredUsers);
         } catch (ExpiredPasswordIdentificationException e) {
             throw handleExpiredPasswordIdentificationException(e,
                     ErrorMessage.ERROR_RETRIEVING_PASSWORD_EXPIRED_USERS, tenantDomain);
         }
+
+        if (after == null && limit == null) {
+            return passwordExpiredUsers;
+        }
+        return ReportWriter.getPage(passwordExpiredUsers, PasswordExpiredUserModel::getUserId, after, limit);
+    }
+
+    /**
+     * Validate the page size.
+     *
+     * @param limit Maximum number of users to be returned.
+     * @throws ExpiredPasswordIdentificationClientException If the limit is not a positive integer.
+     */
+    private void validateLimit(Integer limit) throws ExpiredPasswordIdentificationClientException {
+
+        if (limit != null && limit <= 0) {
+            ErrorMessage error = ErrorMessage.ERROR_INVALID_LIMIT;
+            throw new ExpiredPasswordIdentificationClientException(error.getCode(), error.getMessage(),
+                    error.getDescription());
+        }
     }
 
     /**
@@ -150,22 +225,18 @@ public class PasswordExpiredUsersManagementApiService {
     }
 
     /**
-     * Build the password expired users list.
+     * Build the password expired user.
      *
-     * @param passwordExpiredUserModels List of password expired users.
-     * @return List of password expired users.
+     * @param passwordExpiredUserModel Password expired user.
+     * @return Password expired user.
      */
-    private List<PasswordExpiredUser> buildResponse(List<PasswordExpiredUserModel> passwordExpiredUserModels) {
-
-        List<PasswordExpiredUser> passwordExpiredUsers = new ArrayList<>();
-        for (PasswordExpiredUserModel passwordExpiredUserModel : passwordExpiredUserModels) {
-            PasswordExpiredUser passwordExpiredUser = new PasswordExpiredUser();
-            passwordExpiredUser.setUsername(passwordExpiredUserModel.getUsername());
-            passwordExpiredUser.setUserStoreDomain(passwordExpiredUserModel.getUserStoreDomain());
-            passwordExpiredUser.setUserId(passwordExpiredUserModel.getUserId());
-            passwordExpiredUsers.add(passwordExpiredUser);
-        }
-        return passwordExpiredUsers;
+    private PasswordExpiredUser buildPasswordExpiredUser(PasswordExpiredUserModel passwordExpiredUserModel) {
+
+        PasswordExpiredUser passwordExpiredUser = new PasswordExpiredUser();
+        passwordExpiredUser.setUsername(passwordExpiredUserModel.getUsername());
+        passwordExpiredUser.setUserStoreDomain(passwordExpiredUserModel.getUserStoreDomain());
+        passwordExpiredUser.setUserId(passwordExpiredUserModel.getUserId());
+        return passwordExpiredUser;
     }
 
     /**
@@ -261,4 +332,13 @@ public class PasswordExpiredUsersManagementApiService {
             throw new ExpiredPasswordIdentificationServerException(e);
         }
     }
+
+    private static Map<String, Function<PasswordExpiredUser, String>> createCsvColumns() {
+
+        Map<String, Function<PasswordExpiredUser, String>> csvColumns = new LinkedHashMap<>();
+        csvColumns.put("userId", PasswordExpiredUser::getUserId);
+        csvColumns.put("username", PasswordExpiredUser::getUsername);
+        csvColumns.put("userStoreDomain", PasswordExpiredUser::getUserStoreDomain);
+        return Collections.unmodifiableMap(csvColumns);
+    }
 }
@@ -22,9 +22,22 @@ import org.wso2.carbon.identity.api.expired.password.identification.common.Conte
 import org.wso2.carbon.identity.api.expired.password.identification.v1.PasswordExpiredUsersApiService;
 import org.wso2.carbon.identity.api.expired.password.identification.v1.core.PasswordExpiredUsersManagementApiService;
 import org.wso2.carbon.identity.api.expired.password.identification.v1.factories.PasswordExpiredUsersManagementApiServiceFactory;
+import org.wso2.carbon.identity.api.expired.password.identification.v1.model.PasswordExpiredUser;
+import org.wso2.carbon.identity.api.server.common.report.ReportFormat;
+import org.wso2.carbon.identity.api.server.common.report.ReportWriter;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response;
 
+import static org.wso2.carbon.identity.api.expired.password.identification.common.util.ExpiredPasswordIdentificationConstants.AFTER;
+import static org.wso2.carbon.identity.api.expired.password.identification.common.util.ExpiredPasswordIdentificationConstants.DATE_EXCLUDE_AFTER;
+import static org.wso2.carbon.identity.api.expired.password.identification.common.util.ExpiredPasswordIdentificationConstants.DATE_EXPIRED_AFTER;
+import static org.wso2.carbon.identity.api.expired.password.identification.common.util.ExpiredPasswordIdentificationConstants.LIMIT;
+
 /**
  * Implementation of the password expired User retrieval API Service.
  */
@@ -43,10 +56,27 @@ public class PasswordExpiredUsersApiServiceImpl implements PasswordExpiredUsersA
     }
 
     @Override
-    public Response getPasswordExpiredUsers(String expiredAfter, String excludeAfter) {
+    public Response getPasswordExpiredUsers(String expiredAfter, String excludeAfter, String after, Integer limit,
+                                            String accept) {
 
         String tenantDomain = ContextLoader.getTenantDomainFromContext();
-        return Response.ok().entity(passwordExpiredUsersManagementApiService.getPasswordExpiredUsers(
-                expiredAfter, excludeAfter, tenantDomain)).build();
+        ReportFormat format = ReportFormat.fromAcceptHeader(accept);
+        if (format != ReportFormat.JSON) {
+            return Response.ok(passwordExpiredUsersManagementApiService.streamPasswordExpiredUsers(expiredAfter,
+                    excludeAfter, tenantDomain, after, limit, format), format.getMediaType()).build();
+        }
+
+        List<PasswordExpiredUser> passwordExpiredUsers = passwordExpiredUsersManagementApiService
+                .getPasswordExpiredUsers(expiredAfter, excludeAfter, tenantDomain, after, limit);
+        Response.ResponseBuilder responseBuilder = Response.ok().entity(passwordExpiredUsers);
+        if (limit != null && passwordExpiredUsers.size() == limit) {
+            Map<String, String> nextPageParams = new LinkedHashMap<>();
+            nextPageParams.put(DATE_EXPIRED_AFTER, expiredAfter);
+            nextPageParams.put(DATE_EXCLUDE_AFTER, excludeAfter);
+            nextPageParams.put(AFTER, passwordExpiredUsers.get(passwordExpiredUsers.size() - 1).getUserId());
+            nextPageParams.put(LIMIT, String.valueOf(limit));
+            responseBuilder.header(HttpHeaders.LINK, ReportWriter.buildNextPageLink(nextPageParams));
+        }
+        return responseBuilder.build();
     }
 }
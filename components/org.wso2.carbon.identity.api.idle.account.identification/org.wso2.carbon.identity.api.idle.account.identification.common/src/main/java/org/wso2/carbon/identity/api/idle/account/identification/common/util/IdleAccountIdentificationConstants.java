@@ -31,6 +31,9 @@ public class IdleAccountIdentificationConstants {
     public static final String IS_DISABLED = "isDisabled";
     public static final String TRUE_VALUE = "true";
     public static final String FALSE_VALUE = "false";
+    public static final String FILTER = "filter";
+    public static final String AFTER = "after";
+    public static final String LIMIT = "limit";
 
     /**
      * Enums for error messages.
@@ -58,6 +61,10 @@ public class IdleAccountIdentificationConstants {
                 "Invalid filter value provided.",
                 "The filter value provided is invalid"),
 
+        ERROR_INVALID_LIMIT("60006",
+                "Invalid limit provided.",
+                "The value provided for limit parameter should be a positive integer."),
+
         // Server errors 650xx.
         ERROR_RETRIEVING_INACTIVE_USERS("65001",
                 "Error while retrieving inactive users.",
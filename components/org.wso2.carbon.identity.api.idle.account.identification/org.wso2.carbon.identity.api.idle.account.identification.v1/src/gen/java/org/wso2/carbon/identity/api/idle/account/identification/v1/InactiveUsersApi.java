@@ -45,7 +45,7 @@ public class InactiveUsersApi  {
     @GET
 
 
-    @Produces({ "application/json" })
+    @Produces({ "application/json", "application/x-ndjson", "text/csv" })
     @ApiOperation(value = "", notes = "Get inactive users list for a specified period.", response = InactiveUser.class, responseContainer = "List", tags={ "Get inactive users" })
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Inactive users returned successfully", response = InactiveUser.class, responseContainer = "List"),
@@ -57,9 +57,12 @@ public class InactiveUsersApi  {
     public Response getInactiveUsers(
             @Valid @ApiParam(value = "Latest active date of login.") @QueryParam("inactiveAfter") String inactiveAfter,
             @Valid @ApiParam(value = "Date to exclude the oldest inactive users.") @QueryParam("excludeBefore") String excludeBefore,
-            @Valid @ApiParam(value = "Filter inactive users by account state disabled.") @QueryParam("filter") String filter)
+            @Valid @ApiParam(value = "Filter inactive users by account state disabled.") @QueryParam("filter") String filter,
+            @Valid @ApiParam(value = "User ID of the last user of the previous page.") @QueryParam("after") String after,
+            @Valid @ApiParam(value = "Maximum number of users to be returned.") @QueryParam("limit") Integer limit,
+            @Valid @ApiParam(value = "Content type of the response.", allowableValues = "application/json, application/x-ndjson, text/csv", defaultValue = "application/json") @HeaderParam("Accept") String accept)
             throws IdleAccountIdentificationClientException {
 
-        return delegate.getInactiveUsers(inactiveAfter, excludeBefore, filter);
+        return delegate.getInactiveUsers(inactiveAfter, excludeBefore, filter, after, limit, accept);
     }
 }
@@ -41,9 +41,12 @@ public interface InactiveUsersApiService {
      * @param inactiveAfter The date after which the users are considered as inactive.
      * @param excludeBefore The date before which the users are considered as inactive. (optional)
      * @param filter Filter inactive users based isDisabled attribute. (optional)
+     * @param after User ID of the last user of the previous page. (optional)
+     * @param limit Maximum number of users to be returned. (optional)
+     * @param accept Content type of the response. (optional)
      * @return InactiveUser
      * @throws IdleAccountIdentificationClientException If an error occurs while retrieving inactive users.
      */
-     Response getInactiveUsers(String inactiveAfter, String excludeBefore, String filter)
-            throws IdleAccountIdentificationClientException;
+     Response getInactiveUsers(String inactiveAfter, String excludeBefore, String filter, String after,
+                               Integer limit, String accept) throws IdleAccountIdentificationClientException;
 }
@@ -26,6 +26,8 @@ import org.wso2.carbon.identity.api.idle.account.identification.common.util.Idle
 import org.wso2.carbon.identity.api.idle.account.identification.v1.model.InactiveUser;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
+import org.wso2.carbon.identity.api.server.common.report.ReportFormat;
+import org.wso2.carbon.identity.api.server.common.report.ReportWriter;
 import org.wso2.carbon.identity.base.IdentityException;
 import org.wso2.carbon.identity.core.model.ExpressionNode;
 import org.wso2.carbon.identity.core.model.FilterTreeBuilder;
@@ -41,10 +43,17 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 
 import static org.wso2.carbon.identity.api.idle.account.identification.common.util.IdleAccountIdentificationConstants.DATE_EXCLUDE_BEFORE;
 import static org.wso2.carbon.identity.api.idle.account.identification.common.util.IdleAccountIdentificationConstants.DATE_FORMAT_REGEX;
@@ -61,6 +70,7 @@ public class InactiveUsersManagementApiService {
 
     private final IdleAccountIdentificationService idleAccountIdentificationService;
     private static final Log LOG = LogFactory.getLog(InactiveUsersManagementApiService.class);
+    private static final Map<String, Function<InactiveUser, String>> CSV_COLUMNS = createCsvColumns();
 
     public InactiveUsersManagementApiService(IdleAccountIdentificationService idleAccountIdentificationService) {
 
@@ -77,11 +87,7 @@ public class InactiveUsersManagementApiService {
      */
     public List<InactiveUser> getInactiveUsers(String inactiveAfter, String excludeBefore, String tenantDomain) {
 
-        try {
-            return getInactiveUsers(inactiveAfter, excludeBefore, tenantDomain, null);
-        } catch (IdleAccountIdentificationException e) {
-            throw handleIdleAccIdentificationException(e, ErrorMessage.ERROR_RETRIEVING_INACTIVE_USERS, tenantDomain);
-        }
+        return getInactiveUsers(inactiveAfter, excludeBefore, tenantDomain, null, null, null);
     }
 
     /**
@@ -96,15 +102,63 @@ public class InactiveUsersManagementApiService {
     public List<InactiveUser> getInactiveUsers(String inactiveAfter, String excludeBefore, String tenantDomain,
                                                String filter) throws IdleAccountIdentificationClientException {
 
-        List<InactiveUserModel> inactiveUsers = null;
+        return getInactiveUsers(inactiveAfter, excludeBefore, tenantDomain, filter, null, null);
+    }
+
+    /**
+     * Get a page of inactive users. If a cursor or a limit is given, the users are ordered by the user ID and only
+     * the users following the cursor are returned. Otherwise, all the inactive users are returned.
+     *
+     * @param inactiveAfter Latest active date of login.
+     * @param excludeBefore Date to exclude the oldest inactive users.
+     * @param tenantDomain  Tenant domain.
+     * @param filter        Filter for the account state of the users.
+     * @param after         User ID of the last user of the previous page.
+     * @param limit         Maximum number of users to be returned.
+     * @return List of inactive users.
+     */
+    public List<InactiveUser> getInactiveUsers(String inactiveAfter, String excludeBefore, String tenantDomain,
+                                               String filter, String after, Integer limit) {
+
+        return retrieveInactiveUsers(inactiveAfter, excludeBefore, tenantDomain, filter, after, limit).stream()
+                .map(this::buildInactiveUser).collect(Collectors.toList());
+    }
+
+    /**
+     * Stream the inactive users in the given format. The users are written to the response one by one, without
+     * building the whole response in memory.
+     *
+     * @param inactiveAfter Latest active date of login.
+     * @param excludeBefore Date to exclude the oldest inactive users.
+     * @param tenantDomain  Tenant domain.
+     * @param filter        Filter for the account state of the users.
+     * @param after         User ID of the last user of the previous page.
+     * @param limit         Maximum number of users to be returned.
+     * @param format        Streaming report format.
+     * @return Streaming output writing the inactive users.
+     */
+    public StreamingOutput streamInactiveUsers(String inactiveAfter, String excludeBefore, String tenantDomain,
+                                               String filter, String after, Integer limit, ReportFormat format) {
+
+        Collection<InactiveUserModel> inactiveUsers =
+                retrieveInactiveUsers(inactiveAfter, excludeBefore, tenantDomain, filter, after, limit);
+        return ReportWriter.stream(inactiveUsers, this::buildInactiveUser, format, CSV_COLUMNS);
+    }
+
+    private Collection<InactiveUserModel> retrieveInactiveUsers(String inactiveAfter, String excludeBefore,
+                                                                String tenantDomain, String filter, String after,
+                                                                Integer limit) {
+
+        List<InactiveUserModel> inactiveUsers;
         try {
             validateDates(inactiveAfter, excludeBefore);
+            validateLimit(limit);
             LocalDateTime inactiveAfterDate = convertToDateObject(inactiveAfter, DATE_INACTIVE_AFTER);
             LocalDateTime excludeBeforeDate = convertToDateObject(excludeBefore, DATE_EXCLUDE_BEFORE);
 
             validateDatesCombination(inactiveAfterDate, excludeBeforeDate);
 
-            if (filter == null) {
+            if (StringUtils.isBlank(filter)) {
                 if (excludeBeforeDate == null) {
                     inactiveUsers = idleAccountIdentificationService
                             .getInactiveUsersFromSpecificDate(inactiveAfterDate, tenantDomain);
@@ -113,24 +167,38 @@ public class InactiveUsersManagementApiService {
                             idleAccountIdentificationService.getLimitedInactiveUsersFromSpecificDate(inactiveAfterDate,
                                     excludeBeforeDate, tenantDomain);
                 }
-                return buildResponse(inactiveUsers);
-            }
-
-            List<ExpressionNode> expressionNodes = getExpressionNodes(filter);
-            if (validateExpressionNodes(expressionNodes)) {
+            } else {
+                List<ExpressionNode> expressionNodes = getExpressionNodes(filter);
+                validateExpressionNodes(expressionNodes);
                 boolean isDisabled = Boolean.parseBoolean(expressionNodes.get(0).getValue());
 
                 inactiveUsers = IdleAccountIdentificationServiceHolder.getIdleAccountIdentificationService()
                         .filterInactiveUsersIfDisabled(inactiveAfterDate, excludeBeforeDate, tenantDomain,
                                 isDisabled);
-
-                return buildResponse(inactiveUsers);
             }
-            return getInactiveUsers(inactiveAfter, excludeBefore, tenantDomain);
-
         } catch (IdleAccountIdentificationException e) {
             throw handleIdleAccIdentificationException(e, ErrorMessage.ERROR_RETRIEVING_INACTIVE_USERS, tenantDomain);
         }
+
+        if (after == null && limit == null) {
+            return inactiveUsers;
+        }
+        return ReportWriter.getPage(inactiveUsers, InactiveUserModel::getUserId, after, limit);
+    }
+
+    /**
+     * Validate the page size.
+     *
+     * @param limit Maximum number of users to be returned.
+     * @throws IdleAccountIdentificationClientException If the limit is not a positive integer.
+     */
+    private void validateLimit(Integer limit) throws IdleAccountIdentificationClientException {
+
+        if (limit != null && limit <= 0) {
+            ErrorMessage error = ErrorMessage.ERROR_INVALID_LIMIT;
+            throw new IdleAccountIdentificationClientException(error.getCode(), error.getMessage(),
+                    error.getDescription());
+        }
     }
 
     /**
@@ -199,22 +267,18 @@ public class InactiveUsersManagementApiService {
     }
 
     /**
-     * Build the InactiveUser list.
+     * Build the InactiveUser.
      *
-     * @param inactiveUserModels List of inactive users.
-     * @return List of inactive users.
+     * @param inactiveUserModel Inactive user.
+     * @return Inactive user.
      */
-    private List<InactiveUser> buildResponse(List<InactiveUserModel> inactiveUserModels) {
-
-        List<InactiveUser> inactiveUserList = new ArrayList<>();
-        for (InactiveUserModel inactiveUserModel : inactiveUserModels) {
-            InactiveUser inactiveUser = new InactiveUser();
-            inactiveUser.setUsername(inactiveUserModel.getUsername());
-            inactiveUser.setUserStoreDomain(inactiveUserModel.getUserStoreDomain());
-            inactiveUser.setUserId(inactiveUserModel.getUserId());
-            inactiveUserList.add(inactiveUser);
-        }
-        return inactiveUserList;
+    private InactiveUser buildInactiveUser(InactiveUserModel inactiveUserModel) {
+
+        InactiveUser inactiveUser = new InactiveUser();
+        inactiveUser.setUsername(inactiveUserModel.getUsername());
+        inactiveUser.setUserStoreDomain(inactiveUserModel.getUserStoreDomain());
+        inactiveUser.setUserId(inactiveUserModel.getUserId());
+        return inactiveUser;
     }
 
     /**
@@ -367,18 +431,26 @@ public class InactiveUsersManagementApiService {
      * Validate the expression nodes.
      *
      * @param expressionNodes List of expression nodes.
-     * @return boolean.
      * @throws IdleAccountIdentificationClientException Error when validate filters.
      */
-    private boolean validateExpressionNodes(List<ExpressionNode> expressionNodes)
+    private void validateExpressionNodes(List<ExpressionNode> expressionNodes)
             throws IdleAccountIdentificationClientException {
 
-        if (IS_DISABLED.equals(expressionNodes.get(0).getAttributeValue())) {
-            return true;
+        if (!expressionNodes.isEmpty() && IS_DISABLED.equals(expressionNodes.get(0).getAttributeValue())) {
+            return;
         }
 
         ErrorMessage error = ErrorMessage.ERROR_INVALID_FILTER;
         throw new IdleAccountIdentificationClientException(error.getCode(), error.getMessage(),
                 String.format(error.getDescription()));
     }
+
+    private static Map<String, Function<InactiveUser, String>> createCsvColumns() {
+
+        Map<String, Function<InactiveUser, String>> csvColumns = new LinkedHashMap<>();
+        csvColumns.put("userId", InactiveUser::getUserId);
+        csvColumns.put("username", InactiveUser::getUsername);
+        csvColumns.put("userStoreDomain", InactiveUser::getUserStoreDomain);
+        return Collections.unmodifiableMap(csvColumns);
+    }
 }
@@ -22,10 +22,23 @@ import org.wso2.carbon.identity.api.idle.account.identification.common.ContextLo
 import org.wso2.carbon.identity.api.idle.account.identification.v1.InactiveUsersApiService;
 import org.wso2.carbon.identity.api.idle.account.identification.v1.core.InactiveUsersManagementApiService;
 import org.wso2.carbon.identity.api.idle.account.identification.v1.factories.InactiveUsersManagementApiServiceFactory;
-import org.wso2.carbon.identity.idle.account.identification.exception.IdleAccountIdentificationClientException;
+import org.wso2.carbon.identity.api.idle.account.identification.v1.model.InactiveUser;
+import org.wso2.carbon.identity.api.server.common.report.ReportFormat;
+import org.wso2.carbon.identity.api.server.common.report.ReportWriter;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response;
 
+import static org.wso2.carbon.identity.api.idle.account.identification.common.util.IdleAccountIdentificationConstants.AFTER;
+import static org.wso2.carbon.identity.api.idle.account.identification.common.util.IdleAccountIdentificationConstants.DATE_EXCLUDE_BEFORE;
+import static org.wso2.carbon.identity.api.idle.account.identification.common.util.IdleAccountIdentificationConstants.DATE_INACTIVE_AFTER;
+import static org.wso2.carbon.identity.api.idle.account.identification.common.util.IdleAccountIdentificationConstants.FILTER;
+import static org.wso2.carbon.identity.api.idle.account.identification.common.util.IdleAccountIdentificationConstants.LIMIT;
+
 /**
  * Implementation of the Inactive Users API Service.
  */
@@ -51,16 +64,28 @@ public class InactiveUsersApiServiceImpl implements InactiveUsersApiService {
     }
 
     @Override
-    public Response getInactiveUsers(String inactiveAfter, String excludeBefore, String filter)
-            throws IdleAccountIdentificationClientException {
+    public Response getInactiveUsers(String inactiveAfter, String excludeBefore, String filter, String after,
+                                     Integer limit, String accept) {
 
         String tenantDomain = ContextLoader.getTenantDomainFromContext();
+        ReportFormat format = ReportFormat.fromAcceptHeader(accept);
+        if (format != ReportFormat.JSON) {
+            return Response.ok(inactiveUsersManagementApiService.streamInactiveUsers(inactiveAfter, excludeBefore,
+                    tenantDomain, filter, after, limit, format), format.getMediaType()).build();
+        }
 
-        if (filter != null) {
-            return Response.ok().entity(
-                    inactiveUsersManagementApiService.getInactiveUsers(inactiveAfter, excludeBefore, tenantDomain,
-                            filter)).build();
+        List<InactiveUser> inactiveUsers = inactiveUsersManagementApiService.getInactiveUsers(inactiveAfter,
+                excludeBefore, tenantDomain, filter, after, limit);
+        Response.ResponseBuilder responseBuilder = Response.ok().entity(inactiveUsers);
+        if (limit != null && inactiveUsers.size() == limit) {
+            Map<String, String> nextPageParams = new LinkedHashMap<>();
+            nextPageParams.put(DATE_INACTIVE_AFTER, inactiveAfter);
+            nextPageParams.put(DATE_EXCLUDE_BEFORE, excludeBefore);
+            nextPageParams.put(FILTER, filter);
+            nextPageParams.put(AFTER, inactiveUsers.get(inactiveUsers.size() - 1).getUserId());
+            nextPageParams.put(LIMIT, String.valueOf(limit));
+            responseBuilder.header(HttpHeaders.LINK, ReportWriter.buildNextPageLink(nextPageParams));
         }
-        return getInactiveUsers(inactiveAfter, excludeBefore);
+        return responseBuilder.build();
     }
 }
@@ -18,8 +18,6 @@
 
 package org.wso2.carbon.identity.api.server.action.management.v1.util;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.wso2.carbon.identity.action.management.api.model.Action;
 import org.wso2.carbon.identity.api.server.action.management.v1.ActionModel;
 import org.wso2.carbon.identity.api.server.action.management.v1.ActionUpdateModel;
@@ -28,7 +26,9 @@ import org.wso2.carbon.identity.api.server.action.management.v1.PreUpdatePasswor
 import org.wso2.carbon.identity.api.server.action.management.v1.PreUpdateProfileActionModel;
 import org.wso2.carbon.identity.api.server.action.management.v1.PreUpdateProfileActionUpdateModel;
 import org.wso2.carbon.identity.api.server.action.management.v1.constants.ActionMgtEndpointConstants;
+import org.wso2.carbon.identity.api.server.common.codec.CodecRegistry;
 
+import java.io.IOException;
 import java.util.Set;
 
 import javax.validation.ConstraintViolation;
@@ -54,22 +54,21 @@ public class ActionDeserializer {
 
         ActionModel actionModel = null;
         try {
-            ObjectMapper objectMapper = new ObjectMapper();
             switch (actionType) {
                 case PRE_ISSUE_ACCESS_TOKEN:
-                    actionModel = objectMapper.readValue(jsonBody, ActionModel.class);
+                    actionModel = CodecRegistry.readJson(jsonBody, ActionModel.class);
                     // Validate the object
                     validateActionModel(actionModel, ActionModel.class);
                     break;
                 case PRE_UPDATE_PASSWORD:
-                    PreUpdatePasswordActionModel preUpdatePasswordActionModel = objectMapper.readValue(jsonBody,
+                    PreUpdatePasswordActionModel preUpdatePasswordActionModel = CodecRegistry.readJson(jsonBody,
                             PreUpdatePasswordActionModel.class);
                     // Validate the object
                     validateActionModel(preUpdatePasswordActionModel, PreUpdatePasswordActionModel.class);
                     actionModel = preUpdatePasswordActionModel;
                     break;
                 case PRE_UPDATE_PROFILE:
-                    PreUpdateProfileActionModel preUpdateProfileActionModel = objectMapper.readValue(jsonBody,
+                    PreUpdateProfileActionModel preUpdateProfileActionModel = CodecRegistry.readJson(jsonBody,
                             PreUpdateProfileActionModel.class);
                     validateActionModel(preUpdateProfileActionModel, PreUpdateProfileActionModel.class);
                     actionModel = preUpdateProfileActionModel;
@@ -77,7 +76,7 @@ public class ActionDeserializer {
                 default:
                     break;
             }
-        } catch (JsonProcessingException e) {
+        } catch (IOException e) {
             throw ActionMgtEndpointUtil.handleException(Response.Status.BAD_REQUEST,
                     ActionMgtEndpointConstants.ErrorMessage.ERROR_INVALID_PAYLOAD);
         }
@@ -96,30 +95,29 @@ public class ActionDeserializer {
 
         ActionUpdateModel actionUpdateModel = null;
         try {
-            ObjectMapper objectMapper = new ObjectMapper();
             switch (actionType) {
                 case PRE_ISSUE_ACCESS_TOKEN:
-                    actionUpdateModel = objectMapper.readValue(jsonBody, ActionUpdateModel.class);
+                    actionUpdateModel = CodecRegistry.readJson(jsonBody, ActionUpdateModel.class);
                     // Validate the object
                     validateActionModel(actionUpdateModel, ActionUpdateModel.class);
                     break;
                 case PRE_UPDATE_PASSWORD:
                     PreUpdatePasswordActionUpdateModel preUpdatePasswordActionUpdateModel =
-                            objectMapper.readValue(jsonBody, PreUpdatePasswordActionUpdateModel.class);
+                            CodecRegistry.readJson(jsonBody, PreUpdatePasswordActionUpdateModel.class);
                     // Validate the object
                     validateActionModel(preUpdatePasswordActionUpdateModel, PreUpdatePasswordActionUpdateModel.class);
                     actionUpdateModel = preUpdatePasswordActionUpdateModel;
                     break;
                 case PRE_UPDATE_PROFILE:
                     PreUpdateProfileActionUpdateModel preUpdateProfileActionUpdateModel =
-                            objectMapper.readValue(jsonBody, PreUpdateProfileActionUpdateModel.class);
+                            CodecRegistry.readJson(jsonBody, PreUpdateProfileActionUpdateModel.class);
                     validateActionModel(preUpdateProfileActionUpdateModel, PreUpdateProfileActionUpdateModel.class);
                     actionUpdateModel = preUpdateProfileActionUpdateModel;
                     break;
                 default:
                     break;
             }
-        } catch (JsonProcessingException e) {
+        } catch (IOException e) {
             throw ActionMgtEndpointUtil.handleException(Response.Status.BAD_REQUEST,
                     ActionMgtEndpointConstants.ErrorMessage.ERROR_INVALID_PAYLOAD);
         }
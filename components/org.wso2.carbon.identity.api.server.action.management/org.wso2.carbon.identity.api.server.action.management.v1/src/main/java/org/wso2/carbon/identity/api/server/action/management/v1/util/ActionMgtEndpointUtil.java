@@ -49,8 +49,8 @@ public class ActionMgtEndpointUtil {
 
     public static String buildURIForActionType(String actionType) {
 
-        return ContextLoader.buildURIForBody(ACTION_TYPE_LINK_FORMAT +
-                Action.ActionTypes.valueOf(actionType).getPathParam()).toString();
+        return ContextLoader.buildURLForBody(ACTION_TYPE_LINK_FORMAT +
+                Action.ActionTypes.valueOf(actionType).getPathParam());
     }
 
     public static APIError handleException(Response.Status status,
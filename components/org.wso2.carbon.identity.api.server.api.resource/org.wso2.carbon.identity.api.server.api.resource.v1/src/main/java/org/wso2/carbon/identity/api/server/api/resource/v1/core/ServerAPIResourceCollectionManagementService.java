@@ -146,9 +146,9 @@ public class ServerAPIResourceCollectionManagementService {
                 .name(apiResourceCollection.getName())
                 .displayName(apiResourceCollection.getDisplayName())
                 .type(apiResourceCollection.getType())
-                .self(ContextLoader.buildURIForBody(V1_API_PATH_COMPONENT +
+                .self(ContextLoader.buildURLForBody(V1_API_PATH_COMPONENT +
                         APIResourceMgtEndpointConstants.API_RESOURCE_COLLECTION_PATH_COMPONENT + "/" +
-                        apiResourceCollection.getId()).toString());
+                        apiResourceCollection.getId()));
         if (includeAPIResources) {
             item.setApiResources(buildAPIResourceMap(apiResourceCollection));
         }
@@ -206,9 +206,8 @@ public class ServerAPIResourceCollectionManagementService {
                 .description(apiResource.getDescription())
                 .type(apiResource.getType())
                 .scopes(scopesList)
-                .self(ContextLoader.buildURIForBody(V1_API_PATH_COMPONENT +
-                                APIResourceMgtEndpointConstants.API_RESOURCE_PATH_COMPONENT + "/" + apiResource.getId())
-                        .toString());
+                .self(ContextLoader.buildURLForBody(V1_API_PATH_COMPONENT +
+                        APIResourceMgtEndpointConstants.API_RESOURCE_PATH_COMPONENT + "/" + apiResource.getId()));
     }
 
     /**
@@ -553,9 +553,8 @@ public class ServerAPIResourceManagementService {
                 .type(apiResource.getType())
                 .requiresAuthorization(apiResource.isAuthorizationRequired())
                 .properties(properties)
-                .self(ContextLoader.buildURIForBody(V1_API_PATH_COMPONENT +
-                                APIResourceMgtEndpointConstants.API_RESOURCE_PATH_COMPONENT + "/" + apiResource.getId())
-                        .toString());
+                .self(ContextLoader.buildURLForBody(V1_API_PATH_COMPONENT +
+                        APIResourceMgtEndpointConstants.API_RESOURCE_PATH_COMPONENT + "/" + apiResource.getId()));
     }
 
     /**
@@ -84,6 +84,12 @@ public class ApplicationManagementConstants {
     public static final String NON_EXISTING_USER_CODE = "30007 - ";
     public static final String APPLICATION_BASED_OUTBOUND_PROVISIONING_ENABLED =
             "OutboundProvisioning.enableApplicationBasedOutboundProvisioning";
+    // Maximum size in bytes of an application file accepted for import. A non-positive value disables the limit.
+    public static final String APPLICATION_IMPORT_FILE_SIZE_LIMIT = "ApplicationMgt.ImportFileSizeLimit";
+    // Maximum number of applications accepted by a single bulk export or import request.
+    public static final String APPLICATION_BULK_OPERATION_LIMIT = "ApplicationMgt.BulkOperationLimit";
+    // Maximum size in bytes of an archive accepted for bulk import. A non-positive value disables the limit.
+    public static final String APPLICATION_BULK_IMPORT_FILE_SIZE_LIMIT = "ApplicationMgt.BulkImportFileSizeLimit";
     public static final String CODE_TOKEN = "code token";
     public static final String CODE_IDTOKEN = "code id_token";
     public static final String CODE_IDTOKEN_TOKEN = "code id_token token";
@@ -184,6 +190,28 @@ public class ApplicationManagementConstants {
                 "API authorization details types not found.",
                 "One or more authorization detail types in the request were not found for the " +
                         "API resource with ID '%s' in the tenant domain '%s'."),
+        IMPORT_FILE_SIZE_LIMIT_EXCEEDED("60520",
+                "Application file is too large.",
+                "The uploaded application file exceeds the maximum allowed size of %s bytes."),
+        BULK_OPERATION_LIMIT_EXCEEDED("60521",
+                "Too many applications in the bulk request.",
+                "A bulk request can process at most %s applications."),
+        INVALID_BULK_EXPORT_REQUEST("60522",
+                "Invalid bulk export request.",
+                "Application IDs and filter cannot be used together to select the applications to be exported."),
+        UNSUPPORTED_EXPORT_FILE_TYPE("60523",
+                "Unsupported file type.",
+                "Applications cannot be exported as: %s. Supported file types are application/xml, " +
+                        "application/yaml, and application/json."),
+        INVALID_BULK_IMPORT_FILE("60524",
+                "Invalid application archive.",
+                "The uploaded file is not a ZIP archive of exported application files."),
+        BULK_EXPORT_APPLICATIONS_NOT_FOUND("60525",
+                "Applications not found.",
+                "Applications cannot be exported as the applications with the IDs: %s do not exist."),
+        DUPLICATE_APPLICATION_IN_BULK_IMPORT("60526",
+                "Duplicate application in archive.",
+                "The application: %s is also defined by the file: %s of the archive."),
 
         // Server Errors.
         ERROR_RETRIEVING_SAML_METADATA("65001",
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.application.management.v1;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import java.util.ArrayList;
+import java.util.List;
+import javax.validation.constraints.*;
+
+
+import io.swagger.annotations.*;
+import java.util.Objects;
+import javax.validation.Valid;
+import javax.xml.bind.annotation.*;
+
+public class ApplicationBulkExportRequest  {
+  
+    private List<String> applicationIds = null;
+
+    private String filter;
+    private String fileType = "application/xml";
+
+    /**
+    * IDs of the applications to be exported. Cannot be used together with the filter.
+    **/
+    public ApplicationBulkExportRequest applicationIds(List<String> applicationIds) {
+
+        this.applicationIds = applicationIds;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "[\"85e3f4b8-0d22-4181-b1e3-1651f71b88bd\",\"3f1b6e2a-5c0d-4e3b-9a1f-7d2c8b4e6f10\"]", value = "IDs of the applications to be exported. Cannot be used together with the filter.")
+    @JsonProperty("applicationIds")
+    @Valid
+    public List<String> getApplicationIds() {
+        return applicationIds;
+    }
+    public void setApplicationIds(List<String> applicationIds) {
+        this.applicationIds = applicationIds;
+    }
+
+    public ApplicationBulkExportRequest addApplicationIdsItem(String applicationIdsItem) {
+        if (this.applicationIds == null) {
+            this.applicationIds = new ArrayList<>();
+        }
+        this.applicationIds.add(applicationIdsItem);
+        return this;
+    }
+
+        /**
+    * Filter to select the applications to be exported. All the applications are exported when neither the application IDs nor the filter is provided.
+    **/
+    public ApplicationBulkExportRequest filter(String filter) {
+
+        this.filter = filter;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "name sw test", value = "Filter to select the applications to be exported. All the applications are exported when neither the application IDs nor the filter is provided.")
+    @JsonProperty("filter")
+    @Valid
+    public String getFilter() {
+        return filter;
+    }
+    public void setFilter(String filter) {
+        this.filter = filter;
+    }
+
+    /**
+    * Content type of the application files in the exported ZIP archive.
+    **/
+    public ApplicationBulkExportRequest fileType(String fileType) {
+
+        this.fileType = fileType;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "application/yaml", value = "Content type of the application files in the exported ZIP archive.")
+    @JsonProperty("fileType")
+    @Valid
+    public String getFileType() {
+        return fileType;
+    }
+    public void setFileType(String fileType) {
+        this.fileType = fileType;
+    }
+
+
+
+    @Override
+    public boolean equals(java.lang.Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ApplicationBulkExportRequest applicationBulkExportRequest = (ApplicationBulkExportRequest) o;
+        return Objects.equals(this.applicationIds, applicationBulkExportRequest.applicationIds) &&
+            Objects.equals(this.filter, applicationBulkExportRequest.filter) &&
+            Objects.equals(this.fileType, applicationBulkExportRequest.fileType);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(applicationIds, filter, fileType);
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("class ApplicationBulkExportRequest {\n");
+        
+        sb.append("    applicationIds: ").append(toIndentedString(applicationIds)).append("\n");
+        sb.append("    filter: ").append(toIndentedString(filter)).append("\n");
+        sb.append("    fileType: ").append(toIndentedString(fileType)).append("\n");
+        sb.append("}");
+        return sb.toString();
+    }
+
+    /**
+    * Convert the given object to string with each line indented by 4 spaces
+    * (except the first line).
+    */
+    private String toIndentedString(java.lang.Object o) {
+
+        if (o == null) {
+            return "null";
+        }
+        return o.toString().replace("\n", "\n");
+    }
+}
+
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.application.management.v1;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import java.util.ArrayList;
+import java.util.List;
+import org.wso2.carbon.identity.api.server.application.management.v1.ApplicationBulkImportResult;
+import org.wso2.carbon.identity.api.server.application.management.v1.ApplicationImportError;
+import javax.validation.constraints.*;
+
+
+import io.swagger.annotations.*;
+import java.util.Objects;
+import javax.validation.Valid;
+import javax.xml.bind.annotation.*;
+
+public class ApplicationBulkImportResponse  {
+  
+    private Integer totalResults;
+    private List<ApplicationBulkImportResult> applications = null;
+
+    private Integer failedResults;
+    private List<ApplicationImportError> failedOperations = null;
+
+
+    /**
+    * Number of applications imported from the archive.
+    **/
+    public ApplicationBulkImportResponse totalResults(Integer totalResults) {
+
+        this.totalResults = totalResults;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "2", value = "Number of applications imported from the archive.")
+    @JsonProperty("totalResults")
+    @Valid
+    public Integer getTotalResults() {
+        return totalResults;
+    }
+    public void setTotalResults(Integer totalResults) {
+        this.totalResults = totalResults;
+    }
+
+    /**
+    **/
+    public ApplicationBulkImportResponse applications(List<ApplicationBulkImportResult> applications) {
+
+        this.applications = applications;
+        return this;
+    }
+    
+    @ApiModelProperty(value = "")
+    @JsonProperty("applications")
+    @Valid
+    public List<ApplicationBulkImportResult> getApplications() {
+        return applications;
+    }
+    public void setApplications(List<ApplicationBulkImportResult> applications) {
+        this.applications = applications;
+    }
+
+    public ApplicationBulkImportResponse addApplicationsItem(ApplicationBulkImportResult applicationsItem) {
+        if (this.applications == null) {
+            this.applications = new ArrayList<>();
+        }
+        this.applications.add(applicationsItem);
+        return this;
+    }
+
+    /**
+    * Number of files of the archive which could not be imported.
+    **/
+    public ApplicationBulkImportResponse failedResults(Integer failedResults) {
+
+        this.failedResults = failedResults;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "0", value = "Number of files of the archive which could not be imported.")
+    @JsonProperty("failedResults")
+    @Valid
+    public Integer getFailedResults() {
+        return failedResults;
+    }
+    public void setFailedResults(Integer failedResults) {
+        this.failedResults = failedResults;
+    }
+
+    /**
+    **/
+    public ApplicationBulkImportResponse failedOperations(List<ApplicationImportError> failedOperations) {
+
+        this.failedOperations = failedOperations;
+        return this;
+    }
+    
+    @ApiModelProperty(value = "")
+    @JsonProperty("failedOperations")
+    @Valid
+    public List<ApplicationImportError> getFailedOperations() {
+        return failedOperations;
+    }
+    public void setFailedOperations(List<ApplicationImportError> failedOperations) {
+        this.failedOperations = failedOperations;
+    }
+
+    public ApplicationBulkImportResponse addFailedOperationsItem(ApplicationImportError failedOperationsItem) {
+        if (this.failedOperations == null) {
+            this.failedOperations = new ArrayList<>();
+        }
+        this.failedOperations.add(failedOperationsItem);
+        return this;
+    }
+
+    
+
+    @Override
+    public boolean equals(java.lang.Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ApplicationBulkImportResponse applicationBulkImportResponse = (ApplicationBulkImportResponse) o;
+        return Objects.equals(this.totalResults, applicationBulkImportResponse.totalResults) &&
+            Objects.equals(this.applications, applicationBulkImportResponse.applications) &&
+            Objects.equals(this.failedResults, applicationBulkImportResponse.failedResults) &&
+            Objects.equals(this.failedOperations, applicationBulkImportResponse.failedOperations);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(totalResults, applications, failedResults, failedOperations);
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("class ApplicationBulkImportResponse {\n");
+        
+        sb.append("    totalResults: ").append(toIndentedString(totalResults)).append("\n");
+        sb.append("    applications: ").append(toIndentedString(applications)).append("\n");
+        sb.append("    failedResults: ").append(toIndentedString(failedResults)).append("\n");
+        sb.append("    failedOperations: ").append(toIndentedString(failedOperations)).append("\n");
+        sb.append("}");
+        return sb.toString();
+    }
+
+    /**
+    * Convert the given object to string with each line indented by 4 spaces
+    * (except the first line).
+    */
+    private String toIndentedString(java.lang.Object o) {
+
+        if (o == null) {
+            return "null";
+        }
+        return o.toString().replace("\n", "\n");
+    }
+}
+
@@ -25,6 +25,8 @@ import java.io.InputStream;
 import java.util.List;
 
 import org.wso2.carbon.identity.api.server.application.management.v1.AdaptiveAuthTemplates;
+import org.wso2.carbon.identity.api.server.application.management.v1.ApplicationBulkExportRequest;
+import org.wso2.carbon.identity.api.server.application.management.v1.ApplicationBulkImportResponse;
 import org.wso2.carbon.identity.api.server.application.management.v1.ApplicationListResponse;
 import org.wso2.carbon.identity.api.server.application.management.v1.ApplicationModel;
 import org.wso2.carbon.identity.api.server.application.management.v1.ApplicationOwner;
@@ -425,6 +427,30 @@ public class ApplicationsApi  {
         return delegate.exportApplicationAsFile(applicationId,  exportSecrets,  accept );
     }
 
+    @Valid
+    @POST
+    @Path("/export")
+    @Consumes({ "application/json" })
+    @Produces({ "application/zip", "application/x-ndjson", "application/json" })
+    @ApiOperation(value = "Export multiple applications. ", notes = "This API provides the capability to export multiple applications, selected by their IDs or by a filter, as a ZIP archive of XML, YAML, or JSON files or as newline delimited JSON. An application which fails to be exported is reported with an error record, as a line of the newline delimited JSON or as a line of the export-errors.ndjson file of the ZIP archive. <br>   <b>Scope(Permission) required:</b> `internal_application_mgt_view` ", response = String.class, authorizations = {
+        @Authorization(value = "BasicAuth"),
+        @Authorization(value = "OAuth2", scopes = {
+            
+        })
+    }, tags={ "Applications", })
+    @ApiResponses(value = { 
+        @ApiResponse(code = 200, message = "OK", response = String.class),
+        @ApiResponse(code = 400, message = "Bad Request", response = Error.class),
+        @ApiResponse(code = 401, message = "Unauthorized", response = Void.class),
+        @ApiResponse(code = 403, message = "Forbidden", response = Void.class),
+        @ApiResponse(code = 404, message = "Not Found", response = Error.class),
+        @ApiResponse(code = 500, message = "Server Error", response = Error.class)
+    })
+    public Response exportApplications(@ApiParam(value = "This represents the applications to be exported." ,required=true) @Valid ApplicationBulkExportRequest applicationBulkExportRequest,     @Valid@ApiParam(value = "Specifies whether to export secrets when exporting an application. ", defaultValue="false") @DefaultValue("false")  @QueryParam("exportSecrets") Boolean exportSecrets,     @Valid @ApiParam(value = "Content type of the exported content. " , allowableValues="application/zip, application/x-ndjson", defaultValue="application/zip")@HeaderParam("Accept") String accept) {
+
+        return delegate.exportApplications(applicationBulkExportRequest,  exportSecrets,  accept );
+    }
+
     @Valid
     @POST
     @Path("/loginflow/generate")
@@ -462,14 +488,15 @@ public class ApplicationsApi  {
     }, tags={ "Application Metadata", })
     @ApiResponses(value = { 
         @ApiResponse(code = 200, message = "OK", response = AdaptiveAuthTemplates.class),
+        @ApiResponse(code = 304, message = "Not Modified", response = Void.class),
         @ApiResponse(code = 401, message = "Unauthorized", response = Void.class),
         @ApiResponse(code = 403, message = "Forbidden", response = Void.class),
         @ApiResponse(code = 404, message = "Not Found", response = Error.class),
         @ApiResponse(code = 500, message = "Server Error", response = Error.class)
     })
-    public Response getAdaptiveAuthTemplates() {
+    public Response getAdaptiveAuthTemplates(    @Valid @ApiParam(value = "Entity tag of the representation held by the client. " )@HeaderParam("If-None-Match") String ifNoneMatch) {
 
-        return delegate.getAdaptiveAuthTemplates();
+        return delegate.getAdaptiveAuthTemplates(ifNoneMatch );
     }
 
     @Valid
@@ -752,14 +779,15 @@ public class ApplicationsApi  {
     }, tags={ "Application Metadata", })
     @ApiResponses(value = { 
         @ApiResponse(code = 200, message = "OK", response = AuthProtocolMetadata.class, responseContainer = "List"),
+        @ApiResponse(code = 304, message = "Not Modified", response = Void.class),
         @ApiResponse(code = 401, message = "Unauthorized", response = Void.class),
         @ApiResponse(code = 403, message = "Forbidden", response = Void.class),
         @ApiResponse(code = 404, message = "Not Found", response = Error.class),
         @ApiResponse(code = 500, message = "Server Error", response = Error.class)
     })
-    public Response getInboundProtocols(    @Valid@ApiParam(value = "Send only the custom inbound protocols. ", defaultValue="false") @DefaultValue("false")  @QueryParam("customOnly") Boolean customOnly) {
+    public Response getInboundProtocols(    @Valid@ApiParam(value = "Send only the custom inbound protocols. ", defaultValue="false") @DefaultValue("false")  @QueryParam("customOnly") Boolean customOnly,     @Valid @ApiParam(value = "Entity tag of the representation held by the client. " )@HeaderParam("If-None-Match") String ifNoneMatch) {
 
-        return delegate.getInboundProtocols(customOnly );
+        return delegate.getInboundProtocols(customOnly,  ifNoneMatch );
     }
 
     @Valid
@@ -845,14 +873,15 @@ public class ApplicationsApi  {
     }, tags={ "Application Metadata", })
     @ApiResponses(value = { 
         @ApiResponse(code = 200, message = "OK", response = OIDCMetaData.class),
+        @ApiResponse(code = 304, message = "Not Modified", response = Void.class),
         @ApiResponse(code = 401, message = "Unauthorized", response = Void.class),
         @ApiResponse(code = 403, message = "Forbidden", response = Void.class),
         @ApiResponse(code = 404, message = "Not Found", response = Error.class),
         @ApiResponse(code = 500, message = "Server Error", response = Error.class)
     })
-    public Response getOIDCMetadata() {
+    public Response getOIDCMetadata(    @Valid @ApiParam(value = "Entity tag of the representation held by the client. " )@HeaderParam("If-None-Match") String ifNoneMatch) {
 
-        return delegate.getOIDCMetadata();
+        return delegate.getOIDCMetadata(ifNoneMatch );
     }
 
     @Valid
@@ -916,14 +945,15 @@ public class ApplicationsApi  {
     }, tags={ "Application Metadata", })
     @ApiResponses(value = { 
         @ApiResponse(code = 200, message = "OK", response = SAMLMetaData.class),
+        @ApiResponse(code = 304, message = "Not Modified", response = Void.class),
         @ApiResponse(code = 401, message = "Unauthorized", response = Error.class),
         @ApiResponse(code = 403, message = "Forbidden", response = Error.class),
         @ApiResponse(code = 404, message = "Not Found", response = Error.class),
         @ApiResponse(code = 500, message = "Server Error", response = Error.class)
     })
-    public Response getSAMLMetadata() {
+    public Response getSAMLMetadata(    @Valid @ApiParam(value = "Entity tag of the representation held by the client. " )@HeaderParam("If-None-Match") String ifNoneMatch) {
 
-        return delegate.getSAMLMetadata();
+        return delegate.getSAMLMetadata(ifNoneMatch );
     }
 
     @Valid
@@ -963,14 +993,15 @@ public class ApplicationsApi  {
     }, tags={ "Application Metadata", })
     @ApiResponses(value = { 
         @ApiResponse(code = 200, message = "OK", response = WSTrustMetaData.class),
+        @ApiResponse(code = 304, message = "Not Modified", response = Void.class),
         @ApiResponse(code = 401, message = "Unauthorized", response = Void.class),
         @ApiResponse(code = 403, message = "Forbidden", response = Void.class),
         @ApiResponse(code = 404, message = "Not Found", response = Error.class),
         @ApiResponse(code = 500, message = "Server Error", response = Error.class)
     })
-    public Response getWSTrustMetadata() {
+    public Response getWSTrustMetadata(    @Valid @ApiParam(value = "Entity tag of the representation held by the client. " )@HeaderParam("If-None-Match") String ifNoneMatch) {
 
-        return delegate.getWSTrustMetadata();
+        return delegate.getWSTrustMetadata(ifNoneMatch );
     }
 
     @Valid
@@ -1022,6 +1053,29 @@ public class ApplicationsApi  {
         return delegate.importApplicationForUpdate(fileInputStream, fileDetail );
     }
 
+    @Valid
+    @POST
+    @Path("/import/bulk")
+    @Consumes({ "multipart/form-data" })
+    @Produces({ "application/json" })
+    @ApiOperation(value = "Create or update multiple applications from a ZIP archive of exported files. ", notes = "This API provides the capability to create or update applications based on the XML, YAML, or JSON files of a ZIP archive. The archive is validated before any application is imported, and the applications are then imported independently. The imported applications and the failed files are reported together in the response. <br>   <b>Scope(Permission) required:</b> `internal_application_mgt_create` and `internal_application_mgt_update` ", response = ApplicationBulkImportResponse.class, authorizations = {
+        @Authorization(value = "BasicAuth"),
+        @Authorization(value = "OAuth2", scopes = {
+            
+        })
+    }, tags={ "Applications", })
+    @ApiResponses(value = { 
+        @ApiResponse(code = 200, message = "Successfully imported.", response = ApplicationBulkImportResponse.class),
+        @ApiResponse(code = 400, message = "Bad Request", response = Error.class),
+        @ApiResponse(code = 401, message = "Unauthorized", response = Void.class),
+        @ApiResponse(code = 403, message = "Forbidden", response = Void.class),
+        @ApiResponse(code = 500, message = "Server Error", response = Error.class)
+    })
+    public Response importApplicationsInBulk(@Multipart(value = "file", required = false) InputStream fileInputStream,@Multipart(value = "file" , required = false) Attachment fileDetail,     @Valid@ApiParam(value = "Specifies whether the existing applications are updated with the imported files. ", defaultValue="false") @DefaultValue("false")  @QueryParam("updateExisting") Boolean updateExisting) {
+
+        return delegate.importApplicationsInBulk(fileInputStream, fileDetail,  updateExisting );
+    }
+
     @Valid
     @PATCH
     @Path("/{applicationId}")
@@ -27,6 +27,8 @@ import org.apache.cxf.jaxrs.ext.multipart.Multipart;
 import java.io.InputStream;
 import java.util.List;
 import org.wso2.carbon.identity.api.server.application.management.v1.AdaptiveAuthTemplates;
+import org.wso2.carbon.identity.api.server.application.management.v1.ApplicationBulkExportRequest;
+import org.wso2.carbon.identity.api.server.application.management.v1.ApplicationBulkImportResponse;
 import org.wso2.carbon.identity.api.server.application.management.v1.ApplicationListResponse;
 import org.wso2.carbon.identity.api.server.application.management.v1.ApplicationModel;
 import org.wso2.carbon.identity.api.server.application.management.v1.ApplicationOwner;
@@ -101,9 +103,11 @@ public interface ApplicationsApiService {
 
       public Response exportApplicationAsFile(String applicationId, Boolean exportSecrets, String accept);
 
+      public Response exportApplications(ApplicationBulkExportRequest applicationBulkExportRequest, Boolean exportSecrets, String accept);
+
       public Response generateLoginFlow(LoginFlowGenerateRequest loginFlowGenerateRequest);
 
-      public Response getAdaptiveAuthTemplates();
+      public Response getAdaptiveAuthTemplates(String ifNoneMatch);
 
       public Response getAllApplicationTemplates(Integer limit, Integer offset, SearchContext searchContext);
 
@@ -129,7 +133,7 @@ public interface ApplicationsApiService {
 
       public Response getInboundOAuthConfiguration(String applicationId);
 
-      public Response getInboundProtocols(Boolean customOnly);
+      public Response getInboundProtocols(Boolean customOnly, String ifNoneMatch);
 
       public Response getInboundSAMLConfiguration(String applicationId);
 
@@ -137,22 +141,24 @@ public interface ApplicationsApiService {
 
       public Response getLoginFlowGenerationStatus(String operationId);
 
-      public Response getOIDCMetadata();
+      public Response getOIDCMetadata(String ifNoneMatch);
 
       public Response getPassiveStsConfiguration(String applicationId);
 
       public Response getResidentApplication();
 
-      public Response getSAMLMetadata();
+      public Response getSAMLMetadata(String ifNoneMatch);
 
       public Response getWSTrustConfiguration(String applicationId);
 
-      public Response getWSTrustMetadata();
+      public Response getWSTrustMetadata(String ifNoneMatch);
 
       public Response importApplication(InputStream fileInputStream, Attachment fileDetail);
 
       public Response importApplicationForUpdate(InputStream fileInputStream, Attachment fileDetail);
 
+      public Response importApplicationsInBulk(InputStream fileInputStream, Attachment fileDetail, Boolean updateExisting);
+
       public Response patchApplication(String applicationId, ApplicationPatchModel applicationPatchModel);
 
       public Response patchApplicationSharing(ApplicationSharingPatchRequest applicationSharingPatchRequest);
@@ -18,9 +18,8 @@
 
 package org.wso2.carbon.identity.api.server.application.management.v1.core;
 
-import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang.ArrayUtils;
@@ -38,6 +37,10 @@ import org.wso2.carbon.identity.api.resource.mgt.APIResourceMgtException;
 import org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants;
 import org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants.ErrorMessage;
 import org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementServiceHolder;
+import org.wso2.carbon.identity.api.server.application.management.v1.ApplicationBulkExportRequest;
+import org.wso2.carbon.identity.api.server.application.management.v1.ApplicationBulkImportResponse;
+import org.wso2.carbon.identity.api.server.application.management.v1.ApplicationBulkImportResult;
+import org.wso2.carbon.identity.api.server.application.management.v1.ApplicationImportError;
 import org.wso2.carbon.identity.api.server.application.management.v1.ApplicationListItem;
 import org.wso2.carbon.identity.api.server.application.management.v1.ApplicationListResponse;
 import org.wso2.carbon.identity.api.server.application.management.v1.ApplicationModel;
@@ -87,7 +90,12 @@ import org.wso2.carbon.identity.api.server.application.management.v1.core.functi
 import org.wso2.carbon.identity.api.server.application.management.v1.factories.ServerApplicationMetadataServiceFactory;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
 import org.wso2.carbon.identity.api.server.common.Util;
+import org.wso2.carbon.identity.api.server.common.cache.TenantCache;
+import org.wso2.carbon.identity.api.server.common.codec.CodecRegistry;
+import org.wso2.carbon.identity.api.server.common.codec.SizeLimitedInputStream;
+import org.wso2.carbon.identity.api.server.common.concurrent.TenantAwareExecutor;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
+import org.wso2.carbon.identity.api.server.common.error.ErrorDTO;
 import org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants;
 import org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.StandardInboundProtocols;
 import org.wso2.carbon.identity.application.common.IdentityApplicationManagementClientException;
@@ -106,7 +114,6 @@ import org.wso2.carbon.identity.application.common.model.InboundConfigurationPro
 import org.wso2.carbon.identity.application.common.model.LocalAuthenticatorConfig;
 import org.wso2.carbon.identity.application.common.model.Scope;
 import org.wso2.carbon.identity.application.common.model.ServiceProvider;
-import org.wso2.carbon.identity.application.common.model.SpFileContent;
 import org.wso2.carbon.identity.application.common.model.User;
 import org.wso2.carbon.identity.application.common.util.IdentityApplicationConstants;
 import org.wso2.carbon.identity.application.common.util.IdentityApplicationManagementUtil;
@@ -146,40 +153,61 @@ import org.yaml.snakeyaml.TypeDescription;
 import org.yaml.snakeyaml.Yaml;
 import org.yaml.snakeyaml.constructor.Constructor;
 import org.yaml.snakeyaml.error.YAMLException;
-import org.yaml.snakeyaml.inspector.TagInspector;
-import org.yaml.snakeyaml.inspector.TrustedPrefixesTagInspector;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.StringReader;
-import java.io.StringWriter;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PushbackInputStream;
+import java.io.Writer;
 import java.net.MalformedURLException;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
 
 import javax.activation.MimeType;
 import javax.activation.MimeTypeParseException;
-import javax.xml.bind.JAXBContext;
+import javax.ws.rs.core.StreamingOutput;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
-import javax.xml.bind.Unmarshaller;
 
 import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants.ADVANCED_CONFIGURATIONS;
 import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants.APPLICATION_BASED_OUTBOUND_PROVISIONING_ENABLED;
+import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants.APPLICATION_BULK_IMPORT_FILE_SIZE_LIMIT;
+import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants.APPLICATION_BULK_OPERATION_LIMIT;
 import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants.APPLICATION_ENABLED;
+import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants.APPLICATION_IMPORT_FILE_SIZE_LIMIT;
 import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants.APPLICATION_MANAGEMENT_PATH_COMPONENT;
 import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants.CLIENT_ID;
 import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants.ErrorMessage.APPLICATION_CREATION_WITH_TEMPLATES_NOT_IMPLEMENTED;
@@ -201,6 +229,7 @@ import static org.wso2.carbon.identity.api.server.application.management.v1.core
 import static org.wso2.carbon.identity.api.server.application.management.v1.core.functions.application.inbound.InboundFunctions.rollbackInbound;
 import static org.wso2.carbon.identity.api.server.application.management.v1.core.functions.application.inbound.InboundFunctions.updateOrInsertInbound;
 import static org.wso2.carbon.identity.api.server.common.Constants.ERROR_CODE_RESOURCE_LIMIT_REACHED;
+import static org.wso2.carbon.identity.api.server.common.Constants.RESOURCE_TYPE_PERMISSION;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.Application.CONSOLE_APP;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.Application.MY_ACCOUNT_APP;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.StandardInboundProtocols.OAUTH2;
@@ -257,6 +286,33 @@ public class ServerApplicationManagementService {
     private static final String[] VALID_MEDIA_TYPES_JSON = {"application/json", "text/json"};
     private static final Class<?>[] INBOUND_CONFIG_PROTOCOLS = new Class<?>[]{ServiceProvider.class,
             SAMLSSOServiceProviderDTO.class, OAuthAppDO.class};
+    private static final String SP_YAML_DUMPER_KEY = "ServiceProviderDumper";
+    private static final long DEFAULT_APPLICATION_IMPORT_FILE_SIZE_LIMIT = 10 * 1024 * 1024;
+    private static final long DEFAULT_APPLICATION_BULK_IMPORT_FILE_SIZE_LIMIT = 100 * 1024 * 1024;
+    private static final String YAML_FILE_EXTENSION = ".yaml";
+    private static final String ZIP_FILE_EXTENSION = ".zip";
+    private static final String NDJSON_FILE_EXTENSION = ".ndjson";
+    private static final String ZIP_MEDIA_TYPE = "application/zip";
+    private static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
+    private static final String BULK_EXPORT_FILE_NAME = "applications";
+    private static final String BULK_EXPORT_ERRORS_FILE_NAME = "export-errors.ndjson";
+    private static final String BULK_IMPORT_FILE_PREFIX = "application-import-";
+    private static final String ARCHIVE_METADATA_DIRECTORY = "__MACOSX/";
+    private static final int DEFAULT_APPLICATION_BULK_OPERATION_LIMIT = 5000;
+    private static final int BULK_BATCH_SIZE_PER_WORKER = 4;
+    // Inbound configurations are exported through the inbound auth request configs, hence skipped in the XML.
+    private static final Marshaller.Listener INBOUND_CONFIG_MARSHALLER_LISTENER = new Marshaller.Listener() {
+        @Override
+        public void beforeMarshal(Object source) {
+            if (source instanceof InboundAuthenticationConfig) {
+                InboundAuthenticationConfig config = (InboundAuthenticationConfig) source;
+                for (InboundAuthenticationRequestConfig requestConfig
+                        : config.getInboundAuthenticationRequestConfigs()) {
+                    requestConfig.setInboundConfiguration(null);
+                }
+            }
+        }
+    };
 
     static {
         SUPPORTED_FILTER_ATTRIBUTES.add(NAME);
@@ -289,19 +345,7 @@ public class ServerApplicationManagementService {
         limit = validateAndGetLimit(limit);
         offset = validateAndGetOffset(offset);
 
-        List<String> submittedFilterAttributes = new ArrayList<>();
-
-        // Get the filter tree and validate it before sending the filter to the backend.
-        if (StringUtils.isNotBlank(filter)) {
-            try {
-                FilterTreeBuilder filterTreeBuilder = new FilterTreeBuilder(filter);
-                Node rootNode = filterTreeBuilder.buildTree();
-
-                submittedFilterAttributes = validateFilterTree(rootNode);
-            } catch (IOException | IdentityException e) {
-                throw buildClientError(ErrorMessage.INVALID_FILTER_FORMAT);
-            }
-        }
+        List<String> submittedFilterAttributes = validateFilter(filter);
 
         String username = ContextLoader.getUsernameFromContext();
         try {
@@ -361,6 +405,27 @@ public class ServerApplicationManagementService {
         }
     }
 
+    /**
+     * Get the filter tree and validate it before sending the filter to the backend.
+     *
+     * @param filter Filter of the request.
+     * @return Attributes used in the filter.
+     */
+    private List<String> validateFilter(String filter) {
+
+        if (StringUtils.isBlank(filter)) {
+            return new ArrayList<>();
+        }
+        try {
+            FilterTreeBuilder filterTreeBuilder = new FilterTreeBuilder(filter);
+            Node rootNode = filterTreeBuilder.buildTree();
+
+            return validateFilterTree(rootNode);
+        } catch (IOException | IdentityException e) {
+            throw buildClientError(ErrorMessage.INVALID_FILTER_FORMAT);
+        }
+    }
+
     private List<String> validateFilterTree(Node rootNode) {
 
         List<String> submittedFilterAttributes = new ArrayList<>();
@@ -404,14 +469,30 @@ public class ServerApplicationManagementService {
                                                               List<String> requestedAttributeList)
             throws IdentityApplicationManagementException {
 
-        List<ServiceProvider> serviceProviderList = new ArrayList<>();
+        /* The backend resolves the required attributes per application, hence the lookups of the page are fanned
+        out on the shared executor. Results are returned in the order of the page. */
+        List<Callable<ServiceProvider>> lookups = new ArrayList<>(filteredAppList.length);
         for (ApplicationBasicInfo applicationBasicInfo : filteredAppList) {
-            ServiceProvider serviceProvider = applicationManagementService
-                    .getApplicationWithRequiredAttributes(applicationBasicInfo.getApplicationId(),
-                            requestedAttributeList);
-            serviceProviderList.add(serviceProvider);
+            String applicationId = applicationBasicInfo.getApplicationId();
+            lookups.add(() -> applicationManagementService.getApplicationWithRequiredAttributes(applicationId,
+                    requestedAttributeList));
+        }
+        try {
+            return TenantAwareExecutor.invokeAll(lookups);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IdentityApplicationManagementException) {
+                throw (IdentityApplicationManagementException) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IdentityApplicationManagementException("Error while retrieving the required attributes of " +
+                    "the applications.", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdentityApplicationManagementException("Interrupted while retrieving the required " +
+                    "attributes of the applications.", e);
         }
-        return serviceProviderList;
     }
 
     private int validateAndGetOffset(Integer offset) {
@@ -525,32 +606,297 @@ public class ServerApplicationManagementService {
      */
     public TransferResource exportApplicationAsFile(String applicationId, Boolean exportSecrets, String fileType) {
 
+        ServiceProvider serviceProvider = getServiceProviderForExport(applicationId, exportSecrets, fileType);
+        TransferResource transferResource = generateFileFromModel(fileType, serviceProvider);
+
         if (log.isDebugEnabled()) {
-            log.debug("Exporting service provider from application ID " + applicationId);
+            log.debug("Successfully exported: " + serviceProvider.getApplicationName() + " as a file of type: " +
+                    fileType);
         }
 
-        if (StringUtils.isBlank(fileType)) {
-            throw new UnsupportedOperationException("No valid media type found");
+        return transferResource;
+    }
+
+    /**
+     * Export an application identified by the applicationId, in the given format. The exported content is not
+     * materialized in memory, but written directly to the output stream of the response.
+     *
+     * @param applicationId ID of the application to be exported.
+     * @param exportSecrets If True, all hashed or encrypted secrets will also be exported.
+     * @param fileType      The format of the exported content.
+     * @return Transfer resource streaming the application in the given format.
+     */
+    public TransferResource exportApplicationAsStream(String applicationId, Boolean exportSecrets, String fileType) {
+
+        ServiceProvider serviceProvider = getServiceProviderForExport(applicationId, exportSecrets, fileType);
+        String fileName = serviceProvider.getApplicationName() + getExportFileExtension(fileType);
+        StreamingOutput resourceStream = outputStream -> {
+            writeServiceProvider(serviceProvider, fileType, outputStream);
+            if (log.isDebugEnabled()) {
+                log.debug("Successfully exported: " + serviceProvider.getApplicationName() + " as a stream of " +
+                        "type: " + fileType);
+            }
+        };
+        return new TransferResource(fileName, resourceStream, getExportMimeType());
+    }
+
+    /**
+     * Export the applications identified by the given IDs, or matching the given filter, as a ZIP archive or as
+     * newline delimited JSON. The applications are retrieved and serialized in parallel batches, while the exported
+     * content is written directly to the output stream of the response.
+     *
+     * <p>The existence of the requested applications is validated before the response is committed. An application
+     * which still fails to be exported while streaming, e.g. as it was deleted in the meantime, is reported with an
+     * error record in place of the application, rather than ending the stream early.</p>
+     *
+     * @param bulkExportRequest Applications to be exported.
+     * @param exportSecrets     If True, all hashed or encrypted secrets will also be exported.
+     * @param contentType       Content type of the exported content.
+     * @return Transfer resource streaming the exported applications.
+     */
+    public TransferResource exportApplications(ApplicationBulkExportRequest bulkExportRequest, Boolean exportSecrets,
+                                               String contentType) {
+
+        boolean isNdjsonExport = StringUtils.contains(contentType, NDJSON_MEDIA_TYPE);
+        String fileType = isNdjsonExport ? VALID_MEDIA_TYPES_JSON[0] :
+                StringUtils.defaultIfBlank(bulkExportRequest.getFileType(), VALID_MEDIA_TYPES_XML[0]);
+        if (!ArrayUtils.contains(VALID_MEDIA_TYPES_XML, fileType) && !ArrayUtils.contains(VALID_MEDIA_TYPES_YAML,
+                fileType) && !ArrayUtils.contains(VALID_MEDIA_TYPES_JSON, fileType)) {
+            throw buildClientError(ErrorMessage.UNSUPPORTED_EXPORT_FILE_TYPE, fileType);
+        }
+        List<String> applicationIds = getApplicationIdsForExport(bulkExportRequest);
+
+        List<Callable<ApplicationExportOutcome>> exportTasks = new ArrayList<>(applicationIds.size());
+        for (String applicationId : applicationIds) {
+            exportTasks.add(() -> exportApplication(applicationId, exportSecrets, fileType));
+        }
+
+        StreamingOutput resourceStream = outputStream -> {
+            if (isNdjsonExport) {
+                writeApplicationsAsNdjson(exportTasks, outputStream);
+            } else {
+                writeApplicationsAsZip(exportTasks, outputStream);
+            }
+            if (log.isDebugEnabled()) {
+                log.debug("Successfully exported " + applicationIds.size() + " applications as: " +
+                        (isNdjsonExport ? NDJSON_MEDIA_TYPE : ZIP_MEDIA_TYPE));
+            }
+        };
+        String fileName = BULK_EXPORT_FILE_NAME + (isNdjsonExport ? NDJSON_FILE_EXTENSION : ZIP_FILE_EXTENSION);
+        return new TransferResource(fileName, resourceStream,
+                getExportMimeType(isNdjsonExport ? NDJSON_MEDIA_TYPE : ZIP_MEDIA_TYPE));
+    }
+
+    private List<String> getApplicationIdsForExport(ApplicationBulkExportRequest bulkExportRequest) {
+
+        int bulkOperationLimit = getBulkOperationLimit();
+        String filter = bulkExportRequest.getFilter();
+        if (CollectionUtils.isNotEmpty(bulkExportRequest.getApplicationIds())) {
+            if (StringUtils.isNotBlank(filter)) {
+                throw buildClientError(ErrorMessage.INVALID_BULK_EXPORT_REQUEST);
+            }
+            List<String> applicationIds = new ArrayList<>(new LinkedHashSet<>(bulkExportRequest.getApplicationIds()));
+            if (applicationIds.size() > bulkOperationLimit) {
+                throw buildClientError(ErrorMessage.BULK_OPERATION_LIMIT_EXCEEDED, String.valueOf(bulkOperationLimit));
+            }
+            validateApplicationsExist(applicationIds);
+            return applicationIds;
         }
 
-        ServiceProvider serviceProvider;
+        validateFilter(filter);
+        String tenantDomain = ContextLoader.getTenantDomainFromContext();
+        String username = ContextLoader.getUsernameFromContext();
         try {
-            String tenantDomain = ContextLoader.getTenantDomainFromContext();
-            serviceProvider = applicationManagementService.exportSPFromAppID(applicationId, exportSecrets,
-                    tenantDomain);
+            // System portals are managed by the server itself, hence they are not promoted across environments.
+            int totalResults = applicationManagementService.getCountOfApplications(tenantDomain, username, filter,
+                    true);
+            if (totalResults > bulkOperationLimit) {
+                throw buildClientError(ErrorMessage.BULK_OPERATION_LIMIT_EXCEEDED, String.valueOf(bulkOperationLimit));
+            }
+
+            List<String> applicationIds = new ArrayList<>(totalResults);
+            int pageSize = IdentityUtil.getMaximumItemPerPage();
+            for (int offset = 0; offset < totalResults; offset += pageSize) {
+                ApplicationBasicInfo[] applicationPage = applicationManagementService.getApplicationBasicInfo(
+                        tenantDomain, username, filter, offset, pageSize, true);
+                if (ArrayUtils.isEmpty(applicationPage)) {
+                    break;
+                }
+                for (ApplicationBasicInfo applicationBasicInfo : applicationPage) {
+                    applicationIds.add(applicationBasicInfo.getApplicationId());
+                }
+            }
+            return applicationIds;
         } catch (IdentityApplicationManagementException e) {
-            String msg = "Error exporting application with id: " + applicationId;
+            String msg = "Error listing the applications to be exported from tenantDomain: " + tenantDomain;
             throw handleIdentityApplicationManagementException(e, msg);
         }
+    }
 
-        TransferResource transferResource = generateFileFromModel(fileType, serviceProvider);
+    /**
+     * Validate that all the given applications exist, so that the export does not fail after the response is
+     * committed.
+     */
+    private void validateApplicationsExist(List<String> applicationIds) {
+
+        String tenantDomain = ContextLoader.getTenantDomainFromContext();
+        List<Callable<ApplicationBasicInfo>> lookups = new ArrayList<>(applicationIds.size());
+        for (String applicationId : applicationIds) {
+            lookups.add(() -> applicationManagementService.getApplicationBasicInfoByResourceId(applicationId,
+                    tenantDomain));
+        }
+
+        List<ApplicationBasicInfo> applications;
+        try {
+            applications = TenantAwareExecutor.invokeAll(lookups);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IdentityApplicationManagementException) {
+                String msg = "Error retrieving the applications to be exported from tenantDomain: " + tenantDomain;
+                throw handleIdentityApplicationManagementException(
+                        (IdentityApplicationManagementException) e.getCause(), msg);
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw Utils.buildServerError("Error retrieving the applications to be exported.", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw Utils.buildServerError("Interrupted while retrieving the applications to be exported.", e);
+        }
+
+        List<String> missingApplicationIds = new ArrayList<>();
+        for (int i = 0; i < applicationIds.size(); i++) {
+            if (applications.get(i) == null) {
+                missingApplicationIds.add(applicationIds.get(i));
+            }
+        }
+        if (!missingApplicationIds.isEmpty()) {
+            ErrorMessage errorEnum = ErrorMessage.BULK_EXPORT_APPLICATIONS_NOT_FOUND;
+            throw Utils.buildNotFoundError(errorEnum.getCode(), errorEnum.getMessage(),
+                    buildFormattedDescription(errorEnum.getDescription(), String.join(", ", missingApplicationIds)));
+        }
+    }
+
+    private ApplicationExportOutcome exportApplication(String applicationId, Boolean exportSecrets,
+                                                       String fileType) {
+
+        try {
+            return new ApplicationExportOutcome(applicationId, generateFileFromModel(fileType,
+                    getServiceProviderForExport(applicationId, exportSecrets, fileType)));
+        } catch (APIError e) {
+            return new ApplicationExportOutcome(applicationId, e);
+        } catch (RuntimeException e) {
+            // A single failed application should not end the stream of the others.
+            return new ApplicationExportOutcome(applicationId,
+                    Utils.buildServerError("Error exporting application with id: " + applicationId, e));
+        }
+    }
+
+    private void writeApplicationsAsZip(List<Callable<ApplicationExportOutcome>> exportTasks,
+                                        OutputStream outputStream) throws IOException {
+
+        ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream, StandardCharsets.UTF_8);
+        Set<String> entryNames = new HashSet<>();
+        List<ApplicationExportOutcome> failedExports = new ArrayList<>();
+        int batchSize = getBulkBatchSize();
+        for (int start = 0; start < exportTasks.size(); start += batchSize) {
+            int end = Math.min(start + batchSize, exportTasks.size());
+            // The whole batch is exported before any of it is written.
+            for (ApplicationExportOutcome exportOutcome : runExportBatch(exportTasks.subList(start, end))) {
+                if (exportOutcome.error != null) {
+                    failedExports.add(exportOutcome);
+                    continue;
+                }
+                String entryName = exportOutcome.file.getResourceName().replace('/', '_').replace('\\', '_');
+                if (!entryNames.add(entryName)) {
+                    entryName = exportOutcome.applicationId + "_" + entryName;
+                    entryNames.add(entryName);
+                }
+                zipOutputStream.putNextEntry(new ZipEntry(entryName));
+                zipOutputStream.write(exportOutcome.file.getResource());
+                zipOutputStream.closeEntry();
+            }
+        }
+        if (!failedExports.isEmpty()) {
+            zipOutputStream.putNextEntry(new ZipEntry(BULK_EXPORT_ERRORS_FILE_NAME));
+            for (ApplicationExportOutcome failedExport : failedExports) {
+                writeExportErrorRecord(failedExport, zipOutputStream);
+            }
+            zipOutputStream.closeEntry();
+        }
+        zipOutputStream.finish();
+        zipOutputStream.flush();
+    }
+
+    private void writeApplicationsAsNdjson(List<Callable<ApplicationExportOutcome>> exportTasks,
+                                           OutputStream outputStream) throws IOException {
+
+        int batchSize = getBulkBatchSize();
+        for (int start = 0; start < exportTasks.size(); start += batchSize) {
+            int end = Math.min(start + batchSize, exportTasks.size());
+            for (ApplicationExportOutcome exportOutcome : runExportBatch(exportTasks.subList(start, end))) {
+                if (exportOutcome.error != null) {
+                    writeExportErrorRecord(exportOutcome, outputStream);
+                    continue;
+                }
+                outputStream.write(exportOutcome.file.getResource());
+                outputStream.write('\n');
+            }
+        }
+        outputStream.flush();
+    }
+
+    /**
+     * Write a single line JSON record of an application which could not be exported.
+     * Ex: {"applicationId":"...","error":{"code":"...","message":"...","description":"..."}}
+     */
+    private void writeExportErrorRecord(ApplicationExportOutcome failedExport, OutputStream outputStream)
+            throws IOException {
+
+        ErrorDTO errorDTO = failedExport.error.getResponseEntity();
+        Map<String, String> error = new LinkedHashMap<>();
+        error.put("code", errorDTO.getCode());
+        error.put("message", errorDTO.getMessage());
+        error.put("description", errorDTO.getDescription());
+        Map<String, Object> errorRecord = new LinkedHashMap<>();
+        errorRecord.put("applicationId", failedExport.applicationId);
+        errorRecord.put("error", error);
+        outputStream.write(CodecRegistry.writeJson(errorRecord).getBytes(StandardCharsets.UTF_8));
+        outputStream.write('\n');
+    }
+
+    private List<ApplicationExportOutcome> runExportBatch(List<Callable<ApplicationExportOutcome>> exportTasks)
+            throws IOException {
+
+        try {
+            return TenantAwareExecutor.invokeAll(exportTasks);
+        } catch (ExecutionException e) {
+            // The tasks report their own failures, hence this is not expected.
+            throw new IOException("Error while exporting the applications.", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while exporting the applications.");
+        }
+    }
+
+    private ServiceProvider getServiceProviderForExport(String applicationId, Boolean exportSecrets,
+                                                        String fileType) {
 
         if (log.isDebugEnabled()) {
-            log.debug("Successfully exported: " + serviceProvider.getApplicationName() + " as a file of type: " +
-                    fileType);
+            log.debug("Exporting service provider from application ID " + applicationId);
         }
 
-        return transferResource;
+        if (StringUtils.isBlank(fileType)) {
+            throw new UnsupportedOperationException("No valid media type found");
+        }
+
+        try {
+            String tenantDomain = ContextLoader.getTenantDomainFromContext();
+            return applicationManagementService.exportSPFromAppID(applicationId, exportSecrets, tenantDomain);
+        } catch (IdentityApplicationManagementException e) {
+            String msg = "Error exporting application with id: " + applicationId;
+            throw handleIdentityApplicationManagementException(e, msg);
+        }
     }
 
     private TransferResource generateFileFromModel(String fileType, ServiceProvider serviceProvider) {
@@ -559,87 +905,95 @@ public class ServerApplicationManagementService {
             log.debug("Generating file content from model for application: " + serviceProvider.getApplicationName());
         }
 
-        StringBuilder fileNameSB = new StringBuilder(serviceProvider.getApplicationName());
-        String fileContent;
+        String fileName = serviceProvider.getApplicationName() + getExportFileExtension(fileType);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try {
+            writeServiceProvider(serviceProvider, fileType, outputStream);
+        } catch (IOException e) {
+            throw Utils.buildServerError("Error exporting application to file.", e);
+        }
+        return new TransferResource(fileName, outputStream.toByteArray(), getExportMimeType());
+    }
+
+    private String getExportFileExtension(String fileType) {
 
         if (Arrays.asList(VALID_MEDIA_TYPES_XML).contains(fileType)) {
-            fileContent = parseXmlFromServiceProvider(serviceProvider);
-            fileNameSB.append(XML_FILE_EXTENSION);
+            return XML_FILE_EXTENSION;
         } else if (Arrays.asList(VALID_MEDIA_TYPES_YAML).contains(fileType)) {
-            fileContent = parseYamlFromServiceProvider(serviceProvider);
-            fileNameSB.append(YML_FILE_EXTENSION);
+            return YML_FILE_EXTENSION;
         } else if (Arrays.asList(VALID_MEDIA_TYPES_JSON).contains(fileType)) {
-            fileContent = parseJsonFromServiceProvider(serviceProvider);
-            fileNameSB.append(JSON_FILE_EXTENSION);
-        } else {
-            throw Utils.buildServerError("Unsupported media type: " + fileType + "."
-                    + " Supported media types are " + Arrays.toString(VALID_MEDIA_TYPES_XML) + ", "
-                    + Arrays.toString(VALID_MEDIA_TYPES_YAML) + ", " + Arrays.toString(VALID_MEDIA_TYPES_JSON));
+            return JSON_FILE_EXTENSION;
         }
+        throw Utils.buildServerError("Unsupported media type: " + fileType + "."
+                + " Supported media types are " + Arrays.toString(VALID_MEDIA_TYPES_XML) + ", "
+                + Arrays.toString(VALID_MEDIA_TYPES_YAML) + ", " + Arrays.toString(VALID_MEDIA_TYPES_JSON));
+    }
+
+    private MimeType getExportMimeType() {
+
+        return getExportMimeType("application/octet-stream");
+    }
+
+    private MimeType getExportMimeType(String mimeType) {
 
         try {
-            return new TransferResource(
-                    fileNameSB.toString(),
-                    fileContent.getBytes(StandardCharsets.UTF_8),
-                    new MimeType("application/octet-stream")
-            );
+            return new MimeType(mimeType);
         } catch (MimeTypeParseException e) {
             throw new RuntimeException("Failed to parse MIME type", e);
         }
     }
 
-    private String parseXmlFromServiceProvider(ServiceProvider serviceProvider) {
+    private void writeServiceProvider(ServiceProvider serviceProvider, String fileType, OutputStream outputStream)
+            throws IOException {
+
+        if (Arrays.asList(VALID_MEDIA_TYPES_XML).contains(fileType)) {
+            writeServiceProviderAsXml(serviceProvider, outputStream);
+        } else if (Arrays.asList(VALID_MEDIA_TYPES_YAML).contains(fileType)) {
+            writeServiceProviderAsYaml(serviceProvider, outputStream);
+        } else {
+            writeServiceProviderAsJson(serviceProvider, outputStream);
+        }
+    }
+
+    private void writeServiceProviderAsXml(ServiceProvider serviceProvider, OutputStream outputStream) {
 
-        JAXBContext jaxbContext;
         try {
-            jaxbContext = JAXBContext.newInstance(INBOUND_CONFIG_PROTOCOLS);
-            Marshaller marshaller = jaxbContext.createMarshaller();
-            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
-            marshaller.setListener(new Marshaller.Listener() {
-                @Override
-                public void beforeMarshal(Object source) {
-                    if (source instanceof InboundAuthenticationConfig) {
-                        InboundAuthenticationConfig config = (InboundAuthenticationConfig) source;
-                        for (InboundAuthenticationRequestConfig requestConfig
-                                : config.getInboundAuthenticationRequestConfigs()) {
-                            requestConfig.setInboundConfiguration(null);
-                        }
-                    }
-                }
-            });
-            StringWriter stringWriter = new StringWriter();
-            marshaller.marshal(serviceProvider, stringWriter);
-            return stringWriter.toString();
+            CodecRegistry.marshalToXml(serviceProvider, outputStream, INBOUND_CONFIG_MARSHALLER_LISTENER,
+                    INBOUND_CONFIG_PROTOCOLS);
         } catch (JAXBException e) {
             throw Utils.buildServerError("Error exporting application from XML file.", e);
         }
     }
 
-    private String parseYamlFromServiceProvider(ServiceProvider serviceProvider) {
+    private void writeServiceProviderAsYaml(ServiceProvider serviceProvider, OutputStream outputStream)
+            throws IOException {
 
-        Constructor constructor = new Constructor(new LoaderOptions());
-        CustomRepresenter representer = new CustomRepresenter(new DumperOptions());
-
-        for (Class<?> protocol : INBOUND_CONFIG_PROTOCOLS) {
-            TypeDescription description = new TypeDescription(InboundConfigurationProtocol.class);
-            description.addPropertyParameters("type", protocol);
-            constructor.addTypeDescription(description);
-        }
-
-        Yaml yaml = new Yaml(constructor, representer);
+        Writer writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8);
         try {
-            return yaml.dump(serviceProvider);
+            CodecRegistry.dumpYaml(SP_YAML_DUMPER_KEY, () -> {
+                Constructor constructor = new Constructor(new LoaderOptions());
+                CustomRepresenter representer = new CustomRepresenter(new DumperOptions());
+
+                for (Class<?> protocol : INBOUND_CONFIG_PROTOCOLS) {
+                    TypeDescription description = new TypeDescription(InboundConfigurationProtocol.class);
+                    description.addPropertyParameters("type", protocol);
+                    constructor.addTypeDescription(description);
+                }
+                return new Yaml(constructor, representer);
+            }, serviceProvider, writer);
         } catch (YAMLException e) {
             throw Utils.buildServerError("Error exporting application from YAML file.", e);
         }
+        writer.flush();
     }
 
-    private String parseJsonFromServiceProvider(ServiceProvider serviceProvider) {
+    private void writeServiceProviderAsJson(ServiceProvider serviceProvider, OutputStream outputStream)
+            throws IOException {
 
-        ObjectMapper objectMapper = new ObjectMapper(new JsonFactory());
-        objectMapper.registerSubtypes(INBOUND_CONFIG_PROTOCOLS);
         try {
-            return objectMapper.writeValueAsString(serviceProvider);
+            CodecRegistry.getObjectMapper(INBOUND_CONFIG_PROTOCOLS).writer()
+                    .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                    .writeValue(outputStream, serviceProvider);
         } catch (JsonProcessingException e) {
             throw Utils.buildServerError("Error exporting application from JSON file.", e);
         }
@@ -669,16 +1023,309 @@ public class ServerApplicationManagementService {
         return doImportApplication(fileInputStream, fileDetail, true);
     }
 
-    private String doImportApplication(InputStream fileInputStream, Attachment fileDetail, boolean isAppUpdate) {
+    /**
+     * Create or update the applications of the XML, YAML, or JSON files in the given ZIP archive. The archive is
+     * spooled to a temporary file and its entries are counted before any application is imported, while the
+     * applications of each batch are then imported in parallel. A failed application does not stop the import of
+     * the others, and the failures are returned together with the imported applications. Only the first file of an
+     * application is imported, and any other file defining the same application is reported as failed.
+     *
+     * @param fileInputStream ZIP archive to be imported as an input stream.
+     * @param fileDetail      File details.
+     * @param updateExisting  If True, the existing applications are updated with the imported files.
+     * @return Applications imported from the archive and the files which could not be imported.
+     */
+    public ApplicationBulkImportResponse importApplicationsInBulk(InputStream fileInputStream, Attachment fileDetail,
+                                                                  Boolean updateExisting) {
+
+        if (fileInputStream == null) {
+            throw buildClientError(ErrorMessage.INVALID_BULK_IMPORT_FILE);
+        }
+
+        // The archive is spooled to the disk, hence its size is enforced while copying.
+        long archiveSizeLimit = getBulkImportFileSizeLimit();
+        SizeLimitedInputStream archiveInputStream = new SizeLimitedInputStream(fileInputStream, archiveSizeLimit);
+        Path archivePath = null;
+        try {
+            archivePath = Files.createTempFile(BULK_IMPORT_FILE_PREFIX, ZIP_FILE_EXTENSION);
+            try {
+                Files.copy(archiveInputStream, archivePath, StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException e) {
+                if (archiveInputStream.isLimitExceeded()) {
+                    throw Utils.buildClientError(ErrorMessage.INVALID_BULK_IMPORT_FILE.getCode(),
+                            ErrorMessage.INVALID_BULK_IMPORT_FILE.getMessage(),
+                            "The uploaded archive exceeds the maximum allowed size of " + archiveSizeLimit +
+                                    " bytes.");
+                }
+                throw e;
+            }
+            try (ZipFile zipFile = new ZipFile(archivePath.toFile(), StandardCharsets.UTF_8)) {
+                return importApplicationsFromArchive(zipFile, Boolean.TRUE.equals(updateExisting));
+            }
+        } catch (ZipException e) {
+            throw buildClientError(ErrorMessage.INVALID_BULK_IMPORT_FILE);
+        } catch (IOException e) {
+            throw Utils.buildServerError("Error importing applications from file.", e);
+        } finally {
+            IOUtils.closeQuietly(fileInputStream);
+            deleteTemporaryFile(archivePath);
+        }
+    }
+
+    private ApplicationBulkImportResponse importApplicationsFromArchive(ZipFile zipFile, boolean isAppUpdate)
+            throws IOException {
+
+        // The entries are counted from the central directory, so that nothing is imported from an archive which is
+        // over the limit.
+        List<ZipEntry> zipEntries = new ArrayList<>();
+        Enumeration<? extends ZipEntry> entries = zipFile.entries();
+        while (entries.hasMoreElements()) {
+            ZipEntry zipEntry = entries.nextElement();
+            if (!zipEntry.isDirectory() && !isHiddenArchiveEntry(zipEntry.getName())) {
+                zipEntries.add(zipEntry);
+            }
+        }
+        if (zipEntries.isEmpty()) {
+            throw buildClientError(ErrorMessage.INVALID_BULK_IMPORT_FILE);
+        }
+        int bulkOperationLimit = getBulkOperationLimit();
+        if (zipEntries.size() > bulkOperationLimit) {
+            throw buildClientError(ErrorMessage.BULK_OPERATION_LIMIT_EXCEEDED, String.valueOf(bulkOperationLimit));
+        }
+
+        String tenantDomain = ContextLoader.getTenantDomainFromContext();
+        String username = ContextLoader.getUsernameFromContext();
+        long fileSizeLimit = getImportFileSizeLimit();
+        int batchSize = getBulkBatchSize();
+
+        List<ApplicationBulkImportResult> importedApplications = new ArrayList<>();
+        List<ApplicationImportError> importErrors = new ArrayList<>();
+        // Application names of the archive mapped to the file imported for each, across all the batches.
+        Map<String, String> fileNamesByApplication = new HashMap<>();
+        List<Callable<ApplicationImportOutcome>> parseTasks = new ArrayList<>(batchSize);
+        for (ZipEntry zipEntry : zipEntries) {
+            String fileName = zipEntry.getName();
+            // Each file is enforced the same size limit as a file imported on its own.
+            ByteArrayOutputStream fileContent = new ByteArrayOutputStream();
+            try (SizeLimitedInputStream entryInputStream = new SizeLimitedInputStream(
+                    zipFile.getInputStream(zipEntry), fileSizeLimit)) {
+                try {
+                    IOUtils.copy(entryInputStream, fileContent);
+                } catch (IOException e) {
+                    if (!entryInputStream.isLimitExceeded()) {
+                        throw e;
+                    }
+                    importErrors.add(buildImportError(fileName, buildClientError(
+                            ErrorMessage.IMPORT_FILE_SIZE_LIMIT_EXCEEDED, String.valueOf(fileSizeLimit))));
+                    continue;
+                }
+            }
+
+            parseTasks.add(buildParseTask(fileName, fileContent.toByteArray(), tenantDomain));
+            if (parseTasks.size() >= batchSize) {
+                runImportBatch(parseTasks, fileNamesByApplication, tenantDomain, username, isAppUpdate,
+                        importedApplications, importErrors);
+                parseTasks.clear();
+            }
+        }
+        if (!parseTasks.isEmpty()) {
+            runImportBatch(parseTasks, fileNamesByApplication, tenantDomain, username, isAppUpdate,
+                    importedApplications, importErrors);
+        }
+
+        return new ApplicationBulkImportResponse()
+                .totalResults(importedApplications.size())
+                .applications(importedApplications)
+                .failedResults(importErrors.size())
+                .failedOperations(importErrors);
+    }
+
+    private Callable<ApplicationImportOutcome> buildParseTask(String fileName, byte[] fileContent,
+                                                              String tenantDomain) {
+
+        return () -> runImportStep(fileName, () -> new ApplicationImportOutcome(fileName,
+                parseSP(new ByteArrayInputStream(fileContent), fileName, getImportFileType(fileName),
+                        tenantDomain)));
+    }
+
+    private Callable<ApplicationImportOutcome> buildImportTask(String fileName, ServiceProvider serviceProvider,
+                                                               String tenantDomain, String username,
+                                                               boolean isAppUpdate) {
+
+        return () -> runImportStep(fileName, () -> {
+            ImportResponse importResponse = applicationManagementService.importSPApplication(serviceProvider,
+                    tenantDomain, username, isAppUpdate);
+            if (importResponse.getResponseCode() == ImportResponse.FAILED) {
+                return new ApplicationImportOutcome(fileName, handleErrorResponse(importResponse));
+            }
+            notifyApplicationPermissionChange(tenantDomain);
+            return new ApplicationImportOutcome(fileName, importResponse.getApplicationResourceId());
+        });
+    }
+
+    private ApplicationImportOutcome runImportStep(String fileName, ApplicationImportStep importStep) {
+
+        String msg = "Error importing application from file: " + fileName;
+        try {
+            return importStep.run();
+        } catch (IdentityApplicationManagementClientException e) {
+            return new ApplicationImportOutcome(fileName, buildClientError(e, msg));
+        } catch (IdentityApplicationManagementException e) {
+            return new ApplicationImportOutcome(fileName, buildServerError(e, msg));
+        } catch (APIError e) {
+            return new ApplicationImportOutcome(fileName, e);
+        } catch (IOException | RuntimeException e) {
+            // A single broken file should not abort the rest of the batch.
+            return new ApplicationImportOutcome(fileName, Utils.buildServerError(msg, e));
+        }
+    }
+
+    /**
+     * Parse the given batch of files in parallel, and then import the parsed applications in parallel and collect
+     * the outcomes. The applications are deduplicated by name before the import, as the concurrent imports of the
+     * same application could both pass the existence check of the application management service.
+     */
+    private void runImportBatch(List<Callable<ApplicationImportOutcome>> parseTasks,
+                                Map<String, String> fileNamesByApplication, String tenantDomain, String username,
+                                boolean isAppUpdate, List<ApplicationBulkImportResult> importedApplications,
+                                List<ApplicationImportError> importErrors) {
+
+        List<Callable<ApplicationImportOutcome>> importTasks = new ArrayList<>(parseTasks.size());
+        for (ApplicationImportOutcome parseOutcome : invokeImportTasks(parseTasks)) {
+            if (parseOutcome.error != null) {
+                importErrors.add(buildImportError(parseOutcome.fileName, parseOutcome.error));
+                continue;
+            }
+            String applicationName = parseOutcome.serviceProvider.getApplicationName();
+            if (StringUtils.isNotBlank(applicationName)) {
+                // Application names are unique regardless of the case.
+                String importedFileName = fileNamesByApplication.putIfAbsent(
+                        applicationName.toLowerCase(Locale.ENGLISH), parseOutcome.fileName);
+                if (importedFileName != null) {
+                    importErrors.add(buildImportError(parseOutcome.fileName, buildClientError(
+                            ErrorMessage.DUPLICATE_APPLICATION_IN_BULK_IMPORT, applicationName, importedFileName)));
+                    continue;
+                }
+            }
+            importTasks.add(buildImportTask(parseOutcome.fileName, parseOutcome.serviceProvider, tenantDomain,
+                    username, isAppUpdate));
+        }
+        if (importTasks.isEmpty()) {
+            return;
+        }
+
+        for (ApplicationImportOutcome importOutcome : invokeImportTasks(importTasks)) {
+            if (importOutcome.error == null) {
+                importedApplications.add(new ApplicationBulkImportResult()
+                        .fileName(importOutcome.fileName)
+                        .id(importOutcome.applicationId));
+            } else {
+                importErrors.add(buildImportError(importOutcome.fileName, importOutcome.error));
+            }
+        }
+    }
+
+    private List<ApplicationImportOutcome> invokeImportTasks(List<Callable<ApplicationImportOutcome>> tasks) {
+
+        try {
+            return TenantAwareExecutor.invokeAll(tasks);
+        } catch (ExecutionException e) {
+            throw Utils.buildServerError("Error importing applications from file.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw Utils.buildServerError("Interrupted while importing applications from file.", e);
+        }
+    }
+
+    private ApplicationImportError buildImportError(String fileName, APIError error) {
+
+        ErrorDTO errorDTO = error.getResponseEntity();
+        return new ApplicationImportError()
+                .fileName(fileName)
+                .code(errorDTO.getCode())
+                .message(errorDTO.getMessage())
+                .description(errorDTO.getDescription())
+                .traceId(errorDTO.getRef());
+    }
+
+    private void deleteTemporaryFile(Path path) {
 
+        if (path == null) {
+            return;
+        }
         try {
-            SpFileContent spFileContent = buildSpFileContent(fileInputStream, fileDetail);
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Error deleting the temporary file: " + path, e);
+        }
+    }
+
+    private String getImportFileType(String fileName) {
+
+        String lowerCaseFileName = fileName.toLowerCase(Locale.ENGLISH);
+        if (lowerCaseFileName.endsWith(YML_FILE_EXTENSION) || lowerCaseFileName.endsWith(YAML_FILE_EXTENSION)) {
+            return VALID_MEDIA_TYPES_YAML[0];
+        } else if (lowerCaseFileName.endsWith(JSON_FILE_EXTENSION)) {
+            return VALID_MEDIA_TYPES_JSON[0];
+        }
+        return VALID_MEDIA_TYPES_XML[0];
+    }
+
+    private boolean isHiddenArchiveEntry(String entryName) {
+
+        // Skip the metadata added by the archiving tools, such as __MACOSX/ and .DS_Store entries.
+        String baseName = entryName.substring(entryName.lastIndexOf('/') + 1);
+        return entryName.startsWith(ARCHIVE_METADATA_DIRECTORY) || baseName.startsWith(".");
+    }
+
+    private int getBulkOperationLimit() {
+
+        String bulkOperationLimit = IdentityUtil.getProperty(APPLICATION_BULK_OPERATION_LIMIT);
+        if (StringUtils.isNotBlank(bulkOperationLimit)) {
+            try {
+                return Integer.parseInt(bulkOperationLimit.trim());
+            } catch (NumberFormatException e) {
+                log.warn("Invalid value: " + bulkOperationLimit + " configured for " +
+                        APPLICATION_BULK_OPERATION_LIMIT + ". Using the default limit of " +
+                        DEFAULT_APPLICATION_BULK_OPERATION_LIMIT + " applications.");
+            }
+        }
+        return DEFAULT_APPLICATION_BULK_OPERATION_LIMIT;
+    }
+
+    private int getBulkBatchSize() {
+
+        // Bounds the number of serialized files held in memory at once, while keeping all the workers busy.
+        return TenantAwareExecutor.getParallelism() * BULK_BATCH_SIZE_PER_WORKER;
+    }
+
+    private long getBulkImportFileSizeLimit() {
+
+        String sizeLimit = IdentityUtil.getProperty(APPLICATION_BULK_IMPORT_FILE_SIZE_LIMIT);
+        if (StringUtils.isNotBlank(sizeLimit)) {
+            try {
+                return Long.parseLong(sizeLimit.trim());
+            } catch (NumberFormatException e) {
+                log.warn("Invalid value: " + sizeLimit + " configured for " +
+                        APPLICATION_BULK_IMPORT_FILE_SIZE_LIMIT + ". Using the default limit of " +
+                        DEFAULT_APPLICATION_BULK_IMPORT_FILE_SIZE_LIMIT + " bytes.");
+            }
+        }
+        return DEFAULT_APPLICATION_BULK_IMPORT_FILE_SIZE_LIMIT;
+    }
 
+    private String doImportApplication(InputStream fileInputStream, Attachment fileDetail, boolean isAppUpdate) {
+
+        // The file is parsed straight from the request stream, hence the size is enforced while reading.
+        SizeLimitedInputStream limitedInputStream = new SizeLimitedInputStream(fileInputStream,
+                getImportFileSizeLimit());
+        try {
             String tenantDomain = ContextLoader.getTenantDomainFromContext();
             String username = ContextLoader.getUsernameFromContext();
+            String fileName = fileDetail.getDataHandler().getName();
             String fileType = fileDetail.getDataHandler().getContentType();
 
-            ServiceProvider serviceProvider = parseSP(spFileContent, fileType, tenantDomain);
+            ServiceProvider serviceProvider = parseSP(limitedInputStream, fileName, fileType, tenantDomain);
 
             ImportResponse importResponse = applicationManagementService.importSPApplication(serviceProvider,
                     tenantDomain, username, isAppUpdate);
@@ -686,40 +1333,66 @@ public class ServerApplicationManagementService {
             if (importResponse.getResponseCode() == ImportResponse.FAILED) {
                 throw handleErrorResponse(importResponse);
             } else {
+                notifyApplicationPermissionChange(tenantDomain);
                 return importResponse.getApplicationResourceId();
             }
         } catch (IOException e) {
+            if (limitedInputStream.isLimitExceeded()) {
+                throw buildClientError(ErrorMessage.IMPORT_FILE_SIZE_LIMIT_EXCEEDED,
+                        String.valueOf(limitedInputStream.getMaxSize()));
+            }
             throw Utils.buildServerError("Error importing application from file.", e);
         } catch (IdentityApplicationManagementException e) {
+            if (limitedInputStream.isLimitExceeded()) {
+                throw buildClientError(ErrorMessage.IMPORT_FILE_SIZE_LIMIT_EXCEEDED,
+                        String.valueOf(limitedInputStream.getMaxSize()));
+            }
             throw handleIdentityApplicationManagementException(e, "Error importing application from file.");
         } finally {
             IOUtils.closeQuietly(fileInputStream);
         }
     }
 
-    private ServiceProvider parseSP(SpFileContent spFileContent, String fileType, String tenantDomain)
-            throws IdentityApplicationManagementException {
+    private long getImportFileSizeLimit() {
+
+        String sizeLimit = IdentityUtil.getProperty(APPLICATION_IMPORT_FILE_SIZE_LIMIT);
+        if (StringUtils.isNotBlank(sizeLimit)) {
+            try {
+                return Long.parseLong(sizeLimit.trim());
+            } catch (NumberFormatException e) {
+                log.warn("Invalid value: " + sizeLimit + " configured for " + APPLICATION_IMPORT_FILE_SIZE_LIMIT +
+                        ". Using the default limit of " + DEFAULT_APPLICATION_IMPORT_FILE_SIZE_LIMIT + " bytes.");
+            }
+        }
+        return DEFAULT_APPLICATION_IMPORT_FILE_SIZE_LIMIT;
+    }
+
+    private ServiceProvider parseSP(InputStream fileInputStream, String fileName, String fileType,
+                                    String tenantDomain) throws IdentityApplicationManagementException, IOException {
 
         if (log.isDebugEnabled()) {
-            log.debug("Parsing service provider from file: " + spFileContent.getFileName() + " of type: " + fileType);
+            log.debug("Parsing service provider from file: " + fileName + " of type: " + fileType);
         }
 
-        if (StringUtils.isEmpty(spFileContent.getContent())) {
+        PushbackInputStream inputStream = new PushbackInputStream(fileInputStream);
+        int firstByte = inputStream.read();
+        if (firstByte == -1) {
             throw new IdentityApplicationManagementException(String.format(
                     "Empty Service Provider configuration file " + " %s uploaded by tenant: %s",
-                    spFileContent.getFileName(), tenantDomain));
+                    fileName, tenantDomain));
         }
+        inputStream.unread(firstByte);
 
         if (containsValidMediaType(fileType, VALID_MEDIA_TYPES_XML)) {
-            return parseServiceProviderFromXml(spFileContent, tenantDomain);
+            return parseServiceProviderFromXml(inputStream, fileName, tenantDomain);
         } else if (containsValidMediaType(fileType, VALID_MEDIA_TYPES_YAML)) {
-            return parseServiceProviderFromYaml(spFileContent, tenantDomain);
+            return parseServiceProviderFromYaml(inputStream, fileName, tenantDomain);
         } else if (containsValidMediaType(fileType, VALID_MEDIA_TYPES_JSON)) {
-            return parseServiceProviderFromJson(spFileContent, tenantDomain);
+            return parseServiceProviderFromJson(inputStream, fileName, tenantDomain);
         } else {
-            log.warn("Unsupported file type " + fileType + " for file " + spFileContent.getFileName() + " . " +
+            log.warn("Unsupported file type " + fileType + " for file " + fileName + " . " +
                     "Defaulting to XML parsing");
-            return parseServiceProviderFromXml(spFileContent, tenantDomain);
+            return parseServiceProviderFromXml(inputStream, fileName, tenantDomain);
         }
     }
 
@@ -733,61 +1406,45 @@ public class ServerApplicationManagementService {
         return false;
     }
 
-    private ServiceProvider parseServiceProviderFromXml(SpFileContent spFileContent, String tenantDomain)
+    private ServiceProvider parseServiceProviderFromXml(InputStream inputStream, String fileName,
+                                                        String tenantDomain)
             throws IdentityApplicationManagementException {
 
         try {
-            JAXBContext jaxbContext = JAXBContext.newInstance(INBOUND_CONFIG_PROTOCOLS);
-            Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
-            return (ServiceProvider) unmarshaller.unmarshal(new StringReader(spFileContent.getContent()));
+            return CodecRegistry.unmarshalFromXml(inputStream, ServiceProvider.class, INBOUND_CONFIG_PROTOCOLS);
         } catch (JAXBException e) {
             throw new IdentityApplicationManagementException(String.format("Error in reading XML Service Provider " +
-                    "configuration file %s uploaded by tenant: %s", spFileContent.getFileName(), tenantDomain), e);
+                    "configuration file %s uploaded by tenant: %s", fileName, tenantDomain), e);
         }
     }
 
-    private ServiceProvider parseServiceProviderFromYaml(SpFileContent spFileContent, String tenantDomain)
+    private ServiceProvider parseServiceProviderFromYaml(InputStream inputStream, String fileName,
+                                                         String tenantDomain)
             throws IdentityApplicationManagementException {
 
         try {
-            // Add trusted tags included in the SP YAML file.
-            List<String> trustedTagList = new ArrayList<>();
-            trustedTagList.add(ServiceProvider.class.getName());
-            trustedTagList.add(OAuthAppDO.class.getName());
-            trustedTagList.add(SAMLSSOServiceProviderDTO.class.getName());
-
-            LoaderOptions loaderOptions = new LoaderOptions();
-            TagInspector tagInspector = new TrustedPrefixesTagInspector(trustedTagList);
-            loaderOptions.setTagInspector(tagInspector);
-            Yaml yaml = new Yaml(new Constructor(ServiceProvider.class, loaderOptions));
-            return yaml.loadAs(spFileContent.getContent(), ServiceProvider.class);
+            // Trust the tags included in the SP YAML file.
+            return CodecRegistry.loadYaml(new InputStreamReader(inputStream, StandardCharsets.UTF_8),
+                    ServiceProvider.class, OAuthAppDO.class, SAMLSSOServiceProviderDTO.class);
         } catch (YAMLException e) {
             throw new IdentityApplicationManagementException(String.format("Error in reading YAML Service Provider " +
-                    "configuration file %s uploaded by tenant: %s", spFileContent.getFileName(), tenantDomain), e);
+                    "configuration file %s uploaded by tenant: %s", fileName, tenantDomain), e);
         }
     }
 
-    private ServiceProvider parseServiceProviderFromJson(SpFileContent spFileContent, String tenantDomain)
-            throws IdentityApplicationManagementException {
+    private ServiceProvider parseServiceProviderFromJson(InputStream inputStream, String fileName,
+                                                         String tenantDomain)
+            throws IdentityApplicationManagementException, IOException {
 
         try {
-            ObjectMapper objectMapper = new ObjectMapper();
-            objectMapper.registerSubtypes(INBOUND_CONFIG_PROTOCOLS);
-            return objectMapper.readValue(spFileContent.getContent(), ServiceProvider.class);
+            return CodecRegistry.getObjectMapper(INBOUND_CONFIG_PROTOCOLS).readValue(inputStream,
+                    ServiceProvider.class);
         } catch (JsonProcessingException e) {
             throw new IdentityApplicationManagementException(String.format("Error in reading JSON Service Provider " +
-                    "configuration file %s uploaded by tenant: %s", spFileContent.getFileName(), tenantDomain), e);
+                    "configuration file %s uploaded by tenant: %s", fileName, tenantDomain), e);
         }
     }
 
-    private SpFileContent buildSpFileContent(InputStream fileInputStream, Attachment fileDetail) throws IOException {
-
-        SpFileContent spFileContent = new SpFileContent();
-        spFileContent.setContent(IOUtils.toString(fileInputStream, StandardCharsets.UTF_8.name()));
-        spFileContent.setFileName(fileDetail.getDataHandler().getName());
-        return spFileContent;
-    }
-
     private APIError handleErrorResponse(ImportResponse importResponse) {
 
         String errorCode = importResponse.getErrorCode() != null ?
@@ -852,6 +1509,7 @@ public class ServerApplicationManagementService {
         try {
             ApplicationDTO applicationDTO = new ApiModelToServiceProvider().apply(applicationModel);
             applicationId = applicationManagementService.createApplication(applicationDTO, tenantDomain, username);
+            notifyApplicationPermissionChange(tenantDomain);
 
             // Update owner for B2B Self Service applications.
             if (applicationDTO.getServiceProvider().isB2BSelfServiceApp()) {
@@ -932,6 +1590,7 @@ public class ServerApplicationManagementService {
             String username = ContextLoader.getUsernameFromContext();
             applicationManagementService.updateApplicationByResourceId(applicationId, appToUpdate,
                     tenantDomain, username);
+            notifyApplicationPermissionChange(tenantDomain);
         } catch (IdentityApplicationManagementException e) {
             String msg = "Error patching application with id: " + applicationId;
             throw handleIdentityApplicationManagementException(e, msg);
@@ -976,6 +1635,7 @@ public class ServerApplicationManagementService {
 
             // Delete Application.
             applicationManagementService.deleteApplicationByResourceId(applicationId, tenantDomain, username);
+            notifyApplicationPermissionChange(tenantDomain);
         } catch (IdentityApplicationManagementException e) {
             String msg = "Error deleting application with id: " + applicationId;
             throw handleIdentityApplicationManagementException(e, msg);
@@ -1928,6 +2588,7 @@ public class ServerApplicationManagementService {
             // the inboundDTO information here.
             applicationManagementService.updateApplicationByResourceId(
                     applicationId, updatedApplication, null, tenantDomain, username);
+            notifyApplicationPermissionChange(tenantDomain);
         } catch (IdentityApplicationManagementException e) {
             String msg = "Error updating application with id: " + applicationId;
             throw handleIdentityApplicationManagementException(e, msg);
@@ -1943,12 +2604,24 @@ public class ServerApplicationManagementService {
 
             applicationManagementService.updateApplicationByResourceId(
                     applicationId, updatedApplication, inboundDTO, tenantDomain, username);
+            notifyApplicationPermissionChange(tenantDomain);
         } catch (IdentityApplicationManagementException e) {
             String msg = "Error updating application with id: " + applicationId;
             throw handleIdentityApplicationManagementException(e, msg);
         }
     }
 
+    /**
+     * The permissions of an application are kept under the permission tree of the tenant, hence the cached permission
+     * tree of the tenant is dropped whenever an application is added, updated or removed.
+     *
+     * @param tenantDomain Tenant domain of the application.
+     */
+    private void notifyApplicationPermissionChange(String tenantDomain) {
+
+        TenantCache.notifyChange(RESOURCE_TYPE_PERMISSION, tenantDomain);
+    }
+
     private void handleNotImplementedCapabilities(String sortOrder, String sortBy) {
 
         ErrorMessage errorEnum = null;
@@ -2208,4 +2881,72 @@ public class ServerApplicationManagementService {
                 .map(scope -> new Scope.ScopeBuilder().name(scope).build())
                 .collect(Collectors.toList());
     }
+
+    /**
+     * Outcome of exporting a single application of a bulk export.
+     */
+    private static class ApplicationExportOutcome {
+
+        private final String applicationId;
+        private final TransferResource file;
+        private final APIError error;
+
+        ApplicationExportOutcome(String applicationId, TransferResource file) {
+
+            this.applicationId = applicationId;
+            this.file = file;
+            this.error = null;
+        }
+
+        ApplicationExportOutcome(String applicationId, APIError error) {
+
+            this.applicationId = applicationId;
+            this.file = null;
+            this.error = error;
+        }
+    }
+
+    /**
+     * Step of importing a single application of a bulk import.
+     */
+    @FunctionalInterface
+    private interface ApplicationImportStep {
+
+        ApplicationImportOutcome run() throws IdentityApplicationManagementException, IOException;
+    }
+
+    /**
+     * Outcome of parsing or importing a single application of a bulk import.
+     */
+    private static class ApplicationImportOutcome {
+
+        private final String fileName;
+        private final ServiceProvider serviceProvider;
+        private final String applicationId;
+        private final APIError error;
+
+        ApplicationImportOutcome(String fileName, ServiceProvider serviceProvider) {
+
+            this.fileName = fileName;
+            this.serviceProvider = serviceProvider;
+            this.applicationId = null;
+            this.error = null;
+        }
+
+        ApplicationImportOutcome(String fileName, String applicationId) {
+
+            this.fileName = fileName;
+            this.serviceProvider = null;
+            this.applicationId = applicationId;
+            this.error = null;
+        }
+
+        ApplicationImportOutcome(String fileName, APIError error) {
+
+            this.fileName = fileName;
+            this.serviceProvider = null;
+            this.applicationId = null;
+            this.error = error;
+        }
+    }
 }
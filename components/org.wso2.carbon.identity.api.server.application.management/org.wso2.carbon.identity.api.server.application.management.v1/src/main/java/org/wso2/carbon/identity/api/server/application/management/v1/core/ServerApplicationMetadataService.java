@@ -18,6 +18,7 @@
 
 package org.wso2.carbon.identity.api.server.application.management.v1.core;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -37,6 +38,8 @@ import org.wso2.carbon.identity.api.server.application.management.v1.OIDCMetaDat
 import org.wso2.carbon.identity.api.server.application.management.v1.SAMLMetaData;
 import org.wso2.carbon.identity.api.server.application.management.v1.WSTrustMetaData;
 import org.wso2.carbon.identity.api.server.application.management.v1.core.functions.Utils;
+import org.wso2.carbon.identity.api.server.common.cache.CachedResponse;
+import org.wso2.carbon.identity.api.server.common.cache.TenantCache;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.application.common.model.Property;
 import org.wso2.carbon.identity.application.mgt.AbstractInboundAuthenticatorConfig;
@@ -61,6 +64,8 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants.DEFAULT_CERTIFICATE_ALIAS;
@@ -68,6 +73,8 @@ import static org.wso2.carbon.identity.api.server.application.management.common.
 import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants.ErrorMessage.ERROR_RETRIEVING_SAML_METADATA;
 import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants.ErrorMessage.ERROR_WS_TRUST_METADATA_SERVICE_NOT_FOUND;
 import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants.getOAuthGrantTypeNames;
+import static org.wso2.carbon.identity.api.server.common.Constants.RESOURCE_TYPE_KEYSTORE;
+import static org.wso2.carbon.identity.api.server.common.ContextLoader.getTenantDomainFromContext;
 
 /**
  * Calls internal osgi services to get required application metadata.
@@ -90,9 +97,73 @@ public class ServerApplicationMetadataService {
         this.sTSAdminServiceInterface = sTSAdminServiceInterface;
     }
 
-
     private static final Log LOG = LogFactory.getLog(ServerApplicationMetadataService.class);
 
+    /* Serialized metadata responses of each tenant. The metadata is built from the server configuration, the primary
+    keystore of the tenant and the registered inbound authenticators. Only the keystore changes are reported, hence
+    the other changes are picked up once the responses of the tenant expire. */
+    private static final TenantCache<Map<String, CachedResponse>> METADATA_RESPONSES =
+            new TenantCache<>("ApplicationMetadata", 300, RESOURCE_TYPE_KEYSTORE);
+    private static final String INBOUND_PROTOCOLS_METADATA = "inbound-protocols";
+    private static final String CUSTOM_INBOUND_PROTOCOLS_METADATA = "custom-inbound-protocols";
+    private static final String SAML_METADATA = "saml";
+    private static final String OIDC_METADATA = "oidc";
+    private static final String WS_TRUST_METADATA = "ws-trust";
+    private static final String ADAPTIVE_AUTH_TEMPLATES = "adaptive-auth-templates";
+
+    /**
+     * Get the serialized list of the available inbound protocols, from the metadata snapshot of the tenant if
+     * available.
+     *
+     * @param customOnly Set to True to get only custom protocols. Default value: False.
+     * @return Cached response of the inbound protocols.
+     */
+    public CachedResponse getInboundProtocolsResponse(Boolean customOnly) {
+
+        String key = Boolean.TRUE.equals(customOnly) ? CUSTOM_INBOUND_PROTOCOLS_METADATA : INBOUND_PROTOCOLS_METADATA;
+        return getMetadataResponse(key, () -> getInboundProtocols(customOnly));
+    }
+
+    /**
+     * Get the serialized SAML metadata, from the metadata snapshot of the tenant if available.
+     *
+     * @return Cached response of the SAML metadata.
+     */
+    public CachedResponse getSAMLMetadataResponse() {
+
+        return getMetadataResponse(SAML_METADATA, this::getSAMLMetadata);
+    }
+
+    /**
+     * Get the serialized OAuth/OIDC metadata, from the metadata snapshot of the tenant if available.
+     *
+     * @return Cached response of the OAuth/OIDC metadata.
+     */
+    public CachedResponse getOIDCMetadataResponse() {
+
+        return getMetadataResponse(OIDC_METADATA, this::getOIDCMetadata);
+    }
+
+    /**
+     * Get the serialized WS Trust metadata, from the metadata snapshot of the tenant if available.
+     *
+     * @return Cached response of the WS Trust metadata.
+     */
+    public CachedResponse getWSTrustMetadataResponse() {
+
+        return getMetadataResponse(WS_TRUST_METADATA, this::getWSTrustMetadata);
+    }
+
+    /**
+     * Get the serialized adaptive authentication templates, from the metadata snapshot of the tenant if available.
+     *
+     * @return Cached response of the adaptive authentication templates.
+     */
+    public CachedResponse getAdaptiveAuthTemplatesResponse() {
+
+        return getMetadataResponse(ADAPTIVE_AUTH_TEMPLATES, this::getAdaptiveAuthTemplates);
+    }
+
     /**
      * Return a list of all available inbound protocols. If the customOnly parameter set to True, will return only the
      * custom protocols.
@@ -409,6 +480,31 @@ public class ServerApplicationMetadataService {
         return adaptiveAuthTemplates;
     }
 
+    /**
+     * Get the cached metadata response of the given key, building and caching it if not available. Failures, such as
+     * the absence of the WS Trust connector, are not cached.
+     *
+     * @param key     Key of the metadata response.
+     * @param builder Builder of the metadata.
+     * @return Cached metadata response.
+     */
+    private CachedResponse getMetadataResponse(String key, Supplier<Object> builder) {
+
+        Map<String, CachedResponse> responses = METADATA_RESPONSES.get(getTenantDomainFromContext(),
+                ConcurrentHashMap::new);
+        CachedResponse response = responses.get(key);
+        if (response != null) {
+            return response;
+        }
+        try {
+            response = CachedResponse.of(builder.get());
+        } catch (JsonProcessingException e) {
+            throw Utils.buildServerError("Error while serializing the application metadata: " + key, e);
+        }
+        CachedResponse existingResponse = responses.putIfAbsent(key, response);
+        return existingResponse != null ? existingResponse : response;
+    }
+
     /**
      * If the passed exception has an error message, set it to the description of the API error response.
      *
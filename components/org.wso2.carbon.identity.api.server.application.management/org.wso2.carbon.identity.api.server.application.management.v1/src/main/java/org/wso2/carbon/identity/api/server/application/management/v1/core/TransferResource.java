@@ -21,16 +21,18 @@ package org.wso2.carbon.identity.api.server.application.management.v1.core;
 import java.util.Arrays;
 
 import javax.activation.MimeType;
+import javax.ws.rs.core.StreamingOutput;
 
 /**
  * The TransferResource class represents a resource to be transferred,
- * including its name, type, and byte array data.
+ * including its name, type, and either the byte array data or a stream writing the data.
  */
 public class TransferResource {
 
     private String resourceName;
     private MimeType resourceType;
     private byte[] resource;
+    private StreamingOutput resourceStream;
 
     public TransferResource(String resourceName, byte[] resource, MimeType resourceType) {
 
@@ -39,6 +41,13 @@ public class TransferResource {
         this.resourceType = resourceType;
     }
 
+    public TransferResource(String resourceName, StreamingOutput resourceStream, MimeType resourceType) {
+
+        this.resourceName = resourceName;
+        this.resourceStream = resourceStream;
+        this.resourceType = resourceType;
+    }
+
     public String getResourceName() {
 
         return resourceName;
@@ -59,6 +68,21 @@ public class TransferResource {
         this.resource = resource != null ? Arrays.copyOf(resource, resource.length) : new byte[0];
     }
 
+    /**
+     * Get the stream which writes the resource data, if the resource is served as a stream.
+     *
+     * @return Resource stream or null if the resource data is held as a byte array.
+     */
+    public StreamingOutput getResourceStream() {
+
+        return resourceStream;
+    }
+
+    public void setResourceStream(StreamingOutput resourceStream) {
+
+        this.resourceStream = resourceStream;
+    }
+
     public MimeType getResourceType() {
 
         return resourceType;
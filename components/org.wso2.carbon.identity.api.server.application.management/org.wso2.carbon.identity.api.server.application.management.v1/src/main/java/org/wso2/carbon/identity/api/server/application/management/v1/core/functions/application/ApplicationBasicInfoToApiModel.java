@@ -60,8 +60,8 @@ public class ApplicationBasicInfoToApiModel implements Function<ApplicationBasic
 
     private String getApplicationLocation(String resourceId) {
 
-        return ContextLoader.buildURIForBody(
-                Constants.V1_API_PATH_COMPONENT + APPLICATION_MANAGEMENT_PATH_COMPONENT + "/" + resourceId).toString();
+        return ContextLoader.buildURLForBody(
+                Constants.V1_API_PATH_COMPONENT + APPLICATION_MANAGEMENT_PATH_COMPONENT + "/" + resourceId);
     }
 
     private ApplicationListItem.AccessEnum getAccess(String applicationName) {
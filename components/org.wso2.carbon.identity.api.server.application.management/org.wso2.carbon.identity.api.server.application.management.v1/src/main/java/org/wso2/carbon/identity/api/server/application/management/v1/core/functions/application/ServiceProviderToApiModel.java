@@ -103,6 +103,9 @@ import static org.wso2.carbon.identity.base.IdentityConstants.USE_EXTERNAL_CONSE
 public class ServiceProviderToApiModel implements Function<ServiceProvider, ApplicationResponseModel> {
 
     private static final Log log = LogFactory.getLog(ServiceProviderToApiModel.class);
+    /* Gson reads the numbers of the Android attestation credentials as doubles, and the parsed credentials are
+    returned as is in the application response, hence Gson is kept to preserve the response format. */
+    private static final Gson GSON = new Gson();
 
     private static final Set<String> systemApplications = ApplicationManagementServiceHolder
             .getApplicationManagementService().getSystemApplications();
@@ -679,7 +682,7 @@ public class ServiceProviderToApiModel implements Function<ServiceProvider, Appl
 
         try {
             // Attempt to parse the JSON string into an instance of Map.
-            jsonObject = new Gson().fromJson(stringJSON, Map.class);
+            jsonObject = GSON.fromJson(stringJSON, Map.class);
         } catch (JsonSyntaxException exception) {
             // Return null if an exception occurs during parsing (e.g., due to invalid JSON syntax)
             return null;
@@ -18,7 +18,7 @@
 
 package org.wso2.carbon.identity.api.server.application.management.v1.core.functions.application;
 
-import com.google.gson.Gson;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import org.apache.commons.collections.CollectionUtils;
 import org.wso2.carbon.identity.api.server.application.management.v1.AdditionalSpProperty;
 import org.wso2.carbon.identity.api.server.application.management.v1.AdvancedApplicationConfiguration;
@@ -27,6 +27,7 @@ import org.wso2.carbon.identity.api.server.application.management.v1.Discoverabl
 import org.wso2.carbon.identity.api.server.application.management.v1.GroupBasicInfo;
 import org.wso2.carbon.identity.api.server.application.management.v1.TrustedAppConfiguration;
 import org.wso2.carbon.identity.api.server.application.management.v1.core.functions.UpdateFunction;
+import org.wso2.carbon.identity.api.server.common.codec.CodecRegistry;
 import org.wso2.carbon.identity.application.common.model.ClientAttestationMetaData;
 import org.wso2.carbon.identity.application.common.model.LocalAndOutboundAuthenticationConfig;
 import org.wso2.carbon.identity.application.common.model.ServiceProvider;
@@ -37,6 +38,7 @@ import java.util.List;
 
 import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants.ErrorMessage.ADDITIONAL_SP_PROP_NOT_SUPPORTED;
 import static org.wso2.carbon.identity.api.server.application.management.v1.core.functions.Utils.buildBadRequestError;
+import static org.wso2.carbon.identity.api.server.application.management.v1.core.functions.Utils.buildServerError;
 import static org.wso2.carbon.identity.api.server.application.management.v1.core.functions.Utils.setIfNotNull;
 
 /**
@@ -136,8 +138,11 @@ public class UpdateAdvancedConfigurations implements UpdateFunction<ServiceProvi
      */
     private String parseAndroidAttestationServiceCredentials(Object androidAttestationServiceCredentials) {
 
-        Gson gson = new Gson();
-        return gson.toJson(androidAttestationServiceCredentials);
+        try {
+            return CodecRegistry.writeJson(androidAttestationServiceCredentials);
+        } catch (JsonProcessingException e) {
+            throw buildServerError("Error while serializing the Android attestation service credentials.", e);
+        }
     }
 
     private LocalAndOutboundAuthenticationConfig getLocalAndOutboundConfig(ServiceProvider application) {
@@ -99,7 +99,7 @@ public class InboundAuthConfigToApiModel implements Function<ServiceProvider, Li
                 break;
         }
 
-        return ContextLoader.buildURIForBody(V1_API_PATH_COMPONENT + APPLICATION_MANAGEMENT_PATH_COMPONENT + "/"
-                + applicationId + INBOUND_PROTOCOLS_PATH_COMPONENT + inboundPathComponent).toString();
+        return ContextLoader.buildURLForBody(V1_API_PATH_COMPONENT + APPLICATION_MANAGEMENT_PATH_COMPONENT + "/"
+                + applicationId + INBOUND_PROTOCOLS_PATH_COMPONENT + inboundPathComponent);
     }
 }
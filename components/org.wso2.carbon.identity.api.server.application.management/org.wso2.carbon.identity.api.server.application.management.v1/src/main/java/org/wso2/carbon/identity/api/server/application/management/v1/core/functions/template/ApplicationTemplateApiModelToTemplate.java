@@ -19,11 +19,11 @@
 package org.wso2.carbon.identity.api.server.application.management.v1.core.functions.template;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.commons.lang.StringUtils;
 import org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants;
 import org.wso2.carbon.identity.api.server.application.management.v1.ApplicationModel;
 import org.wso2.carbon.identity.api.server.application.management.v1.ApplicationTemplateModel;
+import org.wso2.carbon.identity.api.server.common.codec.CodecRegistry;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.template.mgt.TemplateMgtConstants;
 import org.wso2.carbon.identity.template.mgt.model.Template;
@@ -79,9 +79,8 @@ public class ApplicationTemplateApiModelToTemplate implements Function<Applicati
 
     private String createApplicationTemplateScript(ApplicationModel application) {
 
-        ObjectMapper mapper = new ObjectMapper();
         try {
-            return mapper.writeValueAsString(application);
+            return CodecRegistry.getWriter(ApplicationModel.class).writeValueAsString(application);
         } catch (JsonProcessingException e) {
             throw buildServerError(
                     ApplicationManagementConstants.ErrorMessage.ERROR_RESOLVING_APPLICATION_TEMPLATE.getCode(),
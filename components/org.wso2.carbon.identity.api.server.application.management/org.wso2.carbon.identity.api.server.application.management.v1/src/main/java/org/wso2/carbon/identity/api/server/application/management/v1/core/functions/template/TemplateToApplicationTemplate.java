@@ -18,11 +18,11 @@
 
 package org.wso2.carbon.identity.api.server.application.management.v1.core.functions.template;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.commons.lang.StringUtils;
 import org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants;
 import org.wso2.carbon.identity.api.server.application.management.v1.ApplicationModel;
 import org.wso2.carbon.identity.api.server.application.management.v1.ApplicationTemplateModel;
+import org.wso2.carbon.identity.api.server.common.codec.CodecRegistry;
 import org.wso2.carbon.identity.template.mgt.model.Template;
 
 import java.io.IOException;
@@ -79,9 +79,8 @@ public class TemplateToApplicationTemplate implements Function<Template, Applica
 
     private ApplicationModel createApplicationTemplate(String applicationTemplate) {
 
-        ObjectMapper mapper = new ObjectMapper();
         try {
-            return mapper.readValue(applicationTemplate, ApplicationModel.class);
+            return CodecRegistry.readJson(applicationTemplate, ApplicationModel.class);
         } catch (IOException e) {
             throw buildServerError(
                     ApplicationManagementConstants.ErrorMessage.ERROR_RESOLVING_APPLICATION_TEMPLATE.getCode(),
@@ -78,8 +78,8 @@ public class TemplateToApplicationTemplateListItem implements Function<Template,
 
     private String getApplicationTemplateLocation(String templateId) {
 
-        return ContextLoader.buildURIForBody(
+        return ContextLoader.buildURLForBody(
                 Constants.V1_API_PATH_COMPONENT + APPLICATION_MANAGEMENT_PATH_COMPONENT +
-                        APPLICATION_TEMPLATE_MANAGEMENT_PATH_COMPONENT + "/" + templateId).toString();
+                        APPLICATION_TEMPLATE_MANAGEMENT_PATH_COMPONENT + "/" + templateId);
     }
 }
@@ -21,6 +21,8 @@ package org.wso2.carbon.identity.api.server.application.management.v1.impl;
 import org.apache.cxf.jaxrs.ext.multipart.Attachment;
 import org.apache.cxf.jaxrs.ext.search.SearchContext;
 import org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants;
+import org.wso2.carbon.identity.api.server.application.management.v1.ApplicationBulkExportRequest;
+import org.wso2.carbon.identity.api.server.application.management.v1.ApplicationBulkImportResponse;
 import org.wso2.carbon.identity.api.server.application.management.v1.ApplicationListResponse;
 import org.wso2.carbon.identity.api.server.application.management.v1.ApplicationModel;
 import org.wso2.carbon.identity.api.server.application.management.v1.ApplicationOwner;
@@ -70,6 +72,9 @@ import javax.ws.rs.core.Response;
  */
 public class ApplicationsApiServiceImpl implements ApplicationsApiService {
 
+    // Clients revalidate the metadata responses on each use, as the metadata changes with the tenant keystore.
+    private static final int METADATA_RESPONSE_MAX_AGE = 0;
+
     private final ServerApplicationManagementService applicationManagementService;
     private final ServerApplicationMetadataService applicationMetadataService;
     private final ServerApplicationSharingService applicationSharingService;
@@ -297,7 +302,7 @@ public class ApplicationsApiServiceImpl implements ApplicationsApiService {
     @Override
     public Response exportApplicationAsFile(String applicationId, Boolean exportSecrets, String fileType) {
 
-        TransferResource transferResource = applicationManagementService.exportApplicationAsFile(
+        TransferResource transferResource = applicationManagementService.exportApplicationAsStream(
                 applicationId,
                 exportSecrets,
                 fileType
@@ -310,7 +315,28 @@ public class ApplicationsApiServiceImpl implements ApplicationsApiService {
                 .header("Cache-Control", "no-cache, no-store, must-revalidate")
                 .header("Pragma", "no-cache")
                 .header("Expires", "0")
-                .entity(transferResource.getResource())
+                .entity(transferResource.getResourceStream())
+                .build();
+    }
+
+    @Override
+    public Response exportApplications(ApplicationBulkExportRequest applicationBulkExportRequest,
+                                       Boolean exportSecrets, String accept) {
+
+        TransferResource transferResource = applicationManagementService.exportApplications(
+                applicationBulkExportRequest,
+                exportSecrets,
+                accept
+        );
+
+        return Response.ok()
+                .type(transferResource.getResourceType().getBaseType())
+                .header("Content-Disposition", "attachment; filename=\""
+                        + transferResource.getResourceName() + "\"")
+                .header("Cache-Control", "no-cache, no-store, must-revalidate")
+                .header("Pragma", "no-cache")
+                .header("Expires", "0")
+                .entity(transferResource.getResourceStream())
                 .build();
     }
 
@@ -336,6 +362,15 @@ public class ApplicationsApiServiceImpl implements ApplicationsApiService {
         return Response.ok().location(getResourceLocation(resourceId)).build();
     }
 
+    @Override
+    public Response importApplicationsInBulk(InputStream fileInputStream, Attachment fileDetail,
+                                             Boolean updateExisting) {
+
+        ApplicationBulkImportResponse bulkImportResponse = applicationManagementService.importApplicationsInBulk(
+                fileInputStream, fileDetail, updateExisting);
+        return Response.ok(bulkImportResponse).build();
+    }
+
     @Override
     public Response getInboundAuthenticationConfigurations(String applicationId) {
 
@@ -480,9 +515,10 @@ public class ApplicationsApiServiceImpl implements ApplicationsApiService {
     }
 
     @Override
-    public Response getInboundProtocols(Boolean customOnly) {
+    public Response getInboundProtocols(Boolean customOnly, String ifNoneMatch) {
 
-        return Response.ok().entity(applicationMetadataService.getInboundProtocols(customOnly)).build();
+        return applicationMetadataService.getInboundProtocolsResponse(customOnly)
+                .toResponse(ifNoneMatch, METADATA_RESPONSE_MAX_AGE);
     }
 
     @Override
@@ -492,27 +528,31 @@ public class ApplicationsApiServiceImpl implements ApplicationsApiService {
     }
 
     @Override
-    public Response getOIDCMetadata() {
+    public Response getOIDCMetadata(String ifNoneMatch) {
 
-        return Response.ok().entity(applicationMetadataService.getOIDCMetadata()).build();
+        return applicationMetadataService.getOIDCMetadataResponse()
+                .toResponse(ifNoneMatch, METADATA_RESPONSE_MAX_AGE);
     }
 
     @Override
-    public Response getSAMLMetadata() {
+    public Response getSAMLMetadata(String ifNoneMatch) {
 
-        return Response.ok().entity(applicationMetadataService.getSAMLMetadata()).build();
+        return applicationMetadataService.getSAMLMetadataResponse()
+                .toResponse(ifNoneMatch, METADATA_RESPONSE_MAX_AGE);
     }
 
     @Override
-    public Response getWSTrustMetadata() {
+    public Response getWSTrustMetadata(String ifNoneMatch) {
 
-        return Response.ok().entity(applicationMetadataService.getWSTrustMetadata()).build();
+        return applicationMetadataService.getWSTrustMetadataResponse()
+                .toResponse(ifNoneMatch, METADATA_RESPONSE_MAX_AGE);
     }
 
     @Override
-    public Response getAdaptiveAuthTemplates() {
+    public Response getAdaptiveAuthTemplates(String ifNoneMatch) {
 
-        return Response.ok().entity(applicationMetadataService.getAdaptiveAuthTemplates()).build();
+        return applicationMetadataService.getAdaptiveAuthTemplatesResponse()
+                .toResponse(ifNoneMatch, METADATA_RESPONSE_MAX_AGE);
     }
 
     @Override
@@ -34,6 +34,8 @@ public class Constants {
     public static final String PAGE_LINK_REL_PREVIOUS = "previous";
     public static final String PAGINATION_WITH_FILTER_LINK_FORMAT = "?offset=%d&limit=%d&filter=%s";
     public static final String PAGINATION_LINK_FORMAT = "?offset=%d&limit=%d";
+    public static final String CATALOG_IDENTITY_PROVIDER_LIMIT =
+            "ServerAPI.Authenticators.Catalog.IdentityProviderLimit";
 
     /**
      * Supported filter attributes.
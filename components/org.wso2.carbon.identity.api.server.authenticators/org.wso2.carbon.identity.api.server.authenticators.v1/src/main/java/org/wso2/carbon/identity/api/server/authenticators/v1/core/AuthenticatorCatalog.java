@@ -0,0 +1,274 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.identity.api.server.authenticators.v1.core;
+
+import org.wso2.carbon.identity.api.server.authenticators.v1.model.Authenticator;
+import org.wso2.carbon.identity.application.common.model.LocalAuthenticatorConfig;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Catalog of the authenticators available in a tenant, indexed by the tags of the authenticators.
+ * The catalog is built once per tenant and shared by the requests of the tenant until it is invalidated, hence it
+ * must not be modified once built.
+ *
+ * <p>The identity providers are loaded on the first listing request, since retrieving the tags does not require
+ * them. The identity providers are not held if the tenant has more of them than the catalog is allowed to hold, and
+ * such tenants are listed from the identity provider store on each request.</p>
+ *
+ * <p>The catalog is local to the node. Changes made through the APIs of this node drop the catalog of the tenant,
+ * while the changes made on the other nodes are picked up once the catalog expires.</p>
+ */
+class AuthenticatorCatalog {
+
+    private final List<LocalAuthenticatorConfig> localAuthenticators;
+    private final Map<String, List<LocalAuthenticatorConfig>> localAuthenticatorsByTag = new HashMap<>();
+    private final List<String> tags;
+    private final Supplier<List<IdentityProviderEntry>> identityProviderLoader;
+
+    private boolean identityProvidersLoaded;
+    private List<IdentityProviderEntry> identityProviders;
+    private Map<String, List<IdentityProviderEntry>> identityProvidersByTag;
+
+    /**
+     * Create the catalog.
+     *
+     * @param localAuthenticators    Local and request path authenticators, in the listing order.
+     * @param tags                   Distinct tags of all the authenticators available in the tenant.
+     * @param identityProviderLoader Loader of the identity providers, in the listing order. The loader returns null
+     *                               if the tenant has more identity providers than the catalog may hold.
+     */
+    AuthenticatorCatalog(List<LocalAuthenticatorConfig> localAuthenticators, List<String> tags,
+                         Supplier<List<IdentityProviderEntry>> identityProviderLoader) {
+
+        this.localAuthenticators = Collections.unmodifiableList(localAuthenticators);
+        this.tags = Collections.unmodifiableList(tags);
+        this.identityProviderLoader = identityProviderLoader;
+        for (LocalAuthenticatorConfig config : localAuthenticators) {
+            String[] configTags = config.getTags();
+            if (configTags != null) {
+                index(localAuthenticatorsByTag, config, configTags);
+            }
+        }
+    }
+
+    /**
+     * Get the distinct tags of all the authenticators available in the tenant.
+     *
+     * @return Tags of the authenticators.
+     */
+    List<String> getTags() {
+
+        return tags;
+    }
+
+    /**
+     * Get the local and request path authenticators having any of the given tags.
+     *
+     * @param filterTags Tags to filter the authenticators. All the authenticators are returned if empty.
+     * @return Local and request path authenticators, in the listing order.
+     */
+    List<LocalAuthenticatorConfig> getLocalAuthenticators(List<String> filterTags) {
+
+        return select(localAuthenticators, localAuthenticatorsByTag, filterTags);
+    }
+
+    /**
+     * Get the identity providers having a federated authenticator with any of the given tags.
+     *
+     * @param filterTags Tags to filter the identity providers. All the identity providers are returned if empty.
+     * @return Identity providers, in the listing order, or null if the catalog does not hold the identity providers
+     * of the tenant.
+     */
+    synchronized List<IdentityProviderEntry> getIdentityProviders(List<String> filterTags) {
+
+        if (!identityProvidersLoaded) {
+            List<IdentityProviderEntry> loadedIdentityProviders = identityProviderLoader.get();
+            identityProvidersLoaded = true;
+            if (loadedIdentityProviders == null) {
+                return null;
+            }
+            Map<String, List<IdentityProviderEntry>> loadedIdentityProvidersByTag = new HashMap<>();
+            for (IdentityProviderEntry entry : loadedIdentityProviders) {
+                index(loadedIdentityProvidersByTag, entry, entry.filterTags.toArray(new String[0]));
+            }
+            identityProviders = Collections.unmodifiableList(loadedIdentityProviders);
+            identityProvidersByTag = loadedIdentityProvidersByTag;
+        }
+        if (identityProviders == null) {
+            return null;
+        }
+        return select(identityProviders, identityProvidersByTag, filterTags);
+    }
+
+    private static <T> void index(Map<String, List<T>> index, T item, String[] itemTags) {
+
+        for (String tag : itemTags) {
+            List<T> items = index.computeIfAbsent(toKey(tag), key -> new ArrayList<>());
+            // The same tag may be repeated with a different case.
+            if (items.isEmpty() || items.get(items.size() - 1) != item) {
+                items.add(item);
+            }
+        }
+    }
+
+    private static <T> List<T> select(List<T> items, Map<String, List<T>> index, List<String> filterTags) {
+
+        if (filterTags == null || filterTags.isEmpty()) {
+            return items;
+        }
+        if (filterTags.size() == 1) {
+            return index.getOrDefault(toKey(filterTags.get(0)), Collections.emptyList());
+        }
+
+        Set<T> matchingItems = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String filterTag : filterTags) {
+            matchingItems.addAll(index.getOrDefault(toKey(filterTag), Collections.emptyList()));
+        }
+        if (matchingItems.isEmpty()) {
+            return Collections.emptyList();
+        }
+        // Keep the listing order of the items matched by different tags.
+        List<T> selectedItems = new ArrayList<>(matchingItems.size());
+        for (T item : items) {
+            if (matchingItems.contains(item)) {
+                selectedItems.add(item);
+            }
+        }
+        return selectedItems;
+    }
+
+    private static String toKey(String tag) {
+
+        return tag.toLowerCase(Locale.ENGLISH);
+    }
+
+    /**
+     * Details of an identity provider required to list it as an authenticator.
+     */
+    static class IdentityProviderEntry {
+
+        private final String resourceId;
+        private final String name;
+        private final String displayName;
+        private final boolean enabled;
+        private final String imageUrl;
+        private final String description;
+        private final Authenticator.DefinedByEnum definedBy;
+        private final List<String> tags;
+        private final List<String> filterTags;
+
+        /**
+         * Create an identity provider entry.
+         *
+         * @param resourceId  Resource ID of the identity provider.
+         * @param name        Name of the identity provider.
+         * @param displayName Display name of the identity provider.
+         * @param enabled     Whether the identity provider is enabled.
+         * @param imageUrl    Image URL of the identity provider.
+         * @param description Description of the identity provider.
+         * @param definedBy   Defined by type of the identity provider.
+         * @param tags        Tags to be listed for the identity provider.
+         * @param filterTags  Tags of the enabled federated authenticators, which the tag filters are matched against.
+         */
+        IdentityProviderEntry(String resourceId, String name, String displayName, boolean enabled, String imageUrl,
+                              String description, Authenticator.DefinedByEnum definedBy, List<String> tags,
+                              List<String> filterTags) {
+
+            this.resourceId = resourceId;
+            this.name = name;
+            this.displayName = displayName;
+            this.enabled = enabled;
+            this.imageUrl = imageUrl;
+            this.description = description;
+            this.definedBy = definedBy;
+            this.tags = tags;
+            this.filterTags = filterTags;
+        }
+
+        String getResourceId() {
+
+            return resourceId;
+        }
+
+        String getName() {
+
+            return name;
+        }
+
+        String getDisplayName() {
+
+            return displayName;
+        }
+
+        boolean isEnabled() {
+
+            return enabled;
+        }
+
+        String getImageUrl() {
+
+            return imageUrl;
+        }
+
+        String getDescription() {
+
+            return description;
+        }
+
+        Authenticator.DefinedByEnum getDefinedBy() {
+
+            return definedBy;
+        }
+
+        List<String> getTags() {
+
+            return tags;
+        }
+
+        /**
+         * Check whether any of the enabled federated authenticators of the identity provider has any of the given
+         * tags.
+         *
+         * @param tags Tags to be matched.
+         * @return True if the identity provider has any of the tags, or if no tags are given.
+         */
+        boolean hasAnyTag(List<String> tags) {
+
+            if (tags == null || tags.isEmpty()) {
+                return true;
+            }
+            for (String tag : tags) {
+                for (String filterTag : filterTags) {
+                    if (filterTag.equalsIgnoreCase(tag)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -25,6 +25,7 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.context.CarbonContext;
 import org.wso2.carbon.identity.api.server.authenticators.common.Constants;
+import org.wso2.carbon.identity.api.server.authenticators.v1.core.AuthenticatorCatalog.IdentityProviderEntry;
 import org.wso2.carbon.identity.api.server.authenticators.v1.impl.LocalAuthenticatorConfigBuilderFactory;
 import org.wso2.carbon.identity.api.server.authenticators.v1.model.Authenticator;
 import org.wso2.carbon.identity.api.server.authenticators.v1.model.ConnectedApp;
@@ -34,6 +35,8 @@ import org.wso2.carbon.identity.api.server.authenticators.v1.model.NameFilter;
 import org.wso2.carbon.identity.api.server.authenticators.v1.model.UserDefinedLocalAuthenticatorCreation;
 import org.wso2.carbon.identity.api.server.authenticators.v1.model.UserDefinedLocalAuthenticatorUpdate;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.Util;
+import org.wso2.carbon.identity.api.server.common.cache.TenantCache;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
 import org.wso2.carbon.identity.application.common.ApplicationAuthenticatorService;
@@ -70,12 +73,17 @@ import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import javax.ws.rs.core.Response;
 
 import static org.wso2.carbon.identity.api.server.authenticators.common.Constants.AUTHENTICATOR_PATH_COMPONENT;
+import static org.wso2.carbon.identity.api.server.common.Constants.RESOURCE_TYPE_AUTHENTICATOR;
+import static org.wso2.carbon.identity.api.server.common.Constants.RESOURCE_TYPE_IDENTITY_PROVIDER;
 import static org.wso2.carbon.identity.api.server.common.Constants.V1_API_PATH_COMPONENT;
 import static org.wso2.carbon.identity.api.server.common.Util.base64URLDecode;
 import static org.wso2.carbon.identity.api.server.common.Util.base64URLEncode;
@@ -90,6 +98,14 @@ public class ServerAuthenticatorManagementService {
     private final ApplicationAuthenticatorService applicationAuthenticatorService;
     private static final Log log = LogFactory.getLog(ServerAuthenticatorManagementService.class);
 
+    /* Authenticator catalogs are local to the node, and changes made on the other nodes are not reported to them, hence
+    a catalog may be up to a minute stale on the other nodes of a cluster. */
+    private static final long AUTHENTICATOR_CATALOG_EXPIRY_TIME = 60;
+    private static final int DEFAULT_CATALOG_IDENTITY_PROVIDER_LIMIT = 1000;
+    private static final TenantCache<AuthenticatorCatalog> AUTHENTICATOR_CATALOGS = new TenantCache<>(
+            "AuthenticatorCatalog", AUTHENTICATOR_CATALOG_EXPIRY_TIME, RESOURCE_TYPE_AUTHENTICATOR,
+            RESOURCE_TYPE_IDENTITY_PROVIDER);
+
     public ServerAuthenticatorManagementService(ApplicationManagementService applicationManagementService,
                                                 IdpManager idpManager,
                                                 ApplicationAuthenticatorService applicationAuthenticatorService) {
@@ -111,63 +127,19 @@ public class ServerAuthenticatorManagementService {
 
         handleNotImplementedCapabilities(limit, offset);
 
-        try {
-            String filterAuthenticatorName = null;
-            String filterOperationForName = null;
-            ArrayList<String> filterTagsList = null;
-            int maximumItemPerPage = IdentityUtil.getMaximumItemPerPage();
-            if (StringUtils.isNotBlank(filter)) {
-                List<ExpressionNode> expressionNodes = getExpressionNodesForAuthenticator(filter);
-                if (CollectionUtils.isNotEmpty(expressionNodes)) {
-                    NameFilter nameFilter = getFilterAuthenticatorNameAndOperation(expressionNodes);
-                    if (nameFilter != null) {
-                        filterAuthenticatorName = nameFilter.getName();
-                        filterOperationForName = nameFilter.getOperation();
-                    }
-                    filterTagsList = getFilterTagsList(expressionNodes);
-                }
-            }
-
-            LocalAuthenticatorConfig[] localAuthenticatorConfigs = applicationManagementService
-                    .getAllLocalAuthenticators(ContextLoader.getTenantDomainFromContext());
-            int localAuthenticatorsCount = localAuthenticatorConfigs.length;
-            RequestPathAuthenticatorConfig[] requestPathAuthenticatorConfigs = new RequestPathAuthenticatorConfig[0];
-
-            /* If there is no filter string available in the request, the request path authenticators are required to
-            be fetched only if the  no. of local authenticators retrieved are less than the maximum items per page
-            count as the no. of items returned in the response will be capped at the maximum items per page count. */
-            if (StringUtils.isNotBlank(filter) || (StringUtils.isBlank(filter) && localAuthenticatorsCount <
-                    maximumItemPerPage)) {
-                requestPathAuthenticatorConfigs = applicationManagementService
-                        .getAllRequestPathAuthenticators(ContextLoader.getTenantDomainFromContext());
-            }
-
-            List<String> requestedAttributeList = new ArrayList<>();
-            requestedAttributeList.add(Constants.FEDERATED_AUTHENTICATORS);
-
-            int idPCountToBeRetrieved = maximumItemPerPage - (localAuthenticatorsCount +
-                    requestPathAuthenticatorConfigs.length);
-            List<IdentityProvider> identityProviders = null;
-
-            /* If there is no filter string available in the request, the identity providers are required to
-            be fetched only if the total of local authenticators and request path authenticators retrieved above is
-            less than the maximum items per page count as the no. of items returned in the response will be capped
-            at the maximum items per page count. */
-            if (idPCountToBeRetrieved > 0 && StringUtils.isBlank(filter)) {
-                IdpSearchResult idpSearchResult = idpManager.getIdPs(idPCountToBeRetrieved, null, null,
-                        null, null, ContextLoader.getTenantDomainFromContext(), requestedAttributeList);
-                identityProviders = idpSearchResult.getIdPs();
+        NameFilter nameFilter = null;
+        ArrayList<String> filterTagsList = null;
+        if (StringUtils.isNotBlank(filter)) {
+            List<ExpressionNode> expressionNodes = getExpressionNodesForAuthenticator(filter);
+            if (CollectionUtils.isNotEmpty(expressionNodes)) {
+                nameFilter = getFilterAuthenticatorNameAndOperation(expressionNodes);
+                filterTagsList = getFilterTagsList(expressionNodes);
             }
-
-            return buildAuthenticatorsListResponse(filter, requestedAttributeList, filterAuthenticatorName,
-                    filterOperationForName, filterTagsList, localAuthenticatorConfigs, requestPathAuthenticatorConfigs,
-                    identityProviders);
-        } catch (IdentityApplicationManagementException e) {
-            throw handleApplicationMgtException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_LISTING_AUTHENTICATORS,
-                    null);
-        } catch (IdentityProviderManagementException e) {
-            throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_LISTING_IDPS, null);
         }
+
+        String tenantDomain = ContextLoader.getTenantDomainFromContext();
+        return buildAuthenticatorsListResponse(getAuthenticatorCatalog(tenantDomain), tenantDomain, nameFilter,
+                filterTagsList);
     }
 
     /**
@@ -177,29 +149,7 @@ public class ServerAuthenticatorManagementService {
      */
     public List<String> getTags() {
 
-        try {
-            LocalAuthenticatorConfig[] localAuthenticatorConfigs = applicationManagementService
-                    .getAllLocalAuthenticators(ContextLoader.getTenantDomainFromContext());
-
-            RequestPathAuthenticatorConfig[] requestPathAuthenticatorConfigs = applicationManagementService
-                    .getAllRequestPathAuthenticators(ContextLoader.getTenantDomainFromContext());
-
-            FederatedAuthenticatorConfig[] federatedAuthenticatorConfigs = idpManager
-                    .getAllFederatedAuthenticators(ContextLoader.getTenantDomainFromContext());
-
-            List<UserDefinedLocalAuthenticatorConfig> userDefinedLocalAuthConfigs = applicationAuthenticatorService
-                    .getAllUserDefinedLocalAuthenticators(ContextLoader.getTenantDomainFromContext());
-
-            return buildTagsListResponse(localAuthenticatorConfigs, requestPathAuthenticatorConfigs,
-                    federatedAuthenticatorConfigs, userDefinedLocalAuthConfigs);
-        } catch (IdentityApplicationManagementException e) {
-            throw handleApplicationMgtException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_LISTING_AUTHENTICATORS,
-                    null);
-        } catch (IdentityProviderManagementException e) {
-            throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_LISTING_IDPS, null);
-        } catch (AuthenticatorMgtException e) {
-            throw handleAuthenticatorException(e);
-        }
+        return getAuthenticatorCatalog(ContextLoader.getTenantDomainFromContext()).getTags();
     }
 
     public ConnectedApps getConnectedAppsOfLocalAuthenticator(String authenticatorId, Integer limit, Integer offset) {
@@ -224,10 +174,11 @@ public class ServerAuthenticatorManagementService {
     public Authenticator addUserDefinedLocalAuthenticator(UserDefinedLocalAuthenticatorCreation config) {
 
         try {
+            String tenantDomain = CarbonContext.getThreadLocalCarbonContext().getTenantDomain();
             UserDefinedLocalAuthenticatorConfig createdConfig = applicationAuthenticatorService
-                    .addUserDefinedLocalAuthenticator(
-                            LocalAuthenticatorConfigBuilderFactory.build(config),
-                            CarbonContext.getThreadLocalCarbonContext().getTenantDomain());
+                    .addUserDefinedLocalAuthenticator(LocalAuthenticatorConfigBuilderFactory.build(config),
+                            tenantDomain);
+            TenantCache.notifyChange(RESOURCE_TYPE_AUTHENTICATOR, tenantDomain);
             return LocalAuthenticatorConfigBuilderFactory.build(createdConfig);
         } catch (AuthenticatorMgtException e) {
             throw handleAuthenticatorException(e);
@@ -242,8 +193,10 @@ public class ServerAuthenticatorManagementService {
     public void deleteUserDefinedLocalAuthenticator(String authenticatorId) {
 
         try {
+            String tenantDomain = CarbonContext.getThreadLocalCarbonContext().getTenantDomain();
             applicationAuthenticatorService.deleteUserDefinedLocalAuthenticator(base64URLDecode(authenticatorId),
-                            CarbonContext.getThreadLocalCarbonContext().getTenantDomain());
+                            tenantDomain);
+            TenantCache.notifyChange(RESOURCE_TYPE_AUTHENTICATOR, tenantDomain);
         } catch (AuthenticatorMgtException e) {
             throw handleAuthenticatorException(e);
         }
@@ -274,6 +227,7 @@ public class ServerAuthenticatorManagementService {
                     .updateUserDefinedLocalAuthenticator(
                             LocalAuthenticatorConfigBuilderFactory.build(config, existingAuthenticator),
                             tenantDomain);
+            TenantCache.notifyChange(RESOURCE_TYPE_AUTHENTICATOR, tenantDomain);
             return LocalAuthenticatorConfigBuilderFactory.build(updatedConfig);
         } catch (AuthenticatorMgtException e) {
             throw handleAuthenticatorException(e);
@@ -291,8 +245,8 @@ public class ServerAuthenticatorManagementService {
             for (String appId : connectedAppsResult.getApps()) {
                 ConnectedApp listItem = new ConnectedApp();
                 listItem.setAppId(appId);
-                listItem.setSelf(ContextLoader.buildURIForBody(String.format(V1_API_PATH_COMPONENT +
-                        "/applications/%s", appId)).toString());
+                listItem.setSelf(ContextLoader.buildURLForBody(String.format(V1_API_PATH_COMPONENT +
+                        "/applications/%s", appId)));
                 connectedAppList.add(listItem);
             }
             connectedAppsResponse.setConnectedApps(connectedAppList);
@@ -346,7 +300,7 @@ public class ServerAuthenticatorManagementService {
         } else {
             url.append(String.format(Constants.PAGINATION_LINK_FORMAT, offset, limit));
         }
-        return new Link().rel(rel).href(ContextLoader.buildURIForBody((url.toString())).toString());
+        return new Link().rel(rel).href(ContextLoader.buildURLForBody((url.toString())));
     }
 
     private int calculateOffsetForPreviousLink(int offset, int limit, int total) {
@@ -359,264 +313,330 @@ public class ServerAuthenticatorManagementService {
         return calculateOffsetForPreviousLink(newOffset, limit, total);
     }
 
-    private List<Authenticator> buildAuthenticatorsListResponse(String filter, List<String> requestedAttributeList,
-                                                                String localAuthNames,
-                                                                String authenticatorNameFilterOperator,
-                                                                ArrayList<String> filterTagsList,
-                                                                LocalAuthenticatorConfig[] localAuthenticatorConfigs,
-                                                                RequestPathAuthenticatorConfig[]
-                                                                        requestPathAuthenticatorConfigs,
-                                                                List<IdentityProvider> identityProviders) {
+    /**
+     * Retrieves the authenticator catalog of the tenant, building it if it is not cached.
+     *
+     * @param tenantDomain The tenant domain.
+     * @return The authenticator catalog of the tenant.
+     */
+    private AuthenticatorCatalog getAuthenticatorCatalog(String tenantDomain) {
 
-        int maximumItemsPerPage = IdentityUtil.getMaximumItemPerPage();
+        return AUTHENTICATOR_CATALOGS.get(tenantDomain, () -> buildAuthenticatorCatalog(tenantDomain));
+    }
 
-        List<Authenticator> authenticators = new ArrayList<>();
-        if (localAuthenticatorConfigs != null) {
-            for (LocalAuthenticatorConfig config : localAuthenticatorConfigs) {
-                addLocalAuthenticator(config, authenticators, localAuthNames, authenticatorNameFilterOperator,
-                        filterTagsList, maximumItemsPerPage);
-            }
-        }
+    private AuthenticatorCatalog buildAuthenticatorCatalog(String tenantDomain) {
 
-        if ((authenticators.size() < maximumItemsPerPage) && requestPathAuthenticatorConfigs != null) {
-            for (RequestPathAuthenticatorConfig config : requestPathAuthenticatorConfigs) {
-                addLocalAuthenticator(config, authenticators, localAuthNames, authenticatorNameFilterOperator,
-                        filterTagsList, maximumItemsPerPage);
-            }
+        if (log.isDebugEnabled()) {
+            log.debug("Building the authenticator catalog of the tenant: " + tenantDomain);
         }
+        try {
+            LocalAuthenticatorConfig[] localAuthenticatorConfigs = applicationManagementService
+                    .getAllLocalAuthenticators(tenantDomain);
 
-        if (StringUtils.isBlank(filter)) {
-            if ((authenticators.size() < maximumItemsPerPage) && identityProviders != null) {
-                for (IdentityProvider identityProvider : identityProviders) {
-                    if (authenticators.size() < maximumItemsPerPage) {
-                        List<String> configTagsListDistinct = getDistinctTags(identityProvider);
-                        addIdp(identityProvider, authenticators, configTagsListDistinct);
-                    }
-                }
+            RequestPathAuthenticatorConfig[] requestPathAuthenticatorConfigs = applicationManagementService
+                    .getAllRequestPathAuthenticators(tenantDomain);
+
+            FederatedAuthenticatorConfig[] federatedAuthenticatorConfigs = idpManager
+                    .getAllFederatedAuthenticators(tenantDomain);
+
+            List<UserDefinedLocalAuthenticatorConfig> userDefinedLocalAuthConfigs = applicationAuthenticatorService
+                    .getAllUserDefinedLocalAuthenticators(tenantDomain);
+
+            // Local authenticators are listed before the request path authenticators.
+            List<LocalAuthenticatorConfig> localAuthenticators = new ArrayList<>();
+            if (localAuthenticatorConfigs != null) {
+                localAuthenticators.addAll(Arrays.asList(localAuthenticatorConfigs));
             }
-        } else {
-            List<ExpressionNode> expressionNodesForIdp = getExpressionNodesForIdp(filter);
-            int idPCountToBeRetrieved = maximumItemsPerPage - authenticators.size();
-            IdpSearchResult idpSearchResult;
-            try {
-                idpSearchResult = idpManager.getIdPs(idPCountToBeRetrieved, null, null, null,
-                                ContextLoader.getTenantDomainFromContext(), requestedAttributeList,
-                                expressionNodesForIdp);
-                identityProviders = idpSearchResult.getIdPs();
-                if (identityProviders != null) {
-                    addIdPsToAuthenticatorList(maximumItemsPerPage, identityProviders, authenticators,
-                            filterTagsList);
-                    int limit = idpSearchResult.getLimit();
-                    int offSet = idpSearchResult.getOffSet();
-                    int totalIdpCount = idpSearchResult.getTotalIDPCount();
-                    while (authenticators.size() < maximumItemsPerPage && limit > 0 && offSet >= 0 &&
-                            totalIdpCount > (limit + offSet)) {
-                        identityProviders = new ArrayList<>();
-                        getFilteredIdPs(limit, offSet, requestedAttributeList, identityProviders,
-                                expressionNodesForIdp);
-                        addIdPsToAuthenticatorList(maximumItemsPerPage, identityProviders, authenticators,
-                                filterTagsList);
-                        offSet = offSet + limit;
-                    }
-                }
-            } catch (IdentityProviderManagementException e) {
-                throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_LISTING_IDPS, null);
+            if (requestPathAuthenticatorConfigs != null) {
+                localAuthenticators.addAll(Arrays.asList(requestPathAuthenticatorConfigs));
             }
-        }
-        return authenticators;
-    }
 
-    private void addIdPsToAuthenticatorList(int maximumItemsPerPage, List<IdentityProvider> identityProviders,
-                                            List<Authenticator> authenticators, ArrayList<String> filterTagsList) {
-
-        for (IdentityProvider identityProvider : identityProviders) {
-            if (authenticators.size() < maximumItemsPerPage) {
-                List<String> configTagsListDistinct = getDistinctTags(identityProvider);
-                if (CollectionUtils.isNotEmpty(filterTagsList) &&
-                        CollectionUtils.isNotEmpty(configTagsListDistinct)) {
-                    boolean tagFound = false;
-                    for (String filterTag : filterTagsList) {
-                        if (tagFound) {
-                            break;
-                        }
-                        for (String configTag : configTagsListDistinct) {
-                            if (StringUtils.equalsIgnoreCase(configTag, filterTag)) {
-                                addIdp(identityProvider, authenticators, configTagsListDistinct);
-                                tagFound = true;
-                                break;
-                            }
-                        }
-                    }
-                } else if (CollectionUtils.isEmpty(filterTagsList)) {
-                    addIdp(identityProvider, authenticators, configTagsListDistinct);
-                }
-            }
+            return new AuthenticatorCatalog(localAuthenticators, buildTagsListResponse(localAuthenticatorConfigs,
+                    requestPathAuthenticatorConfigs, federatedAuthenticatorConfigs, userDefinedLocalAuthConfigs),
+                    () -> loadIdentityProviders(tenantDomain));
+        } catch (IdentityApplicationManagementException e) {
+            throw handleApplicationMgtException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_LISTING_AUTHENTICATORS,
+                    null);
+        } catch (IdentityProviderManagementException e) {
+            throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_LISTING_IDPS, null);
+        } catch (AuthenticatorMgtException e) {
+            throw handleAuthenticatorException(e);
         }
     }
 
     /**
-     * Retrieves a distinct list of tags defined for the federated authenticators of an identity provider.
+     * Loads all the identity providers of the tenant, page by page, for the authenticator catalog.
      *
-     * @param identityProvider The identity provider.
-     * @return A distinct list of tags defined for the federated authenticators of an identity provider.
+     * @param tenantDomain The tenant domain.
+     * @return The identity providers, in the listing order, or null if the tenant has more identity providers than
+     * the catalog may hold.
      */
-    private List<String> getDistinctTags(IdentityProvider identityProvider) {
+    private List<IdentityProviderEntry> loadIdentityProviders(String tenantDomain) {
 
-        ArrayList<String> tagsList = new ArrayList<>();
+        List<String> requestedAttributeList = Collections.singletonList(Constants.FEDERATED_AUTHENTICATORS);
+        int pageSize = IdentityUtil.getMaximumItemPerPage();
+        int identityProviderLimit = Util.getPositiveIntProperty(Constants.CATALOG_IDENTITY_PROVIDER_LIMIT,
+                DEFAULT_CATALOG_IDENTITY_PROVIDER_LIMIT);
+        // Most of the identity providers share the same few federated authenticators.
+        Map<String, FederatedAuthenticatorConfig> federatedAuthenticatorConfigs = new HashMap<>();
+        Map<String, String[]> federatedAuthenticatorTags = new HashMap<>();
 
-        FederatedAuthenticatorConfig[] fedAuthConfigs = identityProvider
-                .getFederatedAuthenticatorConfigs();
-        if (fedAuthConfigs != null) {
-            for (FederatedAuthenticatorConfig config : fedAuthConfigs) {
-                if (config.isEnabled()) {
-                    FederatedAuthenticatorConfig federatedAuthenticatorConfig = applicationAuthenticatorService
-                            .getFederatedAuthenticatorByName(config.getName());
-                    if (federatedAuthenticatorConfig != null) {
-                        String[] tags = federatedAuthenticatorConfig.getTags();
-                        if (ArrayUtils.isNotEmpty(tags)) {
-                            tagsList.addAll(Arrays.asList(tags));
-                        }
+        List<IdentityProviderEntry> identityProviderEntries = new ArrayList<>();
+        try {
+            int offset = 0;
+            while (true) {
+                IdpSearchResult idpSearchResult = idpManager.getIdPs(pageSize, offset, null, null, null,
+                        tenantDomain, requestedAttributeList);
+                if (idpSearchResult.getTotalIDPCount() > identityProviderLimit) {
+                    if (log.isDebugEnabled()) {
+                        log.debug("The identity providers of the tenant: " + tenantDomain + " exceed the limit of " +
+                                "the authenticator catalog, hence they are listed from the identity provider store.");
                     }
+                    return null;
+                }
+                List<IdentityProvider> identityProviders = idpSearchResult.getIdPs();
+                if (CollectionUtils.isEmpty(identityProviders)) {
+                    break;
+                }
+                for (IdentityProvider identityProvider : identityProviders) {
+                    identityProviderEntries.add(buildIdentityProviderEntry(identityProvider, tenantDomain,
+                            federatedAuthenticatorConfigs, federatedAuthenticatorTags));
+                }
+                offset += identityProviders.size();
+                if (offset >= idpSearchResult.getTotalIDPCount()) {
+                    break;
                 }
             }
-            return tagsList.stream().distinct().collect(Collectors.toList());
+        } catch (IdentityProviderManagementException e) {
+            throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_LISTING_IDPS, null);
         }
-        return null;
+        return identityProviderEntries;
     }
 
-    /**
-     * Adds the identity provider to the list of authenticators.
-     *
-     * @param identityProvider       The identity provider.
-     * @param authenticators         The list of authenticators.
-     * @param configTagsListDistinct The distinct list of tags available for the identity provider.
-     */
-    private void addIdp(IdentityProvider identityProvider, List<Authenticator> authenticators,
-                        List<String> configTagsListDistinct) {
+    private IdentityProviderEntry buildIdentityProviderEntry(IdentityProvider identityProvider, String tenantDomain,
+                                                             Map<String, FederatedAuthenticatorConfig>
+                                                                     federatedAuthenticatorConfigs,
+                                                             Map<String, String[]> federatedAuthenticatorTags) {
 
-        Authenticator authenticator = new Authenticator();
-        authenticator.setId(identityProvider.getResourceId());
-        authenticator.setName(identityProvider.getIdentityProviderName());
-        String displayName = identityProvider.getDisplayName();
-        if (StringUtils.isNotBlank(displayName)) {
-            authenticator.setDisplayName(identityProvider.getDisplayName());
-        } else {
-            authenticator.setDisplayName(identityProvider.getIdentityProviderName());
-        }
-        authenticator.setIsEnabled(identityProvider.isEnable());
-        authenticator.setType(Authenticator.TypeEnum.FEDERATED);
-        authenticator.setImage(identityProvider.getImageUrl());
-        authenticator.setDescription(identityProvider.getIdentityProviderDescription());
+        FederatedAuthenticatorConfig[] fedAuthConfigs = identityProvider.getFederatedAuthenticatorConfigs();
+        List<String> configTagsListDistinct = getDistinctTags(fedAuthConfigs, federatedAuthenticatorTags);
 
         /* For the /authenticators APIs, per IDP have an item in the response payload, not per federated authenticator
          within the IDP. If an IDP has more than one federated authenticator, it is considered as an existing older
          authenticator and should always be classified as a SYSTEM type. Otherwise, it can be classified as either
          SYSTEM or USER, depending on the 'definedBy' type of the federated authenticator. */
-        if (identityProvider.getFederatedAuthenticatorConfigs().length == 1) {
-            FederatedAuthenticatorConfig federatedAuthConfig = resolveFederatedAuthenticatorConfig(identityProvider);
-            authenticator.definedBy(Authenticator.DefinedByEnum.valueOf(
-                    String.valueOf(federatedAuthConfig.getDefinedByType())));
+        Authenticator.DefinedByEnum definedBy = Authenticator.DefinedByEnum.SYSTEM;
+        List<String> tags = null;
+        if (fedAuthConfigs != null && fedAuthConfigs.length == 1) {
+            FederatedAuthenticatorConfig federatedAuthConfig = federatedAuthenticatorConfigs.get(
+                    fedAuthConfigs[0].getName());
+            if (federatedAuthConfig == null) {
+                federatedAuthConfig = resolveFederatedAuthenticatorConfig(identityProvider, tenantDomain);
+                federatedAuthenticatorConfigs.put(fedAuthConfigs[0].getName(), federatedAuthConfig);
+            }
+            definedBy = Authenticator.DefinedByEnum.valueOf(String.valueOf(federatedAuthConfig.getDefinedByType()));
             if (federatedAuthConfig.getTags() != null) {
-                authenticator.setTags(Arrays.asList(federatedAuthConfig.getTags()));
+                tags = Arrays.asList(federatedAuthConfig.getTags());
             }
-        } else {
-            authenticator.definedBy(Authenticator.DefinedByEnum.SYSTEM);
         }
-
         if (CollectionUtils.isNotEmpty(configTagsListDistinct)) {
-            authenticator.setTags(configTagsListDistinct);
+            tags = configTagsListDistinct;
+        }
+
+        String displayName = identityProvider.getDisplayName();
+        if (StringUtils.isBlank(displayName)) {
+            displayName = identityProvider.getIdentityProviderName();
         }
-        authenticators.add(authenticator);
-        authenticator.setSelf(ContextLoader.buildURIForBody(
-                String.format("/v1/identity-providers/%s", identityProvider.getResourceId())).toString());
+        return new IdentityProviderEntry(identityProvider.getResourceId(), identityProvider.getIdentityProviderName(),
+                displayName, identityProvider.isEnable(), identityProvider.getImageUrl(),
+                identityProvider.getIdentityProviderDescription(), definedBy, tags, configTagsListDistinct);
     }
 
-    private FederatedAuthenticatorConfig resolveFederatedAuthenticatorConfig(IdentityProvider identityProvider) {
+    private List<Authenticator> buildAuthenticatorsListResponse(AuthenticatorCatalog catalog, String tenantDomain,
+                                                                NameFilter nameFilter, List<String> filterTagsList) {
 
+        int maximumItemsPerPage = IdentityUtil.getMaximumItemPerPage();
+        String filterAuthenticatorName = nameFilter != null ? nameFilter.getName() : null;
+        String authenticatorNameFilterOperator = nameFilter != null ? nameFilter.getOperation() : null;
+
+        List<Authenticator> authenticators = new ArrayList<>();
+        // For local authenticators and request path authenticators, the 'displayName' is considered as the
+        // 'name' attribute during filtering.
+        for (LocalAuthenticatorConfig config : catalog.getLocalAuthenticators(filterTagsList)) {
+            if (authenticators.size() >= maximumItemsPerPage) {
+                return authenticators;
+            }
+            if (isNameMatching(config.getDisplayName(), filterAuthenticatorName, authenticatorNameFilterOperator)) {
+                authenticators.add(addLocalAuthenticator(config));
+            }
+        }
+        if (authenticators.size() >= maximumItemsPerPage) {
+            return authenticators;
+        }
+
+        // The name filter is applied by the identity provider store, instead of scanning all the identity providers.
+        List<IdentityProviderEntry> identityProviders = nameFilter == null ?
+                catalog.getIdentityProviders(filterTagsList) : null;
+        if (identityProviders == null) {
+            identityProviders = searchIdentityProviders(tenantDomain, nameFilter, filterTagsList,
+                    maximumItemsPerPage - authenticators.size());
+        }
+        for (IdentityProviderEntry identityProvider : identityProviders) {
+            if (authenticators.size() >= maximumItemsPerPage) {
+                break;
+            }
+            authenticators.add(addIdp(identityProvider));
+        }
+        return authenticators;
+    }
+
+    /**
+     * Searches the identity providers matching the given filters from the identity provider store, page by page,
+     * until the given number of identity providers are found.
+     *
+     * @param tenantDomain   The tenant domain.
+     * @param nameFilter     The name filter, applied by the identity provider store. Can be null.
+     * @param filterTagsList The tags any of which the identity providers should have. Can be empty.
+     * @param limit          The maximum number of identity providers to be returned.
+     * @return The matching identity providers, in the listing order.
+     */
+    private List<IdentityProviderEntry> searchIdentityProviders(String tenantDomain, NameFilter nameFilter,
+                                                                List<String> filterTagsList, int limit) {
+
+        List<String> requestedAttributeList = Collections.singletonList(Constants.FEDERATED_AUTHENTICATORS);
+        List<ExpressionNode> expressionNodes = new ArrayList<>();
+        if (nameFilter != null) {
+            ExpressionNode nameExpressionNode = new ExpressionNode();
+            nameExpressionNode.setAttributeValue(Constants.FilterAttributes.NAME);
+            nameExpressionNode.setOperation(nameFilter.getOperation());
+            nameExpressionNode.setValue(nameFilter.getName());
+            expressionNodes.add(nameExpressionNode);
+        }
+        int pageSize = IdentityUtil.getMaximumItemPerPage();
+        Map<String, FederatedAuthenticatorConfig> federatedAuthenticatorConfigs = new HashMap<>();
+        Map<String, String[]> federatedAuthenticatorTags = new HashMap<>();
+
+        List<IdentityProviderEntry> identityProviderEntries = new ArrayList<>();
         try {
-            return idpManager.getFederatedAuthenticatorByName(
-                    identityProvider.getFederatedAuthenticatorConfigs()[0].getName(),
-                    ContextLoader.getTenantDomainFromContext());
+            int offset = 0;
+            while (identityProviderEntries.size() < limit) {
+                IdpSearchResult idpSearchResult = idpManager.getIdPs(pageSize, offset, null, null, tenantDomain,
+                        requestedAttributeList, expressionNodes);
+                List<IdentityProvider> identityProviders = idpSearchResult.getIdPs();
+                if (CollectionUtils.isEmpty(identityProviders)) {
+                    break;
+                }
+                for (IdentityProvider identityProvider : identityProviders) {
+                    IdentityProviderEntry entry = buildIdentityProviderEntry(identityProvider, tenantDomain,
+                            federatedAuthenticatorConfigs, federatedAuthenticatorTags);
+                    if (entry.hasAnyTag(filterTagsList)) {
+                        identityProviderEntries.add(entry);
+                        if (identityProviderEntries.size() >= limit) {
+                            break;
+                        }
+                    }
+                }
+                offset += identityProviders.size();
+                if (offset >= idpSearchResult.getTotalIDPCount()) {
+                    break;
+                }
+            }
         } catch (IdentityProviderManagementException e) {
-            throw handleException(Response.Status.INTERNAL_SERVER_ERROR, Constants.ErrorMessage
-                    .ERROR_CODE_ERROR_LISTING_AUTHENTICATORS, String.format("An error occurred whiling " +
-                    "retrieving federated authenticator configuration for identity provider: %s",
-                    identityProvider.getIdentityProviderName()));
+            throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_LISTING_IDPS, null);
         }
+        return identityProviderEntries;
     }
 
     /**
-     * Adds the local authenticator to the list of authenticators.
+     * Checks whether the given authenticator name satisfies the name filter.
      *
-     * @param config                          The local authenticator configuration.
-     * @param authenticators                  The list of authenticators.
+     * @param name                            The authenticator name.
      * @param filterAuthenticatorName         The authenticator name passed in the filter string.
      * @param authenticatorNameFilterOperator The filter operator passed for the authenticator name in the filter
      *                                        string.
-     * @param tagsList                        The list of tags available for the local authenticator.
-     * @param maximumItemsPerPage             The defined maximum items per page limit.
+     * @return True if there is no name filter or if the name satisfies the filter.
      */
-    private void addLocalAuthenticator(LocalAuthenticatorConfig config, List<Authenticator> authenticators,
-                                       String filterAuthenticatorName, String authenticatorNameFilterOperator,
-                                       ArrayList<String> tagsList, int maximumItemsPerPage) {
-
-        if (authenticators.size() < maximumItemsPerPage) {
-
-            // For local authenticators and request path authenticators, the 'displayName' is considered as the
-            // 'name' attribute during filtering.
-            if (StringUtils.isNotBlank(filterAuthenticatorName) && CollectionUtils.isNotEmpty(tagsList) &&
-                    ((StringUtils.equalsIgnoreCase(authenticatorNameFilterOperator, Constants.FilterOperations.SW) &&
-                            StringUtils.startsWithIgnoreCase(config.getDisplayName(), filterAuthenticatorName)) ||
-                            (StringUtils.equalsIgnoreCase(authenticatorNameFilterOperator,
-                                    Constants.FilterOperations.EQ) &&
-                                    StringUtils.equalsIgnoreCase(config.getDisplayName(), filterAuthenticatorName)))) {
-                filterTags(config, authenticators, tagsList);
-            } else if (StringUtils.isNotBlank(filterAuthenticatorName)) {
-                if (StringUtils.equalsIgnoreCase(authenticatorNameFilterOperator, Constants.FilterOperations.SW) &&
-                        StringUtils.startsWithIgnoreCase(config.getDisplayName(), filterAuthenticatorName)) {
-                    Authenticator authenticator = addLocalAuthenticator(config);
-                    authenticators.add(authenticator);
-                } else if (StringUtils.equalsIgnoreCase(authenticatorNameFilterOperator, Constants.FilterOperations.EQ)
-                        && StringUtils.equalsIgnoreCase(config.getDisplayName(), filterAuthenticatorName)) {
-                    Authenticator authenticator = addLocalAuthenticator(config);
-                    authenticators.add(authenticator);
-                }
-            } else if (CollectionUtils.isNotEmpty(tagsList)) {
-                filterTags(config, authenticators, tagsList);
-            } else {
-                Authenticator authenticator = addLocalAuthenticator(config);
-                authenticators.add(authenticator);
-            }
+    private boolean isNameMatching(String name, String filterAuthenticatorName,
+                                   String authenticatorNameFilterOperator) {
+
+        if (StringUtils.isBlank(filterAuthenticatorName)) {
+            return true;
+        }
+        if (StringUtils.equalsIgnoreCase(authenticatorNameFilterOperator, Constants.FilterOperations.SW)) {
+            return StringUtils.startsWithIgnoreCase(name, filterAuthenticatorName);
+        }
+        if (StringUtils.equalsIgnoreCase(authenticatorNameFilterOperator, Constants.FilterOperations.EQ)) {
+            return StringUtils.equalsIgnoreCase(name, filterAuthenticatorName);
         }
+        return false;
     }
 
     /**
-     * Adds local authenticator to the list of authenticators if it satisfies the given filter.
+     * Retrieves a distinct list of tags defined for the enabled federated authenticators of an identity provider.
      *
-     * @param config         The local authenticator configuration.
-     * @param authenticators The list of authenticators.
-     * @param filterTagsList The list of tags passed in the filter string.
+     * @param fedAuthConfigs             The federated authenticators of the identity provider.
+     * @param federatedAuthenticatorTags The tags of the federated authenticators resolved so far, by name.
+     * @return A distinct list of tags defined for the federated authenticators of an identity provider.
      */
-    private void filterTags(LocalAuthenticatorConfig config, List<Authenticator> authenticators,
-                            ArrayList<String> filterTagsList) {
+    private List<String> getDistinctTags(FederatedAuthenticatorConfig[] fedAuthConfigs,
+                                         Map<String, String[]> federatedAuthenticatorTags) {
 
-        boolean tagFound = false;
-        for (String filterTag : filterTagsList) {
-            if (tagFound) {
-                break;
-            }
-            String[] authenticatorConfigTags = config.getTags();
-            if (ArrayUtils.isNotEmpty(authenticatorConfigTags)) {
-                for (String tag : authenticatorConfigTags) {
-                    if (StringUtils.equalsIgnoreCase(tag, filterTag)) {
-                        Authenticator authenticator = addLocalAuthenticator(config);
-                        authenticators.add(authenticator);
-                        tagFound = true;
-                        break;
-                    }
+        if (fedAuthConfigs == null) {
+            return Collections.emptyList();
+        }
+        ArrayList<String> tagsList = new ArrayList<>();
+        for (FederatedAuthenticatorConfig config : fedAuthConfigs) {
+            if (config.isEnabled()) {
+                String[] tags = federatedAuthenticatorTags.computeIfAbsent(config.getName(), name -> {
+                    FederatedAuthenticatorConfig federatedAuthenticatorConfig = applicationAuthenticatorService
+                            .getFederatedAuthenticatorByName(name);
+                    return federatedAuthenticatorConfig != null ? federatedAuthenticatorConfig.getTags() : null;
+                });
+                if (ArrayUtils.isNotEmpty(tags)) {
+                    tagsList.addAll(Arrays.asList(tags));
                 }
             }
         }
+        return tagsList.stream().distinct().collect(Collectors.toList());
+    }
+
+    /**
+     * Builds the authenticator of an identity provider.
+     *
+     * @param identityProvider The identity provider.
+     * @return The authenticator.
+     */
+    private Authenticator addIdp(IdentityProviderEntry identityProvider) {
+
+        Authenticator authenticator = new Authenticator();
+        authenticator.setId(identityProvider.getResourceId());
+        authenticator.setName(identityProvider.getName());
+        authenticator.setDisplayName(identityProvider.getDisplayName());
+        authenticator.setIsEnabled(identityProvider.isEnabled());
+        authenticator.setType(Authenticator.TypeEnum.FEDERATED);
+        authenticator.setImage(identityProvider.getImageUrl());
+        authenticator.setDescription(identityProvider.getDescription());
+        authenticator.definedBy(identityProvider.getDefinedBy());
+        if (identityProvider.getTags() != null) {
+            authenticator.setTags(new ArrayList<>(identityProvider.getTags()));
+        }
+        authenticator.setSelf(ContextLoader.buildURLForBody(
+                String.format("/v1/identity-providers/%s", identityProvider.getResourceId())));
+        return authenticator;
+    }
+
+    private FederatedAuthenticatorConfig resolveFederatedAuthenticatorConfig(IdentityProvider identityProvider,
+                                                                             String tenantDomain) {
+
+        try {
+            return idpManager.getFederatedAuthenticatorByName(
+                    identityProvider.getFederatedAuthenticatorConfigs()[0].getName(), tenantDomain);
+        } catch (IdentityProviderManagementException e) {
+            throw handleException(Response.Status.INTERNAL_SERVER_ERROR, Constants.ErrorMessage
+                    .ERROR_CODE_ERROR_LISTING_AUTHENTICATORS, String.format("An error occurred whiling " +
+                    "retrieving federated authenticator configuration for identity provider: %s",
+                    identityProvider.getIdentityProviderName()));
+        }
     }
 
     private Authenticator addLocalAuthenticator(LocalAuthenticatorConfig config) {
@@ -640,8 +660,8 @@ public class ServerAuthenticatorManagementService {
         if (ArrayUtils.isNotEmpty(tags)) {
             authenticator.setTags(Arrays.asList(tags));
         }
-        authenticator.setSelf(ContextLoader.buildURIForBody
-                (String.format("/v1/configs/authenticators/%s", authenticatorId)).toString());
+        authenticator.setSelf(ContextLoader.buildURLForBody
+                (String.format("/v1/configs/authenticators/%s", authenticatorId)));
         return authenticator;
     }
 
@@ -848,57 +868,6 @@ public class ServerAuthenticatorManagementService {
         }
     }
 
-    private List<ExpressionNode> getExpressionNodesForIdp(String filter) {
-
-        // Filter example : name sw go and (tag eq 2fa or tag eq Social-Login)
-        List<ExpressionNode> expressionNodes = new ArrayList<>();
-        FilterTreeBuilder filterTreeBuilder;
-        try {
-            if (StringUtils.isNotBlank(filter)) {
-                filterTreeBuilder = new FilterTreeBuilder(filter);
-                Node rootNode = filterTreeBuilder.buildTree();
-                setExpressionNodeListForIdp(rootNode, expressionNodes);
-            }
-        } catch (IOException | IdentityException e) {
-            throw buildClientError(Constants.ErrorMessage.ERROR_CODE_INVALID_FILTER_FORMAT, null);
-
-        }
-        return expressionNodes;
-    }
-
-    /**
-     * Sets the expression nodes required for the retrieval of identity providers from the database.
-     *
-     * @param node       The node
-     * @param expression The list of expression nodes.
-     */
-    private void setExpressionNodeListForIdp(Node node, List<ExpressionNode> expression) {
-
-        if (node instanceof ExpressionNode) {
-            if (StringUtils.isNotBlank(((ExpressionNode) node).getAttributeValue())) {
-                if (StringUtils.equalsIgnoreCase(((ExpressionNode) node).getAttributeValue(),
-                        Constants.FilterAttributes.NAME)) {
-                    expression.add((ExpressionNode) node);
-                }
-            }
-        } else if (node instanceof OperationNode) {
-            setExpressionNodeListForIdp(node.getLeftNode(), expression);
-            setExpressionNodeListForIdp(node.getRightNode(), expression);
-        }
-    }
-
-    private void getFilteredIdPs(int limit, int offSet, List<String> requestedAttributeList,
-                                 List<IdentityProvider> identityProviders, List<ExpressionNode> expressionNodes) {
-
-        try {
-            IdpSearchResult idpSearchResult = idpManager.getIdPs(limit, (offSet + limit), null, null,
-                            ContextLoader.getTenantDomainFromContext(), requestedAttributeList, expressionNodes);
-            identityProviders.addAll(idpSearchResult.getIdPs());
-        } catch (IdentityProviderManagementException e) {
-            throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_LISTING_IDPS, null);
-        }
-    }
-
     /**
      * The authenticator name and the filter operation for authenticator name passed in the filter string.
      *
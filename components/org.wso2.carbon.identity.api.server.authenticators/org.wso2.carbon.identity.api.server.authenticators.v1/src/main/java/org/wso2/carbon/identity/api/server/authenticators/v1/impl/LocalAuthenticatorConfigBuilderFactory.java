@@ -66,8 +66,8 @@ public class LocalAuthenticatorConfigBuilderFactory {
         authenticator.setDefinedBy(Authenticator.DefinedByEnum.USER);
         authenticator.setType(Authenticator.TypeEnum.LOCAL);
         authenticator.setTags(Arrays.asList(config.getTags()));
-        authenticator.setSelf(ContextLoader.buildURIForBody(String.format(V1_API_PATH_COMPONENT +
-                CONFIGS_AUTHENTICATOR_PATH_COMPONENT, authenticatorId)).toString());
+        authenticator.setSelf(ContextLoader.buildURLForBody(String.format(V1_API_PATH_COMPONENT +
+                CONFIGS_AUTHENTICATOR_PATH_COMPONENT, authenticatorId)));
 
         return authenticator;
     }
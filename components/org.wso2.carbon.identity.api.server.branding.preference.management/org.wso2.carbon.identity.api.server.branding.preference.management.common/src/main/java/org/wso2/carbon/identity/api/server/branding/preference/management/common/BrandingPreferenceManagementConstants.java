@@ -34,6 +34,7 @@ public class BrandingPreferenceManagementConstants {
     public static final String CUSTOM_TYPE = "CUSTOM";
     public static final String DEFAULT_LOCALE = "en-US";
     public static final String BRANDING_PREFERENCE_MGT_ERROR_CODE_DELIMITER = "_";
+    public static final String RESOLVE_RESPONSE_MAX_AGE = "ServerAPI.BrandingPreference.ResolveResponse.MaxAge";
 
     public static final String BRANDING_PREFERENCE_NOT_EXISTS_ERROR_CODE = "BRANDINGM_00002";
     public static final String BRANDING_PREFERENCE_ALREADY_EXISTS_ERROR_CODE = "BRANDINGM_00003";
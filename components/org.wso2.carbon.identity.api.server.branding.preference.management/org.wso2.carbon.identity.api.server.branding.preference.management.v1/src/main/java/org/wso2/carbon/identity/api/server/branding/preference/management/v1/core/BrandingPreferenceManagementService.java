@@ -19,7 +19,6 @@
 package org.wso2.carbon.identity.api.server.branding.preference.management.v1.core;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -30,7 +29,12 @@ import org.wso2.carbon.identity.api.server.branding.preference.management.v1.mod
 import org.wso2.carbon.identity.api.server.branding.preference.management.v1.model.ResolvedBrandingPreferenceModel;
 import org.wso2.carbon.identity.api.server.branding.preference.management.v1.model.ResolvedBrandingPreferenceModelResolvedFrom;
 import org.wso2.carbon.identity.api.server.branding.preference.management.v1.model.ResolvedCustomTextModal;
+import org.wso2.carbon.identity.api.server.common.Util;
+import org.wso2.carbon.identity.api.server.common.cache.CachedResponse;
+import org.wso2.carbon.identity.api.server.common.cache.TenantCache;
+import org.wso2.carbon.identity.api.server.common.codec.CodecRegistry;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
+import org.wso2.carbon.identity.api.server.common.error.ErrorDTO;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
 import org.wso2.carbon.identity.branding.preference.management.core.BrandingPreferenceManager;
 import org.wso2.carbon.identity.branding.preference.management.core.exception.BrandingPreferenceMgtClientException;
@@ -39,6 +43,13 @@ import org.wso2.carbon.identity.branding.preference.management.core.exception.Br
 import org.wso2.carbon.identity.branding.preference.management.core.model.BrandingPreference;
 import org.wso2.carbon.identity.branding.preference.management.core.model.CustomText;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
 import javax.ws.rs.core.Response;
 
 import static org.wso2.carbon.identity.api.server.branding.preference.management.common.BrandingPreferenceManagementConstants.APPLICATION_TYPE;
@@ -66,6 +77,7 @@ import static org.wso2.carbon.identity.api.server.branding.preference.management
 import static org.wso2.carbon.identity.api.server.branding.preference.management.common.BrandingPreferenceManagementConstants.ErrorMessage.ERROR_CODE_INVALID_CUSTOM_TEXT_PREFERENCE;
 import static org.wso2.carbon.identity.api.server.branding.preference.management.common.BrandingPreferenceManagementConstants.ErrorMessage.ERROR_CODE_NOT_ALLOWED_BRANDING_PREFERENCE_CONFIGURATIONS;
 import static org.wso2.carbon.identity.api.server.branding.preference.management.common.BrandingPreferenceManagementConstants.ORGANIZATION_TYPE;
+import static org.wso2.carbon.identity.api.server.common.Constants.RESOURCE_TYPE_BRANDING_PREFERENCE;
 import static org.wso2.carbon.identity.api.server.common.ContextLoader.getTenantDomainFromContext;
 
 /**
@@ -76,6 +88,20 @@ public class BrandingPreferenceManagementService {
     private final BrandingPreferenceManager brandingPreferenceManager;
     private static final Log log = LogFactory.getLog(BrandingPreferenceManagementService.class);
 
+    /* Serialized responses of the resolve endpoints, which are invoked on each login page render. Resolution may fall
+    back to the branding of the parent organizations, whose changes are not reported to the caches of the child
+    organizations, hence the expiry time bounds the staleness of such responses. */
+    private static final TenantCache<Map<List<String>, CachedResponse>> RESOLVED_RESPONSES =
+            new TenantCache<>("BrandingResolve", 60, RESOURCE_TYPE_BRANDING_PREFERENCE);
+    /* Errors of the resolve requests which found no preference, as tenants without any branding render the login
+    pages with the default branding. Kept for a shorter time, as a preference added on another node is not reported
+    here. */
+    private static final TenantCache<Map<List<String>, ErrorDTO>> UNRESOLVED_ERRORS =
+            new TenantCache<>("BrandingResolveNotFound", 10, RESOURCE_TYPE_BRANDING_PREFERENCE);
+    private static final int MAX_RESOLVED_RESPONSES_PER_TENANT = 100;
+    private static final String BRANDING_RESPONSE = "BRANDING";
+    private static final String CUSTOM_TEXT_RESPONSE = "CUSTOM_TEXT";
+
     public BrandingPreferenceManagementService(BrandingPreferenceManager brandingPreferenceManager) {
 
         this.brandingPreferenceManager = brandingPreferenceManager;
@@ -117,6 +143,7 @@ public class BrandingPreferenceManagementService {
             }
             throw handleBrandingPreferenceMgtException(e, ERROR_CODE_ERROR_ADDING_BRANDING_PREFERENCE, tenantDomain);
         }
+        notifyBrandingChange(tenantDomain);
         return buildBrandingResponseFromResponseDTO(responseDTO);
     }
 
@@ -146,6 +173,7 @@ public class BrandingPreferenceManagementService {
             }
             throw handleBrandingPreferenceMgtException(e, ERROR_CODE_ERROR_DELETING_BRANDING_PREFERENCE, tenantDomain);
         }
+        notifyBrandingChange(tenantDomain);
     }
 
     /**
@@ -244,6 +272,27 @@ public class BrandingPreferenceManagementService {
         }
     }
 
+    /**
+     * Retrieve the serialized resolved branding preferences. The response is served from the cache of the tenant if
+     * available, and cached otherwise.
+     *
+     * @param type                Resource Type.
+     * @param name                Name.
+     * @param locale              Language preference.
+     * @param restrictToPublished Whether to resolve using only published branding preferences.
+     * @return The serialized resolved branding preference resource.
+     */
+    public CachedResponse getResolvedBrandingPreferenceResponse(String type, String name, String locale,
+                                                                boolean restrictToPublished) {
+
+        // Resolution always uses the default locale, and the tenant domain as the name of the organization.
+        List<String> key = APPLICATION_TYPE.equals(type) ?
+                Arrays.asList(BRANDING_RESPONSE, APPLICATION_TYPE, name, String.valueOf(restrictToPublished)) :
+                Arrays.asList(BRANDING_RESPONSE, ORGANIZATION_TYPE, null, String.valueOf(restrictToPublished));
+        return getResolvedResponse(key, () -> resolveBrandingPreference(type, name, locale, restrictToPublished),
+                ERROR_CODE_ERROR_GETTING_BRANDING_PREFERENCE);
+    }
+
     /**
      * Update branding preferences.
      *
@@ -281,6 +330,7 @@ public class BrandingPreferenceManagementService {
             }
             throw handleBrandingPreferenceMgtException(e, ERROR_CODE_ERROR_UPDATING_BRANDING_PREFERENCE, tenantDomain);
         }
+        notifyBrandingChange(tenantDomain);
         return buildBrandingResponseFromResponseDTO(responseDTO);
     }
 
@@ -312,6 +362,7 @@ public class BrandingPreferenceManagementService {
             }
             throw handleBrandingPreferenceMgtException(e, ERROR_CODE_ERROR_ADDING_CUSTOM_TEXT_PREFERENCE, tenantDomain);
         }
+        notifyBrandingChange(tenantDomain);
         return buildCustomTextResponseFromResponseDTO(responseDTO);
     }
 
@@ -342,6 +393,7 @@ public class BrandingPreferenceManagementService {
             throw handleBrandingPreferenceMgtException(e, ERROR_CODE_ERROR_DELETING_CUSTOM_TEXT_PREFERENCE,
                     tenantDomain);
         }
+        notifyBrandingChange(tenantDomain);
     }
 
     /**
@@ -362,6 +414,7 @@ public class BrandingPreferenceManagementService {
             throw handleBrandingPreferenceMgtException(e, ERROR_CODE_ERROR_DELETING_CUSTOM_TEXT_PREFERENCE,
                     tenantDomain);
         }
+        notifyBrandingChange(tenantDomain);
     }
 
     /**
@@ -431,6 +484,27 @@ public class BrandingPreferenceManagementService {
         }
     }
 
+    /**
+     * Retrieve the serialized resolved custom text preferences. The response is served from the cache of the tenant
+     * if available, and cached otherwise.
+     *
+     * @param type   Resource Type.
+     * @param name   Name.
+     * @param screen Screen Name.
+     * @param locale Language preference.
+     * @return The serialized resolved custom text preference resource.
+     */
+    public CachedResponse getResolvedCustomTextPreferenceResponse(String type, String name, String screen,
+                                                                  String locale) {
+
+        String resolvedName = ORGANIZATION_TYPE.equals(type) || StringUtils.isBlank(name) ?
+                getTenantDomainFromContext() : name;
+        String resolvedLocale = StringUtils.isBlank(locale) ? DEFAULT_LOCALE : locale;
+        List<String> key = Arrays.asList(CUSTOM_TEXT_RESPONSE, type, resolvedName, screen, resolvedLocale);
+        return getResolvedResponse(key, () -> resolveCustomTextPreference(type, name, screen, locale),
+                ERROR_CODE_ERROR_GETTING_CUSTOM_TEXT_PREFERENCE);
+    }
+
     /**
      * Update custom text preferences.
      *
@@ -461,6 +535,7 @@ public class BrandingPreferenceManagementService {
             throw handleBrandingPreferenceMgtException(e, ERROR_CODE_ERROR_UPDATING_CUSTOM_TEXT_PREFERENCE,
                     tenantDomain);
         }
+        notifyBrandingChange(tenantDomain);
         return buildCustomTextResponseFromResponseDTO(responseDTO);
     }
 
@@ -593,6 +668,83 @@ public class BrandingPreferenceManagementService {
         return customTextModel;
     }
 
+    /**
+     * Get the cached response of the given key, resolving and caching it if not available. Resolutions which found no
+     * preference are cached along with their error, and the other failed resolutions are not cached.
+     *
+     * @param key      Key of the response, within the tenant.
+     * @param resolver Resolver of the response entity.
+     * @param error    Error to be reported if the response could not be serialized.
+     * @return Cached response.
+     */
+    private CachedResponse getResolvedResponse(List<String> key, Supplier<Object> resolver,
+                                               BrandingPreferenceManagementConstants.ErrorMessage error) {
+
+        String tenantDomain = getTenantDomainFromContext();
+        /* A response resolved while the tenant is being invalidated lands in the invalidated map of the tenant, hence
+        it is never served afterwards. */
+        Map<List<String>, CachedResponse> responses = RESOLVED_RESPONSES.get(tenantDomain,
+                BrandingPreferenceManagementService::createResolvedMap);
+        CachedResponse response = responses.get(key);
+        if (response != null) {
+            return response;
+        }
+        Map<List<String>, ErrorDTO> errors = UNRESOLVED_ERRORS.get(tenantDomain,
+                BrandingPreferenceManagementService::createResolvedMap);
+        ErrorDTO notFoundError = errors.get(key);
+        if (notFoundError != null) {
+            throw new APIError(Response.Status.NOT_FOUND, copyWithCurrentTraceId(notFoundError));
+        }
+        try {
+            response = CachedResponse.of(resolver.get());
+        } catch (APIError e) {
+            if (e.getStatus() == Response.Status.NOT_FOUND && e.getResponseEntity() != null) {
+                errors.put(key, e.getResponseEntity());
+            }
+            throw e;
+        } catch (JsonProcessingException e) {
+            throw new APIError(Response.Status.INTERNAL_SERVER_ERROR,
+                    getErrorBuilder(error, tenantDomain).build(log, e, error.getDescription()));
+        }
+        responses.put(key, response);
+        return response;
+    }
+
+    private static <V> Map<List<String>, V> createResolvedMap() {
+
+        // Names of the resolved applications come from the request, hence the number of entries is bounded.
+        return Collections.synchronizedMap(new LinkedHashMap<List<String>, V>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = -3920846812214771062L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<List<String>, V> eldest) {
+
+                return size() > MAX_RESOLVED_RESPONSES_PER_TENANT;
+            }
+        });
+    }
+
+    private static ErrorDTO copyWithCurrentTraceId(ErrorDTO error) {
+
+        ErrorDTO copy = new ErrorDTO();
+        copy.setCode(error.getCode());
+        copy.setMessage(error.getMessage());
+        copy.setDescription(error.getDescription());
+        copy.setRef(Util.getCorrelation());
+        return copy;
+    }
+
+    /**
+     * Drop the cached resolve responses of the tenant, once its branding or custom text preferences are changed.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    private void notifyBrandingChange(String tenantDomain) {
+
+        TenantCache.notifyChange(RESOURCE_TYPE_BRANDING_PREFERENCE, tenantDomain);
+    }
+
     /**
      * Build a JSON string which contains preferences from a preference object.
      *
@@ -601,10 +753,9 @@ public class BrandingPreferenceManagementService {
      */
     private String generatePreferencesJSONFromRequest(Object object) {
 
-        ObjectMapper mapper = new ObjectMapper();
         String preferencesJSON = null;
         try {
-            preferencesJSON = mapper.writeValueAsString(object);
+            preferencesJSON = CodecRegistry.writeJson(object);
         } catch (JsonProcessingException e) {
             if (log.isDebugEnabled()) {
                 log.debug("Error while generating JSON string from the branding preference request.", e);
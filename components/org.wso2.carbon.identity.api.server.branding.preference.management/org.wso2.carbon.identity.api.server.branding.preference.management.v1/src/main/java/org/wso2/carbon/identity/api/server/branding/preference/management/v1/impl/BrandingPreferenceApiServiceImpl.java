@@ -19,6 +19,7 @@
 package org.wso2.carbon.identity.api.server.branding.preference.management.v1.impl;
 
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
 import org.wso2.carbon.identity.api.server.branding.preference.management.v1.BrandingPreferenceApiService;
 import org.wso2.carbon.identity.api.server.branding.preference.management.v1.core.BrandingPreferenceManagementService;
 import org.wso2.carbon.identity.api.server.branding.preference.management.v1.factories.BrandingAIPreferenceManagementServiceFactory;
@@ -32,6 +33,7 @@ import org.wso2.carbon.identity.api.server.branding.preference.management.v1.mod
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
 
 import java.io.UnsupportedEncodingException;
 import java.net.URI;
@@ -48,6 +50,7 @@ import static org.wso2.carbon.identity.api.server.branding.preference.management
 import static org.wso2.carbon.identity.api.server.branding.preference.management.common.BrandingPreferenceManagementConstants.GET_PREFERENCE_COMPONENT_WITH_QUERY_PARAM;
 import static org.wso2.carbon.identity.api.server.branding.preference.management.common.BrandingPreferenceManagementConstants.ORGANIZATION_TYPE;
 import static org.wso2.carbon.identity.api.server.branding.preference.management.common.BrandingPreferenceManagementConstants.QUERY_PARAM_INDICATOR;
+import static org.wso2.carbon.identity.api.server.branding.preference.management.common.BrandingPreferenceManagementConstants.RESOLVE_RESPONSE_MAX_AGE;
 import static org.wso2.carbon.identity.api.server.common.Constants.V1_API_PATH_COMPONENT;
 import static org.wso2.carbon.identity.api.server.common.ContextLoader.getTenantDomainFromContext;
 
@@ -56,6 +59,10 @@ import static org.wso2.carbon.identity.api.server.common.ContextLoader.getTenant
  */
 public class BrandingPreferenceApiServiceImpl implements BrandingPreferenceApiService {
 
+    // Number of seconds the clients may use a resolved response without revalidating it with its entity tag.
+    private static final int RESOLVE_RESPONSE_MAX_AGE_SECONDS =
+            Math.max(NumberUtils.toInt(StringUtils.trim(IdentityUtil.getProperty(RESOLVE_RESPONSE_MAX_AGE))), 0);
+
     private final BrandingPreferenceManagementService brandingPreferenceManagementService;
 
     //TODO: Improve API to manage application level & language level theming resources in addition to the tenant level.
@@ -245,19 +252,20 @@ public class BrandingPreferenceApiServiceImpl implements BrandingPreferenceApiSe
     }
 
     @Override
-    public Response resolveBrandingPreference(String type, String name, String locale, Boolean restrictToPublished) {
+    public Response resolveBrandingPreference(String type, String name, String locale, Boolean restrictToPublished,
+                                              String ifNoneMatch) {
 
         if (type != null) {
             if (!(ORGANIZATION_TYPE.equals(type) || APPLICATION_TYPE.equals(type) || CUSTOM_TYPE.equals(type))) {
                 return Response.status(Response.Status.BAD_REQUEST).build();
             }
         }
-        return Response.ok().entity(brandingPreferenceManagementService
-                .resolveBrandingPreference(type, name, locale, restrictToPublished)).build();
+        return brandingPreferenceManagementService.getResolvedBrandingPreferenceResponse(type, name, locale,
+                Boolean.TRUE.equals(restrictToPublished)).toResponse(ifNoneMatch, RESOLVE_RESPONSE_MAX_AGE_SECONDS);
     }
 
     @Override
-    public Response resolveCustomText(String type, String name, String locale, String screen) {
+    public Response resolveCustomText(String type, String name, String locale, String screen, String ifNoneMatch) {
 
         if (StringUtils.isBlank(type)) {
             type = ORGANIZATION_TYPE;
@@ -268,8 +276,8 @@ public class BrandingPreferenceApiServiceImpl implements BrandingPreferenceApiSe
         if (StringUtils.isBlank(screen)) {
             return Response.status(Response.Status.BAD_REQUEST).build();
         }
-        return Response.ok().entity(brandingPreferenceManagementService.
-                resolveCustomTextPreference(type, name, screen, locale)).build();
+        return brandingPreferenceManagementService.getResolvedCustomTextPreferenceResponse(type, name, screen, locale)
+                .toResponse(ifNoneMatch, RESOLVE_RESPONSE_MAX_AGE_SECONDS);
     }
 
     @Override
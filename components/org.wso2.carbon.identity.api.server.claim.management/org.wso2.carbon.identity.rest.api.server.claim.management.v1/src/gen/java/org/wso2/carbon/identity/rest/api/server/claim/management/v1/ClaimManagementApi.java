@@ -31,6 +31,7 @@ import org.wso2.carbon.identity.rest.api.server.claim.management.v1.dto.LocalCla
 import org.wso2.carbon.identity.rest.api.server.claim.management.v1.dto.ClaimDialectResDTO;
 import org.wso2.carbon.identity.rest.api.server.claim.management.v1.dto.ExternalClaimResDTO;
 import org.wso2.carbon.identity.rest.api.server.claim.management.v1.dto.LocalClaimResDTO;
+import org.wso2.carbon.identity.rest.api.server.claim.management.v1.dto.ClaimDialectUpdateDiffDTO;
 
 import java.util.List;
 
@@ -435,6 +436,8 @@ public class ClaimManagementApi  {
             notes = "This API provides the capability to update a claim dialect and all related claims from a file in XML, YAML, or JSON format. <br><b>Permission required:</b> <br> * /permission/admin/manage/identity/claimmgt/metadata/create <br> <b>Scope required:</b> <br> * internal_claim_meta_create",
             response = void.class)
     @io.swagger.annotations.ApiResponses(value = { 
+        @io.swagger.annotations.ApiResponse(code = 200, message = "Changes the update would apply. Returned only for dry run requests.", response = ClaimDialectUpdateDiffDTO.class),
+        
         @io.swagger.annotations.ApiResponse(code = 201, message = "Item Created."),
         
         @io.swagger.annotations.ApiResponse(code = 400, message = "Invalid input request."),
@@ -447,9 +450,10 @@ public class ClaimManagementApi  {
 
     public Response updateClaimDialectFromFile(@ApiParam(value = "The file to be uploaded.") @Multipart(value = "file") InputStream fileInputStream,
     @ApiParam(value = "The file to be uploaded. : details") @Multipart(value = "file" ) Attachment fileDetail,
-    @ApiParam(value = "Specify whether to merge and preserve the claims or completely replace the existing claims set.", defaultValue="false") @QueryParam("preserveClaims")  Boolean preserveClaims) {
+    @ApiParam(value = "Specify whether to merge and preserve the claims or completely replace the existing claims set.", defaultValue="false") @QueryParam("preserveClaims")  Boolean preserveClaims,
+    @ApiParam(value = "Compute and return the changes to the claims without applying them.", defaultValue="false") @QueryParam("dryRun")  Boolean dryRun) {
 
-        return delegate.updateClaimDialectFromFile(fileInputStream,fileDetail,preserveClaims);
+        return delegate.updateClaimDialectFromFile(fileInputStream,fileDetail,preserveClaims,dryRun);
     }
 
     @Valid
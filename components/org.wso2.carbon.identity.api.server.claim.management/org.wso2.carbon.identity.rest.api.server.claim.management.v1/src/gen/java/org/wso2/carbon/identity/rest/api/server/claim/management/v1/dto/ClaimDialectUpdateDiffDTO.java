@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.rest.api.server.claim.management.v1.dto;
+
+import io.swagger.annotations.ApiModel;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.swagger.annotations.*;
+import com.fasterxml.jackson.annotation.*;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Pattern;
+
+    /**
+    * Changes to be applied to the claims of a claim dialect by a claim dialect update.
+    **/
+@ApiModel(description = "Changes to be applied to the claims of a claim dialect by a claim dialect update.")
+public class ClaimDialectUpdateDiffDTO {
+
+    @Valid 
+    private String dialectId = null;
+
+    @Valid 
+    private List<String> claimsToAdd = new ArrayList<String>();
+
+    @Valid 
+    private List<String> claimsToUpdate = new ArrayList<String>();
+
+    @Valid 
+    private List<String> claimsToDelete = new ArrayList<String>();
+
+    /**
+    * Id of the claim dialect.
+    **/
+    @ApiModelProperty(value = "Id of the claim dialect.")
+    @JsonProperty("dialectId")
+    public String getDialectId() {
+        return dialectId;
+    }
+    public void setDialectId(String dialectId) {
+        this.dialectId = dialectId;
+    }
+
+    /**
+    * URIs of the claims to be added.
+    **/
+    @ApiModelProperty(value = "URIs of the claims to be added.")
+    @JsonProperty("claimsToAdd")
+    public List<String> getClaimsToAdd() {
+        return claimsToAdd;
+    }
+    public void setClaimsToAdd(List<String> claimsToAdd) {
+        this.claimsToAdd = claimsToAdd;
+    }
+
+    /**
+    * URIs of the existing claims to be updated.
+    **/
+    @ApiModelProperty(value = "URIs of the existing claims to be updated.")
+    @JsonProperty("claimsToUpdate")
+    public List<String> getClaimsToUpdate() {
+        return claimsToUpdate;
+    }
+    public void setClaimsToUpdate(List<String> claimsToUpdate) {
+        this.claimsToUpdate = claimsToUpdate;
+    }
+
+    /**
+    * URIs of the existing claims to be deleted.
+    **/
+    @ApiModelProperty(value = "URIs of the existing claims to be deleted.")
+    @JsonProperty("claimsToDelete")
+    public List<String> getClaimsToDelete() {
+        return claimsToDelete;
+    }
+    public void setClaimsToDelete(List<String> claimsToDelete) {
+        this.claimsToDelete = claimsToDelete;
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("class ClaimDialectUpdateDiffDTO {\n");
+        
+        sb.append("    dialectId: ").append(dialectId).append("\n");
+        sb.append("    claimsToAdd: ").append(claimsToAdd).append("\n");
+        sb.append("    claimsToUpdate: ").append(claimsToUpdate).append("\n");
+        sb.append("    claimsToDelete: ").append(claimsToDelete).append("\n");
+        
+        sb.append("}\n");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.rest.api.server.claim.management.v1.core;
+
+import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.identity.claim.metadata.mgt.ClaimMetadataManagementService;
+import org.wso2.carbon.identity.claim.metadata.mgt.exception.ClaimMetadataException;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.ExternalClaim;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.LocalClaim;
+import org.wso2.carbon.identity.scim2.common.utils.SCIMCommonUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.PROP_SUB_ATTRIBUTES;
+
+/**
+ * Index of the local claims of a tenant, built once per bulk claim operation.
+ *
+ * <p>Holds the local claims by claim URI, the custom SCIM schema mappings by local claim URI and the parent attributes
+ * of each sub attribute, so the existence, diff and SCIM compliance checks of a claim dialect update do not fetch and
+ * scan the whole claim list for each claim in the file. A bulk update brings the index to the state after the update
+ * through {@link #put(LocalClaim)} and {@link #remove(String)}, before validating the claims against it. Lookups may
+ * run concurrently, but not while the index is being modified.</p>
+ */
+class LocalClaimIndex {
+
+    private static final String SUB_ATTRIBUTE_SEPARATOR = " ";
+
+    private final ClaimMetadataManagementService claimMetadataManagementService;
+    private final String tenantDomain;
+    private final Map<String, LocalClaim> claimsByURI = new LinkedHashMap<>();
+    // A claim may be listed as a sub attribute of several attributes.
+    private final Map<String, Set<String>> parentAttributesBySubAttribute = new HashMap<>();
+    private Map<String, String> scimMappingsByClaimURI;
+
+    private LocalClaimIndex(ClaimMetadataManagementService claimMetadataManagementService, String tenantDomain) {
+
+        this.claimMetadataManagementService = claimMetadataManagementService;
+        this.tenantDomain = tenantDomain;
+    }
+
+    /**
+     * Build the index from the local claims of the given tenant.
+     *
+     * @param claimMetadataManagementService Claim metadata management service.
+     * @param tenantDomain                   Tenant domain.
+     * @return Local claim index of the tenant.
+     * @throws ClaimMetadataException If an error occurred while retrieving the local claims.
+     */
+    static LocalClaimIndex build(ClaimMetadataManagementService claimMetadataManagementService, String tenantDomain)
+            throws ClaimMetadataException {
+
+        LocalClaimIndex index = new LocalClaimIndex(claimMetadataManagementService, tenantDomain);
+        for (LocalClaim localClaim : claimMetadataManagementService.getLocalClaims(tenantDomain)) {
+            index.put(localClaim);
+        }
+        return index;
+    }
+
+    String getTenantDomain() {
+
+        return tenantDomain;
+    }
+
+    boolean contains(String claimURI) {
+
+        return claimsByURI.containsKey(claimURI);
+    }
+
+    LocalClaim get(String claimURI) {
+
+        return claimsByURI.get(claimURI);
+    }
+
+    /**
+     * Get a snapshot of the indexed claim URIs, which is safe to iterate while modifying the index.
+     *
+     * @return Claim URIs in the order of the backend listing, followed by the claims added afterwards.
+     */
+    List<String> getClaimURIs() {
+
+        return new ArrayList<>(claimsByURI.keySet());
+    }
+
+    /**
+     * Get an attribute which has the given claim as a sub attribute. If several attributes have the claim as a sub
+     * attribute, the first of them in the listing order of the local claims is returned.
+     *
+     * @param claimURI Claim URI.
+     * @return URI of the parent attribute, or null if the claim is not a sub attribute.
+     */
+    String getParentAttribute(String claimURI) {
+
+        Set<String> parentAttributes = parentAttributesBySubAttribute.get(claimURI);
+        if (parentAttributes == null || parentAttributes.isEmpty()) {
+            return null;
+        }
+        if (parentAttributes.size() == 1) {
+            return parentAttributes.iterator().next();
+        }
+        for (String localClaimURI : claimsByURI.keySet()) {
+            if (parentAttributes.contains(localClaimURI)) {
+                return localClaimURI;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get the custom SCIM schema attribute mapped to the given local claim. The mappings are loaded with a single
+     * lookup of the custom schema dialect, on first use.
+     *
+     * @param claimURI Local claim URI.
+     * @return Mapped SCIM attribute URI, or an empty string if the claim is not mapped.
+     * @throws ClaimMetadataException If an error occurred while retrieving the custom schema claims.
+     */
+    synchronized String getMappedSCIMClaim(String claimURI) throws ClaimMetadataException {
+
+        if (scimMappingsByClaimURI == null) {
+            Map<String, String> scimMappings = new HashMap<>();
+            for (ExternalClaim externalClaim : claimMetadataManagementService.getExternalClaims(
+                    SCIMCommonUtils.getCustomSchemaURI(), tenantDomain)) {
+                scimMappings.putIfAbsent(externalClaim.getMappedLocalClaim(), externalClaim.getClaimURI());
+            }
+            scimMappingsByClaimURI = scimMappings;
+        }
+        return StringUtils.defaultString(scimMappingsByClaimURI.get(claimURI));
+    }
+
+    /**
+     * Add or replace a local claim in the index.
+     *
+     * @param localClaim Local claim.
+     */
+    void put(LocalClaim localClaim) {
+
+        LocalClaim previousClaim = claimsByURI.put(localClaim.getClaimURI(), localClaim);
+        if (previousClaim != null) {
+            removeSubAttributes(previousClaim);
+        }
+        for (String subAttribute : getSubAttributes(localClaim)) {
+            parentAttributesBySubAttribute.computeIfAbsent(subAttribute, key -> new HashSet<>())
+                    .add(localClaim.getClaimURI());
+        }
+    }
+
+    /**
+     * Remove a local claim from the index.
+     *
+     * @param claimURI Claim URI.
+     */
+    void remove(String claimURI) {
+
+        LocalClaim removedClaim = claimsByURI.remove(claimURI);
+        if (removedClaim != null) {
+            removeSubAttributes(removedClaim);
+        }
+    }
+
+    private void removeSubAttributes(LocalClaim localClaim) {
+
+        for (String subAttribute : getSubAttributes(localClaim)) {
+            Set<String> parentAttributes = parentAttributesBySubAttribute.get(subAttribute);
+            if (parentAttributes != null) {
+                parentAttributes.remove(localClaim.getClaimURI());
+                if (parentAttributes.isEmpty()) {
+                    parentAttributesBySubAttribute.remove(subAttribute);
+                }
+            }
+        }
+    }
+
+    private static String[] getSubAttributes(LocalClaim localClaim) {
+
+        String subAttributes = localClaim.getClaimProperty(PROP_SUB_ATTRIBUTES);
+        if (StringUtils.isEmpty(subAttributes)) {
+            return new String[0];
+        }
+        return subAttributes.split(SUB_ATTRIBUTE_SEPARATOR);
+    }
+}
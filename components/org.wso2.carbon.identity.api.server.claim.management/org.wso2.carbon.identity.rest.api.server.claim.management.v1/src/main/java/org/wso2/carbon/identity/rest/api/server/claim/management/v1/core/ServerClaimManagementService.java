@@ -16,9 +16,8 @@
 
 package org.wso2.carbon.identity.rest.api.server.claim.management.v1.core;
 
-import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.type.TypeReference;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.MapUtils;
 import org.apache.commons.io.IOUtils;
@@ -34,6 +33,9 @@ import org.wso2.carbon.identity.api.server.claim.management.common.Constant;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
 import org.wso2.carbon.identity.api.server.common.FileContent;
 import org.wso2.carbon.identity.api.server.common.Util;
+import org.wso2.carbon.identity.api.server.common.cache.TenantCache;
+import org.wso2.carbon.identity.api.server.common.codec.CodecRegistry;
+import org.wso2.carbon.identity.api.server.common.concurrent.TenantAwareExecutor;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
 import org.wso2.carbon.identity.api.server.common.error.bulk.BulkAPIError;
@@ -42,7 +44,6 @@ import org.wso2.carbon.identity.claim.metadata.mgt.ClaimMetadataManagementServic
 import org.wso2.carbon.identity.claim.metadata.mgt.exception.ClaimMetadataClientException;
 import org.wso2.carbon.identity.claim.metadata.mgt.exception.ClaimMetadataException;
 import org.wso2.carbon.identity.claim.metadata.mgt.model.AttributeMapping;
-import org.wso2.carbon.identity.claim.metadata.mgt.model.Claim;
 import org.wso2.carbon.identity.claim.metadata.mgt.model.ClaimDialect;
 import org.wso2.carbon.identity.claim.metadata.mgt.model.ExternalClaim;
 import org.wso2.carbon.identity.claim.metadata.mgt.model.LocalClaim;
@@ -55,6 +56,7 @@ import org.wso2.carbon.identity.rest.api.server.claim.management.v1.dto.Attribut
 import org.wso2.carbon.identity.rest.api.server.claim.management.v1.dto.AttributeProfileDTO;
 import org.wso2.carbon.identity.rest.api.server.claim.management.v1.dto.ClaimDialectReqDTO;
 import org.wso2.carbon.identity.rest.api.server.claim.management.v1.dto.ClaimDialectResDTO;
+import org.wso2.carbon.identity.rest.api.server.claim.management.v1.dto.ClaimDialectUpdateDiffDTO;
 import org.wso2.carbon.identity.rest.api.server.claim.management.v1.dto.ClaimResDTO;
 import org.wso2.carbon.identity.rest.api.server.claim.management.v1.dto.DataType;
 import org.wso2.carbon.identity.rest.api.server.claim.management.v1.dto.ExternalClaimReqDTO;
@@ -72,37 +74,34 @@ import org.wso2.carbon.identity.scim2.common.utils.SCIMCommonUtils;
 import org.wso2.carbon.user.api.UserStoreException;
 import org.wso2.carbon.user.core.UserStoreManager;
 import org.yaml.snakeyaml.DumperOptions;
-import org.yaml.snakeyaml.LoaderOptions;
 import org.yaml.snakeyaml.Yaml;
-import org.yaml.snakeyaml.constructor.Constructor;
 import org.yaml.snakeyaml.error.YAMLException;
-import org.yaml.snakeyaml.inspector.TagInspector;
-import org.yaml.snakeyaml.inspector.TrustedPrefixesTagInspector;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.StringReader;
-import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import javax.ws.rs.core.Response;
-import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
-import javax.xml.bind.Marshaller;
-import javax.xml.bind.Unmarshaller;
 
 import static org.wso2.carbon.identity.api.server.claim.management.common.ClaimManagementDataHolder.getClaimMetadataManagementService;
 import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.CMT_PATH_COMPONENT;
@@ -169,6 +168,7 @@ import static org.wso2.carbon.identity.api.server.common.Constants.JSON_FILE_EXT
 import static org.wso2.carbon.identity.api.server.common.Constants.MEDIA_TYPE_JSON;
 import static org.wso2.carbon.identity.api.server.common.Constants.MEDIA_TYPE_XML;
 import static org.wso2.carbon.identity.api.server.common.Constants.MEDIA_TYPE_YAML;
+import static org.wso2.carbon.identity.api.server.common.Constants.RESOURCE_TYPE_CLAIM;
 import static org.wso2.carbon.identity.api.server.common.Constants.V1_API_PATH_COMPONENT;
 import static org.wso2.carbon.identity.api.server.common.Constants.XML_FILE_EXTENSION;
 import static org.wso2.carbon.identity.api.server.common.Constants.YAML_FILE_EXTENSION;
@@ -207,7 +207,10 @@ public class ServerClaimManagementService {
     private final ClaimMetadataManagementService claimMetadataManagementService;
     private final OrganizationManager organizationManager;
 
-    private static final ObjectMapper mapper = new ObjectMapper();
+    private static final TypeReference<List<LabelValueDTO>> LABEL_VALUE_LIST_TYPE =
+            new TypeReference<List<LabelValueDTO>>() {
+            };
+    private static final String CLAIM_DIALECT_YAML_DUMPER_KEY = "ClaimDialectDumper";
 
     public ServerClaimManagementService(ClaimMetadataManagementService claimMetadataManagementService,
                                         OrganizationManager organizationManager) {
@@ -250,6 +253,7 @@ public class ServerClaimManagementService {
             claimMetadataManagementService.addClaimDialect(
                     createClaimDialect(dialectURI),
                     ContextLoader.getTenantDomainFromContext());
+            notifyClaimChange();
         } catch (ClaimMetadataException e) {
             throw handleClaimManagementException(e, ERROR_CODE_ERROR_ADDING_DIALECT, dialectURI);
         }
@@ -276,6 +280,7 @@ public class ServerClaimManagementService {
             claimMetadataManagementService.removeClaimDialect(
                     new ClaimDialect(claimDialectURI),
                     ContextLoader.getTenantDomainFromContext());
+            notifyClaimChange();
         } catch (ClaimMetadataException e) {
             throw handleClaimManagementException(e, ERROR_CODE_ERROR_DELETING_DIALECT, dialectId);
         }
@@ -346,6 +351,13 @@ public class ServerClaimManagementService {
      */
     public String updateClaimDialect(String dialectId, ClaimDialectReqDTO claimDialectReqDTO) {
 
+        String resourceId = doUpdateClaimDialect(dialectId, claimDialectReqDTO);
+        notifyClaimChange();
+        return resourceId;
+    }
+
+    private String doUpdateClaimDialect(String dialectId, ClaimDialectReqDTO claimDialectReqDTO) {
+
         try {
             validateClaimModificationEligibility();
             // If the old and new dialect uri is the same we don't need to do a db update.
@@ -375,6 +387,13 @@ public class ServerClaimManagementService {
      */
     public String addLocalClaim(LocalClaimReqDTO localClaimReqDTO) {
 
+        String resourceId = doAddLocalClaim(localClaimReqDTO);
+        notifyClaimChange();
+        return resourceId;
+    }
+
+    private String doAddLocalClaim(LocalClaimReqDTO localClaimReqDTO) {
+
         // Validate mandatory attributes.
         if (StringUtils.isBlank(localClaimReqDTO.getClaimURI())) {
             throw handleClaimManagementClientError(Constant.ErrorMessage.ERROR_CODE_CLAIM_URI_NOT_SPECIFIED,
@@ -407,6 +426,12 @@ public class ServerClaimManagementService {
      */
     public void deleteLocalClaim(String claimId) {
 
+        doDeleteLocalClaim(claimId);
+        notifyClaimChange();
+    }
+
+    private void doDeleteLocalClaim(String claimId) {
+
         String claimURI;
         try {
             validateClaimModificationEligibility();
@@ -522,37 +547,60 @@ public class ServerClaimManagementService {
     public void updateLocalClaim(String claimId, LocalClaimReqDTO localClaimReqDTO) {
 
         try {
-            if (isSubOrganizationContext()) {
-                /*
-                 * For sub organizations, only attribute mappings and ExcludedUserStores are allowed to be updated.
-                 * Updating any other claim properties are restricted.
-                 */
-                validateLocalClaimUpdate(claimId, createLocalClaim(localClaimReqDTO));
-            }
+            validateLocalClaimUpdateRequest(claimId, localClaimReqDTO, null, null);
+        } catch (ClaimMetadataException e) {
+            throw handleClaimManagementException(e, ERROR_CODE_ERROR_UPDATING_LOCAL_CLAIM, claimId);
+        } catch (UserStoreException e) {
+            throw handleException(e, ERROR_CODE_ERROR_ADDING_LOCAL_CLAIM, localClaimReqDTO.getClaimURI());
+        }
+        doUpdateLocalClaim(claimId, localClaimReqDTO);
+        notifyClaimChange();
+    }
 
-            if (!StringUtils.equals(base64DecodeId(claimId), localClaimReqDTO.getClaimURI())) {
-                throw handleClaimManagementClientError(ERROR_CODE_LOCAL_CLAIM_CONFLICT, CONFLICT,
-                        base64DecodeId(claimId));
-            }
-            if (StringUtils.isBlank(localClaimReqDTO.getDisplayName())) {
-                throw handleClaimManagementClientError(
-                        Constant.ErrorMessage.ERROR_CODE_CLAIM_DISPLAY_NAME_NOT_SPECIFIED,
-                        BAD_REQUEST);
-            }
-            validateAttributeMappings(localClaimReqDTO.getAttributeMapping());
-            validateSubAttributeUpdate(localClaimReqDTO);
-            validateSystemClaimUpdate(localClaimReqDTO, claimId);
-            validateDataTypeUpdates(localClaimReqDTO);
-            validateAttributeInputFormat(localClaimReqDTO);
+    /**
+     * Validate an update of a local claim.
+     *
+     * @param claimId          claimId.
+     * @param localClaimReqDTO localClaimReqDTO.
+     * @param existingClaim    Local claim before the update. Retrieved from the backend if null.
+     * @param claimIndex       Local claim index of the tenant, as it is after the update. Can be null.
+     */
+    private void validateLocalClaimUpdateRequest(String claimId, LocalClaimReqDTO localClaimReqDTO,
+                                                 LocalClaim existingClaim, LocalClaimIndex claimIndex)
+            throws ClaimMetadataException, UserStoreException {
+
+        if (isSubOrganizationContext()) {
+            /*
+             * For sub organizations, only attribute mappings and ExcludedUserStores are allowed to be updated.
+             * Updating any other claim properties are restricted.
+             */
+            validateLocalClaimUpdate(claimId, createLocalClaim(localClaimReqDTO));
+        }
+
+        if (!StringUtils.equals(base64DecodeId(claimId), localClaimReqDTO.getClaimURI())) {
+            throw handleClaimManagementClientError(ERROR_CODE_LOCAL_CLAIM_CONFLICT, CONFLICT,
+                    base64DecodeId(claimId));
+        }
+        if (StringUtils.isBlank(localClaimReqDTO.getDisplayName())) {
+            throw handleClaimManagementClientError(
+                    Constant.ErrorMessage.ERROR_CODE_CLAIM_DISPLAY_NAME_NOT_SPECIFIED,
+                    BAD_REQUEST);
+        }
+        validateAttributeMappings(localClaimReqDTO.getAttributeMapping());
+        validateSubAttributeUpdate(localClaimReqDTO, claimIndex);
+        validateSystemClaimUpdate(localClaimReqDTO, claimId, existingClaim, claimIndex != null);
+        validateDataTypeUpdates(localClaimReqDTO);
+        validateAttributeInputFormat(localClaimReqDTO);
+    }
 
+    private void doUpdateLocalClaim(String claimId, LocalClaimReqDTO localClaimReqDTO) {
+
+        try {
             claimMetadataManagementService.updateLocalClaim(createLocalClaim(localClaimReqDTO),
                     ContextLoader.getTenantDomainFromContext());
         } catch (ClaimMetadataException e) {
             throw handleClaimManagementException(e, ERROR_CODE_ERROR_UPDATING_LOCAL_CLAIM, claimId);
-        } catch (UserStoreException e) {
-            throw handleException(e, ERROR_CODE_ERROR_ADDING_LOCAL_CLAIM, localClaimReqDTO.getClaimURI());
         }
-        getResourceId(localClaimReqDTO.getClaimURI());
     }
 
     /**
@@ -579,104 +627,306 @@ public class ServerClaimManagementService {
             if (LOCAL_DIALECT_PATH.equals(dialectId)) {
                 updateLocalClaims(dialectConfiguration.getLocalClaimReqDTOList(), preserveClaims);
             } else {
-                updateClaimDialect(dialectId, dialectConfiguration.getClaimDialectReqDTO());
+                doUpdateClaimDialect(dialectId, dialectConfiguration.getClaimDialectReqDTO());
                 updateExternalClaims(dialectId, dialectConfiguration.getExternalClaimReqDTOList(), preserveClaims);
             }
             return dialectId;
         } catch (ClaimMetadataException e) {
             throw handleClaimManagementException(e, ERROR_CODE_ERROR_UPDATING_DIALECT, dialectId);
+        } finally {
+            notifyClaimChange();
         }
     }
 
-    private void updateLocalClaims(List<LocalClaimReqDTO> localClaimReqDTOList, boolean preserveClaims)
-            throws ClaimMetadataException {
+    /**
+     * Computes the changes an update of a claim dialect from an uploaded file would apply to the claims of the
+     * dialect, without applying them.
+     *
+     * @param fileInputStream InputStream representing the uploaded claim dialect file.
+     * @param fileDetail      Attachment object with metadata about the uploaded claim dialect file.
+     * @param preserveClaims  Boolean value to indicate whether to merge and preserve the existing claims
+     *                        or completely replace the existing claims set.
+     * @return Claims to be added, updated and deleted by the update.
+     */
+    public ClaimDialectUpdateDiffDTO getClaimDialectUpdateDiffFromFile(InputStream fileInputStream,
+                                                                       Attachment fileDetail, Boolean preserveClaims) {
 
-        List<ClaimErrorDTO> errors = new ArrayList<>();
+        preserveClaims = (preserveClaims != null) ? preserveClaims : Boolean.FALSE;
+        String dialectId = null;
+        try {
+            ClaimDialectConfiguration dialectConfiguration = getDialectFromFile(fileInputStream, fileDetail);
+            dialectId = dialectConfiguration.getId();
 
-        for (LocalClaimReqDTO localClaimReqDTO : localClaimReqDTOList) {
-            try {
-                if (StringUtils.isBlank(localClaimReqDTO.getClaimURI())) {
-                    throw handleClaimManagementClientError(Constant.ErrorMessage.ERROR_CODE_EMPTY_LOCAL_CLAIM_URI,
-                            BAD_REQUEST);
+            ClaimChanges<?> changes;
+            if (LOCAL_DIALECT_PATH.equals(dialectId)) {
+                List<LocalClaimReqDTO> localClaimReqDTOList = dialectConfiguration.getLocalClaimReqDTOList();
+                changes = getClaimChanges(localClaimReqDTOList, LocalClaimReqDTO::getClaimURI,
+                        LocalClaimIndex.build(claimMetadataManagementService,
+                                ContextLoader.getTenantDomainFromContext()).getClaimURIs(),
+                        preserveClaims, Constant.ErrorMessage.ERROR_CODE_EMPTY_LOCAL_CLAIM_URI);
+                if (!changes.errors.isEmpty()) {
+                    throw handleClaimManagementBulkClientError(Constant.ErrorMessage.ERROR_CODE_UPDATING_LOCAL_CLAIMS,
+                            BAD_REQUEST, changes.errors, String.valueOf(changes.errors.size()),
+                            String.valueOf(localClaimReqDTOList.size()));
+                }
+            } else {
+                if (!isDialectExists(dialectId)) {
+                    throw handleClaimManagementClientError(ERROR_CODE_DIALECT_NOT_FOUND, NOT_FOUND, dialectId);
                 }
-                String claimId = getResourceId(localClaimReqDTO.getClaimURI());
-                if (isLocalClaimExist(claimId)) {
-                    updateLocalClaim(claimId, localClaimReqDTO);
-                } else {
-                    addLocalClaim(localClaimReqDTO);
+                List<ExternalClaimReqDTO> externalClaimReqDTOList = dialectConfiguration.getExternalClaimReqDTOList();
+                changes = getClaimChanges(externalClaimReqDTOList, ExternalClaimReqDTO::getClaimURI,
+                        getExternalClaimURIs(dialectId), preserveClaims,
+                        Constant.ErrorMessage.ERROR_CODE_EMPTY_EXTERNAL_CLAIM_URI);
+                if (!changes.errors.isEmpty()) {
+                    throw handleClaimManagementBulkClientError(
+                            Constant.ErrorMessage.ERROR_CODE_UPDATING_EXTERNAL_CLAIMS, BAD_REQUEST, changes.errors,
+                            String.valueOf(changes.errors.size()), String.valueOf(externalClaimReqDTOList.size()));
                 }
+            }
+
+            ClaimDialectUpdateDiffDTO claimDialectUpdateDiffDTO = new ClaimDialectUpdateDiffDTO();
+            claimDialectUpdateDiffDTO.setDialectId(dialectId);
+            claimDialectUpdateDiffDTO.setClaimsToAdd(changes.getClaimURIsToAdd());
+            claimDialectUpdateDiffDTO.setClaimsToUpdate(changes.getClaimURIsToUpdate());
+            claimDialectUpdateDiffDTO.setClaimsToDelete(changes.claimsToDelete);
+            return claimDialectUpdateDiffDTO;
+        } catch (ClaimMetadataException e) {
+            throw handleClaimManagementException(e, ERROR_CODE_ERROR_UPDATING_DIALECT, dialectId);
+        }
+    }
+
+    private void updateLocalClaims(List<LocalClaimReqDTO> localClaimReqDTOList, boolean preserveClaims)
+            throws ClaimMetadataException {
+
+        // Existence and sub attribute checks of all the claims in the file run against a single claim listing.
+        LocalClaimIndex claimIndex = LocalClaimIndex.build(claimMetadataManagementService,
+                ContextLoader.getTenantDomainFromContext());
+        ClaimChanges<LocalClaimReqDTO> changes = getClaimChanges(localClaimReqDTOList, LocalClaimReqDTO::getClaimURI,
+                claimIndex.getClaimURIs(), preserveClaims, Constant.ErrorMessage.ERROR_CODE_EMPTY_LOCAL_CLAIM_URI);
+        List<ClaimErrorDTO> errors = changes.errors;
+
+        /*
+         * The updates are validated serially against the claims as they will be once the whole file is applied,
+         * so that a complex claim is not validated against a sub attribute which is yet to be added or updated.
+         */
+        Map<String, LocalClaim> existingClaims = new HashMap<>();
+        for (LocalClaimReqDTO claim : changes.claimsToUpdate) {
+            existingClaims.put(claim.getClaimURI(), claimIndex.get(claim.getClaimURI()));
+        }
+        changes.claimsToAdd.forEach(claim -> claimIndex.put(createLocalClaim(claim)));
+        changes.claimsToUpdate.forEach(claim -> claimIndex.put(createLocalClaim(claim)));
+        changes.claimsToDelete.forEach(claimIndex::remove);
+        List<LocalClaimReqDTO> claimsToUpdate = new ArrayList<>(changes.claimsToUpdate.size());
+        for (LocalClaimReqDTO claim : changes.claimsToUpdate) {
+            String claimId = getResourceId(claim.getClaimURI());
+            try {
+                validateLocalClaimUpdateRequest(claimId, claim, existingClaims.get(claim.getClaimURI()), claimIndex);
+                claimsToUpdate.add(claim);
             } catch (APIError e) {
-                ClaimErrorDTO claimErrorDTO = new ClaimErrorDTO(e.getResponseEntity());
-                claimErrorDTO.setClaimURI(localClaimReqDTO.getClaimURI());
-                errors.add(claimErrorDTO);
+                errors.add(buildClaimErrorDTO(e, claim.getClaimURI()));
+            } catch (ClaimMetadataException e) {
+                errors.add(buildClaimErrorDTO(handleClaimManagementException(e,
+                        ERROR_CODE_ERROR_UPDATING_LOCAL_CLAIM, claimId), claim.getClaimURI()));
+            } catch (UserStoreException e) {
+                errors.add(buildClaimErrorDTO(handleException(e, ERROR_CODE_ERROR_ADDING_LOCAL_CLAIM,
+                        claim.getClaimURI()), claim.getClaimURI()));
             }
         }
-        if (preserveClaims) {
-            deleteObsoleteLocalClaims(localClaimReqDTOList, errors);
+
+        // Complex claims are added after the claims they may refer to as sub attributes.
+        Map<Boolean, List<LocalClaimReqDTO>> claimsToAdd = changes.claimsToAdd.stream()
+                .collect(Collectors.partitioningBy(claim -> ArrayUtils.isNotEmpty(claim.getSubAttributes())));
+        for (List<LocalClaimReqDTO> claimBatch : Arrays.asList(claimsToAdd.get(false), claimsToAdd.get(true))) {
+            applyClaimChanges(claimBatch, LocalClaimReqDTO::getClaimURI, this::doAddLocalClaim, errors,
+                    ERROR_CODE_ERROR_ADDING_LOCAL_CLAIM, LOCAL_DIALECT_PATH);
         }
+        applyClaimChanges(claimsToUpdate, LocalClaimReqDTO::getClaimURI,
+                claim -> doUpdateLocalClaim(getResourceId(claim.getClaimURI()), claim), errors,
+                ERROR_CODE_ERROR_UPDATING_LOCAL_CLAIM, LOCAL_DIALECT_PATH);
+        applyClaimChanges(changes.claimsToDelete, Function.identity(),
+                claimURI -> doDeleteLocalClaim(getResourceId(claimURI)), errors,
+                ERROR_CODE_ERROR_DELETING_LOCAL_CLAIM, LOCAL_DIALECT_PATH);
+
         if (!errors.isEmpty()) {
             throw handleClaimManagementBulkClientError(Constant.ErrorMessage.ERROR_CODE_UPDATING_LOCAL_CLAIMS,
                     BAD_REQUEST, errors, String.valueOf(errors.size()), String.valueOf(localClaimReqDTOList.size()));
         }
     }
 
-    private void deleteObsoleteLocalClaims(List<LocalClaimReqDTO> localClaimReqDTOList, List<ClaimErrorDTO> errors)
-            throws ClaimMetadataException {
+    private void updateExternalClaims(String dialectId, List<ExternalClaimReqDTO> externalClaimReqDTOList,
+                                      boolean preserveClaims) throws ClaimMetadataException {
 
-        List<String> claimsToDelete =  getLocalClaimResDTOs(claimMetadataManagementService
-                    .getLocalClaims(ContextLoader.getTenantDomainFromContext())).stream()
-                    .map(LocalClaimResDTO::getClaimURI)
-                    .filter(claimURI -> localClaimReqDTOList.stream()
-                            .noneMatch(reqDTO -> reqDTO.getClaimURI().equals(claimURI)))
-                    .collect(Collectors.toList());
+        ClaimChanges<ExternalClaimReqDTO> changes = getClaimChanges(externalClaimReqDTOList,
+                ExternalClaimReqDTO::getClaimURI, getExternalClaimURIs(dialectId), preserveClaims,
+                Constant.ErrorMessage.ERROR_CODE_EMPTY_EXTERNAL_CLAIM_URI);
+        List<ClaimErrorDTO> errors = changes.errors;
+
+        /*
+         * A local claim can be mapped to a single claim of a dialect. Obsolete claims are deleted first and the
+         * existing claims are remapped next, to release the local claims the new claims may be mapped to. The
+         * mapping check of the claim metadata service is not atomic, hence the claims are remapped and added one
+         * at a time in the order of the file.
+         */
+        applyClaimChanges(changes.claimsToDelete, Function.identity(),
+                claimURI -> doDeleteExternalClaim(dialectId, getResourceId(claimURI)), errors,
+                ERROR_CODE_ERROR_DELETING_EXTERNAL_CLAIM, dialectId);
+        applyClaimChangesInOrder(changes.claimsToUpdate, ExternalClaimReqDTO::getClaimURI,
+                claim -> doUpdateExternalClaim(dialectId, getResourceId(claim.getClaimURI()), claim), errors,
+                ERROR_CODE_ERROR_UPDATING_EXTERNAL_CLAIM, dialectId);
+        applyClaimChangesInOrder(changes.claimsToAdd, ExternalClaimReqDTO::getClaimURI,
+                claim -> doAddExternalClaim(dialectId, claim), errors, ERROR_CODE_ERROR_ADDING_EXTERNAL_CLAIM,
+                dialectId);
 
-        for (String claimURI : claimsToDelete) {
-            try {
-                deleteLocalClaim(getResourceId(claimURI));
-            } catch (APIError e) {
-                ClaimErrorDTO claimErrorDTO = new ClaimErrorDTO(e.getResponseEntity());
-                claimErrorDTO.setClaimURI(claimURI);
-                errors.add(claimErrorDTO);
+        if (!errors.isEmpty()) {
+            throw handleClaimManagementBulkClientError(Constant.ErrorMessage.ERROR_CODE_UPDATING_EXTERNAL_CLAIMS,
+                    BAD_REQUEST, errors, String.valueOf(errors.size()), String.valueOf(externalClaimReqDTOList.size()));
+        }
+    }
+
+    /**
+     * Diff the claims of a claim dialect file against the existing claims of the dialect.
+     *
+     * @param claimReqDTOList      Claims in the file.
+     * @param claimURIResolver     Function to resolve the claim URI of a claim in the file.
+     * @param existingClaimURIs    URIs of the existing claims of the dialect.
+     * @param deleteObsoleteClaims Whether the existing claims which are not in the file should be deleted.
+     * @param emptyClaimURIError   Error to be reported for the claims in the file without a claim URI.
+     * @param <T>                  Type of the claims in the file.
+     * @return Changes to be applied to the claims of the dialect.
+     */
+    private <T> ClaimChanges<T> getClaimChanges(List<T> claimReqDTOList, Function<T, String> claimURIResolver,
+                                                Collection<String> existingClaimURIs, boolean deleteObsoleteClaims,
+                                                Constant.ErrorMessage emptyClaimURIError) {
+
+        ClaimChanges<T> changes = new ClaimChanges<>(claimURIResolver);
+        // A later entry of the same claim overrides the earlier ones, as it did when the file was applied in order.
+        Map<String, T> requestedClaims = new LinkedHashMap<>();
+        for (T claimReqDTO : claimReqDTOList) {
+            String claimURI = claimURIResolver.apply(claimReqDTO);
+            if (StringUtils.isBlank(claimURI)) {
+                APIError error = handleClaimManagementClientError(emptyClaimURIError, BAD_REQUEST);
+                changes.errors.add(buildClaimErrorDTO(error, claimURI));
+                continue;
+            }
+            requestedClaims.put(claimURI, claimReqDTO);
+        }
+
+        Set<String> existingClaims = new LinkedHashSet<>(existingClaimURIs);
+        for (Map.Entry<String, T> requestedClaim : requestedClaims.entrySet()) {
+            if (existingClaims.contains(requestedClaim.getKey())) {
+                changes.claimsToUpdate.add(requestedClaim.getValue());
+            } else {
+                changes.claimsToAdd.add(requestedClaim.getValue());
             }
         }
+        if (deleteObsoleteClaims) {
+            existingClaims.stream()
+                    .filter(claimURI -> !requestedClaims.containsKey(claimURI))
+                    .forEach(changes.claimsToDelete::add);
+        }
+        return changes;
     }
 
-    private void updateExternalClaims(String dialectId, List<ExternalClaimReqDTO> externalClaimReqDTOList,
-                                      boolean preserveClaims) throws ClaimMetadataException {
+    /**
+     * Apply the given operation to the given claims concurrently, on the shared server API executor. The failures
+     * of individual claims are collected to the given error list and do not stop the operation on the other claims.
+     *
+     * @param claims           Claims to be processed.
+     * @param claimURIResolver Function to resolve the claim URI of a claim.
+     * @param operation        Operation to be applied to each claim.
+     * @param errors           List to collect the per claim errors.
+     * @param errorEnum        Error to be reported for unexpected failures of a claim.
+     * @param dialectId        Id of the claim dialect of the claims.
+     * @param <T>              Type of the claims.
+     * @return Claims which were processed successfully, in the order of the given claims.
+     */
+    private <T> List<T> applyClaimChanges(List<T> claims, Function<T, String> claimURIResolver, Consumer<T> operation,
+                                          List<ClaimErrorDTO> errors, Constant.ErrorMessage errorEnum,
+                                          String dialectId) {
 
-        if (preserveClaims) {
-            deleteClaimDialect(dialectId);
-            dialectId = addClaimDialect(base64DecodeId(dialectId));
-            importExternalClaims(dialectId, externalClaimReqDTOList);
-            return;
+        if (claims.isEmpty()) {
+            return Collections.emptyList();
         }
 
-        List<ClaimErrorDTO> errors = new ArrayList<>();
+        List<Callable<ClaimErrorDTO>> tasks = new ArrayList<>(claims.size());
+        for (T claim : claims) {
+            tasks.add(() -> applyClaimChange(claim, claimURIResolver, operation, errorEnum, dialectId));
+        }
 
-        for (ExternalClaimReqDTO externalClaimReqDTO : externalClaimReqDTOList) {
-            try {
-                if (StringUtils.isBlank(externalClaimReqDTO.getClaimURI())) {
-                    throw handleClaimManagementClientError(Constant.ErrorMessage.ERROR_CODE_EMPTY_EXTERNAL_CLAIM_URI,
-                            BAD_REQUEST);
-                }
-                String claimId = getResourceId(externalClaimReqDTO.getClaimURI());
-                if (isExternalClaimExist(dialectId, claimId)) {
-                    updateExternalClaim(dialectId, claimId, externalClaimReqDTO);
-                } else {
-                    addExternalClaim(dialectId, externalClaimReqDTO);
-                }
-            } catch (APIError e) {
-                ClaimErrorDTO claimErrorDTO = new ClaimErrorDTO(e.getResponseEntity());
-                claimErrorDTO.setClaimURI(externalClaimReqDTO.getClaimURI());
-                errors.add(claimErrorDTO);
+        List<ClaimErrorDTO> results;
+        try {
+            results = TenantAwareExecutor.invokeAll(tasks);
+        } catch (ExecutionException e) {
+            throw handleException(e, ERROR_CODE_ERROR_UPDATING_DIALECT, dialectId);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw handleException(e, ERROR_CODE_ERROR_UPDATING_DIALECT, dialectId);
+        }
+
+        List<T> appliedClaims = new ArrayList<>(claims.size());
+        for (int i = 0; i < claims.size(); i++) {
+            if (results.get(i) == null) {
+                appliedClaims.add(claims.get(i));
+            } else {
+                errors.add(results.get(i));
             }
         }
-        if (!errors.isEmpty()) {
-            throw handleClaimManagementBulkClientError(Constant.ErrorMessage.ERROR_CODE_UPDATING_EXTERNAL_CLAIMS,
-                    BAD_REQUEST, errors, String.valueOf(errors.size()), String.valueOf(externalClaimReqDTOList.size()));
+        return appliedClaims;
+    }
+
+    /**
+     * Apply the given operation to the given claims one at a time, in the order of the given claims. The failures
+     * of individual claims are collected to the given error list and do not stop the operation on the other claims.
+     *
+     * @param claims           Claims to be processed.
+     * @param claimURIResolver Function to resolve the claim URI of a claim.
+     * @param operation        Operation to be applied to each claim.
+     * @param errors           List to collect the per claim errors.
+     * @param errorEnum        Error to be reported for unexpected failures of a claim.
+     * @param dialectId        Id of the claim dialect of the claims.
+     * @param <T>              Type of the claims.
+     */
+    private <T> void applyClaimChangesInOrder(List<T> claims, Function<T, String> claimURIResolver,
+                                              Consumer<T> operation, List<ClaimErrorDTO> errors,
+                                              Constant.ErrorMessage errorEnum, String dialectId) {
+
+        for (T claim : claims) {
+            ClaimErrorDTO error = applyClaimChange(claim, claimURIResolver, operation, errorEnum, dialectId);
+            if (error != null) {
+                errors.add(error);
+            }
+        }
+    }
+
+    private <T> ClaimErrorDTO applyClaimChange(T claim, Function<T, String> claimURIResolver, Consumer<T> operation,
+                                               Constant.ErrorMessage errorEnum, String dialectId) {
+
+        String claimURI = claimURIResolver.apply(claim);
+        try {
+            operation.accept(claim);
+            return null;
+        } catch (APIError e) {
+            return buildClaimErrorDTO(e, claimURI);
+        } catch (RuntimeException e) {
+            return buildClaimErrorDTO(handleException(e, errorEnum, claimURI, dialectId), claimURI);
         }
     }
 
+    private ClaimErrorDTO buildClaimErrorDTO(APIError error, String claimURI) {
+
+        ClaimErrorDTO claimErrorDTO = new ClaimErrorDTO(error.getResponseEntity());
+        claimErrorDTO.setClaimURI(claimURI);
+        return claimErrorDTO;
+    }
+
+    private List<String> getExternalClaimURIs(String dialectId) throws ClaimMetadataException {
+
+        return claimMetadataManagementService.getExternalClaims(base64DecodeId(dialectId),
+                        ContextLoader.getTenantDomainFromContext()).stream()
+                .map(ExternalClaim::getClaimURI)
+                .collect(Collectors.toList());
+    }
+
     /**
      * Exports a claim dialect with related claims in the specified file type.
      *
@@ -755,12 +1005,7 @@ public class ServerClaimManagementService {
         fileNameSB.append(XML_FILE_EXTENSION);
 
         try {
-            JAXBContext jaxbContext = JAXBContext.newInstance(dialectConfiguration.getClass());
-            Marshaller marshaller = jaxbContext.createMarshaller();
-            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
-            StringWriter writer = new StringWriter();
-            marshaller.marshal(dialectConfiguration, writer);
-            String xmlContent = writer.toString();
+            String xmlContent = CodecRegistry.marshalToXml(dialectConfiguration, dialectConfiguration.getClass());
             return new FileContent(fileNameSB.toString(), MEDIA_TYPE_XML, xmlContent);
         } catch (JAXBException e) {
             throw new ClaimMetadataException(String.format(
@@ -773,10 +1018,9 @@ public class ServerClaimManagementService {
 
         StringBuilder fileNameSB = new StringBuilder(fileName);
         fileNameSB.append(JSON_FILE_EXTENSION);
-        ObjectMapper objectMapper = new ObjectMapper(new JsonFactory());
         try {
             return new FileContent(fileNameSB.toString(), MEDIA_TYPE_JSON,
-                    objectMapper.writeValueAsString(dialectConfiguration));
+                    CodecRegistry.getObjectMapper().writeValueAsString(dialectConfiguration));
         } catch (JsonProcessingException e) {
             throw new ClaimMetadataException(String.format(
                       Constant.ErrorMessage.ERROR_CODE_ERROR_PARSING_CLAIM_DIALECT.toString(), MEDIA_TYPE_JSON), e);
@@ -788,11 +1032,13 @@ public class ServerClaimManagementService {
 
         StringBuilder fileNameSB = new StringBuilder(fileName);
         fileNameSB.append(YAML_FILE_EXTENSION);
-        DumperOptions options = new DumperOptions();
-        options.setDefaultFlowStyle(DumperOptions.FlowStyle.BLOCK);
-        Yaml yaml = new Yaml(options);
         try {
-            return new FileContent(fileNameSB.toString(), MEDIA_TYPE_YAML, yaml.dump(dialectConfiguration));
+            return new FileContent(fileNameSB.toString(), MEDIA_TYPE_YAML,
+                    CodecRegistry.dumpYaml(CLAIM_DIALECT_YAML_DUMPER_KEY, () -> {
+                        DumperOptions options = new DumperOptions();
+                        options.setDefaultFlowStyle(DumperOptions.FlowStyle.BLOCK);
+                        return new Yaml(options);
+                    }, dialectConfiguration));
         } catch (YAMLException e) {
             throw new ClaimMetadataException(String.format(
                       Constant.ErrorMessage.ERROR_CODE_ERROR_PARSING_CLAIM_DIALECT.toString(), MEDIA_TYPE_YAML), e);
@@ -808,6 +1054,13 @@ public class ServerClaimManagementService {
      */
     public String addExternalClaim(String dialectId, ExternalClaimReqDTO externalClaimReqDTO) {
 
+        String resourceId = doAddExternalClaim(dialectId, externalClaimReqDTO);
+        notifyClaimChange();
+        return resourceId;
+    }
+
+    private String doAddExternalClaim(String dialectId, ExternalClaimReqDTO externalClaimReqDTO) {
+
         try {
             validateClaimModificationEligibility();
             if (!isDialectExists(dialectId)) {
@@ -832,6 +1085,12 @@ public class ServerClaimManagementService {
      */
     public void deleteExternalClaim(String dialectId, String claimId) {
 
+        doDeleteExternalClaim(dialectId, claimId);
+        notifyClaimChange();
+    }
+
+    private void doDeleteExternalClaim(String dialectId, String claimId) {
+
         String externalClaimURI;
         String externalClaimDialectURI;
         try {
@@ -928,6 +1187,12 @@ public class ServerClaimManagementService {
      */
     public void updateExternalClaim(String dialectId, String claimId, ExternalClaimReqDTO externalClaimReqDTO) {
 
+        doUpdateExternalClaim(dialectId, claimId, externalClaimReqDTO);
+        notifyClaimChange();
+    }
+
+    private void doUpdateExternalClaim(String dialectId, String claimId, ExternalClaimReqDTO externalClaimReqDTO) {
+
         try {
             validateClaimModificationEligibility();
             if (!StringUtils.equals(base64DecodeId(claimId), externalClaimReqDTO.getClaimURI())) {
@@ -942,6 +1207,15 @@ public class ServerClaimManagementService {
         getResourceId(externalClaimReqDTO.getClaimURI());
     }
 
+    /**
+     * Report the change of the claims of the tenant, so that the responses built from the claims are rebuilt. Bulk
+     * claim operations report the change once, after all the claims are processed.
+     */
+    private void notifyClaimChange() {
+
+        TenantCache.notifyChange(RESOURCE_TYPE_CLAIM, ContextLoader.getTenantDomainFromContext());
+    }
+
     private ClaimDialect extractDialectFromDialectList(String dialectURI, List<ClaimDialect> dialectList) {
 
         for (ClaimDialect dialect : dialectList) {
@@ -1113,7 +1387,7 @@ public class ServerClaimManagementService {
         String inputFormat = handleAdditionalProperties(claimProperties, PROP_INPUT_FORMAT);
         if (StringUtils.isNotEmpty(inputFormat)) {
             try {
-                InputFormatDTO inputFormatDTO = mapper.readValue(inputFormat, InputFormatDTO.class);
+                InputFormatDTO inputFormatDTO = CodecRegistry.readJson(inputFormat, InputFormatDTO.class);
                 localClaimResDTO.setInputFormat(inputFormatDTO);
             } catch (IOException e) {
                 LOG.error("Error while parsing inputFormat.");
@@ -1127,8 +1401,7 @@ public class ServerClaimManagementService {
         String canonicalValues = handleAdditionalProperties(claimProperties, PROP_CANONICAL_VALUES);
         if (StringUtils.isNotEmpty(canonicalValues)) {
             try {
-                List<LabelValueDTO> list = mapper.readValue(canonicalValues, mapper.getTypeFactory()
-                                .constructCollectionType(List.class, LabelValueDTO.class));
+                List<LabelValueDTO> list = CodecRegistry.readJson(canonicalValues, LABEL_VALUE_LIST_TYPE);
                 LabelValueDTO[] canonicalValuesList = new LabelValueDTO[list.size()];
                 for (int i = 0; i < list.size(); i++) {
                     LabelValueDTO canonicalValue = new LabelValueDTO();
@@ -1308,7 +1581,7 @@ public class ServerClaimManagementService {
                     LOG.debug("Processing " + canonicalValuesSet.size() + " unique canonical values for claim: " +
                             localClaimReqDTO.getClaimURI());
                 }
-                String jsonString = mapper.writeValueAsString(canonicalValuesSet);
+                String jsonString = CodecRegistry.writeJson(canonicalValuesSet);
                 claimProperties.put(PROP_CANONICAL_VALUES, jsonString);
             } catch (JsonProcessingException e) {
                 LOG.error("Error while parsing canonical values.", e);
@@ -1317,7 +1590,7 @@ public class ServerClaimManagementService {
 
         if (localClaimReqDTO.getInputFormat() != null) {
             try {
-                String jsonString = mapper.writeValueAsString(localClaimReqDTO.getInputFormat());
+                String jsonString = CodecRegistry.writeJson(localClaimReqDTO.getInputFormat());
                 claimProperties.put(PROP_INPUT_FORMAT, jsonString);
             } catch (JsonProcessingException e) {
                 LOG.error("Error while parsing canonical values.", e);
@@ -1395,7 +1668,11 @@ public class ServerClaimManagementService {
             List<ExternalClaimReqDTO> externalClaimReqDTOList = dialectConfiguration.getExternalClaimReqDTOList();
             String dialectURI = addClaimDialect(dialectConfiguration.getClaimDialectReqDTO());
 
-            importExternalClaims(dialectURI, externalClaimReqDTOList);
+            try {
+                importExternalClaims(dialectURI, externalClaimReqDTOList);
+            } finally {
+                notifyClaimChange();
+            }
 
             return dialectId;
         } catch (ClaimMetadataException e) {
@@ -1406,16 +1683,9 @@ public class ServerClaimManagementService {
     private void importExternalClaims(String dialectID, List<ExternalClaimReqDTO> externalClaimReqDTOList) {
 
         List<ClaimErrorDTO> errors = new ArrayList<>();
-
-        for (ExternalClaimReqDTO externalClaimReqDTO : externalClaimReqDTOList) {
-            try {
-                addExternalClaim(dialectID, externalClaimReqDTO);
-            } catch (APIError e) {
-                ClaimErrorDTO claimErrorDTO = new ClaimErrorDTO(e.getResponseEntity());
-                claimErrorDTO.setClaimURI(externalClaimReqDTO.getClaimURI());
-                errors.add(claimErrorDTO);
-            }
-        }
+        applyClaimChanges(externalClaimReqDTOList, ExternalClaimReqDTO::getClaimURI,
+                claim -> doAddExternalClaim(dialectID, claim), errors, ERROR_CODE_ERROR_ADDING_EXTERNAL_CLAIM,
+                dialectID);
         if (!errors.isEmpty()) {
             throw handleClaimManagementBulkClientError(Constant.ErrorMessage.ERROR_CODE_IMPORTING_EXTERNAL_CLAIMS,
                     BAD_REQUEST, errors, String.valueOf(errors.size()), String.valueOf(externalClaimReqDTOList.size()));
@@ -1465,9 +1735,7 @@ public class ServerClaimManagementService {
     private ClaimDialectConfiguration parseClaimDialectFromXml(FileContent fileContent) throws ClaimMetadataException {
 
         try {
-            JAXBContext jaxbContext = JAXBContext.newInstance(ClaimDialectConfiguration.class);
-            Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
-            return (ClaimDialectConfiguration) unmarshaller.unmarshal(new StringReader(fileContent.getContent()));
+            return CodecRegistry.unmarshalFromXml(fileContent.getContent(), ClaimDialectConfiguration.class);
         } catch (JAXBException e) {
             throw new ClaimMetadataException(String.format(
                       Constant.ErrorMessage.ERROR_CODE_ERROR_READING_FILE_CONTENT.toString(), MEDIA_TYPE_XML), e);
@@ -1477,7 +1745,8 @@ public class ServerClaimManagementService {
     private ClaimDialectConfiguration parseClaimDialectFromJson(FileContent fileContent) throws ClaimMetadataException {
 
         try {
-            return mapper.readValue(fileContent.getContent(), ClaimDialectConfiguration.class);
+            return CodecRegistry.getObjectMapper().readValue(fileContent.getContent(),
+                    ClaimDialectConfiguration.class);
         } catch (JsonProcessingException e) {
             throw new ClaimMetadataException(String.format(
                       Constant.ErrorMessage.ERROR_CODE_ERROR_READING_FILE_CONTENT.toString(), MEDIA_TYPE_JSON), e);
@@ -1487,17 +1756,9 @@ public class ServerClaimManagementService {
     private ClaimDialectConfiguration parseClaimDialectFromYaml(FileContent fileContent) throws ClaimMetadataException {
 
         try {
-            // Add trusted tags included in the Claims YAML files.
-            List<String> trustedTagList = new ArrayList<>();
-            trustedTagList.add(ClaimDialectConfiguration.class.getName());
-            trustedTagList.add(ExternalClaimResDTO.class.getName());
-            trustedTagList.add(LocalClaimResDTO.class.getName());
-
-            LoaderOptions loaderOptions = new LoaderOptions();
-            TagInspector tagInspector = new TrustedPrefixesTagInspector(trustedTagList);
-            loaderOptions.setTagInspector(tagInspector);
-            Yaml yaml = new Yaml(new Constructor(ClaimDialectConfiguration.class, loaderOptions));
-            return yaml.loadAs(fileContent.getContent(), ClaimDialectConfiguration.class);
+            // Trust the tags included in the Claims YAML files.
+            return CodecRegistry.loadYaml(fileContent.getContent(), ClaimDialectConfiguration.class,
+                    ExternalClaimResDTO.class, LocalClaimResDTO.class);
         } catch (YAMLException e) {
             throw new ClaimMetadataException(String.format(
                       Constant.ErrorMessage.ERROR_CODE_ERROR_READING_FILE_CONTENT.toString(), MEDIA_TYPE_YAML), e);
@@ -1551,25 +1812,6 @@ public class ServerClaimManagementService {
         return claimDialect != null;
     }
 
-    private boolean isLocalClaimExist(String claimId) throws ClaimMetadataException {
-
-        List<LocalClaim> localClaimList = claimMetadataManagementService.getLocalClaims(ContextLoader
-                .getTenantDomainFromContext());
-        LocalClaim localClaim = extractLocalClaimFromClaimList(base64DecodeId(claimId), localClaimList);
-
-        return localClaim != null;
-    }
-
-    private boolean isExternalClaimExist(String dialectId, String claimId) throws ClaimMetadataException {
-
-        List<ExternalClaim> externalClaimList = claimMetadataManagementService.getExternalClaims(
-                base64DecodeId(dialectId),
-                ContextLoader.getTenantDomainFromContext());
-        ExternalClaim externalClaim = extractExternalClaimFromClaimList(base64DecodeId(claimId), externalClaimList);
-
-        return externalClaim != null;
-    }
-
     private APIError handleClaimManagementException(ClaimMetadataException e, Constant.ErrorMessage errorEnum,
                                                     String... data) {
 
@@ -1807,7 +2049,8 @@ public class ServerClaimManagementService {
 
     }
 
-    private void validateSystemClaimUpdate(LocalClaimReqDTO localClaimReqDTO, String claimId) {
+    private void validateSystemClaimUpdate(LocalClaimReqDTO localClaimReqDTO, String claimId,
+                                           LocalClaim localClaim, boolean isBulkUpdate) {
 
         boolean isSystemClaim = localClaimReqDTO.getProperties().stream()
                 .anyMatch(property -> IS_SYSTEM_CLAIM.equals(property.getKey()) &&
@@ -1816,7 +2059,15 @@ public class ServerClaimManagementService {
             return;
         }
 
-        LocalClaimResDTO existingClaim = getLocalClaim(claimId);
+        LocalClaimResDTO existingClaim;
+        if (!isBulkUpdate) {
+            existingClaim = getLocalClaim(claimId);
+        } else {
+            if (localClaim == null) {
+                throw handleClaimManagementClientError(ERROR_CODE_LOCAL_CLAIM_NOT_FOUND, NOT_FOUND, claimId);
+            }
+            existingClaim = getLocalClaimResDTO(localClaim);
+        }
 
         // Validate the multivalued property is updated.
         if (Boolean.TRUE.equals(existingClaim.getMultiValued()) !=
@@ -1836,7 +2087,8 @@ public class ServerClaimManagementService {
         }
     }
 
-    private void validateSubAttributeUpdate(LocalClaimReqDTO localClaimReqDTO) throws ClaimMetadataException {
+    private void validateSubAttributeUpdate(LocalClaimReqDTO localClaimReqDTO, LocalClaimIndex claimIndex)
+            throws ClaimMetadataException {
 
         if (!DataType.COMPLEX.equals(localClaimReqDTO.getDataType())) {
             return;
@@ -1845,11 +2097,14 @@ public class ServerClaimManagementService {
             throw handleClaimManagementClientError(Constant.ErrorMessage.ERROR_CODE_SUB_ATTRIBUTES_NOT_SPECIFIED,
                     BAD_REQUEST);
         }
-        String tenantDomain = ContextLoader.getTenantDomainFromContext();
+        if (claimIndex == null) {
+            claimIndex = LocalClaimIndex.build(claimMetadataManagementService,
+                    ContextLoader.getTenantDomainFromContext());
+        }
 
-        validateAttributeIsSubAttributeOfAnotherAttribute(localClaimReqDTO.getClaimURI(), tenantDomain);
-        validateSubAttributeSCIMMappingPattern(localClaimReqDTO.getClaimURI(), tenantDomain,
-                localClaimReqDTO.getSubAttributes());
+        validateAttributeIsSubAttributeOfAnotherAttribute(localClaimReqDTO.getClaimURI(), claimIndex);
+        validateSubAttributeSCIMMappingPattern(localClaimReqDTO.getClaimURI(), localClaimReqDTO.getSubAttributes(),
+                claimIndex);
     }
 
     private void validateDataTypeUpdates(LocalClaimReqDTO localClaimReqDTO) {
@@ -1939,27 +2194,14 @@ public class ServerClaimManagementService {
         throw new APIError(BAD_REQUEST, errorResponse);
     }
 
-    private String getMappedSCIMClaim(String claimURI, String tenantDomain) throws ClaimMetadataException {
-
-        String customSchemaURI = SCIMCommonUtils.getCustomSchemaURI();
-        List<Claim> mappedClaims = claimMetadataManagementService.getMappedExternalClaimsForLocalClaim(claimURI,
-                tenantDomain);
-        Optional<Claim> customSCIMMappedClaim = mappedClaims.stream()
-                .filter(mappedClaim -> customSchemaURI.equals(mappedClaim.getClaimDialectURI())).findFirst();
-        if (customSCIMMappedClaim.isPresent()) {
-            return customSCIMMappedClaim.get().getClaimURI();
-        }
-        return StringUtils.EMPTY;
-    }
-
-    private void validateSubAttributeSCIMMappingPattern(String claimURI, String tenantDomain, String[] subAttributes)
-            throws ClaimMetadataException {
+    private void validateSubAttributeSCIMMappingPattern(String claimURI, String[] subAttributes,
+                                                        LocalClaimIndex claimIndex) throws ClaimMetadataException {
 
         String customSchemaURI = SCIMCommonUtils.getCustomSchemaURI() + ":";
-        String attributeSCIMMapping = getMappedSCIMClaim(claimURI, tenantDomain)
+        String attributeSCIMMapping = claimIndex.getMappedSCIMClaim(claimURI)
                 .replace(customSchemaURI, StringUtils.EMPTY);
         for (String subAttribute : subAttributes) {
-            String subAttributeSCIMMapping = getMappedSCIMClaim(subAttribute, tenantDomain)
+            String subAttributeSCIMMapping = claimIndex.getMappedSCIMClaim(subAttribute)
                     .replace(customSchemaURI, StringUtils.EMPTY);
             if (!subAttributeSCIMMapping.startsWith(attributeSCIMMapping + ".")) {
                 String attributeName = claimURI.replace(LOCAL_DIALECT + "/", StringUtils.EMPTY);
@@ -1971,21 +2213,14 @@ public class ServerClaimManagementService {
         }
     }
 
-    private void validateAttributeIsSubAttributeOfAnotherAttribute(String claimURI, String tenantDomain)
-            throws ClaimMetadataException {
+    private void validateAttributeIsSubAttributeOfAnotherAttribute(String claimURI, LocalClaimIndex claimIndex) {
 
-        for (LocalClaim localClaim : claimMetadataManagementService.getLocalClaims(tenantDomain)) {
-            String subAttributes = localClaim.getClaimProperty(PROP_SUB_ATTRIBUTES);
-            if (StringUtils.isEmpty(subAttributes)) {
-                continue;
-            }
-            if (Arrays.stream(subAttributes.split(" "))
-                    .anyMatch(subAttribute -> StringUtils.equals(subAttribute, claimURI))) {
-                String attributeName = localClaim.getClaimURI().replace(LOCAL_DIALECT + "/", StringUtils.EMPTY);
-                throw handleClaimManagementClientError(Constant.ErrorMessage
-                        .ERROR_CODE_ATTRIBUTES_MARKED_AS_SUB_ATTRIBUTES_NOT_ALLOWED_TO_HAVE_SUB_ATTRIBUTES, BAD_REQUEST,
-                        attributeName);
-            }
+        String parentAttribute = claimIndex.getParentAttribute(claimURI);
+        if (parentAttribute != null) {
+            String attributeName = parentAttribute.replace(LOCAL_DIALECT + "/", StringUtils.EMPTY);
+            throw handleClaimManagementClientError(Constant.ErrorMessage
+                    .ERROR_CODE_ATTRIBUTES_MARKED_AS_SUB_ATTRIBUTES_NOT_ALLOWED_TO_HAVE_SUB_ATTRIBUTES, BAD_REQUEST,
+                    attributeName);
         }
     }
 
@@ -2087,7 +2322,7 @@ public class ServerClaimManagementService {
             InputFormatDTO inputFormat = new InputFormatDTO();
             inputFormat.setInputType(INPUT_TYPE_CHECKBOX);
             try {
-                String inputFormatPayload = mapper.writeValueAsString(inputFormat);
+                String inputFormatPayload = CodecRegistry.writeJson(inputFormat);
                 localClaim.getClaimProperties().putIfAbsent(PROP_INPUT_FORMAT, inputFormatPayload);
             } catch (JsonProcessingException e) {
                 throw new ClaimMetadataException(String.valueOf(Constant.ErrorMessage
@@ -2103,4 +2338,33 @@ public class ServerClaimManagementService {
         }
         return claimProperties.remove(propertyName);
     }
+
+    /**
+     * Changes to be applied to the claims of a claim dialect.
+     *
+     * @param <T> Type of the claims in the claim dialect file.
+     */
+    private static class ClaimChanges<T> {
+
+        private final Function<T, String> claimURIResolver;
+        private final List<T> claimsToAdd = new ArrayList<>();
+        private final List<T> claimsToUpdate = new ArrayList<>();
+        private final List<String> claimsToDelete = new ArrayList<>();
+        private final List<ClaimErrorDTO> errors = new ArrayList<>();
+
+        ClaimChanges(Function<T, String> claimURIResolver) {
+
+            this.claimURIResolver = claimURIResolver;
+        }
+
+        List<String> getClaimURIsToAdd() {
+
+            return claimsToAdd.stream().map(claimURIResolver).collect(Collectors.toList());
+        }
+
+        List<String> getClaimURIsToUpdate() {
+
+            return claimsToUpdate.stream().map(claimURIResolver).collect(Collectors.toList());
+        }
+    }
 }
@@ -88,8 +88,12 @@ public class ClaimManagementApiServiceImpl extends ClaimManagementApiService {
 
     @Override
     public Response updateClaimDialectFromFile(InputStream fileInputStream, Attachment fileDetail,
-                                               Boolean preserveClaims) {
+                                               Boolean preserveClaims, Boolean dryRun) {
 
+        if (Boolean.TRUE.equals(dryRun)) {
+            return Response.ok().entity(claimManagementService.getClaimDialectUpdateDiffFromFile(fileInputStream,
+                    fileDetail, preserveClaims)).build();
+        }
         String resourceId = claimManagementService.updateClaimDialectFromFile(fileInputStream, fileDetail,
                                                                               preserveClaims);
         return Response.ok().location(getResourceLocation(resourceId)).build();
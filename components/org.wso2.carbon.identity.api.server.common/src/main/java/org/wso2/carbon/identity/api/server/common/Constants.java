@@ -34,6 +34,27 @@ public class Constants {
 
     public static final String REGEX_COMMA = ",";
 
+    // Parallel task execution related constants.
+    public static final String PARALLEL_TASK_POOL_SIZE = "ServerAPI.ParallelTaskExecution.PoolSize";
+    public static final String PARALLEL_TASK_PER_REQUEST_LIMIT = "ServerAPI.ParallelTaskExecution.PerRequestLimit";
+    public static final String PARALLEL_TASK_TIMEOUT = "ServerAPI.ParallelTaskExecution.Timeout";
+
+    // Base URL resolution related constants.
+    public static final String BASE_URL_CACHE_ENABLED = "ServerAPI.BaseURLCache.Enable";
+    public static final String BASE_URL_CACHE_MAX_ENTRIES = "ServerAPI.BaseURLCache.MaxEntries";
+
+    // Tenant cache related constants.
+    public static final String TENANT_CACHE_EXPIRY_TIME = "ServerAPI.TenantCache.%s.ExpiryTime";
+    public static final String TENANT_CACHE_MAX_ENTRIES = "ServerAPI.TenantCache.%s.MaxEntries";
+    public static final String RESOURCE_TYPE_IDENTITY_PROVIDER = "IdentityProvider";
+    public static final String RESOURCE_TYPE_AUTHENTICATOR = "Authenticator";
+    public static final String RESOURCE_TYPE_CLAIM = "Claim";
+    public static final String RESOURCE_TYPE_GOVERNANCE_CONNECTOR = "GovernanceConnector";
+    public static final String RESOURCE_TYPE_BRANDING_PREFERENCE = "BrandingPreference";
+    public static final String RESOURCE_TYPE_KEYSTORE = "KeyStore";
+    public static final String RESOURCE_TYPE_PERMISSION = "Permission";
+    public static final String RESOURCE_TYPE_OIDC_SCOPE = "OIDCScope";
+
     // Export and Import related constants.
     public static final String YAML_FILE_EXTENSION = ".yml";
     public static final String JSON_FILE_EXTENSION = ".json";
@@ -24,7 +24,7 @@ import org.wso2.carbon.base.MultitenantConstants;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
-import org.wso2.carbon.identity.core.ServiceURLBuilder;
+import org.wso2.carbon.identity.api.server.common.url.BaseURLResolver;
 import org.wso2.carbon.identity.core.URLBuilderException;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 
@@ -32,7 +32,6 @@ import java.net.URI;
 
 import javax.ws.rs.core.Response;
 
-import static org.wso2.carbon.identity.api.server.common.Constants.SERVER_API_PATH_COMPONENT;
 import static org.wso2.carbon.identity.api.server.common.Constants.TENANT_NAME_FROM_CONTEXT;
 import static org.wso2.carbon.identity.application.common.util.IdentityApplicationConstants.Error.UNEXPECTED_SERVER_ERROR;
 
@@ -76,16 +75,25 @@ public class ContextLoader {
      */
     public static URI buildURIForBody(String endpoint) {
 
-        String url;
-        String context = getContext(endpoint);
+        return URI.create(buildURLForBody(endpoint));
+    }
+
+    /**
+     * Build URL prepending the server API context with the proxy context path to the endpoint. Prefer this over
+     * {@link #buildURIForBody(String)} when the URL is only needed as a string, such as the links of list items.
+     * Ex: /t/<tenant-domain>/api/server/<endpoint> or /t/<tenant-domain>/o/api/server/<endpoint>
+     *
+     * @param endpoint relative endpoint path.
+     * @return Relative URL.
+     */
+    public static String buildURLForBody(String endpoint) {
 
         try {
-            url = ServiceURLBuilder.create().addPath(context).build().getRelativePublicURL();
+            return BaseURLResolver.buildRelativeURL(endpoint);
         } catch (URLBuilderException e) {
             String errorDescription = "Server encountered an error while building URL for response body.";
             throw buildInternalServerError(e, errorDescription);
         }
-        return URI.create(url);
     }
 
     /**
@@ -98,28 +106,25 @@ public class ContextLoader {
      */
     public static URI buildURIForHeader(String endpoint) {
 
-        URI loc;
-        String context = getContext(endpoint);
-
-        try {
-            String url = ServiceURLBuilder.create().addPath(context).build().getAbsolutePublicURL();
-            loc = URI.create(url);
-        } catch (URLBuilderException e) {
-            String errorDescription = "Server encountered an error while building URL for response header.";
-            throw buildInternalServerError(e, errorDescription);
-        }
-        return loc;
+        return URI.create(buildURLForHeader(endpoint));
     }
 
     /**
-     * Builds the API context based on whether it is an organization specific or tenant specific path.
+     * Build the complete URL prepending the server API context without the proxy context path, to the endpoint.
+     * Ex: https://localhost:9443/t/<tenant-domain>/api/server/<endpoint> or
+     *     https://localhost:9443/t/<tenant-domain>/o/api/server/<endpoint>
      *
-     * @param endpoint Relative endpoint path.
-     * @return Context of the API.
+     * @param endpoint relative endpoint path.
+     * @return Fully qualified and complete URL.
      */
-    private static String getContext(String endpoint) {
+    public static String buildURLForHeader(String endpoint) {
 
-        return SERVER_API_PATH_COMPONENT + endpoint;
+        try {
+            return BaseURLResolver.buildAbsoluteURL(endpoint);
+        } catch (URLBuilderException e) {
+            String errorDescription = "Server encountered an error while building URL for response header.";
+            throw buildInternalServerError(e, errorDescription);
+        }
     }
 
     /**
@@ -17,7 +17,10 @@
 package org.wso2.carbon.identity.api.server.common;
 
 import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.slf4j.MDC;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
 
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
@@ -30,6 +33,7 @@ import java.util.UUID;
  */
 public class Util {
 
+    private static final Log LOG = LogFactory.getLog(Util.class);
     private static final String PAGE_LINK_REL_NEXT = "next";
     private static final String PAGE_LINK_REL_PREVIOUS = "previous";
     private static final String PAGINATION_LINK_FORMAT = Constants.V1_API_PATH_COMPONENT
@@ -104,9 +108,8 @@ public class Util {
 
         // Next link.
         if ((currentOffset + limit) < totalResultsFromSearch) {
-            links.put(PAGE_LINK_REL_NEXT, ContextLoader.buildURIForBody
-                    (String.format(PAGINATION_LINK_FORMAT, servicePathComponent, (currentOffset + limit), limit))
-                    .toString());
+            links.put(PAGE_LINK_REL_NEXT, ContextLoader.buildURLForBody
+                    (String.format(PAGINATION_LINK_FORMAT, servicePathComponent, (currentOffset + limit), limit)));
         }
 
         /*
@@ -115,13 +118,12 @@ public class Util {
         */
         if (currentOffset > 0) {
             if ((currentOffset - limit) >= 0) { // A previous page of size 'limit' exists.
-                links.put(PAGE_LINK_REL_PREVIOUS, ContextLoader.buildURIForBody
+                links.put(PAGE_LINK_REL_PREVIOUS, ContextLoader.buildURLForBody
                         (String.format(PAGINATION_LINK_FORMAT, servicePathComponent,
-                                calculateOffsetForPreviousLink(currentOffset, limit, totalResultsFromSearch), limit))
-                        .toString());
+                                calculateOffsetForPreviousLink(currentOffset, limit, totalResultsFromSearch), limit)));
             } else { // A previous page exists but it's size is less than the specified limit.
-                links.put(PAGE_LINK_REL_PREVIOUS, ContextLoader.buildURIForBody
-                        (String.format(PAGINATION_LINK_FORMAT, servicePathComponent, 0, currentOffset)).toString());
+                links.put(PAGE_LINK_REL_PREVIOUS, ContextLoader.buildURLForBody
+                        (String.format(PAGINATION_LINK_FORMAT, servicePathComponent, 0, currentOffset)));
             }
         }
 
@@ -155,8 +157,8 @@ public class Util {
 
         // Next link.
         if ((currentOffset + limit) < totalResultsFromSearch) {
-            links.put(PAGE_LINK_REL_NEXT, ContextLoader.buildURIForBody(String.format(PAGINATION_LINK_FORMAT,
-                    servicePathComponent, (currentOffset + limit), limit) + otherParams).toString());
+            links.put(PAGE_LINK_REL_NEXT, ContextLoader.buildURLForBody(String.format(PAGINATION_LINK_FORMAT,
+                    servicePathComponent, (currentOffset + limit), limit) + otherParams));
         }
 
         /*
@@ -165,14 +167,14 @@ public class Util {
         */
         if (currentOffset > 0) {
             if ((currentOffset - limit) >= 0) { // A previous page of size 'limit' exists.
-                links.put(PAGE_LINK_REL_PREVIOUS, ContextLoader.buildURIForBody
+                links.put(PAGE_LINK_REL_PREVIOUS, ContextLoader.buildURLForBody
                         (String.format(PAGINATION_LINK_FORMAT, servicePathComponent,
                                 calculateOffsetForPreviousLink(currentOffset, limit, totalResultsFromSearch), limit) +
-                                otherParams).toString());
+                                otherParams));
             } else { // A previous page exists but it's size is less than the specified limit.
-                links.put(PAGE_LINK_REL_PREVIOUS, ContextLoader.buildURIForBody
+                links.put(PAGE_LINK_REL_PREVIOUS, ContextLoader.buildURLForBody
                         (String.format(PAGINATION_LINK_FORMAT, servicePathComponent, 0, currentOffset) +
-                                otherParams).toString());
+                                otherParams));
             }
         }
 
@@ -213,6 +215,44 @@ public class Util {
         return Constants.MEDIA_TYPE_UNSUPPORTED;
     }
 
+    /**
+     * Read a positive integer from the identity configuration.
+     *
+     * @param property     Configuration property.
+     * @param defaultValue Value to be used when the property is not configured or is not a positive integer.
+     * @return Configured value, or the default value.
+     */
+    public static int getPositiveIntProperty(String property, int defaultValue) {
+
+        return (int) Math.min(getPositiveLongProperty(property, defaultValue), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Read a positive long from the identity configuration.
+     *
+     * @param property     Configuration property.
+     * @param defaultValue Value to be used when the property is not configured or is not a positive long.
+     * @return Configured value, or the default value.
+     */
+    public static long getPositiveLongProperty(String property, long defaultValue) {
+
+        String value = IdentityUtil.getProperty(property);
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        try {
+            long parsedValue = Long.parseLong(value.trim());
+            if (parsedValue > 0) {
+                return parsedValue;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below.
+        }
+        LOG.warn("Invalid value: " + value + " configured for " + property + ". Using the default value: " +
+                defaultValue);
+        return defaultValue;
+    }
+
     private static boolean containsValidMediaType(String fileType, String[] supportedMediaTypes) {
 
         for (String supportedMediaType : supportedMediaTypes) {
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.identity.api.server.common.codec.CodecRegistry;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+import javax.ws.rs.core.CacheControl;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.Response;
+
+import static org.wso2.carbon.identity.api.server.common.Constants.MEDIA_TYPE_JSON;
+
+/**
+ * Serialized JSON response body along with its strong entity tag, to be shared between the requests of a cacheable
+ * read endpoint.
+ *
+ * <p>The body is serialized once when the response is cached, hence the cached requests neither rebuild the response
+ * model nor serialize it again. Clients presenting the entity tag in the {@code If-None-Match} header receive a
+ * {@code 304 Not Modified} response without a body.</p>
+ */
+public class CachedResponse {
+
+    private static final String ANY_ENTITY_TAG = "*";
+    private static final String WEAK_ENTITY_TAG_PREFIX = "W/";
+    private static final String ENTITY_TAG_SEPARATOR = ",";
+
+    private final byte[] content;
+    private final EntityTag entityTag;
+
+    private CachedResponse(byte[] content) {
+
+        this.content = content;
+        this.entityTag = new EntityTag(computeDigest(content));
+    }
+
+    /**
+     * Serialize the given response entity as JSON.
+     *
+     * @param entity Response entity.
+     * @return Cached response of the entity.
+     * @throws JsonProcessingException If an error occurred while serializing the entity.
+     */
+    public static CachedResponse of(Object entity) throws JsonProcessingException {
+
+        return new CachedResponse(CodecRegistry.getObjectMapper().writeValueAsBytes(entity));
+    }
+
+    /**
+     * Get the entity tag of the response.
+     *
+     * @return Strong entity tag.
+     */
+    public EntityTag getEntityTag() {
+
+        return entityTag;
+    }
+
+    /**
+     * Check whether the given {@code If-None-Match} header value matches the entity tag of the response. Entity tags
+     * are compared with the weak comparison function, as required for the {@code If-None-Match} header.
+     *
+     * @param ifNoneMatch Value of the If-None-Match header. Can be null.
+     * @return True if the client already holds the current representation.
+     */
+    public boolean matches(String ifNoneMatch) {
+
+        if (StringUtils.isBlank(ifNoneMatch)) {
+            return false;
+        }
+        String quotedTag = "\"" + entityTag.getValue() + "\"";
+        for (String tag : ifNoneMatch.split(ENTITY_TAG_SEPARATOR)) {
+            String trimmedTag = StringUtils.removeStart(tag.trim(), WEAK_ENTITY_TAG_PREFIX);
+            if (ANY_ENTITY_TAG.equals(trimmedTag) || quotedTag.equals(trimmedTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Build the response for a request carrying the given {@code If-None-Match} header value. A {@code 304 Not
+     * Modified} response is built if the client already holds the current representation, and a {@code 200 OK}
+     * response with the serialized body otherwise. Both carry the entity tag and the cache control directives.
+     *
+     * @param ifNoneMatch   Value of the If-None-Match header. Can be null.
+     * @param maxAgeSeconds Number of seconds the clients may use the response without revalidating it. Zero requires
+     *                      the clients to revalidate the response on each use.
+     * @return Response.
+     */
+    public Response toResponse(String ifNoneMatch, int maxAgeSeconds) {
+
+        CacheControl cacheControl = new CacheControl();
+        cacheControl.setNoTransform(false);
+        if (maxAgeSeconds > 0) {
+            cacheControl.setMaxAge(maxAgeSeconds);
+        } else {
+            cacheControl.setNoCache(true);
+        }
+
+        if (matches(ifNoneMatch)) {
+            return Response.notModified(entityTag).cacheControl(cacheControl).build();
+        }
+        return Response.ok(content, MEDIA_TYPE_JSON).tag(entityTag).cacheControl(cacheControl).build();
+    }
+
+    private static String computeDigest(byte[] content) {
+
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 message digest is not available.", e);
+        }
+    }
+}
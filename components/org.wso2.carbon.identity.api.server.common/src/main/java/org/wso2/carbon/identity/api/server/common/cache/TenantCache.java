@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.identity.api.server.common.cache;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static org.wso2.carbon.identity.api.server.common.Constants.TENANT_CACHE_EXPIRY_TIME;
+import static org.wso2.carbon.identity.api.server.common.Constants.TENANT_CACHE_MAX_ENTRIES;
+
+/**
+ * Bounded, time limited cache holding one value per tenant, for the server API responses that are expensive to
+ * build and change rarely.
+ *
+ * <p>A cached value is dropped once it expires, once the tenant is invalidated, or once any of the resource types
+ * the cache depends on is reported as changed through {@link #notifyChange(String, String)}. The expiry time bounds
+ * the staleness of the changes which are not reported to this node, such as the changes made on the other nodes of
+ * a cluster. The expiry time and the maximum number of tenants can be configured per cache with the
+ * {@code ServerAPI.TenantCache.<name>.ExpiryTime} (in seconds) and {@code ServerAPI.TenantCache.<name>.MaxEntries}
+ * properties. An expiry time of zero disables the cache.</p>
+ *
+ * @param <V> Type of the cached values. The values are shared between requests, hence they should not be modified.
+ */
+public class TenantCache<V> {
+
+    private static final Log LOG = LogFactory.getLog(TenantCache.class);
+
+    private static final int DEFAULT_MAX_ENTRIES = 100;
+    private static final List<TenantCache<?>> CACHES = new CopyOnWriteArrayList<>();
+    private static final Map<String, List<Consumer<String>>> CHANGE_LISTENERS = new ConcurrentHashMap<>();
+
+    private final String name;
+    private final List<String> resourceTypes;
+    private final long expiryTimeMillis;
+    private final Map<String, Entry<V>> entries;
+
+    /**
+     * Create a tenant cache.
+     *
+     * @param name                     Name of the cache, used to read its configuration.
+     * @param defaultExpiryTimeSeconds Expiry time of the cached values, if not configured.
+     * @param resourceTypes            Types of the resources the cached values are built from.
+     */
+    public TenantCache(String name, long defaultExpiryTimeSeconds, String... resourceTypes) {
+
+        this.name = name;
+        this.resourceTypes = new ArrayList<>();
+        Collections.addAll(this.resourceTypes, resourceTypes);
+        this.expiryTimeMillis = readNonNegativeLong(String.format(TENANT_CACHE_EXPIRY_TIME, name),
+                defaultExpiryTimeSeconds) * 1000L;
+        int maxEntries = (int) readNonNegativeLong(String.format(TENANT_CACHE_MAX_ENTRIES, name),
+                DEFAULT_MAX_ENTRIES);
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<String, Entry<V>>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = -6214589312850712436L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry<V>> eldest) {
+
+                return size() > maxEntries;
+            }
+        });
+        CACHES.add(this);
+    }
+
+    /**
+     * Get the cached value of the given tenant, loading it with the given loader if it is not available.
+     * Concurrent requests of the same tenant wait for a single load, instead of loading the value in parallel.
+     *
+     * @param tenantDomain Tenant domain.
+     * @param loader       Loader of the value. Exceptions thrown by the loader are propagated to the caller.
+     * @return Value of the tenant.
+     */
+    public V get(String tenantDomain, Supplier<V> loader) {
+
+        if (expiryTimeMillis <= 0) {
+            return loader.get();
+        }
+
+        Entry<V> entry;
+        synchronized (entries) {
+            entry = entries.computeIfAbsent(tenantDomain, key -> new Entry<>());
+        }
+        synchronized (entry) {
+            long version = entry.version.get();
+            if (entry.value != null && entry.loadedVersion == version &&
+                    System.currentTimeMillis() < entry.expiryTime) {
+                return entry.value;
+            }
+            V value = loader.get();
+            // A value loaded while the tenant was being invalidated may already be stale, hence it is not cached.
+            if (entry.version.get() == version) {
+                entry.value = value;
+                entry.loadedVersion = version;
+                entry.expiryTime = System.currentTimeMillis() + expiryTimeMillis;
+            }
+            return value;
+        }
+    }
+
+    /**
+     * Drop the cached value of the given tenant.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    public void invalidate(String tenantDomain) {
+
+        Entry<V> entry = entries.get(tenantDomain);
+        if (entry != null) {
+            entry.version.incrementAndGet();
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Invalidated the " + name + " cache of the tenant: " + tenantDomain);
+        }
+    }
+
+    /**
+     * Drop the cached values of all the tenants.
+     */
+    public void clear() {
+
+        synchronized (entries) {
+            for (Entry<V> entry : entries.values()) {
+                entry.version.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Report a change of a resource of the given type, so that every cache depending on the resource type drops the
+     * cached value of the tenant, and the change listeners of the resource type are notified.
+     *
+     * @param resourceType Type of the changed resource.
+     * @param tenantDomain Tenant domain of the changed resource.
+     */
+    public static void notifyChange(String resourceType, String tenantDomain) {
+
+        for (TenantCache<?> cache : CACHES) {
+            if (cache.resourceTypes.contains(resourceType)) {
+                cache.invalidate(tenantDomain);
+            }
+        }
+        for (Consumer<String> listener : CHANGE_LISTENERS.getOrDefault(resourceType, Collections.emptyList())) {
+            try {
+                listener.accept(tenantDomain);
+            } catch (RuntimeException e) {
+                LOG.error("Error while notifying the change of the resource type: " + resourceType +
+                        " of the tenant: " + tenantDomain, e);
+            }
+        }
+    }
+
+    /**
+     * Register a listener to be notified with the tenant domain, whenever a resource of the given type is reported
+     * as changed. Listeners are invoked on the thread reporting the change, hence they should not block.
+     *
+     * @param resourceType Type of the resource.
+     * @param listener     Listener of the changes.
+     */
+    public static void addChangeListener(String resourceType, Consumer<String> listener) {
+
+        CHANGE_LISTENERS.computeIfAbsent(resourceType, key -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    private static long readNonNegativeLong(String property, long defaultValue) {
+
+        String value = IdentityUtil.getProperty(property);
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        try {
+            long parsedValue = Long.parseLong(value.trim());
+            if (parsedValue >= 0) {
+                return parsedValue;
+            }
+        } catch (NumberFormatException e) {
+            // Fall back to the default value below.
+        }
+        LOG.warn("Invalid value: " + value + " configured for " + property + ". Using the default value: "
+                + defaultValue);
+        return defaultValue;
+    }
+
+    /**
+     * Cached value of a tenant. The version is incremented on each invalidation, and a value is valid only if it was
+     * loaded at the current version.
+     */
+    private static class Entry<V> {
+
+        private final AtomicLong version = new AtomicLong();
+        private long loadedVersion = -1;
+        private long expiryTime;
+        private V value;
+    }
+}
@@ -0,0 +1,534 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common.codec;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.wso2.carbon.identity.api.server.common.lifecycle.ShutdownHooks;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.Constructor;
+import org.yaml.snakeyaml.inspector.TrustedPrefixesTagInspector;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+
+/**
+ * Registry of the serializers used by the file based import and export operations of the server APIs.
+ *
+ * <p>JAXB contexts and Jackson object mappers are thread safe and expensive to build, hence they are built once and
+ * shared. The Jackson readers and writers of the frequently converted types are cached as well, so the root
+ * (de)serializers of those types are resolved only once. JAXB marshallers, unmarshallers and SnakeYAML instances are
+ * not thread safe, hence each of them is borrowed from a bounded pool for a single operation and returned once the
+ * operation succeeds.</p>
+ *
+ * <p>The cached instances refer to the classes of the APIs, hence they are dropped when the server APIs are stopped,
+ * so that the class loaders of the undeployed APIs are not retained.</p>
+ */
+public class CodecRegistry {
+
+    /**
+     * Type of the JSON objects converted to generic maps.
+     */
+    public static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<Map<String, Object>>() {
+    };
+
+    /**
+     * Type of the JSON objects converted to maps of string values.
+     */
+    public static final TypeReference<Map<String, String>> STRING_MAP_TYPE =
+            new TypeReference<Map<String, String>>() {
+            };
+
+    private static final ObjectMapper DEFAULT_OBJECT_MAPPER = new ObjectMapper(new JsonFactory());
+
+    private static final Map<String, JAXBContext> JAXB_CONTEXTS = new ConcurrentHashMap<>();
+    private static final Map<String, ObjectMapper> OBJECT_MAPPERS = new ConcurrentHashMap<>();
+    private static final Map<Type, ObjectReader> OBJECT_READERS = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, ObjectWriter> OBJECT_WRITERS = new ConcurrentHashMap<>();
+
+    private static final int MAX_POOLED_INSTANCES = 16;
+    private static final Map<String, BlockingQueue<Marshaller>> MARSHALLERS = new ConcurrentHashMap<>();
+    private static final Map<String, BlockingQueue<Unmarshaller>> UNMARSHALLERS = new ConcurrentHashMap<>();
+    private static final Map<String, BlockingQueue<Yaml>> YAML_INSTANCES = new ConcurrentHashMap<>();
+
+    private static final AtomicBoolean SHUTDOWN_HOOK_REGISTERED = new AtomicBoolean();
+
+    private CodecRegistry() {
+
+    }
+
+    /**
+     * Get the shared JAXB context bound to the given classes.
+     *
+     * @param boundClasses Classes to be recognized by the context.
+     * @return JAXB context.
+     * @throws JAXBException If an error occurred while building the context.
+     */
+    public static JAXBContext getJAXBContext(Class<?>... boundClasses) throws JAXBException {
+
+        String key = buildKey(boundClasses);
+        JAXBContext jaxbContext = JAXB_CONTEXTS.get(key);
+        if (jaxbContext == null) {
+            registerShutdownHook();
+            jaxbContext = JAXBContext.newInstance(boundClasses);
+            JAXBContext existingContext = JAXB_CONTEXTS.putIfAbsent(key, jaxbContext);
+            if (existingContext != null) {
+                jaxbContext = existingContext;
+            }
+        }
+        return jaxbContext;
+    }
+
+    /**
+     * Marshal the given object to a formatted XML string.
+     *
+     * @param source       Object to be marshalled.
+     * @param boundClasses Classes to be recognized by the JAXB context.
+     * @return XML string.
+     * @throws JAXBException If an error occurred while marshalling.
+     */
+    public static String marshalToXml(Object source, Class<?>... boundClasses) throws JAXBException {
+
+        return marshalToXml(source, (Marshaller.Listener) null, boundClasses);
+    }
+
+    /**
+     * Marshal the given object to a formatted XML string.
+     *
+     * @param source       Object to be marshalled.
+     * @param listener     Marshaller listener to be used for this invocation. Can be null.
+     * @param boundClasses Classes to be recognized by the JAXB context.
+     * @return XML string.
+     * @throws JAXBException If an error occurred while marshalling.
+     */
+    public static String marshalToXml(Object source, Marshaller.Listener listener, Class<?>... boundClasses)
+            throws JAXBException {
+
+        StringWriter stringWriter = new StringWriter();
+        marshalToXml(source, stringWriter, listener, boundClasses);
+        return stringWriter.toString();
+    }
+
+    /**
+     * Marshal the given object as formatted XML to the given writer.
+     *
+     * @param source       Object to be marshalled.
+     * @param writer       Writer to write the XML content to.
+     * @param listener     Marshaller listener to be used for this invocation. Can be null.
+     * @param boundClasses Classes to be recognized by the JAXB context.
+     * @throws JAXBException If an error occurred while marshalling.
+     */
+    public static void marshalToXml(Object source, Writer writer, Marshaller.Listener listener,
+                                    Class<?>... boundClasses) throws JAXBException {
+
+        String key = buildKey(boundClasses);
+        Marshaller marshaller = borrowMarshaller(key, boundClasses);
+        marshaller.setListener(listener);
+        marshaller.marshal(source, writer);
+        marshaller.setListener(null);
+        release(MARSHALLERS, key, marshaller);
+    }
+
+    /**
+     * Marshal the given object as formatted, UTF-8 encoded XML to the given output stream.
+     *
+     * @param source       Object to be marshalled.
+     * @param outputStream Output stream to write the XML content to.
+     * @param listener     Marshaller listener to be used for this invocation. Can be null.
+     * @param boundClasses Classes to be recognized by the JAXB context.
+     * @throws JAXBException If an error occurred while marshalling.
+     */
+    public static void marshalToXml(Object source, OutputStream outputStream, Marshaller.Listener listener,
+                                    Class<?>... boundClasses) throws JAXBException {
+
+        String key = buildKey(boundClasses);
+        Marshaller marshaller = borrowMarshaller(key, boundClasses);
+        marshaller.setListener(listener);
+        marshaller.marshal(source, outputStream);
+        marshaller.setListener(null);
+        release(MARSHALLERS, key, marshaller);
+    }
+
+    /**
+     * Unmarshal the given XML string.
+     *
+     * @param content      XML content.
+     * @param type         Expected type of the unmarshalled object.
+     * @param boundClasses Classes to be recognized by the JAXB context.
+     * @param <T>          Expected type of the unmarshalled object.
+     * @return Unmarshalled object.
+     * @throws JAXBException If an error occurred while unmarshalling.
+     */
+    public static <T> T unmarshalFromXml(String content, Class<T> type, Class<?>... boundClasses)
+            throws JAXBException {
+
+        return unmarshalFromXml(new StringReader(content), type, boundClasses);
+    }
+
+    /**
+     * Unmarshal the XML content of the given reader.
+     *
+     * @param reader       Reader of the XML content.
+     * @param type         Expected type of the unmarshalled object.
+     * @param boundClasses Classes to be recognized by the JAXB context.
+     * @param <T>          Expected type of the unmarshalled object.
+     * @return Unmarshalled object.
+     * @throws JAXBException If an error occurred while unmarshalling.
+     */
+    public static <T> T unmarshalFromXml(Reader reader, Class<T> type, Class<?>... boundClasses)
+            throws JAXBException {
+
+        Class<?>[] contextClasses = boundClasses.length == 0 ? new Class<?>[]{type} : boundClasses;
+        String key = buildKey(contextClasses);
+        Unmarshaller unmarshaller = borrowUnmarshaller(key, contextClasses);
+        T value = type.cast(unmarshaller.unmarshal(reader));
+        release(UNMARSHALLERS, key, unmarshaller);
+        return value;
+    }
+
+    /**
+     * Unmarshal the XML content of the given input stream.
+     *
+     * @param inputStream  Input stream of the XML content.
+     * @param type         Expected type of the unmarshalled object.
+     * @param boundClasses Classes to be recognized by the JAXB context.
+     * @param <T>          Expected type of the unmarshalled object.
+     * @return Unmarshalled object.
+     * @throws JAXBException If an error occurred while unmarshalling.
+     */
+    public static <T> T unmarshalFromXml(InputStream inputStream, Class<T> type, Class<?>... boundClasses)
+            throws JAXBException {
+
+        Class<?>[] contextClasses = boundClasses.length == 0 ? new Class<?>[]{type} : boundClasses;
+        String key = buildKey(contextClasses);
+        Unmarshaller unmarshaller = borrowUnmarshaller(key, contextClasses);
+        T value = type.cast(unmarshaller.unmarshal(inputStream));
+        release(UNMARSHALLERS, key, unmarshaller);
+        return value;
+    }
+
+    /**
+     * Get the shared object mapper with the default configuration.
+     *
+     * @return Object mapper.
+     */
+    public static ObjectMapper getObjectMapper() {
+
+        return DEFAULT_OBJECT_MAPPER;
+    }
+
+    /**
+     * Get the shared object mapper which has the given subtypes registered.
+     *
+     * @param subtypes Subtypes to be registered in the object mapper.
+     * @return Object mapper.
+     */
+    public static ObjectMapper getObjectMapper(Class<?>... subtypes) {
+
+        if (subtypes.length == 0) {
+            return DEFAULT_OBJECT_MAPPER;
+        }
+        return OBJECT_MAPPERS.computeIfAbsent(buildKey(subtypes), key -> {
+            registerShutdownHook();
+            ObjectMapper objectMapper = new ObjectMapper(new JsonFactory());
+            objectMapper.registerSubtypes(subtypes);
+            return objectMapper;
+        });
+    }
+
+    /**
+     * Get the shared reader of the given type, built with the default object mapper configuration.
+     *
+     * @param type Type of the values to be read.
+     * @return Object reader.
+     */
+    public static ObjectReader getReader(Class<?> type) {
+
+        return OBJECT_READERS.computeIfAbsent(type, key -> {
+            registerShutdownHook();
+            return DEFAULT_OBJECT_MAPPER.readerFor(type);
+        });
+    }
+
+    /**
+     * Get the shared reader of the given generic type, built with the default object mapper configuration.
+     *
+     * @param type Type of the values to be read.
+     * @return Object reader.
+     */
+    public static ObjectReader getReader(TypeReference<?> type) {
+
+        return OBJECT_READERS.computeIfAbsent(type.getType(), key -> {
+            registerShutdownHook();
+            return DEFAULT_OBJECT_MAPPER.readerFor(type);
+        });
+    }
+
+    /**
+     * Get the shared writer of the given type, built with the default object mapper configuration. The serializer
+     * is resolved for the given type, hence the writer should only be used for the values of exactly that type.
+     *
+     * @param type Type of the values to be written.
+     * @return Object writer.
+     */
+    public static ObjectWriter getWriter(Class<?> type) {
+
+        return OBJECT_WRITERS.computeIfAbsent(type, key -> {
+            registerShutdownHook();
+            return DEFAULT_OBJECT_MAPPER.writerFor(type);
+        });
+    }
+
+    /**
+     * Read the given JSON content as a value of the given type.
+     *
+     * @param content JSON content.
+     * @param type    Type of the value.
+     * @param <T>     Type of the value.
+     * @return Value read from the content.
+     * @throws IOException If the content is not a valid JSON representation of the type.
+     */
+    public static <T> T readJson(String content, Class<T> type) throws IOException {
+
+        return getReader(type).readValue(content);
+    }
+
+    /**
+     * Read the given JSON content as a value of the given generic type.
+     *
+     * @param content JSON content.
+     * @param type    Type of the value.
+     * @param <T>     Type of the value.
+     * @return Value read from the content.
+     * @throws IOException If the content is not a valid JSON representation of the type.
+     */
+    public static <T> T readJson(String content, TypeReference<T> type) throws IOException {
+
+        return getReader(type).readValue(content);
+    }
+
+    /**
+     * Write the given value as a JSON string with the default object mapper configuration.
+     *
+     * @param value Value to be written.
+     * @return JSON string.
+     * @throws JsonProcessingException If an error occurred while serializing the value.
+     */
+    public static String writeJson(Object value) throws JsonProcessingException {
+
+        return DEFAULT_OBJECT_MAPPER.writeValueAsString(value);
+    }
+
+    /**
+     * Convert the given value to the given type through the default object mapper, without serializing it.
+     *
+     * @param value Value to be converted.
+     * @param type  Target type.
+     * @param <T>   Target type.
+     * @return Converted value.
+     */
+    public static <T> T convertValue(Object value, Class<T> type) {
+
+        return DEFAULT_OBJECT_MAPPER.convertValue(value, type);
+    }
+
+    /**
+     * Convert the given value to the given generic type through the default object mapper, without serializing it.
+     *
+     * @param value Value to be converted.
+     * @param type  Target type.
+     * @param <T>   Target type.
+     * @return Converted value.
+     */
+    public static <T> T convertValue(Object value, TypeReference<T> type) {
+
+        return DEFAULT_OBJECT_MAPPER.convertValue(value, type);
+    }
+
+    /**
+     * Dump the given data as YAML, with a YAML instance registered against the given key.
+     *
+     * @param key     Key identifying the YAML configuration.
+     * @param factory Factory to build the YAML instance, when no pooled instance is available.
+     * @param data    Data to be dumped.
+     * @return YAML string.
+     */
+    public static String dumpYaml(String key, Supplier<Yaml> factory, Object data) {
+
+        Yaml yaml = borrowYaml(key, factory);
+        String content = yaml.dump(data);
+        release(YAML_INSTANCES, key, yaml);
+        return content;
+    }
+
+    /**
+     * Dump the given data as YAML to the given writer, with a YAML instance registered against the given key.
+     *
+     * @param key     Key identifying the YAML configuration.
+     * @param factory Factory to build the YAML instance, when no pooled instance is available.
+     * @param data    Data to be dumped.
+     * @param writer  Writer to write the YAML content to.
+     */
+    public static void dumpYaml(String key, Supplier<Yaml> factory, Object data, Writer writer) {
+
+        Yaml yaml = borrowYaml(key, factory);
+        yaml.dump(data, writer);
+        release(YAML_INSTANCES, key, yaml);
+    }
+
+    /**
+     * Load the given YAML content as the given root type, trusting only the tags of the root type and the given types.
+     *
+     * @param content      YAML content.
+     * @param rootType     Root type of the YAML document.
+     * @param trustedTypes Additional types whose tags are trusted.
+     * @param <T>          Root type of the YAML document.
+     * @return Loaded object.
+     */
+    public static <T> T loadYaml(String content, Class<T> rootType, Class<?>... trustedTypes) {
+
+        return loadYaml(new StringReader(content), rootType, trustedTypes);
+    }
+
+    /**
+     * Load the YAML content of the given reader as the given root type, trusting only the tags of the root type and
+     * the given types.
+     *
+     * @param reader       Reader of the YAML content.
+     * @param rootType     Root type of the YAML document.
+     * @param trustedTypes Additional types whose tags are trusted.
+     * @param <T>          Root type of the YAML document.
+     * @return Loaded object.
+     */
+    public static <T> T loadYaml(Reader reader, Class<T> rootType, Class<?>... trustedTypes) {
+
+        List<Class<?>> types = new ArrayList<>();
+        types.add(rootType);
+        types.addAll(Arrays.asList(trustedTypes));
+        String key = "loader:" + buildKey(types.toArray(new Class<?>[0]));
+
+        Yaml yaml = borrowYaml(key, () -> {
+            List<String> trustedTagList = types.stream().map(Class::getName).collect(Collectors.toList());
+            LoaderOptions loaderOptions = new LoaderOptions();
+            loaderOptions.setTagInspector(new TrustedPrefixesTagInspector(trustedTagList));
+            return new Yaml(new Constructor(rootType, loaderOptions));
+        });
+        T value = yaml.loadAs(reader, rootType);
+        release(YAML_INSTANCES, key, yaml);
+        return value;
+    }
+
+    /**
+     * Drop the cached contexts, mappers and pooled instances.
+     */
+    public static void clear() {
+
+        SHUTDOWN_HOOK_REGISTERED.set(false);
+        JAXB_CONTEXTS.clear();
+        OBJECT_MAPPERS.clear();
+        OBJECT_READERS.clear();
+        OBJECT_WRITERS.clear();
+        MARSHALLERS.clear();
+        UNMARSHALLERS.clear();
+        YAML_INSTANCES.clear();
+    }
+
+    private static Marshaller borrowMarshaller(String key, Class<?>... boundClasses) throws JAXBException {
+
+        Marshaller marshaller = borrow(MARSHALLERS, key);
+        if (marshaller == null) {
+            marshaller = getJAXBContext(boundClasses).createMarshaller();
+            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        }
+        return marshaller;
+    }
+
+    private static Unmarshaller borrowUnmarshaller(String key, Class<?>... boundClasses) throws JAXBException {
+
+        Unmarshaller unmarshaller = borrow(UNMARSHALLERS, key);
+        return unmarshaller != null ? unmarshaller : getJAXBContext(boundClasses).createUnmarshaller();
+    }
+
+    private static Yaml borrowYaml(String key, Supplier<Yaml> factory) {
+
+        Yaml yaml = borrow(YAML_INSTANCES, key);
+        return yaml != null ? yaml : factory.get();
+    }
+
+    private static <T> T borrow(Map<String, BlockingQueue<T>> pools, String key) {
+
+        BlockingQueue<T> pool = pools.get(key);
+        return pool != null ? pool.poll() : null;
+    }
+
+    /**
+     * Return the given instance to its pool. Instances are returned only after a successful operation, as the state
+     * of an instance which failed midway is unknown. Instances beyond the capacity of the pool are discarded.
+     *
+     * @param pools    Pools of the instances, by key.
+     * @param key      Key identifying the configuration of the instance.
+     * @param instance Instance to be returned.
+     * @param <T>      Type of the instance.
+     */
+    private static <T> void release(Map<String, BlockingQueue<T>> pools, String key, T instance) {
+
+        pools.computeIfAbsent(key, k -> {
+            registerShutdownHook();
+            return new LinkedBlockingQueue<>(MAX_POOLED_INSTANCES);
+        }).offer(instance);
+    }
+
+    private static void registerShutdownHook() {
+
+        if (!SHUTDOWN_HOOK_REGISTERED.get() && SHUTDOWN_HOOK_REGISTERED.compareAndSet(false, true)) {
+            ShutdownHooks.register(CodecRegistry::clear);
+        }
+    }
+
+    private static String buildKey(Class<?>... classes) {
+
+        return Arrays.stream(classes).map(Class::getName).collect(Collectors.joining(","));
+    }
+}
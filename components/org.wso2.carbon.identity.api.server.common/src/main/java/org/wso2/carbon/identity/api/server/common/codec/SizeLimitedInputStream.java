@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common.codec;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Input stream which fails once more than the allowed number of bytes are read from the underlying stream.
+ * Parsers tend to wrap the IO errors of the source stream, hence {@link #isLimitExceeded()} can be used to identify
+ * whether a parsing failure was caused by the size limit.
+ */
+public class SizeLimitedInputStream extends FilterInputStream {
+
+    private final long maxSize;
+    private long readCount;
+    private long markedCount;
+    private boolean limitExceeded;
+
+    /**
+     * Create a size limited input stream.
+     *
+     * @param in      Underlying input stream.
+     * @param maxSize Maximum number of bytes allowed to be read. A non-positive value disables the limit.
+     */
+    public SizeLimitedInputStream(InputStream in, long maxSize) {
+
+        super(in);
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public int read() throws IOException {
+
+        int value = super.read();
+        if (value != -1) {
+            count(1);
+        }
+        return value;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+
+        int readLength = super.read(buffer, offset, length);
+        if (readLength > 0) {
+            count(readLength);
+        }
+        return readLength;
+    }
+
+    @Override
+    public long skip(long length) throws IOException {
+
+        long skipped = super.skip(length);
+        count(skipped);
+        return skipped;
+    }
+
+    @Override
+    public synchronized void mark(int readLimit) {
+
+        super.mark(readLimit);
+        markedCount = readCount;
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+
+        super.reset();
+        readCount = markedCount;
+    }
+
+    /**
+     * Check whether the reader attempted to read beyond the allowed size.
+     *
+     * @return True if the size limit was exceeded.
+     */
+    public boolean isLimitExceeded() {
+
+        return limitExceeded;
+    }
+
+    /**
+     * Get the maximum number of bytes allowed to be read.
+     *
+     * @return Maximum size in bytes.
+     */
+    public long getMaxSize() {
+
+        return maxSize;
+    }
+
+    private void count(long length) throws IOException {
+
+        readCount += length;
+        if (maxSize > 0 && readCount > maxSize) {
+            limitExceeded = true;
+            throw new IOException("Input exceeds the maximum allowed size of " + maxSize + " bytes.");
+        }
+    }
+}
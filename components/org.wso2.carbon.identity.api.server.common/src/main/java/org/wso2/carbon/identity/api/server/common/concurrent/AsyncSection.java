@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common.concurrent;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.api.server.common.Constants;
+import org.wso2.carbon.identity.api.server.common.Util;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Independent section of an aggregated server API response, fetched concurrently with the other sections on the
+ * {@link TenantAwareExecutor}.
+ *
+ * <p>Sections are submitted first and joined afterwards, so the latency of the response is bounded by the slowest
+ * section instead of the sum of all sections. Each join waits at most for the given timeout, measured from the time
+ * the section was submitted. Required sections are joined with {@link #join(long)}, which propagates the failure of
+ * the section, while optional sections are joined with {@link #joinOrDefault(Object, long)}, which falls back to a
+ * default value so that the rest of the response can still be served.</p>
+ *
+ * @param <T> Type of the section.
+ */
+public class AsyncSection<T> {
+
+    private static final Log LOG = LogFactory.getLog(AsyncSection.class);
+
+    private static final long DEFAULT_TIMEOUT = 10000;
+
+    private final String name;
+    private final Future<T> future;
+    private final long submittedTime;
+
+    private AsyncSection(String name, Future<T> future, long submittedTime) {
+
+        this.name = name;
+        this.future = future;
+        this.submittedTime = submittedTime;
+    }
+
+    /**
+     * Start fetching a section with the context of the calling thread.
+     *
+     * @param name Name of the section, used for logging.
+     * @param task Task fetching the section.
+     * @param <T>  Type of the section.
+     * @return Section being fetched.
+     */
+    public static <T> AsyncSection<T> submit(String name, Callable<T> task) {
+
+        // Taken before submitting, as the task runs inline when submitted from a worker thread.
+        long submittedTime = System.currentTimeMillis();
+        return new AsyncSection<>(name, TenantAwareExecutor.submit(task), submittedTime);
+    }
+
+    /**
+     * Get the configured timeout of the section. The timeout can be configured per section with the
+     * {@code ServerAPI.ParallelTaskExecution.Timeout.<name>} property, and for all the sections with the
+     * {@code ServerAPI.ParallelTaskExecution.Timeout} property, in milliseconds.
+     *
+     * @return Timeout in milliseconds.
+     */
+    public long getTimeout() {
+
+        return Util.getPositiveLongProperty(Constants.PARALLEL_TASK_TIMEOUT + "." + name,
+                Util.getPositiveLongProperty(Constants.PARALLEL_TASK_TIMEOUT, DEFAULT_TIMEOUT));
+    }
+
+    /**
+     * Wait for the section, using the configured timeout of the section.
+     *
+     * @return Section.
+     * @see #join(long)
+     */
+    public T join() {
+
+        return join(getTimeout());
+    }
+
+    /**
+     * Wait for the section. Runtime exceptions thrown by the section, including the API errors, are propagated as
+     * they are.
+     *
+     * @param timeoutMillis Maximum time to wait for the section, since it was submitted.
+     * @return Section.
+     * @throws AsyncSectionException If the section timed out, was interrupted or failed with a checked exception.
+     */
+    public T join(long timeoutMillis) {
+
+        long remainingTime = submittedTime + timeoutMillis - System.currentTimeMillis();
+        try {
+            return future.get(Math.max(remainingTime, 0), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new AsyncSectionException("Error while fetching the section: " + name, e.getCause());
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new AsyncSectionException("Timed out after " + timeoutMillis + "ms while fetching the section: " +
+                    name, e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new AsyncSectionException("Interrupted while fetching the section: " + name, e);
+        }
+    }
+
+    /**
+     * Wait for the section, using the configured timeout of the section, and fall back to the given value if the
+     * section fails.
+     *
+     * @param defaultValue Value to be returned if the section fails or times out.
+     * @return Section, or the default value.
+     * @see #joinOrDefault(Object, long)
+     */
+    public T joinOrDefault(T defaultValue) {
+
+        return joinOrDefault(defaultValue, getTimeout());
+    }
+
+    /**
+     * Wait for the section, and fall back to the given value if the section fails or times out. The failure is
+     * logged, as it is not reported to the client.
+     *
+     * @param defaultValue  Value to be returned if the section fails or times out.
+     * @param timeoutMillis Maximum time to wait for the section, since it was submitted.
+     * @return Section, or the default value.
+     */
+    public T joinOrDefault(T defaultValue, long timeoutMillis) {
+
+        try {
+            return join(timeoutMillis);
+        } catch (RuntimeException e) {
+            if (Thread.currentThread().isInterrupted()) {
+                throw e;
+            }
+            LOG.error("Error while fetching the section: " + name + ". The section is omitted from the response.",
+                    e);
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Runtime exception thrown when a section could not be fetched.
+     */
+    public static class AsyncSectionException extends RuntimeException {
+
+        private static final long serialVersionUID = 3219845618523452310L;
+
+        public AsyncSectionException(String message, Throwable cause) {
+
+            super(message, cause);
+        }
+    }
+}
@@ -0,0 +1,278 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common.concurrent;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.slf4j.MDC;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.api.server.common.Constants;
+import org.wso2.carbon.identity.api.server.common.Util;
+import org.wso2.carbon.identity.core.context.IdentityContext;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded executor shared by the server APIs to fan out independent backend calls of a single request.
+ * Tasks run with the tenant, organization, user, identity context, thread local properties and correlation id of the
+ * submitting thread, so the OSGi services invoked from the worker threads see the same context as the request thread.
+ *
+ * <p>Work submitted from a task that is already running on a worker thread is executed inline on that thread. The
+ * workers would otherwise block waiting for child tasks queued behind them, and the pool would starve.</p>
+ */
+public class TenantAwareExecutor {
+
+    private static final Log LOG = LogFactory.getLog(TenantAwareExecutor.class);
+
+    private static final String THREAD_NAME_PREFIX = "server-api-worker-";
+    private static final int DEFAULT_POOL_SIZE = 20;
+    private static final int DEFAULT_PARALLELISM = 8;
+    private static final int QUEUE_CAPACITY = 1000;
+
+    private static final ExecutorService EXECUTOR = createExecutor();
+
+    private TenantAwareExecutor() {
+
+    }
+
+    /**
+     * Get the maximum number of worker threads a single request may occupy at once.
+     *
+     * @return Per request parallelism.
+     */
+    public static int getParallelism() {
+
+        return Util.getPositiveIntProperty(Constants.PARALLEL_TASK_PER_REQUEST_LIMIT, DEFAULT_PARALLELISM);
+    }
+
+    /**
+     * Run the given tasks concurrently, using at most {@link #getParallelism()} worker threads, and return their
+     * results in the order of the tasks.
+     *
+     * @param tasks Tasks to be executed.
+     * @param <T>   Result type of the tasks.
+     * @return Results of the tasks, in task order.
+     * @throws ExecutionException   If any of the tasks failed. The cause holds the exception thrown by the task.
+     * @throws InterruptedException If the calling thread was interrupted while waiting for the results.
+     */
+    public static <T> List<T> invokeAll(List<? extends Callable<T>> tasks)
+            throws ExecutionException, InterruptedException {
+
+        return invokeAll(tasks, getParallelism());
+    }
+
+    /**
+     * Run the given tasks concurrently, using at most the given number of worker threads, and return their results
+     * in the order of the tasks.
+     *
+     * @param tasks       Tasks to be executed.
+     * @param parallelism Maximum number of worker threads to be used for the tasks.
+     * @param <T>         Result type of the tasks.
+     * @return Results of the tasks, in task order.
+     * @throws ExecutionException   If any of the tasks failed. The cause holds the exception thrown by the task.
+     * @throws InterruptedException If the calling thread was interrupted while waiting for the results.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> List<T> invokeAll(List<? extends Callable<T>> tasks, int parallelism)
+            throws ExecutionException, InterruptedException {
+
+        int taskCount = tasks.size();
+        Object[] results = new Object[taskCount];
+        int workerCount = Math.min(Math.max(parallelism, 1), taskCount);
+
+        if (workerCount <= 1 || isWorkerThread()) {
+            for (int i = 0; i < taskCount; i++) {
+                try {
+                    results[i] = tasks.get(i).call();
+                } catch (Exception e) {
+                    throw new ExecutionException(e);
+                }
+            }
+            return (List<T>) Arrays.asList(results);
+        }
+
+        // Each worker keeps picking the next pending task, so a request never holds more than workerCount threads.
+        AtomicInteger nextTask = new AtomicInteger();
+        Callable<Void> worker = () -> {
+            int index;
+            while ((index = nextTask.getAndIncrement()) < taskCount) {
+                results[index] = tasks.get(index).call();
+            }
+            return null;
+        };
+
+        List<Future<Void>> futures = new ArrayList<>(workerCount);
+        try {
+            for (int i = 0; i < workerCount; i++) {
+                futures.add(EXECUTOR.submit(wrap(worker)));
+            }
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException | InterruptedException | RuntimeException e) {
+            // Stop handing out the remaining tasks and abandon the in-flight ones.
+            nextTask.set(taskCount);
+            for (Future<Void> future : futures) {
+                future.cancel(true);
+            }
+            throw e;
+        }
+        return (List<T>) Arrays.asList(results);
+    }
+
+    /**
+     * Submit a single task to the shared executor, carrying over the context of the calling thread.
+     *
+     * @param task Task to be executed.
+     * @param <T>  Result type of the task.
+     * @return Future of the task.
+     */
+    public static <T> Future<T> submit(Callable<T> task) {
+
+        if (isWorkerThread()) {
+            FutureTask<T> future = new FutureTask<>(task);
+            future.run();
+            return future;
+        }
+        return EXECUTOR.submit(wrap(task));
+    }
+
+    /**
+     * Check whether the calling thread is a worker thread of the shared executor.
+     *
+     * @return True if called from a task running on the shared executor.
+     */
+    public static boolean isWorkerThread() {
+
+        return Thread.currentThread() instanceof WorkerThread;
+    }
+
+    /**
+     * Wrap the given task so that it runs with the tenant, organization, user, identity context, thread local
+     * properties and correlation id of the calling thread. The previous context of the executing thread is restored
+     * once the task completes, which keeps the wrapper safe to run on the calling thread itself.
+     *
+     * @param task Task to be wrapped.
+     * @param <T>  Result type of the task.
+     * @return Context aware task.
+     */
+    public static <T> Callable<T> wrap(Callable<T> task) {
+
+        PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+        String tenantDomain = carbonContext.getTenantDomain();
+        int tenantId = carbonContext.getTenantId();
+        String username = carbonContext.getUsername();
+        String userId = carbonContext.getUserId();
+        String organizationId = carbonContext.getOrganizationId();
+        IdentityContext identityContext = IdentityContext.getThreadLocalIdentityContext();
+        Map<String, Object> threadLocalProperties = new HashMap<>(IdentityUtil.threadLocalProperties.get());
+        String correlationId = MDC.get(Constants.CORRELATION_ID_MDC);
+
+        return () -> {
+            Map<String, Object> previousProperties = IdentityUtil.threadLocalProperties.get();
+            String previousCorrelationId = MDC.get(Constants.CORRELATION_ID_MDC);
+            // The identity context can not be restored once replaced, hence it is only set on other threads.
+            boolean foreignThread = IdentityContext.getThreadLocalIdentityContext() != identityContext;
+            try {
+                PrivilegedCarbonContext.startTenantFlow();
+                PrivilegedCarbonContext context = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+                context.setTenantDomain(tenantDomain);
+                context.setTenantId(tenantId);
+                context.setUsername(username);
+                context.setUserId(userId);
+                context.setOrganizationId(organizationId);
+                if (foreignThread) {
+                    copyIdentityContext(identityContext);
+                }
+                IdentityUtil.threadLocalProperties.set(new HashMap<>(threadLocalProperties));
+                if (correlationId != null) {
+                    MDC.put(Constants.CORRELATION_ID_MDC, correlationId);
+                }
+                return task.call();
+            } finally {
+                PrivilegedCarbonContext.endTenantFlow();
+                if (foreignThread) {
+                    IdentityContext.destroyCurrentContext();
+                }
+                IdentityUtil.threadLocalProperties.set(previousProperties);
+                if (previousCorrelationId != null) {
+                    MDC.put(Constants.CORRELATION_ID_MDC, previousCorrelationId);
+                } else {
+                    MDC.remove(Constants.CORRELATION_ID_MDC);
+                }
+            }
+        };
+    }
+
+    private static void copyIdentityContext(IdentityContext source) {
+
+        IdentityContext.destroyCurrentContext();
+        IdentityContext target = IdentityContext.getThreadLocalIdentityContext();
+        if (source.getRootOrganization() != null) {
+            target.setRootOrganization(source.getRootOrganization());
+        }
+        if (source.getOrganization() != null) {
+            target.setOrganization(source.getOrganization());
+        }
+        if (source.getActor() != null) {
+            target.setActor(source.getActor());
+        }
+    }
+
+    private static ExecutorService createExecutor() {
+
+        int poolSize = Util.getPositiveIntProperty(Constants.PARALLEL_TASK_POOL_SIZE, DEFAULT_POOL_SIZE);
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new WorkerThread(runnable, THREAD_NAME_PREFIX + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(QUEUE_CAPACITY), threadFactory, new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Worker thread of the shared executor, used to identify the work submitted from within a task.
+     */
+    private static class WorkerThread extends Thread {
+
+        WorkerThread(Runnable runnable, String name) {
+
+            super(runnable, name);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common.lifecycle;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.cxf.Bus;
+import org.apache.cxf.BusFactory;
+import org.apache.cxf.buslifecycle.BusLifeCycleListener;
+import org.apache.cxf.buslifecycle.BusLifeCycleManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs the registered tasks when the server API webapp is stopped, so that the threads and the class references held
+ * by the static state of the APIs are released on undeployment.
+ *
+ * <p>The server APIs are not OSGi components, hence the shutdown of the CXF bus serving the APIs is used as their
+ * deactivation. The bus is resolved from the request thread registering the task.</p>
+ */
+public final class ShutdownHooks {
+
+    private static final Log LOG = LogFactory.getLog(ShutdownHooks.class);
+
+    private static final List<Runnable> TASKS = new ArrayList<>();
+    private static Bus registeredBus;
+
+    private ShutdownHooks() {
+
+    }
+
+    /**
+     * Register a task to be run once the server API webapp is stopped.
+     *
+     * @param task Task releasing the resources of an API.
+     */
+    public static synchronized void register(Runnable task) {
+
+        TASKS.add(task);
+        Bus bus = BusFactory.getThreadDefaultBus(false);
+        if (bus == null) {
+            bus = BusFactory.getDefaultBus(false);
+        }
+        if (bus == null || bus == registeredBus) {
+            return;
+        }
+        BusLifeCycleManager lifeCycleManager = bus.getExtension(BusLifeCycleManager.class);
+        if (lifeCycleManager == null) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("The bus of the server APIs does not support lifecycle listeners.");
+            }
+            return;
+        }
+        lifeCycleManager.registerLifeCycleListener(new BusLifeCycleListener() {
+
+            @Override
+            public void initComplete() {
+
+            }
+
+            @Override
+            public void preShutdown() {
+
+            }
+
+            @Override
+            public void postShutdown() {
+
+                runTasks();
+            }
+        });
+        registeredBus = bus;
+    }
+
+    /**
+     * Run the registered tasks. The tasks are run once.
+     */
+    public static void runTasks() {
+
+        List<Runnable> tasks;
+        synchronized (ShutdownHooks.class) {
+            tasks = new ArrayList<>(TASKS);
+            TASKS.clear();
+            registeredBus = null;
+        }
+        for (Runnable task : tasks) {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                LOG.error("Error while releasing the resources of the server APIs.", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common.report;
+
+import org.apache.commons.lang.StringUtils;
+
+import static org.wso2.carbon.identity.api.server.common.Constants.MEDIA_TYPE_JSON;
+
+/**
+ * Formats the user reports of the server APIs can be served in. Newline delimited JSON and CSV reports are written
+ * to the response row by row, hence the whole report is never held in memory as a single document.
+ */
+public enum ReportFormat {
+
+    JSON(MEDIA_TYPE_JSON),
+    NDJSON("application/x-ndjson"),
+    CSV("text/csv");
+
+    private final String mediaType;
+
+    ReportFormat(String mediaType) {
+
+        this.mediaType = mediaType;
+    }
+
+    public String getMediaType() {
+
+        return mediaType;
+    }
+
+    /**
+     * Resolve the report format from the Accept header of the request. JSON is used unless one of the streaming
+     * formats is explicitly requested.
+     *
+     * @param accept Accept header of the request.
+     * @return Report format.
+     */
+    public static ReportFormat fromAcceptHeader(String accept) {
+
+        if (StringUtils.containsIgnoreCase(accept, NDJSON.mediaType)) {
+            return NDJSON;
+        }
+        if (StringUtils.containsIgnoreCase(accept, CSV.mediaType)) {
+            return CSV;
+        }
+        return JSON;
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common.report;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.identity.api.server.common.codec.CodecRegistry;
+
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.UnsupportedEncodingException;
+import java.io.Writer;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import javax.ws.rs.core.StreamingOutput;
+
+/**
+ * Pages and streams the user reports of the server APIs.
+ *
+ * <p>Report rows are paged with a cursor, which is the key of the last row of the previous page. Only the rows of the
+ * requested page are retained while scanning the report, and the rows are mapped to the API model only when they are
+ * written to the response.</p>
+ */
+public class ReportWriter {
+
+    private static final String LINE_SEPARATOR = "\n";
+    private static final String CSV_SEPARATOR = ",";
+    private static final String CSV_QUOTE = "\"";
+    // Leading characters which make spreadsheet applications evaluate a CSV cell as a formula.
+    private static final String CSV_FORMULA_PREFIXES = "=+-@";
+    private static final int MAX_INITIAL_PAGE_CAPACITY = 1000;
+
+    private ReportWriter() {
+
+    }
+
+    /**
+     * Get the page of the rows which follow the given cursor, ordered by the cursor key.
+     *
+     * @param rows      Rows of the report.
+     * @param cursorKey Function to extract the cursor key of a row.
+     * @param after     Cursor key of the last row of the previous page. Null for the first page.
+     * @param limit     Maximum number of rows of the page. Null to return all the rows which follow the cursor.
+     * @param <T>       Type of the rows.
+     * @return Rows of the page.
+     */
+    public static <T> List<T> getPage(Collection<T> rows, Function<T, String> cursorKey, String after,
+                                      Integer limit) {
+
+        Comparator<T> order = Comparator.comparing(cursorKey, Comparator.nullsFirst(Comparator.naturalOrder()));
+        if (limit == null) {
+            return rows.stream().filter(row -> isAfter(cursorKey.apply(row), after)).sorted(order)
+                    .collect(Collectors.toList());
+        }
+
+        // Retain only the smallest rows seen so far, with the largest of them at the head of the queue.
+        PriorityQueue<T> page = new PriorityQueue<>(Math.min(Math.min(limit, rows.size()),
+                MAX_INITIAL_PAGE_CAPACITY) + 1, order.reversed());
+        for (T row : rows) {
+            if (!isAfter(cursorKey.apply(row), after)) {
+                continue;
+            }
+            if (page.size() < limit) {
+                page.offer(row);
+            } else if (order.compare(row, page.peek()) < 0) {
+                page.poll();
+                page.offer(row);
+            }
+        }
+        List<T> pageRows = new ArrayList<>(page);
+        pageRows.sort(order);
+        return pageRows;
+    }
+
+    /**
+     * Build the value of the Link header pointing to the next page of the report. The link is relative to the
+     * request URL.
+     *
+     * @param queryParams Query parameters of the next page, including the cursor and the limit. Null values are
+     *                    omitted.
+     * @return Link header value.
+     */
+    public static String buildNextPageLink(Map<String, String> queryParams) {
+
+        String query = queryParams.entrySet().stream()
+                .filter(param -> param.getValue() != null)
+                .map(param -> encode(param.getKey()) + "=" + encode(param.getValue()))
+                .collect(Collectors.joining("&"));
+        return "<?" + query + ">; rel=\"next\"";
+    }
+
+    /**
+     * Stream the given rows in the given format. Newline delimited JSON rows are written using the Jackson mapping
+     * of the API model, while CSV rows consist of the given columns. The rows are iterated only while writing the
+     * response, hence they can be retrieved lazily, page by page.
+     *
+     * @param rows       Rows of the report.
+     * @param mapper     Function to map a row to the API model.
+     * @param format     Report format. Either {@link ReportFormat#NDJSON} or {@link ReportFormat#CSV}.
+     * @param csvColumns Column names and the functions to extract the column values of CSV rows, in column order.
+     * @param <S>        Type of the rows.
+     * @param <T>        Type of the API model.
+     * @return Streaming output writing the report.
+     */
+    public static <S, T> StreamingOutput stream(Iterable<S> rows, Function<S, T> mapper, ReportFormat format,
+                                                Map<String, Function<T, String>> csvColumns) {
+
+        if (format != ReportFormat.NDJSON && format != ReportFormat.CSV) {
+            throw new IllegalArgumentException("Unsupported streaming report format: " + format);
+        }
+        return outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            if (format == ReportFormat.NDJSON) {
+                ObjectMapper objectMapper = CodecRegistry.getObjectMapper();
+                for (S row : rows) {
+                    writer.write(objectMapper.writeValueAsString(mapper.apply(row)));
+                    writer.write(LINE_SEPARATOR);
+                }
+            } else {
+                writer.write(csvColumns.keySet().stream().map(ReportWriter::toCsvValue)
+                        .collect(Collectors.joining(CSV_SEPARATOR)));
+                writer.write(LINE_SEPARATOR);
+                for (S row : rows) {
+                    T model = mapper.apply(row);
+                    writer.write(csvColumns.values().stream().map(column -> toCsvValue(column.apply(model)))
+                            .collect(Collectors.joining(CSV_SEPARATOR)));
+                    writer.write(LINE_SEPARATOR);
+                }
+            }
+            writer.flush();
+        };
+    }
+
+    private static boolean isAfter(String key, String after) {
+
+        return after == null || (key != null && key.compareTo(after) > 0);
+    }
+
+    private static String toCsvValue(String value) {
+
+        if (StringUtils.isEmpty(value)) {
+            return StringUtils.EMPTY;
+        }
+        if (CSV_FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        if (StringUtils.containsAny(value, CSV_SEPARATOR + CSV_QUOTE + "\r\n")) {
+            return CSV_QUOTE + value.replace(CSV_QUOTE, CSV_QUOTE + CSV_QUOTE) + CSV_QUOTE;
+        }
+        return value;
+    }
+
+    private static String encode(String value) {
+
+        try {
+            return URLEncoder.encode(value, StandardCharsets.UTF_8.name());
+        } catch (UnsupportedEncodingException e) {
+            // UTF-8 is always supported.
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common.url;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.cxf.message.Exchange;
+import org.apache.cxf.message.Message;
+import org.apache.cxf.phase.PhaseInterceptorChain;
+import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.core.ServiceURL;
+import org.wso2.carbon.identity.core.ServiceURLBuilder;
+import org.wso2.carbon.identity.core.URLBuilderException;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.organization.management.service.util.Utils;
+
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.wso2.carbon.identity.api.server.common.Constants.BASE_URL_CACHE_ENABLED;
+import static org.wso2.carbon.identity.api.server.common.Constants.BASE_URL_CACHE_MAX_ENTRIES;
+import static org.wso2.carbon.identity.api.server.common.Constants.SERVER_API_PATH_COMPONENT;
+
+/**
+ * Resolves the public URLs of the server API endpoints.
+ *
+ * <p>The tenant and organization qualified base URL of the server APIs is built with the {@link ServiceURLBuilder}
+ * once per request, and the endpoint paths are appended to it. The base URLs of a request are bound to the exchange of
+ * the request, so that a thread serving a new request never reuses, nor keeps accumulating, the base URLs of the
+ * previous requests. Hence, list responses do not build the whole URL for
+ * each of their items. The base URLs can also be shared across the requests of the same tenant and organization
+ * through a bounded cache, which is disabled by default.</p>
+ */
+public class BaseURLResolver {
+
+    private static final Log LOG = LogFactory.getLog(BaseURLResolver.class);
+
+    // Thread local property holding the base URLs resolved while serving the current request.
+    private static final String REQUEST_BASE_URLS = "ServerAPIBaseURLs";
+    private static final String KEY_SEPARATOR = ":";
+    private static final String PATH_SEPARATOR = "/";
+    private static final int DEFAULT_CACHE_MAX_ENTRIES = 1000;
+
+    private static final Map<String, BaseURL> SHARED_BASE_URLS = createSharedCache();
+
+    private BaseURLResolver() {
+
+    }
+
+    /**
+     * Build the URL of the given endpoint, relative to the host, including the proxy context path.
+     * Ex: /t/<tenant-domain>/api/server/<endpoint> or /t/<tenant-domain>/o/api/server/<endpoint>
+     *
+     * @param endpoint Relative endpoint path.
+     * @return Relative URL of the endpoint.
+     * @throws URLBuilderException If an error occurred while building the base URL.
+     */
+    public static String buildRelativeURL(String endpoint) throws URLBuilderException {
+
+        return appendPath(getBaseURL().relativeURL, endpoint);
+    }
+
+    /**
+     * Build the absolute URL of the given endpoint.
+     * Ex: https://localhost:9443/t/<tenant-domain>/api/server/<endpoint> or
+     *     https://localhost:9443/t/<tenant-domain>/o/api/server/<endpoint>
+     *
+     * @param endpoint Relative endpoint path.
+     * @return Absolute URL of the endpoint.
+     * @throws URLBuilderException If an error occurred while building the base URL.
+     */
+    public static String buildAbsoluteURL(String endpoint) throws URLBuilderException {
+
+        return appendPath(getBaseURL().absoluteURL, endpoint);
+    }
+
+    private static BaseURL getBaseURL() throws URLBuilderException {
+
+        // The base URL depends on the tenant and the organization the request is served for.
+        String key = ContextLoader.getTenantDomainFromContext() + KEY_SEPARATOR +
+                StringUtils.defaultString(Utils.getOrganizationId());
+
+        Map<String, BaseURL> requestBaseURLs = getRequestBaseURLs();
+        BaseURL baseURL = requestBaseURLs != null ? requestBaseURLs.get(key) : null;
+        if (baseURL == null) {
+            baseURL = SHARED_BASE_URLS != null ? SHARED_BASE_URLS.get(key) : null;
+            if (baseURL == null) {
+                ServiceURL serviceURL = ServiceURLBuilder.create().addPath(SERVER_API_PATH_COMPONENT).build();
+                baseURL = new BaseURL(serviceURL.getRelativePublicURL(), serviceURL.getAbsolutePublicURL());
+                if (SHARED_BASE_URLS != null) {
+                    SHARED_BASE_URLS.put(key, baseURL);
+                }
+            }
+            if (requestBaseURLs != null) {
+                requestBaseURLs.put(key, baseURL);
+            }
+        }
+        return baseURL;
+    }
+
+    /**
+     * Get the base URLs resolved for the current request. The base URLs held by the thread are replaced once the
+     * thread serves another request. Worker threads see the base URLs of the request they are running a task of,
+     * through the thread local properties carried to them, and do not hold base URLs of their own.
+     *
+     * @return Base URLs of the current request, or null if they cannot be bound to a request.
+     */
+    private static Map<String, BaseURL> getRequestBaseURLs() {
+
+        Map<String, Object> threadLocalProperties = IdentityUtil.threadLocalProperties.get();
+        RequestBaseURLs requestBaseURLs = (RequestBaseURLs) threadLocalProperties.get(REQUEST_BASE_URLS);
+        Message message = PhaseInterceptorChain.getCurrentMessage();
+        if (message == null || message.getExchange() == null) {
+            return requestBaseURLs != null ? requestBaseURLs.baseURLs : null;
+        }
+        if (requestBaseURLs == null || !requestBaseURLs.isOf(message.getExchange())) {
+            requestBaseURLs = new RequestBaseURLs(message.getExchange());
+            threadLocalProperties.put(REQUEST_BASE_URLS, requestBaseURLs);
+        }
+        return requestBaseURLs.baseURLs;
+    }
+
+    /**
+     * Append the endpoint path to the base URL, in the same way the {@link ServiceURLBuilder} joins the paths.
+     */
+    private static String appendPath(String baseURL, String endpoint) {
+
+        String path = StringUtils.removeEnd(StringUtils.removeStart(endpoint, PATH_SEPARATOR), PATH_SEPARATOR);
+        if (StringUtils.isEmpty(path)) {
+            return baseURL;
+        }
+        return baseURL + PATH_SEPARATOR + path;
+    }
+
+    private static Map<String, BaseURL> createSharedCache() {
+
+        if (!Boolean.parseBoolean(IdentityUtil.getProperty(BASE_URL_CACHE_ENABLED))) {
+            return null;
+        }
+
+        int maxEntries = DEFAULT_CACHE_MAX_ENTRIES;
+        String configuredMaxEntries = IdentityUtil.getProperty(BASE_URL_CACHE_MAX_ENTRIES);
+        if (StringUtils.isNotBlank(configuredMaxEntries)) {
+            try {
+                maxEntries = Integer.parseInt(configuredMaxEntries.trim());
+            } catch (NumberFormatException e) {
+                LOG.warn("Invalid value: " + configuredMaxEntries + " configured for " + BASE_URL_CACHE_MAX_ENTRIES +
+                        ". Using the default value: " + DEFAULT_CACHE_MAX_ENTRIES);
+            }
+        }
+
+        int cacheSize = maxEntries;
+        return Collections.synchronizedMap(new LinkedHashMap<String, BaseURL>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 4468217339580547214L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, BaseURL> eldest) {
+
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    /**
+     * Base URLs resolved while serving a request. The exchange of the request is weakly referenced, hence a thread does
+     * not keep the exchange of its last request reachable.
+     */
+    private static class RequestBaseURLs {
+
+        private final WeakReference<Exchange> exchange;
+        // Shared with the worker threads of the request, hence needs to be thread safe.
+        private final Map<String, BaseURL> baseURLs = new ConcurrentHashMap<>();
+
+        RequestBaseURLs(Exchange exchange) {
+
+            this.exchange = new WeakReference<>(exchange);
+        }
+
+        boolean isOf(Exchange requestExchange) {
+
+            return exchange.get() == requestExchange;
+        }
+    }
+
+    /**
+     * Relative and absolute public URLs of the server APIs.
+     */
+    private static class BaseURL {
+
+        private final String relativeURL;
+        private final String absoluteURL;
+
+        BaseURL(String relativeURL, String absoluteURL) {
+
+            this.relativeURL = relativeURL;
+            this.absoluteURL = absoluteURL;
+        }
+    }
+}
@@ -30,6 +30,10 @@ public class Constants {
     public static final String CONFIGS_SCHEMAS_PATH_COMPONENT = "/configs/schemas";
     public static final String PATH_SEPERATOR = "/";
 
+    // Configurations of the per tenant SCIM schema registry.
+    public static final String SCHEMA_REGISTRY_EXPIRY_TIME = "ServerAPI.SchemaRegistry.ExpiryTime";
+    public static final String SCHEMA_REGISTRY_MAX_TENANTS = "ServerAPI.SchemaRegistry.MaxTenants";
+
     // PATCH operation paths.
     public static final String IDLE_SESSION_PATH = "/idleSessionTimeoutPeriod";
     public static final String REMEMBER_ME_PATH = "/rememberMePeriod";
@@ -23,6 +23,9 @@ import org.apache.axiom.om.impl.builder.StAXOMBuilder;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.api.server.common.Util;
+import org.wso2.carbon.identity.api.server.common.cache.TenantCache;
+import org.wso2.carbon.identity.api.server.common.concurrent.TenantAwareExecutor;
 import org.wso2.carbon.identity.base.IdentityRuntimeException;
 import org.wso2.carbon.identity.claim.metadata.mgt.exception.ClaimMetadataException;
 import org.wso2.carbon.identity.claim.metadata.mgt.model.ExternalClaim;
@@ -36,17 +39,32 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import javax.xml.namespace.QName;
 import javax.xml.stream.XMLStreamException;
 
+import static org.wso2.carbon.identity.api.server.common.Constants.RESOURCE_TYPE_CLAIM;
+import static org.wso2.carbon.identity.api.server.configs.common.Constants.SCHEMA_REGISTRY_EXPIRY_TIME;
+import static org.wso2.carbon.identity.api.server.configs.common.Constants.SCHEMA_REGISTRY_MAX_TENANTS;
+
 /**
  * Read and parse schema configurations in schemas.xml file.
+ *
+ * <p>The schemas.xml file is parsed once into an immutable base configuration. The schemas of each tenant are built
+ * by adding the system and custom schema attributes of the tenant to the base configuration, and are published as
+ * immutable snapshots. Hence, reading the schemas of a tenant does not access the claim store, except for the first
+ * read of the tenant. The snapshot of a tenant is rebuilt in the background when the claims of the tenant are
+ * changed, and when it is older than the configured expiry time, to pick up the changes made on the other nodes.</p>
  */
 public class SchemaConfigParser {
 
@@ -59,17 +77,29 @@ public class SchemaConfigParser {
     private static final String SCHEMA_CONFIG = "Schema";
     private static final String SCHEMA_ID_CONFIG = "id";
     private static final String ATTRIBUTE_CONFIG = "Attribute";
+    private static final long DEFAULT_EXPIRY_TIME = 300;
+    private static final long DEFAULT_MAX_TENANTS = 1000;
 
     private static final Log log = LogFactory.getLog(SchemaConfigParser.class);
     private static volatile SchemaConfigParser schemaConfigParser;
 
     private final String schemasFilePath;
+    private final long expiryTimeMillis;
+    private final long maxTenants;
+    private final Map<String, TenantSchemas> tenantSchemas = new ConcurrentHashMap<>();
+
+    // Immutable base configuration parsed from the schemas.xml file. Null if the schemas are not configured.
     private Map<String, List<String>> defaultSchemaMap;
+    private Map<String, List<String>> addToSchemaMap;
+    private Map<String, List<String>> removeFromSchemaMap;
 
     private SchemaConfigParser() {
 
         schemasFilePath = IdentityUtil.getIdentityConfigDirPath() + File.separator + SCHEMA_FILE_NAME;
+        expiryTimeMillis = Util.getPositiveLongProperty(SCHEMA_REGISTRY_EXPIRY_TIME, DEFAULT_EXPIRY_TIME) * 1000L;
+        maxTenants = Util.getPositiveLongProperty(SCHEMA_REGISTRY_MAX_TENANTS, DEFAULT_MAX_TENANTS);
         buildConfiguration();
+        TenantCache.addChangeListener(RESOURCE_TYPE_CLAIM, this::refreshTenantSchemas);
     }
 
     public static SchemaConfigParser getInstance() {
@@ -85,15 +115,164 @@ public class SchemaConfigParser {
     }
 
     /**
-     * Return Schemas supported by the server.
+     * Return Schemas supported by the server, for the tenant of the request.
      *
-     * @return Schema Map.
+     * @return Unmodifiable schema Map.
      */
     public Map<String, List<String>> getSchemaMap() {
 
-        // Update the default schema map with custom schema attributes.
-        updateCustomSchemaAttributes();
-        return defaultSchemaMap;
+        return getSchemaMap(SCIMCommonUtils.getTenantDomainFromContext());
+    }
+
+    /**
+     * Return Schemas supported by the server, for the given tenant.
+     *
+     * @param tenantDomain Tenant domain.
+     * @return Unmodifiable schema Map.
+     */
+    public Map<String, List<String>> getSchemaMap(String tenantDomain) {
+
+        if (defaultSchemaMap == null) {
+            return Collections.emptyMap();
+        }
+
+        TenantSchemas schemas = tenantSchemas.get(tenantDomain);
+        if (schemas == null) {
+            schemas = new TenantSchemas();
+            TenantSchemas existingSchemas = tenantSchemas.putIfAbsent(tenantDomain, schemas);
+            if (existingSchemas != null) {
+                schemas = existingSchemas;
+            } else {
+                evictTenantSchemas();
+            }
+        }
+        schemas.lastAccessTime = System.currentTimeMillis();
+
+        Map<String, List<String>> schemaMap = schemas.schemaMap;
+        if (schemaMap == null) {
+            // First read of the tenant. Build the snapshot on the request thread, as there is nothing to serve yet.
+            long generation = schemas.generation.get();
+            return publish(tenantDomain, schemas, buildTenantSchemaMap(tenantDomain), generation);
+        }
+        if (System.currentTimeMillis() - schemas.buildTime > expiryTimeMillis) {
+            scheduleRebuild(tenantDomain, schemas);
+        }
+        return schemaMap;
+    }
+
+    /**
+     * Rebuild the schemas of the given tenant in the background. The previous snapshot is served until the new
+     * snapshot is published. The changes reported while a rebuild is running are coalesced into a single rebuild.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    public void refreshTenantSchemas(String tenantDomain) {
+
+        TenantSchemas schemas = tenantSchemas.get(tenantDomain);
+        if (schemas == null) {
+            return;
+        }
+        schemas.generation.incrementAndGet();
+        scheduleRebuild(tenantDomain, schemas);
+    }
+
+    private void scheduleRebuild(String tenantDomain, TenantSchemas schemas) {
+
+        // A single rebuild runs per tenant at a time, and it picks up the changes reported while it runs.
+        if (!schemas.refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            TenantAwareExecutor.submit(() -> rebuildUntilCurrent(tenantDomain, schemas));
+        } catch (RuntimeException e) {
+            schemas.refreshing.set(false);
+            log.error("Error while scheduling the schema rebuild of the tenant: " + tenantDomain, e);
+        }
+    }
+
+    private void rebuildUntilCurrent(String tenantDomain, TenantSchemas schemas) {
+
+        do {
+            try {
+                long generation;
+                do {
+                    generation = schemas.generation.get();
+                    publish(tenantDomain, schemas, buildTenantSchemaMap(tenantDomain), generation);
+                } while (schemas.generation.get() != generation);
+            } finally {
+                schemas.refreshing.set(false);
+            }
+            // Pick up a change reported after the last build, but before the rebuild was released.
+        } while (schemas.builtGeneration != schemas.generation.get() && schemas.refreshing.compareAndSet(false, true));
+    }
+
+    private Map<String, List<String>> publish(String tenantDomain, TenantSchemas schemas,
+                                              Map<String, List<String>> schemaMap, long generation) {
+
+        synchronized (schemas) {
+            // A snapshot built while the claims of the tenant were being changed is superseded by a later rebuild.
+            if (schemas.schemaMap == null || schemas.generation.get() == generation) {
+                schemas.schemaMap = schemaMap;
+                schemas.buildTime = System.currentTimeMillis();
+                schemas.builtGeneration = generation;
+            }
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Built the schemas of the tenant: " + tenantDomain);
+        }
+        return schemaMap;
+    }
+
+    private Map<String, List<String>> buildTenantSchemaMap(String tenantDomain) {
+
+        Map<String, List<String>> schemaMap = new HashMap<>(defaultSchemaMap);
+
+        // Add system claims to the schema map.
+        try {
+            List<String> systemSchemaAttributeList = Utils.getExternalClaims(SCIMCommonConstants
+                            .SCIM_SYSTEM_USER_CLAIM_DIALECT, tenantDomain).stream()
+                    .map(ExternalClaim::getClaimURI).collect(Collectors.toList());
+            schemaMap.put(SCIMCommonConstants.SCIM_SYSTEM_USER_CLAIM_DIALECT, systemSchemaAttributeList);
+        } catch (ClaimMetadataException e) {
+            log.error("Error while retrieving external claims for schemas.", e);
+        }
+
+        addToSchemaMap.forEach((key, values) -> {
+            if (schemaMap.containsKey(key)) {
+                LinkedHashSet<String> uniqueAttributes = new LinkedHashSet<>(schemaMap.get(key));
+                uniqueAttributes.addAll(values);
+                schemaMap.put(key, new ArrayList<>(uniqueAttributes));
+            } else {
+                if (log.isDebugEnabled()) {
+                    log.debug("Invalid configuration. Schema ID: " + key + " not available in '" +
+                            DEFAULT_SCHEMA_CONFIG + " of " + schemasFilePath);
+                }
+            }
+        });
+        removeFromSchemaMap.forEach((key, values) -> {
+            if (schemaMap.containsKey(key)) {
+                List<String> attributes = new ArrayList<>(schemaMap.get(key));
+                attributes.removeAll(values);
+                schemaMap.put(key, attributes);
+            } else {
+                if (log.isDebugEnabled()) {
+                    log.debug("Invalid configuration. Schema ID: " + key + " not available in '" +
+                            DEFAULT_SCHEMA_CONFIG + " of " + schemasFilePath);
+                }
+            }
+        });
+
+        // Add the custom schema attributes of the tenant, replacing the configured entry if any.
+        String customSchemaURI = SCIMCommonUtils.getCustomSchemaURI();
+        try {
+            List<String> customSchemaAttributeList = Utils.getExternalClaims(customSchemaURI, tenantDomain).stream()
+                    .map(ExternalClaim::getClaimURI).collect(Collectors.toList());
+            schemaMap.put(customSchemaURI, customSchemaAttributeList);
+        } catch (ClaimMetadataException e) {
+            log.error("Error while retrieving external claims for schemas.", e);
+        }
+
+        return toUnmodifiableSchemaMap(schemaMap);
     }
 
     private void buildConfiguration() {
@@ -103,65 +282,24 @@ public class SchemaConfigParser {
             if (log.isDebugEnabled()) {
                 log.debug("Unable to find a valid configuration file in path: " + schemasFilePath);
             }
-            defaultSchemaMap = Collections.EMPTY_MAP;
             return;
         }
 
         try (InputStream inputStream = new FileInputStream(schemaFile)) {
-            Optional<Map<String, List<String>>> schemaMap;
-            Optional<Map<String, List<String>>> addToSchemaMap;
-            Optional<Map<String, List<String>>> removeFromMap;
             StAXOMBuilder builder = new StAXOMBuilder(inputStream);
-            schemaMap = buildSchemasConfiguration(builder, DEFAULT_SCHEMA_CONFIG);
-            addToSchemaMap = buildSchemasConfiguration(builder, ADD_SCHEMA_CONFIG);
-            removeFromMap = buildSchemasConfiguration(builder, REMOVE_SCHEMA_CONFIG);
+            Optional<Map<String, List<String>>> schemaMap = buildSchemasConfiguration(builder, DEFAULT_SCHEMA_CONFIG);
             if (!schemaMap.isPresent()) {
-                defaultSchemaMap = Collections.EMPTY_MAP;
                 return;
             }
-
-            // Add system claims to the schema map.
-            try {
-                List<String> systemSchemaAttributeList = Utils.getExternalClaims(SCIMCommonConstants
-                            .SCIM_SYSTEM_USER_CLAIM_DIALECT, SCIMCommonUtils.getTenantDomainFromContext()).stream()
-                    .map(ExternalClaim::getClaimURI).collect(Collectors.toList());
-                schemaMap.get().put(SCIMCommonConstants.SCIM_SYSTEM_USER_CLAIM_DIALECT, systemSchemaAttributeList);
-            } catch (ClaimMetadataException e) {
-                log.error("Error while retrieving external claims for schemas.", e);
-            }
-
-            defaultSchemaMap = schemaMap.get();
-            addToSchemaMap.ifPresent(stringListMap -> stringListMap.forEach((key, values) -> {
-                if (defaultSchemaMap.containsKey(key)) {
-                    defaultSchemaMap.get(key).addAll(values);
-                    List<String> uniqueAttributes = defaultSchemaMap.get(key).stream()
-                            .distinct().collect(Collectors.toList());
-                    defaultSchemaMap.put(key, uniqueAttributes);
-                } else {
-                    if (log.isDebugEnabled()) {
-                        log.debug("Invalid configuration. Schema ID: " + key + " not available in '" +
-                                DEFAULT_SCHEMA_CONFIG + " of " + schemasFilePath);
-                    }
-                }
-            }));
-            removeFromMap.ifPresent(stringListMap -> stringListMap.forEach((key, values) -> {
-                if (defaultSchemaMap.containsKey(key)) {
-                    defaultSchemaMap.get(key).removeAll(values);
-                } else {
-                    if (log.isDebugEnabled()) {
-                        log.debug("Invalid configuration. Schema ID: " + key + " not available in '" +
-                                DEFAULT_SCHEMA_CONFIG + " of " + schemasFilePath);
-                    }
-                }
-            }));
-
+            addToSchemaMap = toUnmodifiableSchemaMap(buildSchemasConfiguration(builder, ADD_SCHEMA_CONFIG)
+                    .orElse(Collections.emptyMap()));
+            removeFromSchemaMap = toUnmodifiableSchemaMap(buildSchemasConfiguration(builder, REMOVE_SCHEMA_CONFIG)
+                    .orElse(Collections.emptyMap()));
+            defaultSchemaMap = toUnmodifiableSchemaMap(schemaMap.get());
         } catch (IOException | XMLStreamException e) {
             throw IdentityRuntimeException.error("Error occurred while reading schema configuration in path: " +
                     schemasFilePath, e);
         }
-
-        // update the default schema map with custom schema attributes.
-        updateCustomSchemaAttributes();
     }
 
     private Optional<Map<String, List<String>>> buildSchemasConfiguration(StAXOMBuilder builder,
@@ -219,22 +357,43 @@ public class SchemaConfigParser {
         return Optional.of(dataMap);
     }
 
-    private void updateCustomSchemaAttributes() {
-
-        String tenantDomain = SCIMCommonUtils.getTenantDomainFromContext();
-        String customSchemaURI = SCIMCommonUtils.getCustomSchemaURI();
+    /**
+     * Drop the schemas of the least recently read tenants, once the number of tenants exceeds the limit.
+     */
+    private void evictTenantSchemas() {
 
-        // Get the existing external claims for the custom schema.
-        try {
-            List<ExternalClaim> customSchemaClaims = Utils.getExternalClaims(customSchemaURI, tenantDomain);
-            // Update defaultSchemaMap with the custom schema attributes by replacing the existing entry.
-            List<String> attributeList = customSchemaClaims.stream()
-                    .map(ExternalClaim::getClaimURI)
-                    .collect(Collectors.toList());
-            // Modify the default schema map to include custom schema attributes.
-            defaultSchemaMap.put(customSchemaURI, attributeList);
-        } catch (ClaimMetadataException e) {
-            log.error("Error while retrieving external claims for schemas.", e);
+        int excessCount = (int) (tenantSchemas.size() - maxTenants);
+        if (excessCount <= 0) {
+            return;
         }
+        tenantSchemas.entrySet().stream()
+                .sorted(Comparator.comparingLong(entry -> entry.getValue().lastAccessTime))
+                .limit(excessCount)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList())
+                .forEach(tenantSchemas::remove);
+    }
+
+    private static Map<String, List<String>> toUnmodifiableSchemaMap(Map<String, List<String>> schemaMap) {
+
+        Map<String, List<String>> unmodifiableSchemaMap = new HashMap<>();
+        schemaMap.forEach((key, values) -> unmodifiableSchemaMap.put(key,
+                Collections.unmodifiableList(new ArrayList<>(values))));
+        return Collections.unmodifiableMap(unmodifiableSchemaMap);
+    }
+
+    /**
+     * Published schemas of a tenant. The snapshot is replaced as a whole on each rebuild, and the generation is
+     * incremented on each change of the claims of the tenant. The built generation is the generation the published
+     * snapshot was built for.
+     */
+    private static class TenantSchemas {
+
+        private final AtomicLong generation = new AtomicLong();
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+        private volatile Map<String, List<String>> schemaMap;
+        private volatile long builtGeneration;
+        private volatile long buildTime;
+        private volatile long lastAccessTime;
     }
 }
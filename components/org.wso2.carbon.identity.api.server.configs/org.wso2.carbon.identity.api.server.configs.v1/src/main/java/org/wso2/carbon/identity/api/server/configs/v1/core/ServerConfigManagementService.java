@@ -30,6 +30,7 @@ import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.base.MultitenantConstants;
 import org.wso2.carbon.context.CarbonContext;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.concurrent.AsyncSection;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
 import org.wso2.carbon.identity.api.server.configs.common.ConfigsServiceHolder;
@@ -148,6 +149,15 @@ public class ServerConfigManagementService {
     private final DCRConfigurationMgtService dcrConfigurationMgtService;
 
     private static final Log log = LogFactory.getLog(ServerConfigManagementService.class);
+    private static final Gson GSON = new Gson();
+
+    // Sections of the server configs, fetched concurrently.
+    private static final String SECTION_RESIDENT_IDP = "ResidentIdP";
+    private static final String SECTION_PROVISIONING = "Provisioning";
+    private static final String SECTION_LOCAL_AUTHENTICATORS = "LocalAuthenticators";
+    private static final String SECTION_REQUEST_PATH_AUTHENTICATORS = "RequestPathAuthenticators";
+    private static final String SECTION_CORS = "CORS";
+    private static final String SECTION_DCR = "DCR";
 
     public ServerConfigManagementService(ApplicationManagementService applicationManagementService,
                                          IdpManager idpManager,
@@ -223,14 +233,26 @@ public class ServerConfigManagementService {
     }
 
     /**
-     * Get Server Configs.
+     * Get Server Configs. The sections of the configs are fetched concurrently. The resident IdP and the user realm
+     * configs are required, while the other sections are omitted from the response if they fail or time out.
      *
      * @return ServerConfig.
      */
     public ServerConfig getConfigs() {
 
-        IdentityProvider residentIdP = getResidentIdP();
-
+        AsyncSection<IdentityProvider> residentIdPSection = AsyncSection.submit(SECTION_RESIDENT_IDP,
+                this::getResidentIdP);
+        AsyncSection<ProvisioningConfig> provisioningSection = AsyncSection.submit(SECTION_PROVISIONING,
+                this::buildProvisioningConfig);
+        AsyncSection<List<AuthenticatorListItem>> localAuthenticatorsSection = AsyncSection.submit(
+                SECTION_LOCAL_AUTHENTICATORS, () -> getAuthenticators(Authenticator.TypeEnum.LOCAL.value()));
+        AsyncSection<List<AuthenticatorListItem>> requestPathAuthenticatorsSection = AsyncSection.submit(
+                SECTION_REQUEST_PATH_AUTHENTICATORS,
+                () -> getAuthenticators(Authenticator.TypeEnum.REQUEST_PATH.value()));
+        AsyncSection<CORSConfig> corsSection = AsyncSection.submit(SECTION_CORS, this::getCORSConfiguration);
+        AsyncSection<DCRConfig> dcrSection = AsyncSection.submit(SECTION_DCR, this::getDCRConfiguration);
+
+        // The user realm is bound to the carbon context of the request thread, hence it is read on this thread.
         UserRealm userRealm = CarbonContext.getThreadLocalCarbonContext().getUserRealm();
         RealmConfig realmConfig = new RealmConfig();
         try {
@@ -244,6 +266,8 @@ public class ServerConfigManagementService {
             throw handleException(Response.Status.INTERNAL_SERVER_ERROR, Constants.ErrorMessage
                     .ERROR_CODE_ERROR_RETRIEVING_CONFIGS, null);
         }
+
+        IdentityProvider residentIdP = joinRequiredSection(residentIdPSection);
         String idleSessionTimeout = null;
         IdentityProviderProperty idleSessionProp = IdentityApplicationManagementUtil.getProperty(
                 residentIdP.getIdpProperties(), IdentityApplicationConstants.SESSION_IDLE_TIME_OUT);
@@ -269,13 +293,38 @@ public class ServerConfigManagementService {
         serverConfig.setIdleSessionTimeoutPeriod(idleSessionTimeout);
         serverConfig.setRememberMePeriod(rememberMePeriod);
         serverConfig.setHomeRealmIdentifiers(homeRealmIdentifiers);
-        serverConfig.setProvisioning(buildProvisioningConfig());
-        serverConfig.setAuthenticators(getAuthenticators(null));
-        serverConfig.setCors(getCORSConfiguration());
-        serverConfig.setDcr(getDCRConfiguration());
+        serverConfig.setProvisioning(provisioningSection.joinOrDefault(null));
+
+        List<AuthenticatorListItem> localAuthenticators = localAuthenticatorsSection.joinOrDefault(null);
+        List<AuthenticatorListItem> requestPathAuthenticators = requestPathAuthenticatorsSection.joinOrDefault(null);
+        if (localAuthenticators != null && requestPathAuthenticators != null) {
+            List<AuthenticatorListItem> authenticators = new ArrayList<>(localAuthenticators);
+            authenticators.addAll(requestPathAuthenticators);
+            serverConfig.setAuthenticators(authenticators);
+        }
+        serverConfig.setCors(corsSection.joinOrDefault(null));
+        serverConfig.setDcr(dcrSection.joinOrDefault(null));
         return serverConfig;
     }
 
+    /**
+     * Wait for a section of the server configs, which is required to build the response.
+     *
+     * @param section Section of the server configs.
+     * @param <T>     Type of the section.
+     * @return Section.
+     */
+    private <T> T joinRequiredSection(AsyncSection<T> section) {
+
+        try {
+            return section.join();
+        } catch (AsyncSection.AsyncSectionException e) {
+            log.error(e.getMessage(), e.getCause());
+            throw handleException(Response.Status.INTERNAL_SERVER_ERROR, Constants.ErrorMessage
+                    .ERROR_CODE_ERROR_RETRIEVING_CONFIGS, null);
+        }
+    }
+
     /**
      * Patch Server Configs. Patch 'REPLACE', 'ADD', 'REMOVE' operations have been supported for primary attributes in
      * ServerConfig model.
@@ -587,8 +636,8 @@ public class ServerConfigManagementService {
                 .map(key -> {
                     final String schemaId = base64URLEncode(key);
                     return new SchemaListItem().id(schemaId).name(key)
-                            .self(ContextLoader.buildURIForBody(V1_API_PATH_COMPONENT +
-                                    CONFIGS_SCHEMAS_PATH_COMPONENT + PATH_SEPERATOR + schemaId).toString());
+                            .self(ContextLoader.buildURLForBody(V1_API_PATH_COMPONENT +
+                                    CONFIGS_SCHEMAS_PATH_COMPONENT + PATH_SEPERATOR + schemaId));
                 }).collect(Collectors.toList());
     }
 
@@ -811,8 +860,8 @@ public class ServerConfigManagementService {
                 if (ArrayUtils.isNotEmpty(tags)) {
                     authenticatorListItem.setTags(Arrays.asList(tags));
                 }
-                authenticatorListItem.setSelf(ContextLoader.buildURIForBody(String.format(V1_API_PATH_COMPONENT +
-                        CONFIGS_AUTHENTICATOR_PATH_COMPONENT + PATH_SEPERATOR + "%s", authenticatorId)).toString());
+                authenticatorListItem.setSelf(ContextLoader.buildURLForBody(String.format(V1_API_PATH_COMPONENT +
+                        CONFIGS_AUTHENTICATOR_PATH_COMPONENT + PATH_SEPERATOR + "%s", authenticatorId)));
                 authenticatorListItems.add(authenticatorListItem);
             }
         }
@@ -830,8 +879,8 @@ public class ServerConfigManagementService {
                 if (ArrayUtils.isNotEmpty(tags)) {
                     authenticatorListItem.setTags(Arrays.asList(tags));
                 }
-                authenticatorListItem.setSelf(ContextLoader.buildURIForBody(String.format(V1_API_PATH_COMPONENT +
-                        CONFIGS_AUTHENTICATOR_PATH_COMPONENT + PATH_SEPERATOR + "%s", authenticatorId)).toString());
+                authenticatorListItem.setSelf(ContextLoader.buildURLForBody(String.format(V1_API_PATH_COMPONENT +
+                        CONFIGS_AUTHENTICATOR_PATH_COMPONENT + PATH_SEPERATOR + "%s", authenticatorId)));
                 authenticatorListItems.add(authenticatorListItem);
             }
         }
@@ -1146,8 +1195,7 @@ public class ServerConfigManagementService {
     private IdentityProvider createIdPClone(IdentityProvider idP) {
 
         try {
-            Gson gson = new Gson();
-            IdentityProvider clonedIdentityProvider = gson.fromJson(gson.toJson(idP), IdentityProvider.class);
+            IdentityProvider clonedIdentityProvider = GSON.fromJson(GSON.toJsonTree(idP), IdentityProvider.class);
             return clonedIdentityProvider;
         } catch (JsonSyntaxException e) {
             throw handleException(Response.Status.INTERNAL_SERVER_ERROR, Constants.ErrorMessage
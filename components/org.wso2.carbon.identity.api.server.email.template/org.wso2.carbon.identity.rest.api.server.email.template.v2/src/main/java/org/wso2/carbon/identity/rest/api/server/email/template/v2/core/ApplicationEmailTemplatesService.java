@@ -323,7 +323,7 @@ public class ApplicationEmailTemplatesService {
 
         String location = V2_API_PATH_COMPONENT + EMAIL_TEMPLATES_API_BASE_PATH + EMAIL_TEMPLATE_TYPES_PATH +
                 PATH_SEPARATOR + templateTypeId;
-        return ContextLoader.buildURIForBody(location).toString();
+        return ContextLoader.buildURLForBody(location);
     }
 
     /**
@@ -439,7 +439,7 @@ public class ServerEmailTemplatesService {
 
         String location = V2_API_PATH_COMPONENT + EMAIL_TEMPLATES_API_BASE_PATH + EMAIL_TEMPLATE_TYPES_PATH +
                 PATH_SEPARATOR + templateTypeId;
-        return ContextLoader.buildURIForBody(location).toString();
+        return ContextLoader.buildURLForBody(location);
     }
 
     private String getTemplateLocation(String templateTypeId, String templateId) {
@@ -42,9 +42,9 @@ public class ExtensionMgtUtils {
      */
     public static String getExtensionInfoLocation(String extensionType, String extensionId) {
 
-        return ContextLoader.buildURIForBody(
+        return ContextLoader.buildURLForBody(
                 Constants.V1_API_PATH_COMPONENT + EXTENSION_MGT_PATH_COMPONENT + '/' +
-                        extensionType + "/" + extensionId).toString();
+                        extensionType + "/" + extensionId);
     }
 
     /**
@@ -18,10 +18,9 @@
 
 package org.wso2.carbon.identity.api.server.flow.execution.v1.core;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.commons.lang.StringUtils;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.api.server.common.codec.CodecRegistry;
 import org.wso2.carbon.identity.api.server.flow.execution.v1.FlowExecutionRequest;
 import org.wso2.carbon.identity.api.server.flow.execution.v1.FlowExecutionResponse;
 import org.wso2.carbon.identity.api.server.flow.execution.v1.utils.Utils;
@@ -59,9 +58,8 @@ public class FlowExecutionServiceCore {
                 Utils.validateFlowInitiation(flowExecutionRequest);
             }
 
-            ObjectMapper objectMapper = new ObjectMapper();
             Map<String, String> inputMap = Optional.ofNullable(flowExecutionRequest.getInputs())
-                    .map(inputs -> objectMapper.convertValue(inputs, new MapTypeReference()))
+                    .map(inputs -> CodecRegistry.convertValue(inputs, CodecRegistry.STRING_MAP_TYPE))
                     .orElse(Collections.emptyMap());
             FlowExecutionStep flowExecutionStep = flowExecutionService.executeFlow(tenantDomain,
                     flowExecutionRequest.getApplicationId(), flowExecutionRequest.getFlowId(),
@@ -82,11 +80,4 @@ public class FlowExecutionServiceCore {
             throw Utils.handleFlowException(e, tenantDomain);
         }
     }
-
-    /**
-     * Static inner class for TypeReference.
-     */
-    private static class MapTypeReference extends TypeReference<Map<String, String>> {
-
-    }
 }
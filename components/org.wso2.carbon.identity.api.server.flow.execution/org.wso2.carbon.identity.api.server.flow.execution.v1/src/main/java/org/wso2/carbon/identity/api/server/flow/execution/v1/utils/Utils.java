@@ -18,12 +18,11 @@
 
 package org.wso2.carbon.identity.api.server.flow.execution.v1.utils;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.api.server.common.codec.CodecRegistry;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.flow.execution.common.FlowExecutionServiceHolder;
 import org.wso2.carbon.identity.api.server.flow.execution.v1.Component;
@@ -258,8 +257,6 @@ public class Utils {
         if (map == null) {
             return null;
         }
-        ObjectMapper objectMapper = new ObjectMapper();
-        return objectMapper.convertValue(map, new TypeReference<Map<String, Object>>() {
-        });
+        return CodecRegistry.convertValue(map, CodecRegistry.MAP_TYPE);
     }
 }
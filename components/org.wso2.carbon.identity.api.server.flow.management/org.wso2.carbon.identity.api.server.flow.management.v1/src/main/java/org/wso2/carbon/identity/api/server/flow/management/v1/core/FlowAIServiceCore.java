@@ -18,9 +18,9 @@
 
 package org.wso2.carbon.identity.api.server.flow.management.v1.core;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.api.server.common.codec.CodecRegistry;
 import org.wso2.carbon.identity.api.server.flow.management.common.FlowMgtServiceHolder;
 import org.wso2.carbon.identity.api.server.flow.management.v1.FlowGenerateRequest;
 import org.wso2.carbon.identity.api.server.flow.management.v1.FlowGenerateResponse;
@@ -45,7 +45,6 @@ import java.util.List;
 public class FlowAIServiceCore {
 
     private static final Log log = LogFactory.getLog(FlowAIServiceCore.class);
-    private final ObjectMapper objectMapper = new ObjectMapper();
 
     /**
      * Generate authentication sequence using login flow AI. Here we generate the authentication sequence based on the
@@ -135,7 +134,7 @@ public class FlowAIServiceCore {
         List<Step> stepList = new ArrayList<>();
         if (steps instanceof List) {
             for (Object step : (List<?>) steps) {
-                Step convertedStep = objectMapper.convertValue(step, Step.class);
+                Step convertedStep = CodecRegistry.convertValue(step, Step.class);
                 stepList.add(convertedStep);
             }
         }
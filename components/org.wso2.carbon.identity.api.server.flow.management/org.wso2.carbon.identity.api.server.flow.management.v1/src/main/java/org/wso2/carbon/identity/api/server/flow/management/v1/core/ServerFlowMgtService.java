@@ -19,6 +19,7 @@
 package org.wso2.carbon.identity.api.server.flow.management.v1.core;
 
 import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.api.server.common.cache.TenantCache;
 import org.wso2.carbon.identity.api.server.flow.management.v1.FlowConfig;
 import org.wso2.carbon.identity.api.server.flow.management.v1.FlowConfigPatchModel;
 import org.wso2.carbon.identity.api.server.flow.management.v1.FlowMetaResponse;
@@ -40,8 +41,12 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
+import static org.wso2.carbon.identity.api.server.common.Constants.RESOURCE_TYPE_CLAIM;
+import static org.wso2.carbon.identity.api.server.common.Constants.RESOURCE_TYPE_GOVERNANCE_CONNECTOR;
+import static org.wso2.carbon.identity.api.server.common.Constants.RESOURCE_TYPE_IDENTITY_PROVIDER;
 import static org.wso2.carbon.identity.api.server.flow.management.v1.utils.Utils.collectFlowData;
 import static org.wso2.carbon.identity.api.server.flow.management.v1.utils.Utils.validateExecutors;
 import static org.wso2.carbon.identity.api.server.flow.management.v1.utils.Utils.validateIdentifiers;
@@ -52,6 +57,12 @@ import static org.wso2.carbon.identity.api.server.flow.management.v1.utils.Utils
  */
 public class ServerFlowMgtService {
 
+    // Flow meta responses are rebuilt at least every minute, to pick up the changes made on the other nodes.
+    private static final long FLOW_META_EXPIRY_TIME = 60;
+    private static final TenantCache<Map<String, FlowMetaResponse>> FLOW_META_RESPONSES = new TenantCache<>(
+            "FlowMeta", FLOW_META_EXPIRY_TIME, RESOURCE_TYPE_CLAIM, RESOURCE_TYPE_IDENTITY_PROVIDER,
+            RESOURCE_TYPE_GOVERNANCE_CONNECTOR);
+
     private final FlowMgtService flowMgtService;
 
     public ServerFlowMgtService(FlowMgtService flowMgtService) {
@@ -86,14 +97,18 @@ public class ServerFlowMgtService {
     /**
      * Retrieve flow metadata based on the flow type.
      *
+     * The response depends only on the claims, identity providers and governance configs of the tenant, hence it
+     * is cached per tenant and flow type until any of them is changed.
+     *
      * @param flowType Type of the flow.
      * @return FlowMetaResponse containing metadata.
      */
     public FlowMetaResponse getFlowMeta(String flowType) {
 
         Utils.validateFlowType(flowType);
-        AbstractMetaResponseHandler metaResponseHandler = resolveHandler(flowType);
-        return metaResponseHandler.createResponse();
+        String tenantDomain = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+        return FLOW_META_RESPONSES.get(tenantDomain, ConcurrentHashMap::new)
+                .computeIfAbsent(flowType, type -> resolveHandler(type).createResponse());
     }
 
     /**
@@ -72,6 +72,15 @@ import static org.wso2.carbon.identity.application.authentication.framework.util
 public abstract class AbstractMetaResponseHandler {
 
     private static final String MULTI_ATTRIBUTE_LOGIN_ENABLED = "multiAttributeLoginEnabled";
+    private static final int IDP_PAGE_SIZE = 100;
+
+    private static final List<String> COMMON_SUPPORTED_EXECUTORS = Collections.unmodifiableList(Arrays.asList(
+            PASSWORD_PROVISIONING_EXECUTOR, EMAIL_OTP_EXECUTOR, SMS_OTP_EXECUTOR, MAGIC_LINK_EXECUTOR,
+            USER_PROVISIONING_EXECUTOR));
+    private static final Map<String, String> CONNECTION_EXECUTOR_MAP = createConnectionExecutorMap();
+
+    // Governance configs resolved for this handler. Handlers are created per request, hence so is this memo.
+    private Map<String, Boolean> governanceConfigs;
 
     /**
      * Get the flow type.
@@ -94,13 +103,52 @@ public abstract class AbstractMetaResponseHandler {
      */
     public List<String> getSupportedExecutors() {
 
-        ArrayList<String> supportedExecutors = new ArrayList<>();
-        supportedExecutors.add(PASSWORD_PROVISIONING_EXECUTOR);
-        supportedExecutors.add(EMAIL_OTP_EXECUTOR);
-        supportedExecutors.add(SMS_OTP_EXECUTOR);
-        supportedExecutors.add(MAGIC_LINK_EXECUTOR);
-        supportedExecutors.add(USER_PROVISIONING_EXECUTOR);
-        return supportedExecutors;
+        return COMMON_SUPPORTED_EXECUTORS;
+    }
+
+    /**
+     * Build an unmodifiable list of the executors supported by all the flows, followed by the given executors.
+     *
+     * @param executors Executors supported by a specific flow.
+     * @return List of supported executors.
+     */
+    protected static List<String> withCommonExecutors(String... executors) {
+
+        List<String> supportedExecutors = new ArrayList<>(COMMON_SUPPORTED_EXECUTORS);
+        supportedExecutors.addAll(Arrays.asList(executors));
+        return Collections.unmodifiableList(supportedExecutors);
+    }
+
+    /**
+     * Get the governance properties used by the flow. These are resolved together, on the first lookup of any
+     * governance property.
+     *
+     * @return List of governance property names.
+     */
+    protected List<String> getGovernanceProperties() {
+
+        return Collections.singletonList(MultiAttributeLoginConstants.MULTI_ATTRIBUTE_LOGIN_PROPERTY);
+    }
+
+    /**
+     * Checks whether a governance connector config is enabled in the tenant of the request. Configs are retrieved
+     * once per handler instance.
+     *
+     * @param connectorConfig Name of the governance property.
+     * @return True if the config is enabled.
+     */
+    public boolean getGovernanceConfig(String connectorConfig) {
+
+        String tenantDomain = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+        if (governanceConfigs == null) {
+            governanceConfigs = Utils.getGovernanceConfigs(tenantDomain, getGovernanceProperties());
+        }
+        Boolean enabled = governanceConfigs.get(connectorConfig);
+        if (enabled == null) {
+            enabled = Utils.getGovernanceConfig(tenantDomain, connectorConfig);
+            governanceConfigs.put(connectorConfig, enabled);
+        }
+        return enabled;
     }
 
     /**
@@ -110,10 +158,9 @@ public abstract class AbstractMetaResponseHandler {
      */
     public Map<String, Boolean> getConnectorConfigs() {
 
-        String tenantDomain = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain();
         Map<String, Boolean> connectorConfigs = new HashMap<>();
         connectorConfigs.put(MULTI_ATTRIBUTE_LOGIN_ENABLED,
-                Utils.getGovernanceConfig(tenantDomain, MultiAttributeLoginConstants.MULTI_ATTRIBUTE_LOGIN_PROPERTY));
+                getGovernanceConfig(MultiAttributeLoginConstants.MULTI_ATTRIBUTE_LOGIN_PROPERTY));
         return connectorConfigs;
     }
 
@@ -132,9 +179,10 @@ public abstract class AbstractMetaResponseHandler {
     public FlowMetaResponse createResponse() {
 
         FlowMetaResponse response = new FlowMetaResponse();
+        String attributeProfile = getAttributeProfile();
         response.setFlowType(getFlowType());
-        response.setAttributeProfile(getAttributeProfile());
-        response.setAttributeMetadata(getSupportedClaims(getAttributeProfile()));
+        response.setAttributeProfile(attributeProfile);
+        response.setAttributeMetadata(getSupportedClaims(attributeProfile));
         response.setSupportedExecutors(getSupportedExecutors());
         response.setConnectorConfigs(getConnectorConfigs());
         response.setExecutorConnections(getExecutorConnections());
@@ -176,9 +224,7 @@ public abstract class AbstractMetaResponseHandler {
             }
 
             // Add user identifier claim if multi-attribute login is enabled.
-            if (Utils.getGovernanceConfig(
-                    PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain(),
-                    MultiAttributeLoginConstants.MULTI_ATTRIBUTE_LOGIN_PROPERTY)) {
+            if (getGovernanceConfig(MultiAttributeLoginConstants.MULTI_ATTRIBUTE_LOGIN_PROPERTY)) {
                 claimProperties.add(createUserIdentifierMeta());
             }
         } catch (ClaimMetadataException e) {
@@ -195,9 +241,8 @@ public abstract class AbstractMetaResponseHandler {
      */
     protected List<String> getLoginInputFields() {
 
-        String tenantDomain = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain();
-        List<String> fields = new java.util.ArrayList<>();
-        if (Utils.getGovernanceConfig(tenantDomain, MultiAttributeLoginConstants.MULTI_ATTRIBUTE_LOGIN_PROPERTY)) {
+        List<String> fields = new ArrayList<>();
+        if (getGovernanceConfig(MultiAttributeLoginConstants.MULTI_ATTRIBUTE_LOGIN_PROPERTY)) {
             fields.add(FlowEndpointConstants.USER_IDENTIFIER);
             fields.add(FlowEndpointConstants.USERNAME_IDENTIFIER);
         } else {
@@ -210,7 +255,7 @@ public abstract class AbstractMetaResponseHandler {
 
         try {
 
-            Map<String, String> connectionExecutorMap = getConnectionExecutorMap();
+            Map<String, String> connectionExecutorMap = CONNECTION_EXECUTOR_MAP;
             Map<String, ExecutorConnections> executorConnections = new HashMap<>();
             getSupportedExecutors().forEach(executorName -> {
                 if (connectionExecutorMap.containsValue(executorName)) {
@@ -221,6 +266,11 @@ public abstract class AbstractMetaResponseHandler {
                 }
             });
 
+            // None of the supported executors are backed by connections, hence the IdPs need not be retrieved.
+            if (executorConnections.isEmpty()) {
+                return new ArrayList<>();
+            }
+
             List<IdentityProvider> identityProviders = getAllIdPs();
             for (IdentityProvider identityProvider : identityProviders) {
                 if (identityProvider.getDefaultAuthenticatorConfig() != null &&
@@ -256,7 +306,7 @@ public abstract class AbstractMetaResponseHandler {
         }
     }
 
-    private static Map<String, String> getConnectionExecutorMap() {
+    private static Map<String, String> createConnectionExecutorMap() {
 
         Map<String, String> connectionExecutorMap = new HashMap<>();
         connectionExecutorMap.put(FlowEndpointConstants.Authenticators.GOOGLE_AUTHENTICATOR, GOOGLE_EXECUTOR);
@@ -266,7 +316,7 @@ public abstract class AbstractMetaResponseHandler {
         connectionExecutorMap.put(FlowEndpointConstants.Authenticators.APPLE_AUTHENTICATOR, APPLE_EXECUTOR);
         connectionExecutorMap.put(FlowEndpointConstants.Authenticators.OPENID_CONNECT_AUTHENTICATOR,
                 OPENID_CONNECT_EXECUTOR);
-        return connectionExecutorMap;
+        return Collections.unmodifiableMap(connectionExecutorMap);
     }
 
     private static List<IdentityProvider> getAllIdPs() throws IdentityProviderManagementException {
@@ -278,15 +328,14 @@ public abstract class AbstractMetaResponseHandler {
 
         int offset = 0;
         int totalCount;
-        int pageSize = 100;
         do {
-            IdpSearchResult idpSearchResult = idpManager.getIdPs(pageSize, offset, null, null, null,
+            IdpSearchResult idpSearchResult = idpManager.getIdPs(IDP_PAGE_SIZE, offset, null, null, null,
                     tenantDomain, requiredAttributes);
             if (idpSearchResult != null && idpSearchResult.getIdPs() != null) {
                 identityProviders.addAll(idpSearchResult.getIdPs());
             }
             totalCount = idpSearchResult != null ? idpSearchResult.getTotalIDPCount() : 0;
-            offset += pageSize;
+            offset += IDP_PAGE_SIZE;
         } while (offset < totalCount);
         return identityProviders;
     }
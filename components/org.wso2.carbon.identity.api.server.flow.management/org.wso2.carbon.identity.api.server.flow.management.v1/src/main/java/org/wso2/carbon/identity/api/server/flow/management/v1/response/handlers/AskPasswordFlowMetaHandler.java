@@ -40,6 +40,10 @@ import static org.wso2.carbon.identity.flow.mgt.Constants.FlowTypes.INVITED_USER
  */
 public class AskPasswordFlowMetaHandler extends AbstractMetaResponseHandler {
 
+    private static final List<String> SUPPORTED_EXECUTORS = withCommonExecutors(USER_RESOLVE_EXECUTOR,
+            CONFIRMATION_CODE_VALIDATION_EXECUTOR, OPENID_CONNECT_EXECUTOR, GOOGLE_EXECUTOR, FACEBOOK_EXECUTOR,
+            OFFICE365_EXECUTOR, APPLE_EXECUTOR, GITHUB_EXECUTOR, FIDO2_EXECUTOR);
+
     @Override
     public String getFlowType() {
 
@@ -61,17 +65,7 @@ public class AskPasswordFlowMetaHandler extends AbstractMetaResponseHandler {
     @Override
     public List<String> getSupportedExecutors() {
 
-        List<String> supportedExecutors = new ArrayList<>(super.getSupportedExecutors());
-        supportedExecutors.add(USER_RESOLVE_EXECUTOR);
-        supportedExecutors.add(CONFIRMATION_CODE_VALIDATION_EXECUTOR);
-        supportedExecutors.add(OPENID_CONNECT_EXECUTOR);
-        supportedExecutors.add(GOOGLE_EXECUTOR);
-        supportedExecutors.add(FACEBOOK_EXECUTOR);
-        supportedExecutors.add(OFFICE365_EXECUTOR);
-        supportedExecutors.add(APPLE_EXECUTOR);
-        supportedExecutors.add(GITHUB_EXECUTOR);
-        supportedExecutors.add(FIDO2_EXECUTOR);
-        return supportedExecutors;
+        return SUPPORTED_EXECUTORS;
     }
 
 }
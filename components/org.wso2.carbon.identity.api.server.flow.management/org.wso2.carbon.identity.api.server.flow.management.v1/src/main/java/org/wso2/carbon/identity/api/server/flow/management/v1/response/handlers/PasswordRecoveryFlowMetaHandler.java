@@ -18,11 +18,12 @@
 
 package org.wso2.carbon.identity.api.server.flow.management.v1.response.handlers;
 
-import org.wso2.carbon.context.PrivilegedCarbonContext;
-import org.wso2.carbon.identity.api.server.flow.management.v1.utils.Utils;
 import org.wso2.carbon.identity.flow.mgt.Constants;
+import org.wso2.carbon.identity.multi.attribute.login.constants.MultiAttributeLoginConstants;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -43,6 +44,11 @@ public class PasswordRecoveryFlowMetaHandler extends AbstractMetaResponseHandler
     private static final String PASSWORD_RECOVERY_MAGIC_LINK_ENABLED = "passwordRecoveryMagicLinkEnabled";
     private static final String EMAIL_LINK_ENABLED_PROPERTY = "Recovery.Notification.Password.emailLink.Enable";
 
+    private static final List<String> SUPPORTED_EXECUTORS = withCommonExecutors(USER_RESOLVE_EXECUTOR);
+    private static final List<String> GOVERNANCE_PROPERTIES = Collections.unmodifiableList(Arrays.asList(
+            MultiAttributeLoginConstants.MULTI_ATTRIBUTE_LOGIN_PROPERTY, EMAIL_OTP_ENABLED_PROPERTY,
+            SMS_OTP_ENABLED_PROPERTY, EMAIL_LINK_ENABLED_PROPERTY));
+
     @Override
     public String getFlowType() {
 
@@ -58,17 +64,19 @@ public class PasswordRecoveryFlowMetaHandler extends AbstractMetaResponseHandler
     @Override
     public Map<String, Boolean> getConnectorConfigs() {
 
-        String tenantDomain = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain();
         Map<String, Boolean> connectorConfigs = super.getConnectorConfigs();
-        connectorConfigs.put(PASSWORD_RECOVERY_EMAIL_OTP_ENABLED,
-                Utils.getGovernanceConfig(tenantDomain, EMAIL_OTP_ENABLED_PROPERTY));
-        connectorConfigs.put(PASSWORD_RECOVERY_SMS_OTP_ENABLED,
-                Utils.getGovernanceConfig(tenantDomain, SMS_OTP_ENABLED_PROPERTY));
-        connectorConfigs.put(PASSWORD_RECOVERY_MAGIC_LINK_ENABLED,
-                Utils.getGovernanceConfig(tenantDomain, EMAIL_LINK_ENABLED_PROPERTY));
+        connectorConfigs.put(PASSWORD_RECOVERY_EMAIL_OTP_ENABLED, getGovernanceConfig(EMAIL_OTP_ENABLED_PROPERTY));
+        connectorConfigs.put(PASSWORD_RECOVERY_SMS_OTP_ENABLED, getGovernanceConfig(SMS_OTP_ENABLED_PROPERTY));
+        connectorConfigs.put(PASSWORD_RECOVERY_MAGIC_LINK_ENABLED, getGovernanceConfig(EMAIL_LINK_ENABLED_PROPERTY));
         return connectorConfigs;
     }
 
+    @Override
+    protected List<String> getGovernanceProperties() {
+
+        return GOVERNANCE_PROPERTIES;
+    }
+
     @Override
     public List<String> getRequiredInputFields() {
 
@@ -78,8 +86,6 @@ public class PasswordRecoveryFlowMetaHandler extends AbstractMetaResponseHandler
     @Override
     public List<String> getSupportedExecutors() {
 
-        List<String> supportedExecutors = new ArrayList<>(super.getSupportedExecutors());
-        supportedExecutors.add(USER_RESOLVE_EXECUTOR);
-        return supportedExecutors;
+        return SUPPORTED_EXECUTORS;
     }
 }
@@ -40,6 +40,9 @@ import static org.wso2.carbon.identity.api.server.flow.management.v1.constants.F
  */
 public class RegistrationFlowMetaHandler extends AbstractMetaResponseHandler {
 
+    private static final List<String> SUPPORTED_EXECUTORS = withCommonExecutors(OPENID_CONNECT_EXECUTOR,
+            GOOGLE_EXECUTOR, FACEBOOK_EXECUTOR, OFFICE365_EXECUTOR, APPLE_EXECUTOR, GITHUB_EXECUTOR, FIDO2_EXECUTOR);
+
     @Override
     public String getFlowType() {
 
@@ -67,14 +70,6 @@ public class RegistrationFlowMetaHandler extends AbstractMetaResponseHandler {
     @Override
     public List<String> getSupportedExecutors() {
 
-        List<String> supportedExecutors = super.getSupportedExecutors();
-        supportedExecutors.add(OPENID_CONNECT_EXECUTOR);
-        supportedExecutors.add(GOOGLE_EXECUTOR);
-        supportedExecutors.add(FACEBOOK_EXECUTOR);
-        supportedExecutors.add(OFFICE365_EXECUTOR);
-        supportedExecutors.add(APPLE_EXECUTOR);
-        supportedExecutors.add(GITHUB_EXECUTOR);
-        supportedExecutors.add(FIDO2_EXECUTOR);
-        return supportedExecutors;
+        return SUPPORTED_EXECUTORS;
     }
 }
@@ -18,14 +18,12 @@
 
 package org.wso2.carbon.identity.api.server.flow.management.v1.utils;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang.ArrayUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
-import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.api.server.common.codec.CodecRegistry;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorDTO;
 import org.wso2.carbon.identity.api.server.flow.management.common.FlowMgtServiceHolder;
@@ -60,6 +58,7 @@ import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -308,12 +307,11 @@ public class Utils {
         ExecutorDTO executorDTO = new ExecutorDTO.Builder().name(executor.getName()).build();
         Map<String, Object> meta = convertToMap(executor.getMeta());
         if (meta != null && !meta.isEmpty()) {
-            ObjectMapper objectMapper = new ObjectMapper();
             try {
                 meta.forEach(LambdaExceptionUtils.rethrowBiConsumer((name, value) -> {
                     executorDTO.addMetadata(name, value instanceof String
                             ? (String) value
-                            : objectMapper.writeValueAsString(value));
+                            : CodecRegistry.writeJson(value));
                 }));
             } catch (Exception e) {
                 throw handleFlowMgtException(new FlowMgtClientException(
@@ -330,9 +328,7 @@ public class Utils {
         if (map == null) {
             return null;
         }
-        ObjectMapper objectMapper = new ObjectMapper();
-        return objectMapper.convertValue(map, new TypeReference<Map<String, Object>>() {
-        });
+        return CodecRegistry.convertValue(map, CodecRegistry.MAP_TYPE);
     }
 
     /**
@@ -342,18 +338,36 @@ public class Utils {
      */
     public static boolean getGovernanceConfig(String tenantDomain, String connectorConfig) {
 
+        return getGovernanceConfigs(tenantDomain, Collections.singletonList(connectorConfig)).get(connectorConfig);
+    }
+
+    /**
+     * Checks whether the given connector configs are enabled, retrieving all of them at once.
+     *
+     * @param tenantDomain     Tenant domain.
+     * @param connectorConfigs Names of the connector configs.
+     * @return Mutable map of the connector config names to whether they are enabled.
+     */
+    public static Map<String, Boolean> getGovernanceConfigs(String tenantDomain, List<String> connectorConfigs) {
+
         try {
             IdentityGovernanceService identityGovernanceService =
                     FlowMgtServiceHolder.getIdentityGovernanceService();
-            Property[] connectorConfigs = identityGovernanceService.getConfiguration(
-                    new String[]{connectorConfig}, tenantDomain);
+            Property[] properties = identityGovernanceService.getConfiguration(
+                    connectorConfigs.toArray(new String[0]), tenantDomain);
 
-            if (connectorConfigs == null || connectorConfigs.length == 0) {
-                return false;
+            Map<String, Boolean> enabledConfigs = new HashMap<>();
+            for (String connectorConfig : connectorConfigs) {
+                enabledConfigs.put(connectorConfig, false);
             }
-
-            return Boolean.parseBoolean(connectorConfigs[0].getValue());
-
+            if (properties != null) {
+                for (Property property : properties) {
+                    if (property != null && enabledConfigs.containsKey(property.getName())) {
+                        enabledConfigs.put(property.getName(), Boolean.parseBoolean(property.getValue()));
+                    }
+                }
+            }
+            return enabledConfigs;
         } catch (IdentityGovernanceException e) {
             throw handleFlowMgtException(new FlowMgtClientException(
                     ERROR_CODE_GET_GOVERNANCE_CONFIG.getCode(),
@@ -441,8 +455,7 @@ public class Utils {
     public static void validateIdentifiers(AbstractMetaResponseHandler metaResponseHandler, Set<String> identifiers) {
 
         List<String> required = metaResponseHandler.getRequiredInputFields();
-        String tenantDomain = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain();
-        boolean alternativeLoginStatus = Utils.getGovernanceConfig(tenantDomain,
+        boolean alternativeLoginStatus = metaResponseHandler.getGovernanceConfig(
                 MultiAttributeLoginConstants.MULTI_ATTRIBUTE_LOGIN_PROPERTY);
 
         // Determine which identifiers are acceptable for "identity"
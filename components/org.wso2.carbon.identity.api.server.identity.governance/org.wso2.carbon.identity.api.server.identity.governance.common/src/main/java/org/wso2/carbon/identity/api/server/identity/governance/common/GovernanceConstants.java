@@ -80,7 +80,9 @@ public class GovernanceConstants {
                 "The property: %s is not found in the connector: %s."),
         ERROR_CODE_ERROR_REVERTING_CONNECTOR_PROPERTY("50018",
                 "Unable to revert the identity governance connector properties.",
-                "Server Encountered an error while reverting identity governance connector properties.");
+                "Server Encountered an error while reverting identity governance connector properties."),
+        ERROR_CODE_BULK_CONNECTOR_UPDATE_FAILED("50019", "Connector update failed.",
+                "Unable to update the identity governance connectors as %s of the connectors are invalid.");
 
         private final String code;
         private final String message;
@@ -25,6 +25,7 @@ import org.wso2.carbon.identity.api.server.identity.governance.v1.model.Connecto
 import org.wso2.carbon.identity.api.server.identity.governance.v1.model.ConnectorsPatchReq;
 import org.wso2.carbon.identity.api.server.identity.governance.v1.model.Error;
 import java.util.List;
+import org.wso2.carbon.identity.api.server.identity.governance.v1.model.MultipleCategoriesPatchReq;
 import org.wso2.carbon.identity.api.server.identity.governance.v1.model.MultipleConnectorsPatchReq;
 import org.wso2.carbon.identity.api.server.identity.governance.v1.model.PreferenceResp;
 import org.wso2.carbon.identity.api.server.identity.governance.v1.model.PreferenceSearchAttribute;
@@ -160,6 +161,28 @@ public class IdentityGovernanceApi  {
         return delegate.getPreferenceByPost(preferenceSearchAttribute );
     }
 
+    @Valid
+    @PATCH
+    @Path("/")
+    @Consumes({ "application/json" })
+    @Produces({ "application/json" })
+    @ApiOperation(value = "Patch governance connectors of multiple categories.", notes = "Patch governance connectors of multiple categories with a single update. The request is applied only if all the connectors are valid. Otherwise, the failed connectors are listed in the error response.<br> <b>Permission required:</b> <br>     * /permission/admin/manage/identity/idpmgt/update <br> <b>Scope required:</b> <br>     * internal_idp_update ", response = Void.class, authorizations = {
+        @Authorization(value = "BasicAuth"),
+        @Authorization(value = "OAuth2", scopes = {
+            
+        })
+    }, tags={ "Management", })
+    @ApiResponses(value = { 
+        @ApiResponse(code = 200, message = "OK.", response = Void.class),
+        @ApiResponse(code = 400, message = "Bad Request.", response = Error.class),
+        @ApiResponse(code = 401, message = "Unauthorized.", response = Void.class),
+        @ApiResponse(code = 500, message = "Internal Server Error.", response = Error.class)
+    })
+    public Response patchCategories(@ApiParam(value = "Governance connectors of the categories and properties to update" ,required=true) @Valid MultipleCategoriesPatchReq multipleCategoriesPatchReq) {
+
+        return delegate.patchCategories(multipleCategoriesPatchReq );
+    }
+
     @Valid
     @PATCH
     @Path("/{category-id}/connectors/{connector-id}")
@@ -20,6 +20,7 @@ package org.wso2.carbon.identity.api.server.identity.governance.v1;
 
 import org.wso2.carbon.identity.api.server.identity.governance.v1.model.ConnectorsPatchReq;
 import org.wso2.carbon.identity.api.server.identity.governance.v1.model.PreferenceSearchAttribute;
+import org.wso2.carbon.identity.api.server.identity.governance.v1.model.MultipleCategoriesPatchReq;
 import org.wso2.carbon.identity.api.server.identity.governance.v1.model.MultipleConnectorsPatchReq;
 import org.wso2.carbon.identity.api.server.identity.governance.v1.model.PropertyRevertReq;
 
@@ -40,6 +41,8 @@ public interface IdentityGovernanceApiService {
 
       public Response getPreferenceByPost(List<PreferenceSearchAttribute> preferenceSearchAttribute);
 
+      public Response patchCategories(MultipleCategoriesPatchReq multipleCategoriesPatchReq);
+
       public Response patchConnector(String categoryId, String connectorId, ConnectorsPatchReq connectorsPatchReq);
 
       public Response patchConnectorsOfCategory(String categoryId, MultipleConnectorsPatchReq multipleConnectorsPatchReq);
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.identity.governance.v1.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import java.util.ArrayList;
+import java.util.List;
+import org.wso2.carbon.identity.api.server.identity.governance.v1.model.ConnectorReq;
+import javax.validation.constraints.*;
+
+/**
+ * Governance connectors of a category to patch
+ **/
+
+import io.swagger.annotations.*;
+import java.util.Objects;
+import javax.validation.Valid;
+import javax.xml.bind.annotation.*;
+@ApiModel(description = "Governance connectors of a category to patch")
+public class CategoryConnectorsReq  {
+  
+    private String id;
+    private List<ConnectorReq> connectors = new ArrayList<>();
+
+
+    /**
+    * Connector category id.
+    **/
+    public CategoryConnectorsReq id(String id) {
+
+        this.id = id;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "QWNjb3VudCBNYW5hZ2VtZW50IFBvbGljaWVz", required = true, value = "Connector category id.")
+    @JsonProperty("id")
+    @Valid
+    @NotNull(message = "Property id cannot be null.")
+
+    public String getId() {
+        return id;
+    }
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    /**
+    * Governance connectors of the category to patch.
+    **/
+    public CategoryConnectorsReq connectors(List<ConnectorReq> connectors) {
+
+        this.connectors = connectors;
+        return this;
+    }
+    
+    @ApiModelProperty(required = true, value = "Governance connectors of the category to patch.")
+    @JsonProperty("connectors")
+    @Valid
+    @NotNull(message = "Property connectors cannot be null.")
+
+    public List<ConnectorReq> getConnectors() {
+        return connectors;
+    }
+    public void setConnectors(List<ConnectorReq> connectors) {
+        this.connectors = connectors;
+    }
+
+    public CategoryConnectorsReq addConnectorsItem(ConnectorReq connectorsItem) {
+        this.connectors.add(connectorsItem);
+        return this;
+    }
+
+    
+
+    @Override
+    public boolean equals(java.lang.Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        CategoryConnectorsReq categoryConnectorsReq = (CategoryConnectorsReq) o;
+        return Objects.equals(this.id, categoryConnectorsReq.id) &&
+            Objects.equals(this.connectors, categoryConnectorsReq.connectors);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, connectors);
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("class CategoryConnectorsReq {\n");
+        
+        sb.append("    id: ").append(toIndentedString(id)).append("\n");
+        sb.append("    connectors: ").append(toIndentedString(connectors)).append("\n");
+        sb.append("}");
+        return sb.toString();
+    }
+
+    /**
+    * Convert the given object to string with each line indented by 4 spaces
+    * (except the first line).
+    */
+    private String toIndentedString(java.lang.Object o) {
+
+        if (o == null) {
+            return "null";
+        }
+        return o.toString().replace("\n", "\n");
+    }
+}
+
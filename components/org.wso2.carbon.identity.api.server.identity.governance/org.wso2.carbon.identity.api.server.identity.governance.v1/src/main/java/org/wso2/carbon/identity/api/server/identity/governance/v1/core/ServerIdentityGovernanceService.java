@@ -23,16 +23,22 @@ import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.api.server.common.cache.TenantCache;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
+import org.wso2.carbon.identity.api.server.common.error.bulk.BulkAPIError;
+import org.wso2.carbon.identity.api.server.common.error.bulk.BulkErrorResponse;
 import org.wso2.carbon.identity.api.server.identity.governance.common.GovernanceConstants;
 import org.wso2.carbon.identity.api.server.identity.governance.v1.model.CategoriesRes;
+import org.wso2.carbon.identity.api.server.identity.governance.v1.model.CategoryConnectorsReq;
 import org.wso2.carbon.identity.api.server.identity.governance.v1.model.CategoryConnectorsRes;
 import org.wso2.carbon.identity.api.server.identity.governance.v1.model.CategoryRes;
+import org.wso2.carbon.identity.api.server.identity.governance.v1.model.ConnectorErrorDTO;
 import org.wso2.carbon.identity.api.server.identity.governance.v1.model.ConnectorReq;
 import org.wso2.carbon.identity.api.server.identity.governance.v1.model.ConnectorRes;
 import org.wso2.carbon.identity.api.server.identity.governance.v1.model.ConnectorsPatchReq;
 import org.wso2.carbon.identity.api.server.identity.governance.v1.model.MetaRes;
+import org.wso2.carbon.identity.api.server.identity.governance.v1.model.MultipleCategoriesPatchReq;
 import org.wso2.carbon.identity.api.server.identity.governance.v1.model.MultipleConnectorsPatchReq;
 import org.wso2.carbon.identity.api.server.identity.governance.v1.model.PreferenceResp;
 import org.wso2.carbon.identity.api.server.identity.governance.v1.model.PreferenceSearchAttribute;
@@ -51,11 +57,14 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.regex.Pattern;
 import javax.ws.rs.core.Response;
 
+import static org.wso2.carbon.identity.api.server.common.Constants.RESOURCE_TYPE_GOVERNANCE_CONNECTOR;
 import static org.wso2.carbon.identity.api.server.common.Constants.V1_API_PATH_COMPONENT;
 import static org.wso2.carbon.identity.api.server.common.ContextLoader.buildURIForBody;
 import static org.wso2.carbon.identity.api.server.identity.governance.common.GovernanceConstants.ErrorMessage.ERROR_CODE_FILTERING_NOT_IMPLEMENTED;
@@ -186,7 +195,8 @@ public class ServerIdentityGovernanceService {
     }
 
     /**
-     * Get governance connector properties according to the search attribute.
+     * Get governance connector properties according to the search attribute. The connectors are resolved with a
+     * single read of the governance properties of the tenant, regardless of the number of connectors requested.
      *
      * @param preferenceSearchAttribute Governance connector details.
      * @return Governance connector properties for the given connector or properties.
@@ -194,32 +204,68 @@ public class ServerIdentityGovernanceService {
     public List<PreferenceResp> getConfigPreference(List<PreferenceSearchAttribute> preferenceSearchAttribute) {
 
         String tenantDomain = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain();
-        List<PreferenceResp> preferenceRespList = new ArrayList<>();
+        Map<String, ConnectorConfig> connectorConfigs;
+        try {
+            connectorConfigs = resolveConnectorConfigs(tenantDomain, preferenceSearchAttribute);
+        } catch (IdentityGovernanceException e) {
+            GovernanceConstants.ErrorMessage errorEnum =
+                    GovernanceConstants.ErrorMessage.ERROR_CODE_ERROR_RETRIEVING_CONNECTOR_PREFERENCES;
+            Response.Status status = Response.Status.INTERNAL_SERVER_ERROR;
+            throw handleException(e, errorEnum, status);
+        }
+
+        List<PreferenceResp> preferenceRespList = new ArrayList<>(preferenceSearchAttribute.size());
         for (PreferenceSearchAttribute prefSearchAttr : preferenceSearchAttribute) {
             String connectorName = prefSearchAttr.getConnectorName();
-            List<String> expectedProperties = prefSearchAttr.getProperties();
-            Property[] properties;
-            try {
-                ConnectorConfig connectorConfig = identityGovernanceService.getConnectorWithConfigs(tenantDomain,
+            ConnectorConfig connectorConfig = connectorConfigs.get(connectorName);
+            if (connectorConfig == null) {
+                throw handleBadRequestError(GovernanceConstants.ErrorMessage.ERROR_CODE_INCORRECT_CONNECTOR_NAME,
                         connectorName);
-                if (connectorConfig == null) {
-                    throw handleBadRequestError(GovernanceConstants.ErrorMessage.ERROR_CODE_INCORRECT_CONNECTOR_NAME,
-                            connectorName);
-                }
-                properties = connectorConfig.getProperties();
-                PreferenceResp preferenceResp =
-                        buildPreferenceRespDTO(connectorName, properties, expectedProperties);
-                preferenceRespList.add(preferenceResp);
-            } catch (IdentityGovernanceException e) {
-                GovernanceConstants.ErrorMessage errorEnum =
-                        GovernanceConstants.ErrorMessage.ERROR_CODE_ERROR_RETRIEVING_CONNECTOR_PREFERENCES;
-                Response.Status status = Response.Status.INTERNAL_SERVER_ERROR;
-                throw handleException(e, errorEnum, status);
             }
+            preferenceRespList.add(buildPreferenceRespDTO(connectorName, connectorConfig.getProperties(),
+                    prefSearchAttr.getProperties()));
         }
         return preferenceRespList;
     }
 
+    /**
+     * Resolve the configurations of the connectors named in the search attributes. Each lookup of a connector reads
+     * the whole governance property set of the tenant, hence a single connector is looked up directly while several
+     * connectors are picked from one listing of all the connectors.
+     *
+     * @param tenantDomain     Tenant domain.
+     * @param searchAttributes Governance connector details.
+     * @return Configurations of the found connectors by connector name.
+     * @throws IdentityGovernanceException If an error occurred while reading the connector configurations.
+     */
+    private Map<String, ConnectorConfig> resolveConnectorConfigs(String tenantDomain,
+                                                                 List<PreferenceSearchAttribute> searchAttributes)
+            throws IdentityGovernanceException {
+
+        Set<String> connectorNames = new HashSet<>();
+        for (PreferenceSearchAttribute prefSearchAttr : searchAttributes) {
+            connectorNames.add(prefSearchAttr.getConnectorName());
+        }
+
+        Map<String, ConnectorConfig> connectorConfigs = new HashMap<>();
+        if (connectorNames.size() == 1) {
+            String connectorName = connectorNames.iterator().next();
+            ConnectorConfig connectorConfig =
+                    identityGovernanceService.getConnectorWithConfigs(tenantDomain, connectorName);
+            if (connectorConfig != null) {
+                connectorConfigs.put(connectorName, connectorConfig);
+            }
+            return connectorConfigs;
+        }
+
+        for (ConnectorConfig connectorConfig : identityGovernanceService.getConnectorListWithConfigs(tenantDomain)) {
+            if (connectorNames.contains(connectorConfig.getName())) {
+                connectorConfigs.put(connectorConfig.getName(), connectorConfig);
+            }
+        }
+        return connectorConfigs;
+    }
+
     private PreferenceResp buildPreferenceRespDTO(String connectorName, Property[] properties,
                                                   List<String> expectedProperties) {
 
@@ -317,6 +363,7 @@ public class ServerIdentityGovernanceService {
                 }
             }
             identityGovernanceService.updateConfiguration(tenantDomain, configurationDetails);
+            TenantCache.notifyChange(RESOURCE_TYPE_GOVERNANCE_CONNECTOR, tenantDomain);
         } catch (IdentityGovernanceClientException e) {
             throw handleBadRequestError(GovernanceConstants.ErrorMessage.ERROR_CODE_INVALID_CONNECTOR_CONFIGURATION,
                     e.getMessage());
@@ -341,46 +388,92 @@ public class ServerIdentityGovernanceService {
         try {
             String tenantDomain = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain();
 
-            // Check whether the category ID exists.
-            CategoryRes category = getGovernanceConnectorCategory(categoryId);
-            if (category == null) {
+            // Check whether the category ID exists, reading all the connectors of the category at once.
+            String category = decodeId(categoryId);
+            Map<String, ConnectorConfig> connectorConfigs = new HashMap<>();
+            if (category != null) {
+                for (ConnectorConfig connectorConfig :
+                        identityGovernanceService.getConnectorListWithConfigsByCategory(tenantDomain, category)) {
+                    connectorConfigs.put(connectorConfig.getName(), connectorConfig);
+                }
+            }
+            if (connectorConfigs.isEmpty()) {
                 throw handleNotFoundError(categoryId, GovernanceConstants.ErrorMessage.ERROR_CODE_CATEGORY_NOT_FOUND);
             }
 
             Map<String, String> configurationDetails = new HashMap<>();
-
-            // Loop through each connector in the request and add the properties to be updated to a hashmap.
             for (ConnectorReq connectorReq : multipleConnectorsPatchReq.getConnectors()) {
-                String connectorId = connectorReq.getId();
-
-                // Check whether the connector ID exists.
-                ConnectorRes connector = getGovernanceConnector(categoryId, connectorId);
-                if (connector == null) {
-                    throw handleNotFoundError(connectorId,
-                            GovernanceConstants.ErrorMessage.ERROR_CODE_CONNECTOR_NOT_FOUND);
+                APIError error = addConnectorUpdates(connectorReq, connectorConfigs, configurationDetails);
+                if (error != null) {
+                    throw error;
                 }
+            }
 
-                // Add properties of the connector to be updated to the configurationDetails hashmap.
-                for (PropertyReq propertyReqDTO : connectorReq.getProperties()) {
-                    if (StringUtils.startsWith(propertyReqDTO.getName(), PASSWORD_EXPIRY_RULES_PREFIX) &&
-                            StringUtils.isNotBlank(propertyReqDTO.getValue()) &&
-                            !isValidPasswordExpiryRule(propertyReqDTO.getValue())) {
-                        throw handleBadRequestError(
-                                GovernanceConstants.ErrorMessage.ERROR_CODE_INVALID_PASSWORD_EXPIRY_RULE,
-                                propertyReqDTO.getValue());
-                    }
-                    if (StringUtils.equals(propertyReqDTO.getName(), PW_POLICY_PATTERN) &&
-                            StringUtils.isNotBlank(propertyReqDTO.getValue()) &&
-                            !isValidPasswordPatternRegex(propertyReqDTO.getValue())) {
-                        throw handleBadRequestError(
-                                GovernanceConstants.ErrorMessage.ERROR_CODE_INVALID_PASSWORD_PATTERN_REGEX);
+            identityGovernanceService.updateConfiguration(tenantDomain, configurationDetails);
+            TenantCache.notifyChange(RESOURCE_TYPE_GOVERNANCE_CONNECTOR, tenantDomain);
+
+        } catch (IdentityGovernanceException e) {
+            GovernanceConstants.ErrorMessage errorEnum =
+                    GovernanceConstants.ErrorMessage.ERROR_CODE_ERROR_UPDATING_CONNECTOR_PROPERTY;
+            Response.Status status = Response.Status.INTERNAL_SERVER_ERROR;
+            throw handleException(e, errorEnum, status);
+        }
+    }
+
+    /**
+     * Update the governance connector properties of multiple categories. All the connectors are validated against a
+     * single read of the connectors of the tenant and the properties are applied with a single governance update.
+     * Nothing is updated if any of the connectors is invalid, and the invalid connectors are listed in the error.
+     *
+     * @param multipleCategoriesPatchReq Governance connectors of the categories and properties to update.
+     */
+    public void updateGovernanceConnectorsOfCategories(MultipleCategoriesPatchReq multipleCategoriesPatchReq) {
+
+        try {
+            String tenantDomain = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+
+            Map<String, Map<String, ConnectorConfig>> connectorConfigsByCategory = new HashMap<>();
+            List<ConnectorConfig> tenantConnectorConfigs =
+                    identityGovernanceService.getConnectorListWithConfigs(tenantDomain);
+            for (ConnectorConfig connectorConfig : tenantConnectorConfigs) {
+                connectorConfigsByCategory.computeIfAbsent(connectorConfig.getCategory(), key -> new HashMap<>())
+                        .put(connectorConfig.getName(), connectorConfig);
+            }
+
+            Map<String, String> configurationDetails = new HashMap<>();
+            List<ConnectorErrorDTO> errors = new ArrayList<>();
+            for (CategoryConnectorsReq categoryConnectorsReq : multipleCategoriesPatchReq.getCategories()) {
+                String categoryId = categoryConnectorsReq.getId();
+                String category = decodeId(categoryId);
+                Map<String, ConnectorConfig> connectorConfigs =
+                        category != null ? connectorConfigsByCategory.get(category) : null;
+                if (connectorConfigs == null) {
+                    errors.add(buildConnectorErrorDTO(handleNotFoundError(categoryId,
+                            GovernanceConstants.ErrorMessage.ERROR_CODE_CATEGORY_NOT_FOUND), categoryId, null));
+                    continue;
+                }
+                for (ConnectorReq connectorReq : categoryConnectorsReq.getConnectors()) {
+                    APIError error = addConnectorUpdates(connectorReq, connectorConfigs, configurationDetails);
+                    if (error != null) {
+                        errors.add(buildConnectorErrorDTO(error, categoryId, connectorReq.getId()));
                     }
-                    configurationDetails.put(propertyReqDTO.getName(), propertyReqDTO.getValue());
                 }
             }
 
-            identityGovernanceService.updateConfiguration(tenantDomain, configurationDetails);
+            if (!errors.isEmpty()) {
+                throw handleBulkBadRequestError(
+                        GovernanceConstants.ErrorMessage.ERROR_CODE_BULK_CONNECTOR_UPDATE_FAILED, errors,
+                        String.valueOf(errors.size()));
+            }
+            if (configurationDetails.isEmpty()) {
+                return;
+            }
 
+            identityGovernanceService.updateConfiguration(tenantDomain, configurationDetails);
+            TenantCache.notifyChange(RESOURCE_TYPE_GOVERNANCE_CONNECTOR, tenantDomain);
+        } catch (IdentityGovernanceClientException e) {
+            throw handleBadRequestError(GovernanceConstants.ErrorMessage.ERROR_CODE_INVALID_CONNECTOR_CONFIGURATION,
+                    e.getMessage());
         } catch (IdentityGovernanceException e) {
             GovernanceConstants.ErrorMessage errorEnum =
                     GovernanceConstants.ErrorMessage.ERROR_CODE_ERROR_UPDATING_CONNECTOR_PROPERTY;
@@ -389,6 +482,58 @@ public class ServerIdentityGovernanceService {
         }
     }
 
+    /**
+     * Validate the properties of the requested connector and add them to the configurations to be updated.
+     *
+     * @param connectorReq         Governance connector and properties to update.
+     * @param connectorConfigs     Configurations of the connectors of the category, by connector name.
+     * @param configurationDetails Configurations to be updated.
+     * @return Error of the connector if it is invalid, null otherwise.
+     */
+    private APIError addConnectorUpdates(ConnectorReq connectorReq, Map<String, ConnectorConfig> connectorConfigs,
+                                         Map<String, String> configurationDetails) {
+
+        String connectorId = connectorReq.getId();
+        String connectorName = decodeId(connectorId);
+        if (connectorName == null || !connectorConfigs.containsKey(connectorName)) {
+            return handleNotFoundError(connectorId, GovernanceConstants.ErrorMessage.ERROR_CODE_CONNECTOR_NOT_FOUND);
+        }
+
+        for (PropertyReq propertyReqDTO : connectorReq.getProperties()) {
+            if (StringUtils.startsWith(propertyReqDTO.getName(), PASSWORD_EXPIRY_RULES_PREFIX) &&
+                    StringUtils.isNotBlank(propertyReqDTO.getValue()) &&
+                    !isValidPasswordExpiryRule(propertyReqDTO.getValue())) {
+                return handleBadRequestError(GovernanceConstants.ErrorMessage.ERROR_CODE_INVALID_PASSWORD_EXPIRY_RULE,
+                        propertyReqDTO.getValue());
+            }
+            if (StringUtils.equals(propertyReqDTO.getName(), PW_POLICY_PATTERN) &&
+                    StringUtils.isNotBlank(propertyReqDTO.getValue()) &&
+                    !isValidPasswordPatternRegex(propertyReqDTO.getValue())) {
+                return handleBadRequestError(
+                        GovernanceConstants.ErrorMessage.ERROR_CODE_INVALID_PASSWORD_PATTERN_REGEX);
+            }
+        }
+        for (PropertyReq propertyReqDTO : connectorReq.getProperties()) {
+            configurationDetails.put(propertyReqDTO.getName(), propertyReqDTO.getValue());
+        }
+        return null;
+    }
+
+    /**
+     * Decode the Base64 URL encoded id of a connector or a category.
+     *
+     * @param id Encoded id.
+     * @return Decoded name, or null if the id is not a valid encoded value.
+     */
+    private String decodeId(String id) {
+
+        try {
+            return new String(Base64.getUrlDecoder().decode(id), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
     /**
      * Revert provided properties of a governance connector.
      *
@@ -413,6 +558,7 @@ public class ServerIdentityGovernanceService {
             }
 
             identityGovernanceService.deleteConfiguration(propertyRevertReq.getProperties(), tenantDomain);
+            TenantCache.notifyChange(RESOURCE_TYPE_GOVERNANCE_CONNECTOR, tenantDomain);
         } catch (IdentityGovernanceException e) {
             GovernanceConstants.ErrorMessage errorEnum =
                     GovernanceConstants.ErrorMessage.ERROR_CODE_ERROR_REVERTING_CONNECTOR_PROPERTY;
@@ -437,6 +583,26 @@ public class ServerIdentityGovernanceService {
         return new APIError(status, errorResponse);
     }
 
+    private BulkAPIError handleBulkBadRequestError(GovernanceConstants.ErrorMessage errorMessage,
+                                                   List<ConnectorErrorDTO> errors, String... data) {
+
+        BulkErrorResponse bulkErrorResponse = new BulkErrorResponse.Builder()
+                .withCode(errorMessage.getCode())
+                .withMessage(errorMessage.getMessage())
+                .withDescription(buildErrorDescription(errorMessage, data))
+                .withFailedOperations(errors)
+                .build(LOG, buildErrorDescription(errorMessage, data));
+        return new BulkAPIError(Response.Status.BAD_REQUEST, bulkErrorResponse);
+    }
+
+    private ConnectorErrorDTO buildConnectorErrorDTO(APIError error, String categoryId, String connectorId) {
+
+        ConnectorErrorDTO connectorErrorDTO = new ConnectorErrorDTO(error.getResponseEntity());
+        connectorErrorDTO.setCategoryId(categoryId);
+        connectorErrorDTO.setConnectorId(connectorId);
+        return connectorErrorDTO;
+    }
+
     private List<CategoriesRes> buildConnectorCategoriesResDTOS(
             Map<String, List<ConnectorConfig>> connectorConfigs) {
 
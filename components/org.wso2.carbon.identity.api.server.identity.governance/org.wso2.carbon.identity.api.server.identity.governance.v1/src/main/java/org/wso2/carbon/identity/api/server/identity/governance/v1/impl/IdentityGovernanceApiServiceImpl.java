@@ -22,6 +22,7 @@ import org.wso2.carbon.identity.api.server.identity.governance.v1.IdentityGovern
 import org.wso2.carbon.identity.api.server.identity.governance.v1.core.ServerIdentityGovernanceService;
 import org.wso2.carbon.identity.api.server.identity.governance.v1.factories.ServerIdentityGovernanceServiceFactory;
 import org.wso2.carbon.identity.api.server.identity.governance.v1.model.ConnectorsPatchReq;
+import org.wso2.carbon.identity.api.server.identity.governance.v1.model.MultipleCategoriesPatchReq;
 import org.wso2.carbon.identity.api.server.identity.governance.v1.model.MultipleConnectorsPatchReq;
 import org.wso2.carbon.identity.api.server.identity.governance.v1.model.PreferenceSearchAttribute;
 import org.wso2.carbon.identity.api.server.identity.governance.v1.model.PropertyRevertReq;
@@ -87,6 +88,13 @@ public class IdentityGovernanceApiServiceImpl implements IdentityGovernanceApiSe
         return Response.ok().build();
     }
 
+    @Override
+    public Response patchCategories(MultipleCategoriesPatchReq multipleCategoriesPatchReq) {
+
+        identityGovernanceService.updateGovernanceConnectorsOfCategories(multipleCategoriesPatchReq);
+        return Response.ok().build();
+    }
+
     @Override
     public Response getPreferenceByPost(List<PreferenceSearchAttribute> preferenceSearchAttribute) {
 
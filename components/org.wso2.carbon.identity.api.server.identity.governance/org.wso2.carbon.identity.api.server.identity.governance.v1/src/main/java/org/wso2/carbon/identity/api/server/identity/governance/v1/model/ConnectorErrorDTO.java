@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.identity.governance.v1.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.wso2.carbon.identity.api.server.common.error.ErrorDTO;
+
+/**
+ * Error DTO of a single governance connector that failed during a bulk connector update.
+ */
+public class ConnectorErrorDTO extends ErrorDTO {
+
+    private static final long serialVersionUID = 2718036547819214537L;
+    private String categoryId = null;
+    private String connectorId = null;
+
+    public ConnectorErrorDTO() {
+
+        super();
+    }
+
+    public ConnectorErrorDTO(ErrorDTO errorDTO) {
+
+        this.setCode(errorDTO.getCode());
+        this.setMessage(errorDTO.getMessage());
+        this.setDescription(errorDTO.getDescription());
+        this.setRef(errorDTO.getRef());
+    }
+
+    @JsonProperty("categoryId")
+    public String getCategoryId() {
+
+        return categoryId;
+    }
+
+    public void setCategoryId(String categoryId) {
+
+        this.categoryId = categoryId;
+    }
+
+    @JsonProperty("connectorId")
+    public String getConnectorId() {
+
+        return connectorId;
+    }
+
+    public void setConnectorId(String connectorId) {
+
+        this.connectorId = connectorId;
+    }
+
+    @Override
+    @JsonIgnore
+    public String getRef() {
+        return null;
+    }
+}
@@ -18,9 +18,7 @@
 
 package org.wso2.carbon.identity.api.server.idp.v1.core;
 
-import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.gson.Gson;
 import org.apache.commons.beanutils.BeanUtils;
 import org.apache.commons.collections.CollectionUtils;
@@ -37,6 +35,8 @@ import org.apache.cxf.jaxrs.ext.search.SearchContext;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
 import org.wso2.carbon.identity.api.server.common.FileContent;
 import org.wso2.carbon.identity.api.server.common.Util;
+import org.wso2.carbon.identity.api.server.common.cache.TenantCache;
+import org.wso2.carbon.identity.api.server.common.codec.CodecRegistry;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
 import org.wso2.carbon.identity.api.server.idp.common.Constants;
@@ -122,19 +122,13 @@ import org.wso2.carbon.idp.mgt.dao.IdPManagementDAO;
 import org.wso2.carbon.idp.mgt.model.ConnectedAppsResult;
 import org.wso2.carbon.idp.mgt.model.IdpSearchResult;
 import org.yaml.snakeyaml.DumperOptions;
-import org.yaml.snakeyaml.LoaderOptions;
 import org.yaml.snakeyaml.TypeDescription;
 import org.yaml.snakeyaml.Yaml;
-import org.yaml.snakeyaml.constructor.Constructor;
 import org.yaml.snakeyaml.error.YAMLException;
-import org.yaml.snakeyaml.inspector.TagInspector;
-import org.yaml.snakeyaml.inspector.TrustedPrefixesTagInspector;
 import org.yaml.snakeyaml.representer.Representer;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.StringReader;
-import java.io.StringWriter;
 import java.io.UnsupportedEncodingException;
 import java.lang.reflect.InvocationTargetException;
 import java.net.URLEncoder;
@@ -151,10 +145,7 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import javax.ws.rs.core.Response;
-import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
-import javax.xml.bind.Marshaller;
-import javax.xml.bind.Unmarshaller;
 
 import static org.wso2.carbon.identity.api.server.common.Constants.ERROR_CODE_RESOURCE_LIMIT_REACHED;
 import static org.wso2.carbon.identity.api.server.common.Constants.JSON_FILE_EXTENSION;
@@ -162,6 +153,7 @@ import static org.wso2.carbon.identity.api.server.common.Constants.MASKING_VALUE
 import static org.wso2.carbon.identity.api.server.common.Constants.MEDIA_TYPE_JSON;
 import static org.wso2.carbon.identity.api.server.common.Constants.MEDIA_TYPE_XML;
 import static org.wso2.carbon.identity.api.server.common.Constants.MEDIA_TYPE_YAML;
+import static org.wso2.carbon.identity.api.server.common.Constants.RESOURCE_TYPE_IDENTITY_PROVIDER;
 import static org.wso2.carbon.identity.api.server.common.Constants.V1_API_PATH_COMPONENT;
 import static org.wso2.carbon.identity.api.server.common.Constants.XML_FILE_EXTENSION;
 import static org.wso2.carbon.identity.api.server.common.Constants.YAML_FILE_EXTENSION;
@@ -190,6 +182,9 @@ public class ServerIdpManagementService {
     private final TemplateManager templateManager;
 
     private static final Log log = LogFactory.getLog(ServerIdpManagementService.class);
+    // Gson instances are thread safe, hence a single instance is shared for cloning the identity providers.
+    private static final Gson GSON = new Gson();
+    private static final String IDP_YAML_DUMPER_KEY = "IdentityProviderDumper";
 
     public ServerIdpManagementService(IdentityProviderManager identityProviderManager, TemplateManager templateManager,
                                       ClaimMetadataManagementService claimMetadataManagementService) {
@@ -267,6 +262,7 @@ public class ServerIdpManagementService {
             validateFederatedAuthenticatorsPropertyLimit(identityProviderPOSTRequest.getFederatedAuthenticators());
             identityProvider = identityProviderManager.addIdPWithResourceId(createIDP(identityProviderPOSTRequest),
                     ContextLoader.getTenantDomainFromContext());
+            TenantCache.notifyChange(RESOURCE_TYPE_IDENTITY_PROVIDER, ContextLoader.getTenantDomainFromContext());
         } catch (IdentityProviderManagementException e) {
             throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_ADDING_IDP, null);
         }
@@ -318,6 +314,7 @@ public class ServerIdpManagementService {
             validateSystemReservedIDP(idpToUpdate.getIdentityProviderName());
             IdentityProvider updatedIdP = identityProviderManager.updateIdPByResourceId(identityProviderId, idpToUpdate,
                     ContextLoader.getTenantDomainFromContext());
+            TenantCache.notifyChange(RESOURCE_TYPE_IDENTITY_PROVIDER, ContextLoader.getTenantDomainFromContext());
             return createIDPResponse(updatedIdP);
 
         } catch (IdentityProviderManagementException e) {
@@ -335,6 +332,7 @@ public class ServerIdpManagementService {
         try {
             identityProviderManager.deleteIdPByResourceId(identityProviderId,
                     ContextLoader.getTenantDomainFromContext());
+            TenantCache.notifyChange(RESOURCE_TYPE_IDENTITY_PROVIDER, ContextLoader.getTenantDomainFromContext());
         } catch (IdentityProviderManagementException e) {
             throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_DELETING_IDP, identityProviderId);
         }
@@ -351,6 +349,7 @@ public class ServerIdpManagementService {
         try {
             identityProviderManager.forceDeleteIdpByResourceId(identityProviderId,
                     ContextLoader.getTenantDomainFromContext());
+            TenantCache.notifyChange(RESOURCE_TYPE_IDENTITY_PROVIDER, ContextLoader.getTenantDomainFromContext());
         } catch (IdentityProviderManagementException e) {
             throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_DELETING_IDP, identityProviderId);
         }
@@ -422,6 +421,7 @@ public class ServerIdpManagementService {
             String tenantDomain = ContextLoader.getTenantDomainFromContext();
             identityProvider = identityProviderManager.addIdPWithResourceId(
                     getIDPFromFile(fileInputStream, fileDetail), tenantDomain);
+            TenantCache.notifyChange(RESOURCE_TYPE_IDENTITY_PROVIDER, tenantDomain);
         } catch (IdentityProviderManagementException e) {
             throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_IMPORTING_IDP, null);
         }
@@ -447,6 +447,7 @@ public class ServerIdpManagementService {
             } else {
                 identityProviderManager.updateIdPByResourceId(identityProviderId, identityProvider, tenantDomain);
             }
+            TenantCache.notifyChange(RESOURCE_TYPE_IDENTITY_PROVIDER, tenantDomain);
         } catch (IdentityProviderManagementException e) {
             throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_UPDATING_IDP, null);
         }
@@ -721,6 +722,7 @@ public class ServerIdpManagementService {
             updateFederatedAuthenticatorConfig(idpToUpdate, authenticatorRequest, IdpOperation.UPDATE);
             IdentityProvider updatedIdp = identityProviderManager.updateIdPByResourceId(idpId, idpToUpdate,
                         ContextLoader.getTenantDomainFromContext());
+            TenantCache.notifyChange(RESOURCE_TYPE_IDENTITY_PROVIDER, ContextLoader.getTenantDomainFromContext());
             return createFederatedAuthenticatorResponse(updatedIdp);
         } catch (IdentityProviderManagementException e) {
             throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_UPDATING_IDP, StringUtils.EMPTY);
@@ -779,6 +781,7 @@ public class ServerIdpManagementService {
 
             IdentityProvider updatedIdP = identityProviderManager.updateIdPByResourceId(idpId, idpToUpdate,
                     ContextLoader.getTenantDomainFromContext());
+            TenantCache.notifyChange(RESOURCE_TYPE_IDENTITY_PROVIDER, tenantDomain);
             return createFederatedAuthenticator(federatedAuthenticatorId, updatedIdP);
         } catch (IdentityProviderManagementException e) {
             throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_UPDATING_IDP_AUTHENTICATOR,
@@ -1473,9 +1476,9 @@ public class ServerIdpManagementService {
                 idpTemplateListItem.setName(idpTemplate.getTemplateName());
                 idpTemplateListItem.setImage(idpTemplate.getImageUrl());
                 idpTemplateListItem.setSelf(
-                        ContextLoader.buildURIForBody(String.format(V1_API_PATH_COMPONENT + IDP_PATH_COMPONENT
+                        ContextLoader.buildURLForBody(String.format(V1_API_PATH_COMPONENT + IDP_PATH_COMPONENT
                                         + IDP_TEMPLATE_PATH_COMPONENT + "/%s",
-                                idpTemplate.getTemplateId())).toString());
+                                idpTemplate.getTemplateId())));
                 if (idpTemplate.getPropertiesMap().containsKey(PROP_CATEGORY)) {
                     if (IdentityProviderTemplateListItem.CategoryEnum.CUSTOM.toString()
                             .equals(idpTemplate.getPropertiesMap().get(PROP_CATEGORY))) {
@@ -1536,8 +1539,7 @@ public class ServerIdpManagementService {
                     Integer.valueOf(idpTemplate.getPropertiesMap().get(PROP_DISPLAY_ORDER)));
         }
         if (idpTemplate.getTemplateScript() != null) {
-            ObjectMapper mapper = new ObjectMapper();
-            IdentityProviderPOSTRequest idp = mapper.readValue(idpTemplate.getTemplateScript(),
+            IdentityProviderPOSTRequest idp = CodecRegistry.readJson(idpTemplate.getTemplateScript(),
                     IdentityProviderPOSTRequest.class);
             idpTemplateResponse.setIdp(idp);
         }
@@ -1671,8 +1673,7 @@ public class ServerIdpManagementService {
      */
     private String createIDPTemplateScript(IdentityProviderPOSTRequest idpTemplate) throws JsonProcessingException {
 
-        ObjectMapper mapper = new ObjectMapper();
-        return mapper.writeValueAsString(idpTemplate);
+        return CodecRegistry.getWriter(IdentityProviderPOSTRequest.class).writeValueAsString(idpTemplate);
     }
 
     private ConnectedApps createConnectedAppsResponse(String resourceId, ConnectedAppsResult connectedAppsResult) {
@@ -1686,8 +1687,8 @@ public class ServerIdpManagementService {
             for (String app : connectedAppsResult.getApps()) {
                 ConnectedApp listItem = new ConnectedApp();
                 listItem.setAppId(app);
-                listItem.setSelf(ContextLoader.buildURIForBody(String.format(V1_API_PATH_COMPONENT +
-                                "/applications/%s", app)).toString());
+                listItem.setSelf(ContextLoader.buildURLForBody(String.format(V1_API_PATH_COMPONENT +
+                                "/applications/%s", app)));
                 connectedAppList.add(listItem);
             }
             connectedAppsResponse.setConnectedApps(connectedAppList);
@@ -1720,8 +1721,8 @@ public class ServerIdpManagementService {
                 metaFederatedAuthenticator.setTags(Arrays.asList(tags));
             }
         }
-        metaFederatedAuthenticator.setSelf(ContextLoader.buildURIForBody(String.format(V1_API_PATH_COMPONENT +
-                IDP_PATH_COMPONENT + "/meta/federated-authenticators/%s", authenticatorId)).toString());
+        metaFederatedAuthenticator.setSelf(ContextLoader.buildURLForBody(String.format(V1_API_PATH_COMPONENT +
+                IDP_PATH_COMPONENT + "/meta/federated-authenticators/%s", authenticatorId)));
         return metaFederatedAuthenticator;
     }
 
@@ -1756,8 +1757,8 @@ public class ServerIdpManagementService {
         String connectorId = base64URLEncode(connectorConfig.getName());
         metaOutboundProvisioningConnector.setConnectorId(connectorId);
         metaOutboundProvisioningConnector
-                .setSelf(ContextLoader.buildURIForBody(String.format(V1_API_PATH_COMPONENT + IDP_PATH_COMPONENT +
-                        "/meta/outbound-provisioning-connectors/%s", connectorId)).toString());
+                .setSelf(ContextLoader.buildURLForBody(String.format(V1_API_PATH_COMPONENT + IDP_PATH_COMPONENT +
+                        "/meta/outbound-provisioning-connectors/%s", connectorId)));
         return metaOutboundProvisioningConnector;
     }
 
@@ -2169,8 +2170,8 @@ public class ServerIdpManagementService {
         identityProviderListItem.setIsEnabled(idp.isEnable());
         identityProviderListItem.setImage(idp.getImageUrl());
         identityProviderListItem.setSelf(
-                ContextLoader.buildURIForBody(String.format(V1_API_PATH_COMPONENT + IDP_PATH_COMPONENT + "/%s",
-                        idp.getResourceId())).toString());
+                ContextLoader.buildURLForBody(String.format(V1_API_PATH_COMPONENT + IDP_PATH_COMPONENT + "/%s",
+                        idp.getResourceId())));
 
         // Populate optional IDP information if exists.
         if (requestedAttributeList != null) {
@@ -2264,7 +2265,7 @@ public class ServerIdpManagementService {
         } else {
             url.append(String.format(Constants.PAGINATION_LINK_FORMAT, offset, limit));
         }
-        return new Link().rel(rel).href(ContextLoader.buildURIForBody((url.toString())).toString());
+        return new Link().rel(rel).href(ContextLoader.buildURLForBody((url.toString())));
     }
 
     private IdentityProviderResponse createIDPResponse(IdentityProvider identityProvider) {
@@ -2480,10 +2481,9 @@ public class ServerIdpManagementService {
                 connectorListItem.setName(connectorConfig.getName());
                 connectorListItem.setIsEnabled(connectorConfig.isEnabled());
                 connectorListItem.setSelf(
-                        ContextLoader.buildURIForBody(String.format(V1_API_PATH_COMPONENT + IDP_PATH_COMPONENT +
+                        ContextLoader.buildURLForBody(String.format(V1_API_PATH_COMPONENT + IDP_PATH_COMPONENT +
                                         "/%s/provisioning/outbound-connectors/%s", idp.getResourceId(),
-                                base64URLEncode(connectorConfig.getName())))
-                                .toString());
+                                base64URLEncode(connectorConfig.getName()))));
                 connectors.add(connectorListItem);
             }
         }
@@ -2689,11 +2689,10 @@ public class ServerIdpManagementService {
      */
     private IdentityProvider createIdPClone(IdentityProvider idP) {
 
-        Gson gson = new Gson();
-        IdentityProvider clonedIdentityProvider = gson.fromJson(gson.toJson(idP), IdentityProvider.class);
+        IdentityProvider clonedIdentityProvider = GSON.fromJson(GSON.toJsonTree(idP), IdentityProvider.class);
         if (idP.getFederatedAuthenticatorConfigs().length == 1 &&
                 idP.getFederatedAuthenticatorConfigs()[0].getDefinedByType() == DefinedByType.USER) {
-            UserDefinedFederatedAuthenticatorConfig clonedFedAuth = gson.fromJson(gson.toJson(
+            UserDefinedFederatedAuthenticatorConfig clonedFedAuth = GSON.fromJson(GSON.toJsonTree(
                     idP.getFederatedAuthenticatorConfigs()[0]), UserDefinedFederatedAuthenticatorConfig.class);
             clonedIdentityProvider.setFederatedAuthenticatorConfigs(new FederatedAuthenticatorConfig[]{clonedFedAuth});
         }
@@ -2799,8 +2798,8 @@ public class ServerIdpManagementService {
         listItem.setConnectorId(connectorId);
         listItem.setName(config.getName());
         listItem.setIsEnabled(config.isEnabled());
-        listItem.setSelf(ContextLoader.buildURIForBody(String.format(V1_API_PATH_COMPONENT + IDP_PATH_COMPONENT +
-                "/%s/provisioning/outbound-connectors/%s", idPId, connectorId)).toString());
+        listItem.setSelf(ContextLoader.buildURLForBody(String.format(V1_API_PATH_COMPONENT + IDP_PATH_COMPONENT +
+                "/%s/provisioning/outbound-connectors/%s", idPId, connectorId)));
         return listItem;
     }
 
@@ -3609,14 +3608,9 @@ public class ServerIdpManagementService {
         StringBuilder fileNameSB = new StringBuilder(identityProvider.getIdentityProviderName());
         fileNameSB.append(XML_FILE_EXTENSION);
 
-        JAXBContext jaxbContext;
         try {
-            jaxbContext = JAXBContext.newInstance(IdentityProvider.class);
-            Marshaller marshaller = jaxbContext.createMarshaller();
-            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
-            StringWriter stringWriter = new StringWriter();
-            marshaller.marshal(identityProvider, stringWriter);
-            return new FileContent(fileNameSB.toString(), MEDIA_TYPE_XML, stringWriter.toString());
+            return new FileContent(fileNameSB.toString(), MEDIA_TYPE_XML,
+                    CodecRegistry.marshalToXml(identityProvider, IdentityProvider.class));
         } catch (JAXBException e) {
             throw new IdentityProviderManagementException(
                     "Error when parsing identity provider to XML file.", e);
@@ -3628,10 +3622,9 @@ public class ServerIdpManagementService {
 
         StringBuilder fileNameSB = new StringBuilder(identityProvider.getIdentityProviderName());
         fileNameSB.append(JSON_FILE_EXTENSION);
-        ObjectMapper objectMapper = new ObjectMapper(new JsonFactory());
         try {
             return new FileContent(fileNameSB.toString(), MEDIA_TYPE_JSON,
-                    objectMapper.writeValueAsString(identityProvider));
+                    CodecRegistry.getObjectMapper().writeValueAsString(identityProvider));
         } catch (JsonProcessingException e) {
             throw new IdentityProviderManagementClientException(
                     "Error when parsing identity provider to JSON file.", e);
@@ -3644,15 +3637,16 @@ public class ServerIdpManagementService {
         StringBuilder fileNameSB = new StringBuilder(identityProvider.getIdentityProviderName());
         fileNameSB.append(YAML_FILE_EXTENSION);
 
-        Representer representer = new Representer(new DumperOptions());
-        TypeDescription typeDescription = new TypeDescription(IdentityProvider.class);
-        typeDescription.setExcludes("id", "resourceId");
-        representer.addTypeDescription(typeDescription);
-        representer.getPropertyUtils().setSkipMissingProperties(true);
-
-        Yaml yaml = new Yaml(representer);
         try {
-            return new FileContent(fileNameSB.toString(), MEDIA_TYPE_YAML, yaml.dump(identityProvider));
+            return new FileContent(fileNameSB.toString(), MEDIA_TYPE_YAML,
+                    CodecRegistry.dumpYaml(IDP_YAML_DUMPER_KEY, () -> {
+                        Representer representer = new Representer(new DumperOptions());
+                        TypeDescription typeDescription = new TypeDescription(IdentityProvider.class);
+                        typeDescription.setExcludes("id", "resourceId");
+                        representer.addTypeDescription(typeDescription);
+                        representer.getPropertyUtils().setSkipMissingProperties(true);
+                        return new Yaml(representer);
+                    }, identityProvider));
         } catch (YAMLException e) {
             throw new IdentityProviderManagementException(
                     "Error when parsing identity provider to YAML file.", e);
@@ -3705,9 +3699,7 @@ public class ServerIdpManagementService {
             throws IdentityProviderManagementClientException {
 
         try {
-            JAXBContext jaxbContext = JAXBContext.newInstance(IdentityProvider.class);
-            Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
-            return (IdentityProvider) unmarshaller.unmarshal(new StringReader(fileContent.getContent()));
+            return CodecRegistry.unmarshalFromXml(fileContent.getContent(), IdentityProvider.class);
         } catch (JAXBException e) {
             throw new IdentityProviderManagementClientException(String.format("Error in reading " +
                     "XML file configuration for Identity Provider: %s.", fileContent.getFileName()), e);
@@ -3718,15 +3710,8 @@ public class ServerIdpManagementService {
             throws IdentityProviderManagementClientException {
 
         try {
-            // Add trusted tags included in the IDP YAML files.
-            List<String> trustedTagList = new ArrayList<>();
-            trustedTagList.add(IdentityProvider.class.getName());
-
-            LoaderOptions loaderOptions = new LoaderOptions();
-            TagInspector tagInspector = new TrustedPrefixesTagInspector(trustedTagList);
-            loaderOptions.setTagInspector(tagInspector);
-            Yaml yaml = new Yaml(new Constructor(IdentityProvider.class, loaderOptions));
-            return yaml.loadAs(fileContent.getContent(), IdentityProvider.class);
+            // Trust the tags included in the IDP YAML files.
+            return CodecRegistry.loadYaml(fileContent.getContent(), IdentityProvider.class);
         } catch (YAMLException e) {
             throw new IdentityProviderManagementClientException(String.format("Error in reading YAML file " +
                     "configuration for Identity Provider: %s.", fileContent.getFileName()), e);
@@ -3737,7 +3722,7 @@ public class ServerIdpManagementService {
             throws IdentityProviderManagementClientException {
 
         try {
-            return new ObjectMapper().readValue(fileContent.getContent(), IdentityProvider.class);
+            return CodecRegistry.getObjectMapper().readValue(fileContent.getContent(), IdentityProvider.class);
         } catch (JsonProcessingException e) {
             throw new IdentityProviderManagementClientException(String.format("Error in reading JSON " +
                     "file configuration for Identity Provider: %s.", fileContent.getFileName()), e);
@@ -176,9 +176,9 @@ public class FederatedAuthenticatorConfigBuilderFactory {
             if (ArrayUtils.isNotEmpty(tags)) {
                 authenticatorListItem.setTags(Arrays.asList(tags));
             }
-            authenticatorListItem.setSelf(ContextLoader.buildURIForBody(String.format(V1_API_PATH_COMPONENT +
+            authenticatorListItem.setSelf(ContextLoader.buildURLForBody(String.format(V1_API_PATH_COMPONENT +
                      IDP_PATH_COMPONENT + "/%s/federated-authenticators/%s", idpResourceId,
-                                    base64URLEncode(config.getName()))).toString());
+                                    base64URLEncode(config.getName()))));
             authenticators.add(authenticatorListItem);
         }
 
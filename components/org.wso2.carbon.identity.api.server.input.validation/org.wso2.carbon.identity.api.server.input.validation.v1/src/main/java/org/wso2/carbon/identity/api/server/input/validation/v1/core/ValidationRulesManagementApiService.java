@@ -18,10 +18,10 @@
 
 package org.wso2.carbon.identity.api.server.input.validation.v1.core;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.api.server.common.codec.CodecRegistry;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
 import org.wso2.carbon.identity.api.server.input.validation.common.util.ValidationManagementConstants;
@@ -207,9 +207,7 @@ public class ValidationRulesManagementApiService {
 
         List<ValidatorModel> response = new ArrayList<>();
         for (ValidatorConfiguration configuration : validators) {
-            ObjectMapper mapper = new ObjectMapper();
-            ValidatorModel validator = mapper.convertValue(configuration, ValidatorModel.class);
-            response.add(validator);
+            response.add(CodecRegistry.convertValue(configuration, ValidatorModel.class));
         }
         return response;
     }
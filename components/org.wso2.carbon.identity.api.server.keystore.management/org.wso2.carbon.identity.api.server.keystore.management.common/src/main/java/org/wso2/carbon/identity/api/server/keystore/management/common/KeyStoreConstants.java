@@ -24,9 +24,7 @@ public class KeyStoreConstants {
     public static final String CERTIFICATE_PATH_COMPONENT = "/certs" + "/%s";
     public static final String CLIENT_CERTIFICATE_PATH_COMPONENT = "/client-certs" + "/%s";
 
-    public static final String CERTIFICATE_FILE_EXTENSION = ".cer";
-    public static final String CERTIFICATE_TEMPORARY_DIRECTORY_PATH = "tmp/certs";
-    public static final String PATH_SEPERATOR = "/";
+    public static final int MAX_CERTIFICATES_PER_REQUEST = 100;
 
     /**
      * Enum for Keystore management service related errors.
@@ -34,7 +32,11 @@ public class KeyStoreConstants {
     public enum ErrorMessage {
 
         ERROR_CODE_INVALID_ALIAS("KSS-60010", "There exists no certificate with alias: %s."),
-        ERROR_CODE_FILE_WRITE("KSS-65010", "Unable to create file: %s"),
+        ERROR_CODE_CERTIFICATE_LIMIT_EXCEEDED("KSS-60011", "At most %s certificates can be retrieved in a " +
+                "single request."),
+        ERROR_CODE_ALIAS_REQUIRED("KSS-60012", "At least one certificate alias is required."),
+        ERROR_CODE_INVALID_ATTRIBUTE("KSS-60013", "Unsupported certificate attribute: %s."),
+        ERROR_CODE_INVALID_LIMIT("KSS-60014", "Invalid limit: %s."),
         ERROR_CODE_ENCODE_CERTIFICATE("KSS-65011", "Unable to encode the certificate with alias: %s.");
 
         private final String code;
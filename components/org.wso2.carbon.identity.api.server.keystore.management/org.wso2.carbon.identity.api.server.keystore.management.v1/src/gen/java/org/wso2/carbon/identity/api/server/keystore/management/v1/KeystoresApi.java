@@ -19,10 +19,12 @@
 package org.wso2.carbon.identity.api.server.keystore.management.v1;
 
 import org.wso2.carbon.identity.api.server.keystore.management.v1.factories.KeystoresApiServiceFactory;
+import org.wso2.carbon.identity.api.server.keystore.management.v1.model.CertificateContent;
 import org.wso2.carbon.identity.api.server.keystore.management.v1.model.CertificateRequest;
 import org.wso2.carbon.identity.api.server.keystore.management.v1.model.CertificateResponse;
 import org.wso2.carbon.identity.api.server.keystore.management.v1.model.ErrorResponse;
 import java.io.File;
+import java.util.List;
 
 import javax.validation.Valid;
 import javax.ws.rs.*;
@@ -91,6 +93,30 @@ public class KeystoresApi  {
         return delegate.getCertificate(alias,  encodeCert );
     }
 
+    @Valid
+    @GET
+    @Path("/certs/contents")
+    
+    @Produces({ "application/json" })
+    @ApiOperation(value = "retrieves the certificates of the provided aliases", notes = "This REST API can be used to download multiple certificates from the keystore in a single request", response = CertificateContent.class, responseContainer = "List", authorizations = {
+        @Authorization(value = "BasicAuth"),
+        @Authorization(value = "OAuth2", scopes = {
+            
+        })
+    }, tags={ "Certificates", })
+    @ApiResponses(value = { 
+        @ApiResponse(code = 200, message = "OK.", response = CertificateContent.class, responseContainer = "List"),
+        @ApiResponse(code = 400, message = "Bad Request.", response = ErrorResponse.class),
+        @ApiResponse(code = 401, message = "Unauthorized.", response = ErrorResponse.class),
+        @ApiResponse(code = 403, message = "Resource Forbidden.", response = ErrorResponse.class),
+        @ApiResponse(code = 404, message = "Resource Not Found.", response = ErrorResponse.class),
+        @ApiResponse(code = 500, message = "Internal Server Error.", response = ErrorResponse.class)
+    })
+    public Response getCertificateContents(    @Valid @NotNull(message = "Property  cannot be null.") @ApiParam(value = "Aliases of the certificates. At most 100 certificates can be retrieved in a single request.",required=true)  @QueryParam("alias") List<String> alias,     @Valid@ApiParam(value = "")  @QueryParam("encode-cert") Boolean encodeCert) {
+
+        return delegate.getCertificateContents(alias,  encodeCert );
+    }
+
     @Valid
     @GET
     @Path("/certs")
@@ -110,9 +136,9 @@ public class KeystoresApi  {
         @ApiResponse(code = 404, message = "Resource Not Found.", response = ErrorResponse.class),
         @ApiResponse(code = 500, message = "Internal Server Error.", response = ErrorResponse.class)
     })
-    public Response getCertificateAliases(    @Valid@ApiParam(value = "Condition to filter the retrival of records. Supports 'sw', 'co', 'ew' and 'eq' operations. E.g. keystores/certs?filter=alias+eq+wso2carbon")  @QueryParam("filter") String filter) {
+    public Response getCertificateAliases(    @Valid@ApiParam(value = "Condition to filter the retrival of records. Supports 'sw', 'co', 'ew' and 'eq' operations. E.g. keystores/certs?filter=alias+eq+wso2carbon")  @QueryParam("filter") String filter,     @Valid@ApiParam(value = "Alias of the last certificate of the previous page. When after or limit is given, the Link header of a full page points to the next page.")  @QueryParam("after") String after,     @Valid @Min(1)@ApiParam(value = "Maximum number of certificates to be returned.")  @QueryParam("limit") Integer limit,     @Valid@ApiParam(value = "Comma separated list of the certificate attributes to be returned. Supports subject, issuer and expiryTime.")  @QueryParam("attributes") String attributes) {
 
-        return delegate.getCertificateAliases(filter );
+        return delegate.getCertificateAliases(filter,  after,  limit,  attributes );
     }
 
     @Valid
@@ -158,9 +184,9 @@ public class KeystoresApi  {
         @ApiResponse(code = 404, message = "Resource Not Found.", response = ErrorResponse.class),
         @ApiResponse(code = 500, message = "Internal Server Error.", response = ErrorResponse.class)
     })
-    public Response getClientCertificateAliases(    @Valid@ApiParam(value = "Condition to filter the retrival of records. Supports 'sw', 'co', 'ew' and 'eq' operations. E.g. keystores/certs?filter=alias+eq+wso2carbon")  @QueryParam("filter") String filter) {
+    public Response getClientCertificateAliases(    @Valid@ApiParam(value = "Condition to filter the retrival of records. Supports 'sw', 'co', 'ew' and 'eq' operations. E.g. keystores/certs?filter=alias+eq+wso2carbon")  @QueryParam("filter") String filter,     @Valid@ApiParam(value = "Alias of the last certificate of the previous page. When after or limit is given, the Link header of a full page points to the next page.")  @QueryParam("after") String after,     @Valid @Min(1)@ApiParam(value = "Maximum number of certificates to be returned.")  @QueryParam("limit") Integer limit,     @Valid@ApiParam(value = "Comma separated list of the certificate attributes to be returned. Supports subject, issuer and expiryTime.")  @QueryParam("attributes") String attributes) {
 
-        return delegate.getClientCertificateAliases(filter );
+        return delegate.getClientCertificateAliases(filter,  after,  limit,  attributes );
     }
 
     @Valid
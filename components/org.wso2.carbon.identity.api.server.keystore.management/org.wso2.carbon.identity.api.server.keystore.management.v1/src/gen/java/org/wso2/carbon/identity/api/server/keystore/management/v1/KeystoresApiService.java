@@ -20,10 +20,12 @@ import org.wso2.carbon.identity.api.server.keystore.management.v1.*;
 import org.wso2.carbon.identity.api.server.keystore.management.v1.model.*;
 import org.apache.cxf.jaxrs.ext.multipart.Attachment;
 import org.apache.cxf.jaxrs.ext.multipart.Multipart;
+import org.wso2.carbon.identity.api.server.keystore.management.v1.model.CertificateContent;
 import org.wso2.carbon.identity.api.server.keystore.management.v1.model.CertificateRequest;
 import org.wso2.carbon.identity.api.server.keystore.management.v1.model.CertificateResponse;
 import org.wso2.carbon.identity.api.server.keystore.management.v1.model.ErrorResponse;
 import java.io.File;
+import java.util.List;
 import javax.ws.rs.core.Response;
 
 
@@ -33,11 +35,13 @@ public interface KeystoresApiService {
 
       public Response getCertificate(String alias, Boolean encodeCert);
 
-      public Response getCertificateAliases(String filter);
+      public Response getCertificateAliases(String filter, String after, Integer limit, String attributes);
+
+      public Response getCertificateContents(List<String> alias, Boolean encodeCert);
 
       public Response getClientCertificate(String alias, Boolean encodeCert);
 
-      public Response getClientCertificateAliases(String filter);
+      public Response getClientCertificateAliases(String filter, String after, Integer limit, String attributes);
 
       public Response getPublicCertificate(Boolean encodeCert);
 
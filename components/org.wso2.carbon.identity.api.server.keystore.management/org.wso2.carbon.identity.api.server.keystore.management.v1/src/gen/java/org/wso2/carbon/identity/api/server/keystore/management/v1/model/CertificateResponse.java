@@ -33,6 +33,9 @@ public class CertificateResponse  {
   
     private String alias;
     private URI certificate;
+    private String subject;
+    private String issuer;
+    private String expiryTime;
 
     /**
     **/
@@ -74,6 +77,63 @@ public class CertificateResponse  {
         this.certificate = certificate;
     }
 
+    /**
+    * Subject of the certificate. Returned only if requested with the attributes parameter.
+    **/
+    public CertificateResponse subject(String subject) {
+
+        this.subject = subject;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "CN=localhost, OU=WSO2, O=WSO2, L=Mountain View, ST=CA, C=US", value = "Subject of the certificate. Returned only if requested with the attributes parameter.")
+    @JsonProperty("subject")
+    @Valid
+    public String getSubject() {
+        return subject;
+    }
+    public void setSubject(String subject) {
+        this.subject = subject;
+    }
+
+    /**
+    * Issuer of the certificate. Returned only if requested with the attributes parameter.
+    **/
+    public CertificateResponse issuer(String issuer) {
+
+        this.issuer = issuer;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "CN=localhost, OU=WSO2, O=WSO2, L=Mountain View, ST=CA, C=US", value = "Issuer of the certificate. Returned only if requested with the attributes parameter.")
+    @JsonProperty("issuer")
+    @Valid
+    public String getIssuer() {
+        return issuer;
+    }
+    public void setIssuer(String issuer) {
+        this.issuer = issuer;
+    }
+
+    /**
+    * Expiry time of the certificate. Returned only if requested with the attributes parameter.
+    **/
+    public CertificateResponse expiryTime(String expiryTime) {
+
+        this.expiryTime = expiryTime;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "2029-10-19T09:38:23Z", value = "Expiry time of the certificate. Returned only if requested with the attributes parameter.")
+    @JsonProperty("expiryTime")
+    @Valid
+    public String getExpiryTime() {
+        return expiryTime;
+    }
+    public void setExpiryTime(String expiryTime) {
+        this.expiryTime = expiryTime;
+    }
+
 
 
     @Override
@@ -87,12 +147,15 @@ public class CertificateResponse  {
         }
         CertificateResponse certificateResponse = (CertificateResponse) o;
         return Objects.equals(this.alias, certificateResponse.alias) &&
-            Objects.equals(this.certificate, certificateResponse.certificate);
+            Objects.equals(this.certificate, certificateResponse.certificate) &&
+            Objects.equals(this.subject, certificateResponse.subject) &&
+            Objects.equals(this.issuer, certificateResponse.issuer) &&
+            Objects.equals(this.expiryTime, certificateResponse.expiryTime);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(alias, certificate);
+        return Objects.hash(alias, certificate, subject, issuer, expiryTime);
     }
 
     @Override
@@ -103,6 +166,9 @@ public class CertificateResponse  {
         
         sb.append("    alias: ").append(toIndentedString(alias)).append("\n");
         sb.append("    certificate: ").append(toIndentedString(certificate)).append("\n");
+        sb.append("    subject: ").append(toIndentedString(subject)).append("\n");
+        sb.append("    issuer: ").append(toIndentedString(issuer)).append("\n");
+        sb.append("    expiryTime: ").append(toIndentedString(expiryTime)).append("\n");
         sb.append("}");
         return sb.toString();
     }
@@ -22,41 +22,49 @@ import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.cache.TenantCache;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
 import org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants;
+import org.wso2.carbon.identity.api.server.keystore.management.v1.model.CertificateContent;
 import org.wso2.carbon.identity.api.server.keystore.management.v1.model.CertificateResponse;
 import org.wso2.carbon.security.keystore.KeyStoreManagementException;
 import org.wso2.carbon.security.keystore.KeyStoreManagementServerException;
 import org.wso2.carbon.security.keystore.KeyStoreManagementService;
 
-import java.io.File;
-import java.io.FileOutputStream;
-import java.io.IOException;
-import java.io.OutputStreamWriter;
-import java.io.Writer;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.security.cert.CertificateEncodingException;
 import java.security.cert.X509Certificate;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
 import javax.ws.rs.core.Response;
 
+import static org.wso2.carbon.identity.api.server.common.Constants.RESOURCE_TYPE_KEYSTORE;
 import static org.wso2.carbon.identity.api.server.common.Constants.V1_API_PATH_COMPONENT;
 import static org.wso2.carbon.identity.api.server.common.ContextLoader.buildURIForHeader;
-import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.CERTIFICATE_FILE_EXTENSION;
 import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.CERTIFICATE_PATH_COMPONENT;
-import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.CERTIFICATE_TEMPORARY_DIRECTORY_PATH;
 import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.CLIENT_CERTIFICATE_PATH_COMPONENT;
+import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.ErrorMessage.ERROR_CODE_ALIAS_REQUIRED;
+import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.ErrorMessage.ERROR_CODE_CERTIFICATE_LIMIT_EXCEEDED;
 import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.ErrorMessage.ERROR_CODE_ENCODE_CERTIFICATE;
-import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.ErrorMessage.ERROR_CODE_FILE_WRITE;
 import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.ErrorMessage.ERROR_CODE_INVALID_ALIAS;
+import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.ErrorMessage.ERROR_CODE_INVALID_ATTRIBUTE;
+import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.ErrorMessage.ERROR_CODE_INVALID_LIMIT;
 import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.KEYSTORES_API_PATH_COMPONENT;
-import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.PATH_SEPERATOR;
+import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.MAX_CERTIFICATES_PER_REQUEST;
 
 /**
  * Keystore service APIs are processed in this class.
@@ -66,27 +74,48 @@ public class KeyStoreService {
     private final KeyStoreManagementService keyStoreManagementService;
     private static final Log LOG = LogFactory.getLog(KeyStoreService.class);
 
+    /* Encoded certificates of each tenant, keyed by the store, the alias and the encoding. Certificates are uploaded
+    and deleted through this API, which drops the certificates of the tenant. */
+    private static final TenantCache<Map<List<String>, byte[]>> CERTIFICATE_CONTENTS =
+            new TenantCache<>("Certificate", 300, RESOURCE_TYPE_KEYSTORE);
+    private static final int MAX_CERTIFICATE_CONTENTS_PER_TENANT = 200;
+    private static final String KEYSTORE = "KEYSTORE";
+    private static final String CLIENT_TRUSTSTORE = "CLIENT_TRUSTSTORE";
+    private static final String PUBLIC_CERTIFICATE = "PUBLIC";
+
+    // Sorted aliases of the keystore and the client truststore of each tenant, keyed by the store.
+    private static final TenantCache<Map<String, List<String>>> ALIAS_INDEXES =
+            new TenantCache<>("CertificateAliases", 300, RESOURCE_TYPE_KEYSTORE);
+    private static final String ATTRIBUTE_SUBJECT = "subject";
+    private static final String ATTRIBUTE_ISSUER = "issuer";
+    private static final String ATTRIBUTE_EXPIRY_TIME = "expiryTime";
+    private static final List<String> CERTIFICATE_ATTRIBUTES =
+            Arrays.asList(ATTRIBUTE_SUBJECT, ATTRIBUTE_ISSUER, ATTRIBUTE_EXPIRY_TIME);
+
     public KeyStoreService(KeyStoreManagementService keyStoreManagementService) {
 
         this.keyStoreManagementService = keyStoreManagementService;
     }
 
     /**
-     * Retrieves the list of certificates from the keystore.
+     * Retrieves the list of certificates from the keystore, ordered by the alias.
      *
-     * @param filter used to filter the result.
+     * @param filter     used to filter the result.
+     * @param after      alias of the last certificate of the previous page. Null for the first page.
+     * @param limit      maximum number of certificates to be returned. Null to return all the certificates.
+     * @param attributes comma separated list of the certificate attributes to be returned. Can be null.
      * @return {@link List} of {@link CertificateResponse}
      */
-    public List<CertificateResponse> listCertificateAliases(String filter) {
+    public List<CertificateResponse> listCertificateAliases(String filter, String after, Integer limit,
+                                                            String attributes) {
 
-        List<String> aliasList;
+        Set<String> requestedAttributes = parseAttributes(attributes);
         String tenantDomain = ContextLoader.getTenantDomainFromContext();
-        try {
-            aliasList = keyStoreManagementService.getKeyStoreCertificateAliases(tenantDomain, filter);
-        } catch (KeyStoreManagementException e) {
-            throw handleException(e, "Unable to list certificates from keystore.");
-        }
-        return generateCertificateResponseList(aliasList, false);
+        List<String> aliasList = getAliasPage(tenantDomain, KEYSTORE, filter, after, limit,
+                aliasFilter -> keyStoreManagementService.getKeyStoreCertificateAliases(tenantDomain, aliasFilter),
+                "Unable to list certificates from keystore.");
+        return generateCertificateResponseList(aliasList, false, requestedAttributes,
+                alias -> loadKeyStoreCertificate(tenantDomain, alias));
     }
 
     /**
@@ -94,23 +123,47 @@ public class KeyStoreService {
      *
      * @param alias      of the certificate.
      * @param encodeCert boolean value to decide whether the needs to be encoded or not.
-     * @return a {@link File} with the certificate.
+     * @return content of the certificate.
      */
-    public File getCertificate(String alias, boolean encodeCert) {
+    public byte[] getCertificate(String alias, boolean encodeCert) {
 
-        X509Certificate certificate;
         String tenantDomain = ContextLoader.getTenantDomainFromContext();
-        try {
-            certificate = keyStoreManagementService.getKeyStoreCertificate(tenantDomain, alias);
-        } catch (KeyStoreManagementException e) {
-            throw handleException(e, "Unable to retrieve the certificate with alias: " + alias + " from keystore");
+        return getCertificateContent(tenantDomain, KEYSTORE, alias, encodeCert,
+                () -> loadKeyStoreCertificate(tenantDomain, alias));
+    }
+
+    /**
+     * Retrieves the certificates of the given aliases from the keystore.
+     *
+     * @param aliases    of the certificates.
+     * @param encodeCert boolean value to decide whether the certificates need to be encoded or not.
+     * @return {@link List} of {@link CertificateContent}, in the order of the aliases.
+     */
+    public List<CertificateContent> getCertificateContents(List<String> aliases, boolean encodeCert) {
+
+        Set<String> uniqueAliases = new LinkedHashSet<>();
+        if (aliases != null) {
+            for (String alias : aliases) {
+                if (StringUtils.isNotBlank(alias)) {
+                    uniqueAliases.add(alias);
+                }
+            }
+        }
+        if (uniqueAliases.isEmpty()) {
+            throw handleException(ERROR_CODE_ALIAS_REQUIRED, null, "No certificate aliases were provided.",
+                    Response.Status.BAD_REQUEST);
+        }
+        if (uniqueAliases.size() > MAX_CERTIFICATES_PER_REQUEST) {
+            throw handleException(ERROR_CODE_CERTIFICATE_LIMIT_EXCEEDED, String.valueOf(MAX_CERTIFICATES_PER_REQUEST),
+                    uniqueAliases.size() + " certificates were requested.", Response.Status.BAD_REQUEST);
         }
 
-        if (certificate == null) {
-            throw handleException(ERROR_CODE_INVALID_ALIAS, alias, "Couldn't find a certificate with alias: " + alias +
-                    " from the keystore.", Response.Status.BAD_REQUEST);
+        List<CertificateContent> certificateContents = new ArrayList<>();
+        for (String alias : uniqueAliases) {
+            certificateContents.add(new CertificateContent().alias(alias)
+                    .certificate(new String(getCertificate(alias, encodeCert), StandardCharsets.UTF_8)));
         }
-        return generateCertificateFile(alias, certificate, encodeCert);
+        return certificateContents;
     }
 
     /**
@@ -127,6 +180,7 @@ public class KeyStoreService {
         } catch (KeyStoreManagementException e) {
             throw handleException(e, "Unable to upload the certificate with alias: " + alias + " to the keystore.");
         }
+        TenantCache.notifyChange(RESOURCE_TYPE_KEYSTORE, tenantDomain);
         String certificateEndPoint = String.format(V1_API_PATH_COMPONENT + KEYSTORES_API_PATH_COMPONENT +
                 CERTIFICATE_PATH_COMPONENT, alias);
         return buildURIForHeader(certificateEndPoint);
@@ -145,24 +199,28 @@ public class KeyStoreService {
         } catch (KeyStoreManagementException e) {
             throw handleException(e, "Unable to remove the certificate with alias: " + alias + " from the keystore.");
         }
+        TenantCache.notifyChange(RESOURCE_TYPE_KEYSTORE, tenantDomain);
     }
 
     /**
-     * Retrieves the list of certificate aliases from the client truststore.
+     * Retrieves the list of certificate aliases from the client truststore, ordered by the alias.
      *
-     * @param filter used to filter the result.
+     * @param filter     used to filter the result.
+     * @param after      alias of the last certificate of the previous page. Null for the first page.
+     * @param limit      maximum number of certificates to be returned. Null to return all the certificates.
+     * @param attributes comma separated list of the certificate attributes to be returned. Can be null.
      * @return {@link List} of {@link CertificateResponse}
      */
-    public List<CertificateResponse> listClientCertificateAliases(String filter) {
+    public List<CertificateResponse> listClientCertificateAliases(String filter, String after, Integer limit,
+                                                                  String attributes) {
 
-        List<String> aliasList;
+        Set<String> requestedAttributes = parseAttributes(attributes);
         String tenantDomain = ContextLoader.getTenantDomainFromContext();
-        try {
-            aliasList = keyStoreManagementService.getClientCertificateAliases(tenantDomain, filter);
-        } catch (KeyStoreManagementException e) {
-            throw handleException(e, "Unable to retrieve the list of certificates from client truststore.");
-        }
-        return generateCertificateResponseList(aliasList, true);
+        List<String> aliasList = getAliasPage(tenantDomain, CLIENT_TRUSTSTORE, filter, after, limit,
+                aliasFilter -> keyStoreManagementService.getClientCertificateAliases(tenantDomain, aliasFilter),
+                "Unable to retrieve the list of certificates from client truststore.");
+        return generateCertificateResponseList(aliasList, true, requestedAttributes,
+                alias -> loadClientCertificate(tenantDomain, alias));
     }
 
     /**
@@ -170,12 +228,59 @@ public class KeyStoreService {
      *
      * @param alias      of the certificate.
      * @param encodeCert boolean value to decide whether the needs to be encoded or not.
-     * @return a {@link File} with the certificate.
+     * @return content of the certificate.
      */
-    public File getClientCertificate(String alias, boolean encodeCert) {
+    public byte[] getClientCertificate(String alias, boolean encodeCert) {
+
+        String tenantDomain = ContextLoader.getTenantDomainFromContext();
+        return getCertificateContent(tenantDomain, CLIENT_TRUSTSTORE, alias, encodeCert,
+                () -> loadClientCertificate(tenantDomain, alias));
+    }
+
+    /**
+     * Retrieves the public certificate from the keystore.
+     *
+     * @param encodeCert boolean value to decide whether the needs to be encoded or not.
+     * @return content of the certificate.
+     */
+    public byte[] getPublicCertificate(boolean encodeCert) {
 
-        X509Certificate certificate;
         String tenantDomain = ContextLoader.getTenantDomainFromContext();
+        return getCertificateContent(tenantDomain, PUBLIC_CERTIFICATE, StringUtils.EMPTY, encodeCert, () -> {
+            Map<String, X509Certificate> certificateData;
+            try {
+                certificateData = keyStoreManagementService.getPublicCertificate(tenantDomain);
+            } catch (KeyStoreManagementException e) {
+                throw handleException(e, "Unable to retrieve the public certificate from from keystore.");
+            }
+
+            X509Certificate certificate = null;
+            for (X509Certificate value : certificateData.values()) {
+                certificate = value;
+            }
+            return certificate;
+        });
+    }
+
+    private X509Certificate loadKeyStoreCertificate(String tenantDomain, String alias) {
+
+        X509Certificate certificate;
+        try {
+            certificate = keyStoreManagementService.getKeyStoreCertificate(tenantDomain, alias);
+        } catch (KeyStoreManagementException e) {
+            throw handleException(e, "Unable to retrieve the certificate with alias: " + alias + " from keystore");
+        }
+
+        if (certificate == null) {
+            throw handleException(ERROR_CODE_INVALID_ALIAS, alias, "Couldn't find a certificate with alias: " + alias +
+                    " from the keystore.", Response.Status.BAD_REQUEST);
+        }
+        return certificate;
+    }
+
+    private X509Certificate loadClientCertificate(String tenantDomain, String alias) {
+
+        X509Certificate certificate;
         try {
             certificate = keyStoreManagementService.getClientCertificate(tenantDomain, alias);
         } catch (KeyStoreManagementException e) {
@@ -187,36 +292,112 @@ public class KeyStoreService {
             throw handleException(ERROR_CODE_INVALID_ALIAS, alias, "Couldn't find a certificate with alias: " + alias +
                     " from the keystore.", Response.Status.BAD_REQUEST);
         }
-        return generateCertificateFile(alias, certificate, encodeCert);
+        return certificate;
     }
 
     /**
-     * Retrieves the public certificate from the keystore.
+     * Get the page of the aliases matching the filter, which follow the given alias.
      *
-     * @param encodeCert boolean value to decide whether the needs to be encoded or not.
-     * @return a {@link File} with the certificate.
+     * <p>Aliases are looked up in the sorted alias index of the store, which is cached per tenant and dropped when
+     * a certificate is uploaded or deleted. Filters on the alias are evaluated against the index, and the {@code sw}
+     * and {@code eq} filters only scan the matching range of the index. Other filters are passed to the keystore
+     * management service, which also reports the invalid filters.</p>
+     *
+     * @param tenantDomain     Tenant domain.
+     * @param store            Store the aliases are listed from.
+     * @param filter           Filter of the aliases. Can be null.
+     * @param after            Alias of the last certificate of the previous page. Null for the first page.
+     * @param limit            Maximum number of aliases to be returned. Must be positive if given. Null to return
+     *                         all the aliases.
+     * @param loader           Loader of the aliases of the store, matching the given filter.
+     * @param errorDescription Description of the error reported if the aliases could not be loaded.
+     * @return Aliases of the page, in ascending order.
      */
-    public File getPublicCertificate(boolean encodeCert) {
+    private List<String> getAliasPage(String tenantDomain, String store, String filter, String after, Integer limit,
+                                      AliasLoader loader, String errorDescription) {
+
+        if (limit != null && limit < 1) {
+            throw handleException(ERROR_CODE_INVALID_LIMIT, String.valueOf(limit),
+                    "The limit should be a positive integer.", Response.Status.BAD_REQUEST);
+        }
+        AliasFilter aliasFilter = AliasFilter.parse(filter);
+        List<String> sortedAliases;
+        if (StringUtils.isBlank(filter) || aliasFilter != null) {
+            Map<String, List<String>> aliasIndexes = ALIAS_INDEXES.get(tenantDomain, ConcurrentHashMap::new);
+            sortedAliases = aliasIndexes.get(store);
+            if (sortedAliases == null) {
+                sortedAliases = sortAliases(loadAliases(loader, null, errorDescription));
+                aliasIndexes.put(store, sortedAliases);
+            }
+        } else {
+            sortedAliases = sortAliases(loadAliases(loader, filter, errorDescription));
+        }
+
+        int start = after == null ? 0 : getInsertionPoint(sortedAliases, after, true);
+        if (aliasFilter != null && aliasFilter.isRangeFilter()) {
+            start = Math.max(start, getInsertionPoint(sortedAliases, aliasFilter.value, false));
+        }
+        List<String> page = new ArrayList<>();
+        for (int i = start; i < sortedAliases.size() && (limit == null || page.size() < limit); i++) {
+            String alias = sortedAliases.get(i);
+            if (aliasFilter == null || aliasFilter.matches(alias)) {
+                page.add(alias);
+            } else if (aliasFilter.isPastRange(alias)) {
+                break;
+            }
+        }
+        return page;
+    }
+
+    private List<String> loadAliases(AliasLoader loader, String filter, String errorDescription) {
 
-        Map<String, X509Certificate> certificateData;
-        String tenantDomain = ContextLoader.getTenantDomainFromContext();
         try {
-            certificateData = keyStoreManagementService.getPublicCertificate(tenantDomain);
+            List<String> aliases = loader.load(filter);
+            return aliases != null ? aliases : Collections.emptyList();
         } catch (KeyStoreManagementException e) {
-            throw handleException(e, "Unable to retrieve the public certificate from from keystore.");
+            throw handleException(e, errorDescription);
+        }
+    }
+
+    private static List<String> sortAliases(List<String> aliases) {
+
+        List<String> sortedAliases = new ArrayList<>(aliases);
+        Collections.sort(sortedAliases);
+        return Collections.unmodifiableList(sortedAliases);
+    }
+
+    /**
+     * Get the index of the first alias which is greater than, or if not exclusive, equal to the given alias.
+     */
+    private static int getInsertionPoint(List<String> sortedAliases, String alias, boolean exclusive) {
+
+        int index = Collections.binarySearch(sortedAliases, alias);
+        if (index >= 0) {
+            return exclusive ? index + 1 : index;
         }
+        return -index - 1;
+    }
+
+    private Set<String> parseAttributes(String attributes) {
 
-        String alias = null;
-        X509Certificate certificate = null;
-        Set<String> keyset = certificateData.keySet();
-        for (String key : keyset) {
-            alias = key;
-            certificate = certificateData.get(alias);
+        Set<String> requestedAttributes = new HashSet<>();
+        if (StringUtils.isBlank(attributes)) {
+            return requestedAttributes;
         }
-        return generateCertificateFile(alias, certificate, encodeCert);
+        for (String attribute : attributes.split(",")) {
+            String trimmedAttribute = attribute.trim();
+            if (!CERTIFICATE_ATTRIBUTES.contains(trimmedAttribute)) {
+                throw handleException(ERROR_CODE_INVALID_ATTRIBUTE, trimmedAttribute, "Supported attributes are: " +
+                        String.join(", ", CERTIFICATE_ATTRIBUTES) + ".", Response.Status.BAD_REQUEST);
+            }
+            requestedAttributes.add(trimmedAttribute);
+        }
+        return requestedAttributes;
     }
 
-    private List<CertificateResponse> generateCertificateResponseList(List<String> aliasList, boolean isClientCert) {
+    private List<CertificateResponse> generateCertificateResponseList(List<String> aliasList, boolean isClientCert,
+                                                                      Set<String> attributes,
+                                                                      Function<String, X509Certificate> loader) {
 
         List<CertificateResponse> certificatesResponses = new ArrayList<>();
         String componentPath;
@@ -233,12 +414,65 @@ public class KeyStoreService {
                     String.format(V1_API_PATH_COMPONENT + KEYSTORES_API_PATH_COMPONENT +
                             componentPath, alias);
             certificatesResponse.setCertificate(buildURIForHeader(certificateEndPoint));
+            if (!attributes.isEmpty()) {
+                // Certificates are loaded only for the aliases of the returned page.
+                X509Certificate certificate = loader.apply(alias);
+                if (attributes.contains(ATTRIBUTE_SUBJECT)) {
+                    certificatesResponse.setSubject(certificate.getSubjectX500Principal().toString());
+                }
+                if (attributes.contains(ATTRIBUTE_ISSUER)) {
+                    certificatesResponse.setIssuer(certificate.getIssuerX500Principal().toString());
+                }
+                if (attributes.contains(ATTRIBUTE_EXPIRY_TIME)) {
+                    certificatesResponse.setExpiryTime(certificate.getNotAfter().toInstant().toString());
+                }
+            }
             certificatesResponses.add(certificatesResponse);
         }
         return certificatesResponses;
     }
 
-    private File generateCertificateFile(String alias, X509Certificate certificate, boolean encodeCert) {
+    /**
+     * Get the content of the given certificate from the cache, loading and encoding the certificate if it is not
+     * cached. Failed loads are not cached.
+     *
+     * @param tenantDomain Tenant domain.
+     * @param store        Store the certificate is retrieved from.
+     * @param alias        Alias of the certificate.
+     * @param encodeCert   Whether the certificate needs to be encoded or not.
+     * @param loader       Loader of the certificate.
+     * @return Content of the certificate. The content is shared between requests, hence it should not be modified.
+     */
+    private byte[] getCertificateContent(String tenantDomain, String store, String alias, boolean encodeCert,
+                                         Supplier<X509Certificate> loader) {
+
+        List<String> key = Arrays.asList(store, alias, String.valueOf(encodeCert));
+        Map<List<String>, byte[]> certificateContents = CERTIFICATE_CONTENTS.get(tenantDomain,
+                KeyStoreService::createCertificateContentMap);
+        byte[] content = certificateContents.get(key);
+        if (content == null) {
+            content = encodeCertificate(alias, loader.get(), encodeCert);
+            certificateContents.put(key, content);
+        }
+        return content;
+    }
+
+    private static Map<List<String>, byte[]> createCertificateContentMap() {
+
+        // Aliases come from the request, hence the number of certificates kept per tenant is bounded.
+        return Collections.synchronizedMap(new LinkedHashMap<List<String>, byte[]>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 6284011931795203518L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<List<String>, byte[]> eldest) {
+
+                return size() > MAX_CERTIFICATE_CONTENTS_PER_TENANT;
+            }
+        });
+    }
+
+    private byte[] encodeCertificate(String alias, X509Certificate certificate, boolean encodeCert) {
 
         String certificateContent;
         if (encodeCert) {
@@ -250,30 +484,7 @@ public class KeyStoreService {
         } else {
             certificateContent = certificate.toString();
         }
-
-        String fileName = alias + CERTIFICATE_FILE_EXTENSION;
-        File certsDirectory = new File(CERTIFICATE_TEMPORARY_DIRECTORY_PATH).getAbsoluteFile();
-        if (certsDirectory.mkdirs()) {
-            if (LOG.isDebugEnabled()) {
-                LOG.debug(certsDirectory.toString() + " has been created.");
-            }
-        }
-        File certificateFile = new File(CERTIFICATE_TEMPORARY_DIRECTORY_PATH + PATH_SEPERATOR + fileName)
-                .getAbsoluteFile();
-        try {
-            if (certificateFile.createNewFile()) {
-                if (LOG.isDebugEnabled()) {
-                    LOG.debug("A file has been created with name: " + fileName);
-                }
-            }
-            try (Writer fileWriter = new OutputStreamWriter(new FileOutputStream(certificateFile),
-                    StandardCharsets.UTF_8)) {
-                fileWriter.write(certificateContent);
-            }
-        } catch (IOException e) {
-            throw handleException(ERROR_CODE_FILE_WRITE, fileName, e, Response.Status.INTERNAL_SERVER_ERROR);
-        }
-        return certificateFile;
+        return certificateContent.getBytes(StandardCharsets.UTF_8);
     }
 
     private APIError handleException(KeyStoreManagementException e, String description) {
@@ -317,4 +528,88 @@ public class KeyStoreService {
         }
         return message;
     }
+
+    /**
+     * Loads the aliases of a store, matching the given filter.
+     */
+    @FunctionalInterface
+    private interface AliasLoader {
+
+        List<String> load(String filter) throws KeyStoreManagementException;
+    }
+
+    /**
+     * Filter on the alias, in the format supported by the keystore management service. E.g. alias sw wso2
+     */
+    private static class AliasFilter {
+
+        private static final String ATTRIBUTE_ALIAS = "alias";
+        private static final String OPERATION_EQ = "eq";
+        private static final String OPERATION_SW = "sw";
+        private static final String OPERATION_EW = "ew";
+        private static final String OPERATION_CO = "co";
+
+        private final String operation;
+        private final String value;
+
+        private AliasFilter(String operation, String value) {
+
+            this.operation = operation;
+            this.value = value;
+        }
+
+        /**
+         * Parse the given filter.
+         *
+         * @param filter Filter string.
+         * @return Alias filter, or null if the filter is blank or not a supported alias filter.
+         */
+        static AliasFilter parse(String filter) {
+
+            if (StringUtils.isBlank(filter)) {
+                return null;
+            }
+            String[] filterParts = filter.trim().split("[\\s+]+");
+            if (filterParts.length != 3 || !ATTRIBUTE_ALIAS.equals(filterParts[0])) {
+                return null;
+            }
+            String operation = filterParts[1];
+            if (!OPERATION_EQ.equals(operation) && !OPERATION_SW.equals(operation) &&
+                    !OPERATION_EW.equals(operation) && !OPERATION_CO.equals(operation)) {
+                return null;
+            }
+            return new AliasFilter(operation, filterParts[2]);
+        }
+
+        boolean matches(String alias) {
+
+            switch (operation) {
+                case OPERATION_EQ:
+                    return alias.equals(value);
+                case OPERATION_SW:
+                    return alias.startsWith(value);
+                case OPERATION_EW:
+                    return alias.endsWith(value);
+                default:
+                    return alias.contains(value);
+            }
+        }
+
+        /**
+         * Check whether the matching aliases form a contiguous range of the sorted aliases.
+         */
+        boolean isRangeFilter() {
+
+            return OPERATION_EQ.equals(operation) || OPERATION_SW.equals(operation);
+        }
+
+        /**
+         * Check whether the given alias, and hence all the aliases which follow it in order, are past the range of
+         * the matching aliases.
+         */
+        boolean isPastRange(String alias) {
+
+            return isRangeFilter() && alias.compareTo(value) > 0 && !matches(alias);
+        }
+    }
 }
@@ -20,12 +20,18 @@ package org.wso2.carbon.identity.api.server.keystore.management.v1.impl;
 
 import org.apache.commons.lang.StringUtils;
 import org.wso2.carbon.base.MultitenantConstants;
+import org.wso2.carbon.identity.api.server.common.report.ReportWriter;
 import org.wso2.carbon.identity.api.server.keystore.management.v1.KeystoresApiService;
 import org.wso2.carbon.identity.api.server.keystore.management.v1.core.KeyStoreService;
 import org.wso2.carbon.identity.api.server.keystore.management.v1.factories.KeyStoreServiceFactory;
 import org.wso2.carbon.identity.api.server.keystore.management.v1.model.CertificateRequest;
+import org.wso2.carbon.identity.api.server.keystore.management.v1.model.CertificateResponse;
 
 import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.NewCookie;
 import javax.ws.rs.core.Response;
 
@@ -36,6 +42,11 @@ import static org.wso2.carbon.identity.api.server.common.ContextLoader.getTenant
  */
 public class KeystoresApiServiceImpl implements KeystoresApiService {
 
+    private static final String FILTER = "filter";
+    private static final String AFTER = "after";
+    private static final String LIMIT = "limit";
+    private static final String ATTRIBUTES = "attributes";
+
     private final KeyStoreService keyStoreService;
 
     public KeystoresApiServiceImpl() {
@@ -67,9 +78,19 @@ public class KeystoresApiServiceImpl implements KeystoresApiService {
     }
 
     @Override
-    public Response getCertificateAliases(String filter) {
+    public Response getCertificateAliases(String filter, String after, Integer limit, String attributes) {
 
-        return Response.ok().entity(keyStoreService.listCertificateAliases(filter)).build();
+        return buildCertificateListResponse(keyStoreService.listCertificateAliases(filter, after, limit, attributes),
+                filter, limit, attributes);
+    }
+
+    @Override
+    public Response getCertificateContents(List<String> alias, Boolean encodeCert) {
+
+        if (encodeCert == null) {
+            encodeCert = false;
+        }
+        return Response.ok().entity(keyStoreService.getCertificateContents(alias, encodeCert)).build();
     }
 
     @Override
@@ -86,12 +107,13 @@ public class KeystoresApiServiceImpl implements KeystoresApiService {
     }
 
     @Override
-    public Response getClientCertificateAliases(String filter) {
+    public Response getClientCertificateAliases(String filter, String after, Integer limit, String attributes) {
 
         if (!StringUtils.equals(getTenantDomainFromContext(), MultitenantConstants.SUPER_TENANT_DOMAIN_NAME)) {
             return Response.status(Response.Status.NOT_FOUND).build();
         }
-        return Response.ok().entity(keyStoreService.listClientCertificateAliases(filter)).build();
+        return buildCertificateListResponse(keyStoreService.listClientCertificateAliases(filter, after, limit,
+                attributes), filter, limit, attributes);
     }
 
     @Override
@@ -114,4 +136,19 @@ public class KeystoresApiServiceImpl implements KeystoresApiService {
         NewCookie resourceCookie = new NewCookie("Location", certResource.toString());
         return Response.created(certResource).cookie(resourceCookie).build();
     }
+
+    private Response buildCertificateListResponse(List<CertificateResponse> certificates, String filter,
+                                                  Integer limit, String attributes) {
+
+        Response.ResponseBuilder responseBuilder = Response.ok().entity(certificates);
+        if (limit != null && limit > 0 && certificates.size() == limit) {
+            Map<String, String> nextPageParams = new LinkedHashMap<>();
+            nextPageParams.put(FILTER, filter);
+            nextPageParams.put(AFTER, certificates.get(certificates.size() - 1).getAlias());
+            nextPageParams.put(LIMIT, String.valueOf(limit));
+            nextPageParams.put(ATTRIBUTES, attributes);
+            responseBuilder.header(HttpHeaders.LINK, ReportWriter.buildNextPageLink(nextPageParams));
+        }
+        return responseBuilder.build();
+    }
 }
@@ -279,7 +279,7 @@ public class Util {
         }
         String location = V1_API_PATH_COMPONENT + NOTIFICATION_TEMPLATES_API_PATH + templateTypePath
                 + TEMPLATE_TYPES_PATH + PATH_SEPARATOR + templateTypeId;
-        return ContextLoader.buildURIForBody(location).toString();
+        return ContextLoader.buildURLForBody(location);
     }
 
     /**
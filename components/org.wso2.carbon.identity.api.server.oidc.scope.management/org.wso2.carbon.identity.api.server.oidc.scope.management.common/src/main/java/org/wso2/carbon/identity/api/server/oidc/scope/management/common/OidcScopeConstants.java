@@ -23,6 +23,19 @@ public class OidcScopeConstants {
     public static final String OIDC_SCOPE_API_PATH_COMPONENT = "/oidc/scopes";
     public static final String PATH_SEPERATOR = "/";
 
+    // Scope listing related constants.
+    public static final String ATTRIBUTE_NAME = "name";
+    public static final String ATTRIBUTE_DISPLAY_NAME = "displayName";
+    public static final String ATTRIBUTE_DESCRIPTION = "description";
+    public static final String ATTRIBUTE_CLAIMS = "claims";
+    public static final String ATTRIBUTE_SEPARATOR = ",";
+    public static final String FILTER_EQ = "eq";
+    public static final String FILTER_SW = "sw";
+    public static final String FILTER_EW = "ew";
+    public static final String FILTER_CO = "co";
+    public static final String FILTER_AND = "and";
+    public static final String FILTER_OR = "or";
+
     /**
      * Enum for OIDC scope management service related errors.
      */
@@ -30,7 +43,10 @@ public class OidcScopeConstants {
 
         INVALID_REQUEST("OAUTH-60001", "Invalid Request."),
         ERROR_CONFLICT_REQUEST("41004", "Scope already exists."),
-        SCOPE_NOT_FOUND("41003", "Scope not found.");
+        SCOPE_NOT_FOUND("41003", "Scope not found."),
+        INVALID_FILTER("OIDC-60001", "Invalid filter."),
+        INVALID_PAGINATION_PARAMETER("OIDC-60002", "Invalid pagination parameter."),
+        INVALID_ATTRIBUTE("OIDC-60003", "Invalid attribute.");
 
         private final String code;
         private final String message;
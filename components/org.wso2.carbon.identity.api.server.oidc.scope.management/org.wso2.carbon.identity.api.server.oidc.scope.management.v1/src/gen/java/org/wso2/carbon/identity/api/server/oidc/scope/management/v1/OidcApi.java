@@ -24,6 +24,7 @@ import org.wso2.carbon.identity.api.server.oidc.scope.management.v1.model.Scope;
 import org.wso2.carbon.identity.api.server.oidc.scope.management.v1.model.ScopeUpdateRequest;
 
 import javax.validation.Valid;
+import javax.validation.constraints.*;
 import javax.ws.rs.*;
 import javax.ws.rs.core.Response;
 import io.swagger.annotations.*;
@@ -108,9 +109,9 @@ public class OidcApi  {
         @ApiResponse(code = 404, message = "Resource Not Found.", response = ErrorResponse.class),
         @ApiResponse(code = 500, message = "Internal Server Error.", response = ErrorResponse.class)
     })
-    public Response getScopes() {
+    public Response getScopes(    @Valid @Min(0)@ApiParam(value = "Maximum number of scopes to return.")  @QueryParam("limit") Integer limit,     @Valid @Min(0)@ApiParam(value = "Number of scopes to skip for pagination.")  @QueryParam("offset") Integer offset,     @Valid@ApiParam(value = "Condition to filter the scopes by the name or the claims. Ex: claims eq email and name sw custom")  @QueryParam("filter") String filter,     @Valid@ApiParam(value = "Comma separated scope attributes to be returned, out of name, displayName, description and claims. The name of the scope is always returned. Ex: name,displayName")  @QueryParam("attributes") String attributes) {
 
-        return delegate.getScopes();
+        return delegate.getScopes(limit,  offset,  filter,  attributes );
     }
 
     @Valid
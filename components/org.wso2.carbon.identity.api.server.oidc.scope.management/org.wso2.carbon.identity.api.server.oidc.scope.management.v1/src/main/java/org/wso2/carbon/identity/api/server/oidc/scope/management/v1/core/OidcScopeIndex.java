@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.oidc.scope.management.v1.core;
+
+import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.identity.api.server.oidc.scope.management.v1.model.Scope;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Snapshot of the OIDC scopes of a tenant, shared between the scope listing requests of the tenant.
+ *
+ * <p>Along with the scopes, the snapshot keeps the scopes requesting each claim, hence the scopes of a claim are
+ * looked up without going through the claims of every scope. Claims are matched case insensitively.</p>
+ */
+public class OidcScopeIndex {
+
+    private final List<Scope> scopes;
+    private final Map<String, List<Scope>> scopesByClaim = new HashMap<>();
+
+    /**
+     * Build the scope index.
+     *
+     * @param scopes Scopes in the order returned by the OAuth admin service.
+     */
+    public OidcScopeIndex(List<Scope> scopes) {
+
+        this.scopes = Collections.unmodifiableList(scopes);
+        for (Scope scope : scopes) {
+            if (scope.getClaims() == null) {
+                continue;
+            }
+            for (String claim : scope.getClaims()) {
+                List<Scope> claimScopes = scopesByClaim.computeIfAbsent(StringUtils.lowerCase(claim),
+                        key -> new ArrayList<>());
+                // A scope listing the same claim more than once is indexed once.
+                if (claimScopes.isEmpty() || claimScopes.get(claimScopes.size() - 1) != scope) {
+                    claimScopes.add(scope);
+                }
+            }
+        }
+    }
+
+    /**
+     * Get all the scopes of the tenant.
+     *
+     * @return Scopes in the order returned by the OAuth admin service.
+     */
+    public List<Scope> getScopes() {
+
+        return scopes;
+    }
+
+    /**
+     * Get the scopes requesting the given claim.
+     *
+     * @param claim Claim name.
+     * @return Scopes requesting the claim, in the order returned by the OAuth admin service.
+     */
+    public List<Scope> getScopesByClaim(String claim) {
+
+        List<Scope> claimScopes = scopesByClaim.get(StringUtils.lowerCase(claim));
+        return claimScopes != null ? Collections.unmodifiableList(claimScopes) : Collections.emptyList();
+    }
+}
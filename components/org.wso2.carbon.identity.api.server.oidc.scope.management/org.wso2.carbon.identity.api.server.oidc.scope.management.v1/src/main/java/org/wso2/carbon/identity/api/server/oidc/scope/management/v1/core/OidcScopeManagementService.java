@@ -18,24 +18,38 @@
 
 package org.wso2.carbon.identity.api.server.oidc.scope.management.v1.core;
 
+import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.cache.TenantCache;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
 import org.wso2.carbon.identity.api.server.oidc.scope.management.common.OidcScopeConstants;
 import org.wso2.carbon.identity.api.server.oidc.scope.management.v1.model.Scope;
 import org.wso2.carbon.identity.api.server.oidc.scope.management.v1.model.ScopeUpdateRequest;
+import org.wso2.carbon.identity.base.IdentityException;
+import org.wso2.carbon.identity.core.model.ExpressionNode;
+import org.wso2.carbon.identity.core.model.FilterTreeBuilder;
+import org.wso2.carbon.identity.core.model.Node;
+import org.wso2.carbon.identity.core.model.OperationNode;
 import org.wso2.carbon.identity.oauth.IdentityOAuthAdminException;
 import org.wso2.carbon.identity.oauth.IdentityOAuthClientException;
 import org.wso2.carbon.identity.oauth.OAuthAdminServiceImpl;
 import org.wso2.carbon.identity.oauth.dto.ScopeDTO;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import javax.ws.rs.core.Response;
 
+import static org.wso2.carbon.identity.api.server.common.Constants.RESOURCE_TYPE_OIDC_SCOPE;
+
 /**
  * OIDC scope management APIs are processed in this class.
  */
@@ -43,6 +57,13 @@ public class OidcScopeManagementService {
 
     private final OAuthAdminServiceImpl oauthAdminService;
     private static final Log LOG = LogFactory.getLog(OidcScopeManagementService.class);
+    /* Scope index of each tenant. Scope changes made through this API drop the index of the tenant on this node only,
+    hence the index is kept for a short time to bound the staleness of the scopes changed on the other nodes. */
+    private static final TenantCache<OidcScopeIndex> SCOPE_INDEXES =
+            new TenantCache<>("OIDCScopeIndex", 15, RESOURCE_TYPE_OIDC_SCOPE);
+    private static final Set<String> SUPPORTED_ATTRIBUTES = new HashSet<>(Arrays.asList(
+            OidcScopeConstants.ATTRIBUTE_NAME, OidcScopeConstants.ATTRIBUTE_DISPLAY_NAME,
+            OidcScopeConstants.ATTRIBUTE_DESCRIPTION, OidcScopeConstants.ATTRIBUTE_CLAIMS));
 
     public OidcScopeManagementService(OAuthAdminServiceImpl oauthAdminService) {
 
@@ -63,6 +84,7 @@ public class OidcScopeManagementService {
             ScopeDTO scopeDTO = new ScopeDTO(scopeObject.getName(), scopeObject.getDisplayName(),
                     scopeObject.getDescription(), claimArray);
             oauthAdminService.addScope(scopeDTO);
+            notifyScopeChange();
             return scopeDTO.getName();
         } catch (IdentityOAuthAdminException e) {
             throw handleException(e, "Server encountered an error while adding OIDC scope: " + scopeObject.getName());
@@ -78,6 +100,7 @@ public class OidcScopeManagementService {
 
         try {
             oauthAdminService.deleteScope(id);
+            notifyScopeChange();
         } catch (IdentityOAuthClientException e) {
             if (LOG.isDebugEnabled()) {
                 LOG.debug(e);
@@ -104,19 +127,49 @@ public class OidcScopeManagementService {
     }
 
     /**
-     * List all available OIDC scopes.
+     * List the OIDC scopes matching the given filter.
      *
+     * @param limit      Maximum number of scopes to return. All the matching scopes are returned if not specified.
+     * @param offset     Number of matching scopes to skip.
+     * @param filter     Filter on the name or the claims of the scopes. Ex: claims eq email and name sw custom
+     * @param attributes Comma separated scope attributes to return. All the attributes are returned if not specified.
+     *                   Supported attributes are name, displayName, description and claims.
      * @return List of scopes.
      */
-    public List<Scope> getScopes() {
+    public List<Scope> getScopes(Integer limit, Integer offset, String filter, String attributes) {
 
-        try {
-            ScopeDTO[] scopes = oauthAdminService.getScopes();
-            return buildScopeList(scopes);
-        } catch (IdentityOAuthAdminException e) {
-            throw handleException(e, "Server encountered an error while listing OIDC scopes.");
+        validatePaginationParameter("limit", limit);
+        validatePaginationParameter("offset", offset);
+
+        OidcScopeIndex scopeIndex = getScopeIndex();
+        List<Scope> candidates = scopeIndex.getScopes();
+        Predicate<Scope> scopeFilter = scope -> true;
+        if (StringUtils.isNotBlank(filter)) {
+            Node rootNode = buildFilterTree(filter);
+            scopeFilter = buildScopeFilter(rootNode, filter);
+            List<Scope> claimScopes = getScopesOfFilteredClaim(rootNode, scopeIndex);
+            if (claimScopes != null) {
+                candidates = claimScopes;
+            }
         }
 
+        Set<String> requestedAttributes = getRequestedAttributes(attributes);
+        int skipCount = offset != null ? offset : 0;
+        List<Scope> scopeList = new ArrayList<>();
+        for (Scope scope : candidates) {
+            if (limit != null && scopeList.size() >= limit) {
+                break;
+            }
+            if (!scopeFilter.test(scope)) {
+                continue;
+            }
+            if (skipCount > 0) {
+                skipCount--;
+                continue;
+            }
+            scopeList.add(projectScope(scope, requestedAttributes));
+        }
+        return scopeList;
     }
 
     /**
@@ -133,6 +186,7 @@ public class OidcScopeManagementService {
             ScopeDTO scopeDTO = new ScopeDTO(id, scopeUpdateObject.getDisplayName(),
                     scopeUpdateObject.getDescription(), claimArray);
             oauthAdminService.updateScope(scopeDTO);
+            notifyScopeChange();
         } catch (IdentityOAuthAdminException e) {
             throw handleException(e, "Server encountered an error while updating OIDC scope: " + id);
         }
@@ -170,6 +224,171 @@ public class OidcScopeManagementService {
         return scope;
     }
 
+    /**
+     * Get the scope index of the tenant, loading the scopes through the OAuth admin service if it is not cached.
+     *
+     * @return Scope index of the tenant.
+     */
+    private OidcScopeIndex getScopeIndex() {
+
+        return SCOPE_INDEXES.get(ContextLoader.getTenantDomainFromContext(), () -> {
+            try {
+                return new OidcScopeIndex(buildScopeList(oauthAdminService.getScopes()));
+            } catch (IdentityOAuthAdminException e) {
+                throw handleException(e, "Server encountered an error while listing OIDC scopes.");
+            }
+        });
+    }
+
+    private void notifyScopeChange() {
+
+        TenantCache.notifyChange(RESOURCE_TYPE_OIDC_SCOPE, ContextLoader.getTenantDomainFromContext());
+    }
+
+    private Node buildFilterTree(String filter) {
+
+        try {
+            return new FilterTreeBuilder(filter).buildTree();
+        } catch (IOException | IdentityException e) {
+            throw handleClientError(OidcScopeConstants.ErrorMessage.INVALID_FILTER,
+                    "Filter: " + filter + " is not supported.");
+        }
+    }
+
+    private Predicate<Scope> buildScopeFilter(Node node, String filter) {
+
+        if (node instanceof OperationNode) {
+            String operation = ((OperationNode) node).getOperation();
+            Predicate<Scope> leftFilter = buildScopeFilter(node.getLeftNode(), filter);
+            Predicate<Scope> rightFilter = buildScopeFilter(node.getRightNode(), filter);
+            if (OidcScopeConstants.FILTER_AND.equalsIgnoreCase(operation)) {
+                return leftFilter.and(rightFilter);
+            } else if (OidcScopeConstants.FILTER_OR.equalsIgnoreCase(operation)) {
+                return leftFilter.or(rightFilter);
+            }
+        } else if (node instanceof ExpressionNode) {
+            ExpressionNode expressionNode = (ExpressionNode) node;
+            Predicate<String> valueFilter = buildValueFilter(expressionNode);
+            if (valueFilter != null) {
+                if (OidcScopeConstants.ATTRIBUTE_NAME.equals(expressionNode.getAttributeValue())) {
+                    return scope -> valueFilter.test(StringUtils.lowerCase(scope.getName()));
+                } else if (OidcScopeConstants.ATTRIBUTE_CLAIMS.equals(expressionNode.getAttributeValue())) {
+                    return scope -> scope.getClaims() != null &&
+                            scope.getClaims().stream().map(StringUtils::lowerCase).anyMatch(valueFilter);
+                }
+            }
+        }
+        throw handleClientError(OidcScopeConstants.ErrorMessage.INVALID_FILTER,
+                "Filter: " + filter + " is not supported.");
+    }
+
+    private Predicate<String> buildValueFilter(ExpressionNode expressionNode) {
+
+        String value = StringUtils.lowerCase(expressionNode.getValue());
+        String operation = StringUtils.lowerCase(expressionNode.getOperation());
+        if (value == null || operation == null) {
+            return null;
+        }
+        switch (operation) {
+            case OidcScopeConstants.FILTER_EQ:
+                return value::equals;
+            case OidcScopeConstants.FILTER_SW:
+                return attribute -> StringUtils.startsWith(attribute, value);
+            case OidcScopeConstants.FILTER_EW:
+                return attribute -> StringUtils.endsWith(attribute, value);
+            case OidcScopeConstants.FILTER_CO:
+                return attribute -> StringUtils.contains(attribute, value);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Get the scopes of the claim the filter requires the scopes to request, if any. The filter still has to be
+     * applied on the returned scopes.
+     *
+     * @param node       Root node of the filter.
+     * @param scopeIndex Scope index of the tenant.
+     * @return Scopes requesting the claim, or null if the filter does not require a specific claim.
+     */
+    private List<Scope> getScopesOfFilteredClaim(Node node, OidcScopeIndex scopeIndex) {
+
+        if (node instanceof OperationNode &&
+                OidcScopeConstants.FILTER_AND.equalsIgnoreCase(((OperationNode) node).getOperation())) {
+            List<Scope> claimScopes = getScopesOfFilteredClaim(node.getLeftNode(), scopeIndex);
+            return claimScopes != null ? claimScopes : getScopesOfFilteredClaim(node.getRightNode(), scopeIndex);
+        } else if (node instanceof ExpressionNode) {
+            ExpressionNode expressionNode = (ExpressionNode) node;
+            if (OidcScopeConstants.ATTRIBUTE_CLAIMS.equals(expressionNode.getAttributeValue()) &&
+                    OidcScopeConstants.FILTER_EQ.equalsIgnoreCase(expressionNode.getOperation())) {
+                return scopeIndex.getScopesByClaim(expressionNode.getValue());
+            }
+        }
+        return null;
+    }
+
+    private Set<String> getRequestedAttributes(String attributes) {
+
+        if (StringUtils.isBlank(attributes)) {
+            return null;
+        }
+        Set<String> requestedAttributes = new HashSet<>();
+        for (String attribute : attributes.split(OidcScopeConstants.ATTRIBUTE_SEPARATOR)) {
+            String trimmedAttribute = attribute.trim();
+            if (!SUPPORTED_ATTRIBUTES.contains(trimmedAttribute)) {
+                throw handleClientError(OidcScopeConstants.ErrorMessage.INVALID_ATTRIBUTE,
+                        "Attribute: " + trimmedAttribute + " is not supported.");
+            }
+            requestedAttributes.add(trimmedAttribute);
+        }
+        return requestedAttributes;
+    }
+
+    /**
+     * Copy the requested attributes of a cached scope to a new scope. The name of the scope is always returned.
+     *
+     * @param scope               Cached scope.
+     * @param requestedAttributes Requested attributes, or null if all the attributes are requested.
+     * @return Scope with the requested attributes.
+     */
+    private Scope projectScope(Scope scope, Set<String> requestedAttributes) {
+
+        Scope projectedScope = new Scope();
+        projectedScope.setName(scope.getName());
+        if (isAttributeRequested(OidcScopeConstants.ATTRIBUTE_DISPLAY_NAME, requestedAttributes)) {
+            projectedScope.setDisplayName(scope.getDisplayName());
+        }
+        if (isAttributeRequested(OidcScopeConstants.ATTRIBUTE_DESCRIPTION, requestedAttributes)) {
+            projectedScope.setDescription(scope.getDescription());
+        }
+        if (isAttributeRequested(OidcScopeConstants.ATTRIBUTE_CLAIMS, requestedAttributes)) {
+            projectedScope.setClaims(new ArrayList<>(scope.getClaims()));
+        } else {
+            projectedScope.setClaims(null);
+        }
+        return projectedScope;
+    }
+
+    private boolean isAttributeRequested(String attribute, Set<String> requestedAttributes) {
+
+        return requestedAttributes == null || requestedAttributes.contains(attribute);
+    }
+
+    private void validatePaginationParameter(String name, Integer value) {
+
+        if (value != null && value < 0) {
+            throw handleClientError(OidcScopeConstants.ErrorMessage.INVALID_PAGINATION_PARAMETER,
+                    "Value of the " + name + " parameter cannot be negative.");
+        }
+    }
+
+    private APIError handleClientError(OidcScopeConstants.ErrorMessage error, String description) {
+
+        ErrorResponse errorResponse = new ErrorResponse.Builder().withCode(error.getCode())
+                .withMessage(error.getMessage()).withDescription(description).build(LOG, description);
+        return new APIError(Response.Status.BAD_REQUEST, errorResponse);
+    }
+
     /**
      * Handle error cases.
      *
@@ -68,9 +68,9 @@ public class OidcApiServiceImpl implements OidcApiService {
     }
 
     @Override
-    public Response getScopes() {
+    public Response getScopes(Integer limit, Integer offset, String filter, String attributes) {
 
-        return Response.ok().entity(oidcScopeManagementService.getScopes()).build();
+        return Response.ok().entity(oidcScopeManagementService.getScopes(limit, offset, filter, attributes)).build();
     }
 
     @Override
@@ -143,9 +143,9 @@ public class OrganizationsApi  {
         @ApiResponse(code = 404, message = "Requested resource is not found.", response = Error.class),
         @ApiResponse(code = 500, message = "Internal server error.", response = Error.class)
     })
-    public Response organizationsOrganizationIdRolesRoleIdGet(@ApiParam(value = "ID of the role.",required=true) @PathParam("role-id") String roleId, @ApiParam(value = "ID of the organization.",required=true) @PathParam("organization-id") String organizationId) {
+    public Response organizationsOrganizationIdRolesRoleIdGet(@ApiParam(value = "ID of the role.",required=true) @PathParam("role-id") String roleId, @ApiParam(value = "ID of the organization.",required=true) @PathParam("organization-id") String organizationId,     @Valid@ApiParam(value = "Comma separated role attributes to be returned. All the attributes are returned if not specified. Ex: users,groups,permissions")  @QueryParam("attributes") String attributes) {
 
-        return delegate.organizationsOrganizationIdRolesRoleIdGet(roleId,  organizationId );
+        return delegate.organizationsOrganizationIdRolesRoleIdGet(roleId,  organizationId,  attributes );
     }
 
     @Valid
@@ -45,7 +45,7 @@ public interface OrganizationsApiService {
 
       public Response organizationsOrganizationIdRolesRoleIdDelete(String roleId, String organizationId);
 
-      public Response organizationsOrganizationIdRolesRoleIdGet(String roleId, String organizationId);
+      public Response organizationsOrganizationIdRolesRoleIdGet(String roleId, String organizationId, String attributes);
 
       public Response organizationsOrganizationIdRolesRoleIdPatch(String roleId, String organizationId, RolePatchRequest rolePatchRequest);
 
@@ -18,6 +18,10 @@
 
 package org.wso2.carbon.identity.api.server.organization.role.management.v1.constant;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Constants of Role Management Endpoint module.
  */
@@ -31,4 +35,47 @@ public class RoleManagementEndpointConstants {
     public static final String GROUP_PATH = "groups";
     public static final String USER_PATH = "users";
     public static final String SCIM_USER_PATH = "Users";
+
+    // Role attributes which can be requested in the role response.
+    public static final String ATTRIBUTE_USERS = "users";
+    public static final String ATTRIBUTE_GROUPS = "groups";
+    public static final String ATTRIBUTE_PERMISSIONS = "permissions";
+    public static final String ATTRIBUTE_SEPARATOR = ",";
+    public static final List<String> SUPPORTED_ATTRIBUTES = Collections.unmodifiableList(
+            Arrays.asList(ATTRIBUTE_USERS, ATTRIBUTE_GROUPS, ATTRIBUTE_PERMISSIONS));
+
+    /**
+     * Enum for the errors of the role management endpoint.
+     */
+    public enum ErrorMessage {
+
+        ERROR_CODE_INVALID_ATTRIBUTE("OROLE-60001", "Invalid attribute.",
+                "Unsupported role attribute: %s. Supported attributes are: %s.");
+
+        private final String code;
+        private final String message;
+        private final String description;
+
+        ErrorMessage(String code, String message, String description) {
+
+            this.code = code;
+            this.message = message;
+            this.description = description;
+        }
+
+        public String getCode() {
+
+            return code;
+        }
+
+        public String getMessage() {
+
+            return message;
+        }
+
+        public String getDescription() {
+
+            return description;
+        }
+    }
 }
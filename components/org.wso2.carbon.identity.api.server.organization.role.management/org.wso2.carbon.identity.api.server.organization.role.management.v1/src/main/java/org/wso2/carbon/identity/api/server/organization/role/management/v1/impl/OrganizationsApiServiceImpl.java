@@ -63,9 +63,10 @@ public class OrganizationsApiServiceImpl implements OrganizationsApiService {
     }
 
     @Override
-    public Response organizationsOrganizationIdRolesRoleIdGet(String roleId, String organizationId) {
+    public Response organizationsOrganizationIdRolesRoleIdGet(String roleId, String organizationId,
+                                                              String attributes) {
 
-        return roleManagementService.getRoleUsingOrganizationIdAndRoleId(organizationId, roleId);
+        return roleManagementService.getRoleUsingOrganizationIdAndRoleId(organizationId, roleId, attributes);
     }
 
     @Override
@@ -23,6 +23,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.constant.RoleManagementEndpointConstants;
+import org.wso2.carbon.identity.api.server.organization.role.management.v1.exception.RoleManagementEndpointException;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RoleGetResponse;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RoleGetResponseGroup;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RoleGetResponseUser;
@@ -56,11 +57,15 @@ import org.wso2.carbon.identity.organization.management.service.exception.Organi
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import javax.ws.rs.core.Response;
 
+import static org.wso2.carbon.identity.api.server.organization.role.management.v1.constant.RoleManagementEndpointConstants.ErrorMessage.ERROR_CODE_INVALID_ATTRIBUTE;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_BUILDING_GROUP_URI;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_BUILDING_ROLE_URI;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_BUILDING_USER_URI;
@@ -137,16 +142,19 @@ public class RoleManagementService {
      *
      * @param organizationId The ID of the organization.
      * @param roleId         The ID of the role.
+     * @param attributes     Comma separated role attributes to be returned. Ex: users,groups,permissions
+     *                       All the attributes are returned if not specified.
      * @return The role corresponding to roleId and organizationId.
      */
-    public Response getRoleUsingOrganizationIdAndRoleId(String organizationId, String roleId) {
+    public Response getRoleUsingOrganizationIdAndRoleId(String organizationId, String roleId, String attributes) {
 
         try {
             Role role = roleManager.getRoleById(organizationId, roleId);
             URI roleURI = RoleManagementEndpointUtils.getUri(organizationId, roleId,
                     RoleManagementEndpointConstants.ROLE_PATH,
                     ERROR_CODE_ERROR_BUILDING_ROLE_URI);
-            return Response.ok().entity(getRoleGetResponse(organizationId, role, roleURI)).build();
+            return Response.ok().entity(getRoleGetResponse(organizationId, role, roleURI,
+                    getRequestedAttributes(attributes))).build();
         } catch (OrganizationManagementClientException e) {
             return RoleManagementEndpointUtils.handleClientErrorResponse(e, LOG);
         } catch (OrganizationManagementException e) {
@@ -195,7 +203,7 @@ public class RoleManagementService {
             }
 
             List<Role> userRolesResponse = roleManager.getUserOrganizationRoles(userId, organizationId);
-            return Response.ok().entity(getUserRoleListResponse(organizationId, userRolesResponse)).build();
+            return Response.ok().entity(getRoleObjList(organizationId, userRolesResponse)).build();
         } catch (OrganizationManagementClientException e) {
             return RoleManagementEndpointUtils.handleClientErrorResponse(e, LOG);
         } catch (OrganizationManagementException e) {
@@ -333,12 +341,14 @@ public class RoleManagementService {
     /**
      * Generating  RoleGetResponse for the response.
      *
-     * @param organizationId The ID of the organization.
-     * @param role           A role object.
-     * @param roleURI        The URI of the role.
+     * @param organizationId      The ID of the organization.
+     * @param role                A role object.
+     * @param roleURI             The URI of the role.
+     * @param requestedAttributes The requested role attributes, or null if all the attributes are requested.
      * @return A RoleGetResponse.
      */
-    private RoleGetResponse getRoleGetResponse(String organizationId, Role role, URI roleURI) {
+    private RoleGetResponse getRoleGetResponse(String organizationId, Role role, URI roleURI,
+                                               Set<String> requestedAttributes) {
 
         RoleObjMeta roleObjMeta = new RoleObjMeta();
         roleObjMeta.location(roleURI.toString());
@@ -347,19 +357,55 @@ public class RoleManagementService {
         response.setId(role.getId());
         response.setDisplayName(role.getDisplayName());
         response.setMeta(roleObjMeta);
-        response.setPermissions(role.getPermissions());
 
-        if (CollectionUtils.isNotEmpty(role.getGroups())) {
+        if (isAttributeRequested(RoleManagementEndpointConstants.ATTRIBUTE_PERMISSIONS, requestedAttributes)) {
+            response.setPermissions(role.getPermissions());
+        }
+
+        if (CollectionUtils.isNotEmpty(role.getGroups()) &&
+                isAttributeRequested(RoleManagementEndpointConstants.ATTRIBUTE_GROUPS, requestedAttributes)) {
             response.setGroups(getGroupsForResponseObject(role.getGroups(), organizationId));
         }
 
-        if (CollectionUtils.isNotEmpty(role.getUsers())) {
+        if (CollectionUtils.isNotEmpty(role.getUsers()) &&
+                isAttributeRequested(RoleManagementEndpointConstants.ATTRIBUTE_USERS, requestedAttributes)) {
             response.setUsers(getUsersForResponseObject(role.getUsers(), organizationId));
         }
 
         return response;
     }
 
+    /**
+     * Get the role attributes requested to be returned.
+     *
+     * @param attributes Comma separated role attributes.
+     * @return The requested role attributes, or null if all the attributes are requested.
+     */
+    private Set<String> getRequestedAttributes(String attributes) {
+
+        if (StringUtils.isBlank(attributes)) {
+            return null;
+        }
+        Set<String> requestedAttributes = new HashSet<>();
+        for (String attribute : attributes.split(RoleManagementEndpointConstants.ATTRIBUTE_SEPARATOR)) {
+            String requestedAttribute = StringUtils.strip(attribute);
+            if (!RoleManagementEndpointConstants.SUPPORTED_ATTRIBUTES.contains(requestedAttribute)) {
+                RoleManagementEndpointConstants.ErrorMessage error = ERROR_CODE_INVALID_ATTRIBUTE;
+                throw new RoleManagementEndpointException(Response.Status.BAD_REQUEST,
+                        RoleManagementEndpointUtils.getError(error.getCode(), error.getMessage(),
+                                String.format(error.getDescription(), requestedAttribute,
+                                        String.join(", ", RoleManagementEndpointConstants.SUPPORTED_ATTRIBUTES))));
+            }
+            requestedAttributes.add(requestedAttribute);
+        }
+        return requestedAttributes;
+    }
+
+    private boolean isAttributeRequested(String attribute, Set<String> requestedAttributes) {
+
+        return requestedAttributes == null || requestedAttributes.contains(attribute);
+    }
+
     /**
      * Set the groups for the response if they exist.
      *
@@ -369,14 +415,17 @@ public class RoleManagementService {
      */
     private List<RoleGetResponseGroup> getGroupsForResponseObject(List<Group> roleGroups, String organizationId) {
 
+        List<String> groupURIs = RoleManagementEndpointUtils.getUris(organizationId,
+                roleGroups.stream().map(Group::getGroupId).collect(Collectors.toList()),
+                RoleManagementEndpointConstants.GROUP_PATH, ERROR_CODE_ERROR_BUILDING_GROUP_URI);
+
         List<RoleGetResponseGroup> groups = new ArrayList<>();
-        for (Group basicGroup : roleGroups) {
+        for (int i = 0; i < roleGroups.size(); i++) {
+            Group basicGroup = roleGroups.get(i);
             RoleGetResponseGroup group = new RoleGetResponseGroup();
             group.value(basicGroup.getGroupId());
             group.display(basicGroup.getGroupName());
-            group.$ref(RoleManagementEndpointUtils.getUri(organizationId, basicGroup.getGroupId(),
-                    RoleManagementEndpointConstants.GROUP_PATH,
-                    ERROR_CODE_ERROR_BUILDING_GROUP_URI).toString());
+            group.$ref(groupURIs.get(i));
             groups.add(group);
         }
         return groups;
@@ -391,18 +440,29 @@ public class RoleManagementService {
      */
     private List<RoleGetResponseUser> getUsersForResponseObject(List<User> roleUsers, String organizationId) {
 
+        // The URIs of the users with and without a resident organization are built in one batch each.
+        List<String> residentOrgUserIds = new ArrayList<>();
+        List<String> organizationUserIds = new ArrayList<>();
+        for (User basicUser : roleUsers) {
+            if (StringUtils.isNotBlank(basicUser.getUserResidentOrgId())) {
+                residentOrgUserIds.add(basicUser.getId());
+            } else {
+                organizationUserIds.add(basicUser.getId());
+            }
+        }
+        Iterator<String> residentOrgUserURIs = RoleManagementEndpointUtils.buildSCIM2Uris(residentOrgUserIds,
+                RoleManagementEndpointConstants.SCIM_USER_PATH, ERROR_CODE_ERROR_BUILDING_USER_URI).iterator();
+        Iterator<String> organizationUserURIs = RoleManagementEndpointUtils.getUris(organizationId,
+                organizationUserIds, RoleManagementEndpointConstants.USER_PATH,
+                ERROR_CODE_ERROR_BUILDING_USER_URI).iterator();
+
         List<RoleGetResponseUser> users = new ArrayList<>();
         for (User basicUser : roleUsers) {
             String uri;
             if (StringUtils.isNotBlank(basicUser.getUserResidentOrgId())) {
-                uri = RoleManagementEndpointUtils.buildSCIM2Uri(basicUser.getId(),
-                        RoleManagementEndpointConstants.SCIM_USER_PATH,
-                        ERROR_CODE_ERROR_BUILDING_USER_URI).toString();
-                uri = uri.replace(organizationId, basicUser.getUserResidentOrgId());
+                uri = residentOrgUserURIs.next().replace(organizationId, basicUser.getUserResidentOrgId());
             } else {
-                uri = RoleManagementEndpointUtils.getUri(organizationId, basicUser.getId(),
-                        RoleManagementEndpointConstants.USER_PATH,
-                        ERROR_CODE_ERROR_BUILDING_USER_URI).toString();
+                uri = organizationUserURIs.next();
             }
 
             RoleGetResponseUser user = new RoleGetResponseUser();
@@ -472,39 +532,30 @@ public class RoleManagementService {
         response.setTotalResults(rolesResponse.getTotalResults());
 
         if (rolesResponse.getRoles() != null) {
-            List<RoleObj> roleDTOs = new ArrayList<>();
-            for (Role role : rolesResponse.getRoles()) {
-                RoleObj roleObj = new RoleObj();
-                RoleObjMeta roleObjMeta = new RoleObjMeta();
-                roleObjMeta.setLocation(RoleManagementEndpointUtils.getUri(organizationId, role.getId(),
-                        RoleManagementEndpointConstants.ROLE_PATH,
-                        ERROR_CODE_ERROR_BUILDING_ROLE_URI).toString());
-                roleObj.setId(role.getId());
-                roleObj.setDisplayName(role.getDisplayName());
-                roleObj.setMeta(roleObjMeta);
-                roleDTOs.add(roleObj);
-            }
-            response.setResources(roleDTOs);
+            response.setResources(getRoleObjList(organizationId, rolesResponse.getRoles()));
         }
         return response;
     }
 
     /**
-     * Generate a response object for get operation.
+     * Generate the role objects of a list of roles. The role URIs of the whole list are built in one batch.
      *
-     * @param organizationId    The ID of the organization.
-     * @param userRolesResponse List of user roles.
-     * @return The UserRolesListResponse.
+     * @param organizationId The ID of the organization.
+     * @param roles          List of roles.
+     * @return The role objects.
      */
-    private List<RoleObj> getUserRoleListResponse(String organizationId, List<Role> userRolesResponse) {
+    private List<RoleObj> getRoleObjList(String organizationId, List<Role> roles) {
+
+        List<String> roleURIs = RoleManagementEndpointUtils.getUris(organizationId,
+                roles.stream().map(Role::getId).collect(Collectors.toList()),
+                RoleManagementEndpointConstants.ROLE_PATH, ERROR_CODE_ERROR_BUILDING_ROLE_URI);
 
         List<RoleObj> roleDTOs = new ArrayList<>();
-        for (Role role : userRolesResponse) {
+        for (int i = 0; i < roles.size(); i++) {
+            Role role = roles.get(i);
             RoleObj roleObj = new RoleObj();
             RoleObjMeta roleObjMeta = new RoleObjMeta();
-            roleObjMeta.setLocation(RoleManagementEndpointUtils.getUri(organizationId, role.getId(),
-                    RoleManagementEndpointConstants.ROLE_PATH,
-                    ERROR_CODE_ERROR_BUILDING_ROLE_URI).toString());
+            roleObjMeta.setLocation(roleURIs.get(i));
             roleObj.setId(role.getId());
             roleObj.setDisplayName(role.getDisplayName());
             roleObj.setMeta(roleObjMeta);
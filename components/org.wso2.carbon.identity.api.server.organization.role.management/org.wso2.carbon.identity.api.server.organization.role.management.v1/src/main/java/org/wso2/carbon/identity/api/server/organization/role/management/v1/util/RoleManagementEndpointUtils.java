@@ -32,6 +32,8 @@ import org.wso2.carbon.identity.organization.management.service.exception.Organi
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
 
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
 
 import javax.ws.rs.core.Response;
 
@@ -144,6 +146,35 @@ public class RoleManagementEndpointUtils {
         }
     }
 
+    /**
+     * Get the URIs of a set of resources of the same type inside an organization. The base URI of the resources is
+     * built once and the IDs are appended to it, rather than building the whole URI for each resource.
+     *
+     * @param organizationId The organization ID.
+     * @param ids            The IDs of the resources.
+     * @param resourcePath   The path for the resources.
+     * @param errorMessage   The error message specific to the resources.
+     * @return The URIs of the resources, in the order of the IDs.
+     */
+    public static List<String> getUris(String organizationId, List<String> ids, String resourcePath,
+                                       ErrorMessages errorMessage) {
+
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        String endpoint = SERVER_API_PATH_COMPONENT + V1_API_PATH_COMPONENT + PATH_SEPARATOR + ORGANIZATION_PATH +
+                PATH_SEPARATOR + organizationId + PATH_SEPARATOR + resourcePath;
+        try {
+            return appendIds(ServiceURLBuilder.create().addPath(endpoint).build().getAbsolutePublicURL(), ids);
+        } catch (URLBuilderException e) {
+            Error error = getError(errorMessage.getCode(), errorMessage.getMessage(),
+                    String.format(errorMessage.getDescription(), ids.get(0)));
+            LOG.error(String.format("Server encountered an error while building URL for %s ",
+                    resourcePath.substring(0, resourcePath.length() - 1)) + ids.get(0));
+            throw new RoleManagementEndpointException(Response.Status.INTERNAL_SERVER_ERROR, error);
+        }
+    }
+
     /**
      * Get the SCIM2 URI from context.
      *
@@ -165,6 +196,39 @@ public class RoleManagementEndpointUtils {
         }
     }
 
+    /**
+     * Get the SCIM2 URIs of a set of resources of the same type. The base URI of the resources is built once and the
+     * IDs are appended to it, rather than building the whole URI for each resource.
+     *
+     * @param ids          The IDs of the resources.
+     * @param resourcePath The path for the resources.
+     * @param errorMessage The error message specific to the resources.
+     * @return The SCIM2 URIs of the resources, in the order of the IDs.
+     */
+    public static List<String> buildSCIM2Uris(List<String> ids, String resourcePath, ErrorMessages errorMessage) {
+
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        String endpoint = SCIM2_API_PATH_COMPONENT + PATH_SEPARATOR + resourcePath;
+        try {
+            return appendIds(ServiceURLBuilder.create().addPath(endpoint).build().getAbsolutePublicURL(), ids);
+        } catch (URLBuilderException e) {
+            Error error = getError(errorMessage.getCode(), errorMessage.getMessage(),
+                    String.format(errorMessage.getDescription(), ids.get(0)));
+            throw new RoleManagementEndpointException(Response.Status.INTERNAL_SERVER_ERROR, error);
+        }
+    }
+
+    private static List<String> appendIds(String baseUri, List<String> ids) {
+
+        List<String> uris = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            uris.add(baseUri + PATH_SEPARATOR + id);
+        }
+        return uris;
+    }
+
     /**
      * Checks the exception key code and returns true if it is a conflict error.
      *
@@ -19,7 +19,6 @@
 package org.wso2.carbon.identity.api.server.organization.selfservice.v1.core;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
@@ -32,6 +31,7 @@ import org.wso2.carbon.identity.api.resource.mgt.constant.APIResourceManagementC
 import org.wso2.carbon.identity.api.server.application.management.v1.ApplicationModel;
 import org.wso2.carbon.identity.api.server.application.management.v1.core.ServerApplicationManagementService;
 import org.wso2.carbon.identity.api.server.application.management.v1.factories.ServerApplicationManagementServiceFactory;
+import org.wso2.carbon.identity.api.server.common.codec.CodecRegistry;
 import org.wso2.carbon.identity.api.server.organization.selfservice.v1.exceptions.SelfServiceMgtEndpointException;
 import org.wso2.carbon.identity.api.server.organization.selfservice.v1.model.Error;
 import org.wso2.carbon.identity.api.server.organization.selfservice.v1.model.PropertyPatchReq;
@@ -217,13 +217,11 @@ public class SelfServiceMgtService {
         try {
             InputStream inputStream = loadResourceFromClasspath(SelfServiceMgtConstants
                     .CREATE_LITE_USER_STORE_REQUEST_JSON);
-            ObjectMapper objectMapper = new ObjectMapper();
-            JsonNode rootNode = objectMapper.readTree(inputStream);
+            JsonNode rootNode = CodecRegistry.getObjectMapper().readTree(inputStream);
             // Update Lite user store configs.
             updateOnboardConfigValues(rootNode);
-            // Convert updated JSON to string and use it in the request body
-            String requestBody = objectMapper.writeValueAsString(rootNode);
-            UserStoreReq userStoreReq = objectMapper.readValue(requestBody, UserStoreReq.class);
+            // Bind the updated JSON tree to the request body.
+            UserStoreReq userStoreReq = CodecRegistry.getReader(UserStoreReq.class).readValue(rootNode);
             getServerUserStoreService().addUserStore(userStoreReq);
             updateLiteUserStoreConnectorConfigs(true);
         } catch (IOException e) {
@@ -244,11 +242,8 @@ public class SelfServiceMgtService {
             } else {
                 inputStream = loadResourceFromClasspath(SelfServiceMgtConstants.DISABLE_LITE_USER_REQUEST_JSON);
             }
-            ObjectMapper objectMapper = new ObjectMapper();
-            JsonNode rootNode = objectMapper.readTree(inputStream);
-            // Convert updated JSON to string and use it in the request body
-            String requestBody = objectMapper.writeValueAsString(rootNode);
-            PropertyPatchReq updateLiteUserConfig = objectMapper.readValue(requestBody, PropertyPatchReq.class);
+            PropertyPatchReq updateLiteUserConfig =
+                    CodecRegistry.getReader(PropertyPatchReq.class).readValue(inputStream);
             updateOrganizationGovernanceConfigs(updateLiteUserConfig, false);
         } catch (IOException e) {
             LOG.error(SelfServiceMgtConstants.ErrorMessage.ERROR_UPDATING_GOVERNANCE_CONFIG.getDescription(), e);
@@ -274,15 +269,13 @@ public class SelfServiceMgtService {
             // Load the request JSON template from a resource.
             InputStream inputStream = loadResourceFromClasspath(SelfServiceMgtConstants
                     .CREATE_SELF_SERVICE_APP_REQUEST_JSON);
-            ObjectMapper objectMapper = new ObjectMapper();
-            JsonNode rootNode = objectMapper.readTree(inputStream);
+            JsonNode rootNode = CodecRegistry.getObjectMapper().readTree(inputStream);
 
             // Update JSON fields based on config values.
             updateAppConfigValues(rootNode);
 
-            // Convert updated JSON to string and use it in the request body.
-            String requestBody = objectMapper.writeValueAsString(rootNode);
-            ApplicationModel model = objectMapper.readValue(requestBody, ApplicationModel.class);
+            // Bind the updated JSON tree to the request body.
+            ApplicationModel model = CodecRegistry.getReader(ApplicationModel.class).readValue(rootNode);
 
             // Create the application using the Application Management Service.
             getServerApplicationManagementService().createApplication(model, null);
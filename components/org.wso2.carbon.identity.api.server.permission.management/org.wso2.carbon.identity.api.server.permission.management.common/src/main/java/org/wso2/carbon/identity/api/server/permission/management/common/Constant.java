@@ -35,7 +35,16 @@ public class Constant {
                 "Server encounted a error when getting permissions"),
         ERROR_CODE_INVALID_INPUT("50037",
                 "Invalid input.",
-                "One of the given inputs is invalid.")
+                "One of the given inputs is invalid."),
+        ERROR_CODE_INVALID_PERMISSION_VIEW("50038",
+                "Invalid permission view.",
+                "The permission view: %s is not supported. Supported views are flat and tree."),
+        ERROR_CODE_INVALID_PERMISSION_DEPTH("50039",
+                "Invalid permission depth.",
+                "The permission depth: %s is invalid. The depth should be a non negative number."),
+        ERROR_CODE_PERMISSION_NOT_FOUND("50040",
+                "Permission not found.",
+                "Unable to find a permission with the resource path: %s.")
         ;
 
         private final String code;
@@ -20,6 +20,7 @@ package org.wso2.carbon.identity.api.server.permission.management.v1;
 
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiParam;
 import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
 import io.swagger.annotations.Authorization;
@@ -29,9 +30,13 @@ import org.wso2.carbon.identity.api.server.permission.management.v1.model.Error;
 import org.wso2.carbon.identity.api.server.permission.management.v1.model.Permission;
 
 import javax.validation.Valid;
+import javax.validation.constraints.Min;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Response;
 
 @Path("/permission-management")
@@ -51,7 +56,7 @@ public class PermissionManagementApi  {
     @Path("/permissions")
     
     @Produces({ "application/json" })
-    @ApiOperation(value = "List permissions in the permission tree ", notes = "This API provides the array list of permissions in the UI permission tree. ", response = Permission.class, responseContainer = "List", authorizations = {
+    @ApiOperation(value = "List permissions in the permission tree ", notes = "This API provides the array list of permissions in the UI permission tree. The permissions can be retrieved as a tree with the 'view' query parameter, and can be limited to a subtree and a depth with the 'root' and 'depth' query parameters. ", response = Permission.class, responseContainer = "List", authorizations = {
         @Authorization(value = "BasicAuth"),
         @Authorization(value = "OAuth2", scopes = {
             
@@ -59,13 +64,16 @@ public class PermissionManagementApi  {
     }, tags={ "permissions" })
     @ApiResponses(value = { 
         @ApiResponse(code = 200, message = "Successful Response", response = Permission.class, responseContainer = "List"),
+        @ApiResponse(code = 304, message = "Not Modified", response = Void.class),
+        @ApiResponse(code = 400, message = "Bad Request", response = Error.class),
         @ApiResponse(code = 401, message = "Unauthorized", response = Error.class),
         @ApiResponse(code = 403, message = "Forbidden", response = Error.class),
+        @ApiResponse(code = 404, message = "Not Found", response = Error.class),
         @ApiResponse(code = 500, message = "Server Error", response = Error.class)
     })
-    public Response permissionManagementPermissionsGet() {
+    public Response permissionManagementPermissionsGet(    @Valid@ApiParam(value = "Shape of the response. 'flat' lists the permissions as an array, while 'tree' nests the child permissions under their parent permissions. ", allowableValues="flat, tree", defaultValue="flat") @DefaultValue("flat")  @QueryParam("view") String view,     @Valid@ApiParam(value = "Resource path of the permission to which the response is limited, along with its descendants. ")  @QueryParam("root") String root,     @Valid @Min(0)@ApiParam(value = "Maximum number of levels of descendants to be included, below the root permissions. ")  @QueryParam("depth") Integer depth,     @Valid @ApiParam(value = "Entity tag of the representation held by the client. " )@HeaderParam("If-None-Match") String ifNoneMatch) {
 
-        return delegate.permissionManagementPermissionsGet();
+        return delegate.permissionManagementPermissionsGet(view,  root,  depth,  ifNoneMatch );
     }
 
 }
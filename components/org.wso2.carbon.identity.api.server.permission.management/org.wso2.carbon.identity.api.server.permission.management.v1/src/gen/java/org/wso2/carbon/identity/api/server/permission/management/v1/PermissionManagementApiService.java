@@ -21,5 +21,5 @@ import javax.ws.rs.core.Response;
 
 public interface PermissionManagementApiService {
 
-      public Response permissionManagementPermissionsGet();
+      public Response permissionManagementPermissionsGet(String view, String root, Integer depth, String ifNoneMatch);
 }
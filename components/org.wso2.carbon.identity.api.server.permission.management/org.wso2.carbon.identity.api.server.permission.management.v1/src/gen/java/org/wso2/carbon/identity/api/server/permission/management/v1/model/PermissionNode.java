@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.permission.management.v1.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.annotations.ApiModelProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.validation.Valid;
+
+public class PermissionNode  {
+  
+    private String displayName;
+    private String resourcePath;
+    private List<PermissionNode> children = null;
+
+
+    /**
+    **/
+    public PermissionNode displayName(String displayName) {
+
+        this.displayName = displayName;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "Admin Permissions", value = "")
+    @JsonProperty("displayName")
+    @Valid
+    public String getDisplayName() {
+        return displayName;
+    }
+    public void setDisplayName(String displayName) {
+        this.displayName = displayName;
+    }
+
+    /**
+    **/
+    public PermissionNode resourcePath(String resourcePath) {
+
+        this.resourcePath = resourcePath;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "/permission/admin", value = "")
+    @JsonProperty("resourcePath")
+    @Valid
+    public String getResourcePath() {
+        return resourcePath;
+    }
+    public void setResourcePath(String resourcePath) {
+        this.resourcePath = resourcePath;
+    }
+
+    /**
+    * Child permissions. Null for the leaf permissions and for the permissions at the depth limit.
+    **/
+    public PermissionNode children(List<PermissionNode> children) {
+
+        this.children = children;
+        return this;
+    }
+    
+    @ApiModelProperty(value = "Child permissions. Null for the leaf permissions and for the permissions at the depth limit.")
+    @JsonProperty("children")
+    @Valid
+    public List<PermissionNode> getChildren() {
+        return children;
+    }
+    public void setChildren(List<PermissionNode> children) {
+        this.children = children;
+    }
+
+    public PermissionNode addChildrenItem(PermissionNode childrenItem) {
+        if (this.children == null) {
+            this.children = new ArrayList<>();
+        }
+        this.children.add(childrenItem);
+        return this;
+    }
+
+
+
+    @Override
+    public boolean equals(java.lang.Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        PermissionNode permissionNode = (PermissionNode) o;
+        return Objects.equals(this.displayName, permissionNode.displayName) &&
+            Objects.equals(this.resourcePath, permissionNode.resourcePath) &&
+            Objects.equals(this.children, permissionNode.children);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(displayName, resourcePath, children);
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("class PermissionNode {\n");
+        
+        sb.append("    displayName: ").append(toIndentedString(displayName)).append("\n");
+        sb.append("    resourcePath: ").append(toIndentedString(resourcePath)).append("\n");
+        sb.append("    children: ").append(toIndentedString(children)).append("\n");
+        sb.append("}");
+        return sb.toString();
+    }
+
+    /**
+    * Convert the given object to string with each line indented by 4 spaces
+    * (except the first line).
+    */
+    private String toIndentedString(java.lang.Object o) {
+
+        if (o == null) {
+            return "null";
+        }
+        return o.toString().replace("\n", "\n");
+    }
+}
+
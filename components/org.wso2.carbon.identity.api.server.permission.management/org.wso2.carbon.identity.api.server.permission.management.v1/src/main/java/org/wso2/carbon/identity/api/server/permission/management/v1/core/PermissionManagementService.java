@@ -18,10 +18,14 @@
 
 package org.wso2.carbon.identity.api.server.permission.management.v1.core;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import org.apache.commons.lang.ArrayUtils;
+import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.api.server.common.cache.CachedResponse;
+import org.wso2.carbon.identity.api.server.common.cache.TenantCache;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
 import org.wso2.carbon.identity.api.server.permission.management.common.Constant;
@@ -30,8 +34,13 @@ import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.user.mgt.RolePermissionException;
 import org.wso2.carbon.user.mgt.RolePermissionManagementService;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import javax.ws.rs.core.Response;
 
+import static org.wso2.carbon.identity.api.server.common.Constants.RESOURCE_TYPE_PERMISSION;
+
 /**
  * The Permission Management Service class.
  */
@@ -40,6 +49,15 @@ public class PermissionManagementService {
     private final RolePermissionManagementService rolePermissionManagementService;
     private static final Log LOG = LogFactory.getLog(PermissionManagementService.class);
 
+    /* Permission tree of each tenant. The UI permissions are registered when the features are installed, and the
+    application permissions change with the applications, which drop the tree of the tenant through the permission
+    resource type. Changes made on other nodes or outside these APIs are picked up once the tree expires. */
+    private static final TenantCache<PermissionTree> PERMISSION_TREES =
+            new TenantCache<>("PermissionTree", 60, RESOURCE_TYPE_PERMISSION);
+    private static final String VIEW_FLAT = "flat";
+    private static final String VIEW_TREE = "tree";
+    private static final String VIEW_KEY_SEPARATOR = "|";
+
     public PermissionManagementService(RolePermissionManagementService rolePermissionManagementService) {
 
         this.rolePermissionManagementService = rolePermissionManagementService;
@@ -52,58 +70,114 @@ public class PermissionManagementService {
      */
     public Permission[] getAllPermissions() {
 
+        return getPermissionTree().getPermissions(null, null).toArray(new Permission[0]);
+    }
+
+    /**
+     * Get the serialized permissions of the requested view, from the permission tree snapshot of the tenant.
+     *
+     * @param view  Shape of the response, flat or tree. Defaults to flat.
+     * @param root  Resource path of the permission to which the response is limited, along with its descendants.
+     * @param depth Maximum number of levels of descendants to be included, below the root permissions.
+     * @return Cached response of the permissions.
+     */
+    public CachedResponse getPermissionsResponse(String view, String root, Integer depth) {
+
+        String permissionView = StringUtils.defaultIfBlank(view, VIEW_FLAT);
+        if (!VIEW_FLAT.equals(permissionView) && !VIEW_TREE.equals(permissionView)) {
+            throw handleClientError(Response.Status.BAD_REQUEST,
+                    Constant.ErrorMessage.ERROR_CODE_INVALID_PERMISSION_VIEW, view);
+        }
+        if (depth != null && depth < 0) {
+            throw handleClientError(Response.Status.BAD_REQUEST,
+                    Constant.ErrorMessage.ERROR_CODE_INVALID_PERMISSION_DEPTH, String.valueOf(depth));
+        }
+
+        PermissionTree permissionTree = getPermissionTree();
+        String key = permissionView + VIEW_KEY_SEPARATOR + StringUtils.defaultString(root) + VIEW_KEY_SEPARATOR +
+                (depth != null ? depth : StringUtils.EMPTY);
+        CachedResponse response = permissionTree.getResponse(key);
+        if (response != null) {
+            return response;
+        }
+
+        if (root != null && !permissionTree.contains(root)) {
+            throw handleClientError(Response.Status.NOT_FOUND, Constant.ErrorMessage.ERROR_CODE_PERMISSION_NOT_FOUND,
+                    root);
+        }
+        Object permissions = VIEW_TREE.equals(permissionView) ? permissionTree.getPermissionNodes(root, depth) :
+                permissionTree.getPermissions(root, depth);
         try {
-            String tenantDomain = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain();
-            return getPermissionObjects(rolePermissionManagementService.getAllPermissions(IdentityTenantUtil
-                    .getTenantId(tenantDomain)));
-        } catch (RolePermissionException e) {
+            response = CachedResponse.of(permissions);
+        } catch (JsonProcessingException e) {
             throw handleException(e);
         }
+        return permissionTree.addResponse(key, response);
+    }
+
+    private PermissionTree getPermissionTree() {
+
+        String tenantDomain = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+        return PERMISSION_TREES.get(tenantDomain, () -> {
+            try {
+                return new PermissionTree(getPermissionObjects(rolePermissionManagementService.getAllPermissions(
+                        IdentityTenantUtil.getTenantId(tenantDomain))));
+            } catch (RolePermissionException e) {
+                throw handleException(e);
+            }
+        });
     }
 
     /**
      * Convert Permission Object to PermissionObject type.
      *
      * @param permissions from backend service.
-     * @return PermissionObject[] of permissions.
+     * @return PermissionObject list of permissions.
      */
-    private Permission[] getPermissionObjects(org.wso2.carbon.user.mgt.common.model.Permission[] permissions) {
+    private List<Permission> getPermissionObjects(org.wso2.carbon.user.mgt.common.model.Permission[] permissions) {
 
-        Permission[] outputPermissions = new Permission[permissions.length];
-        for (int i = 0; i < permissions.length; i++) {
+        List<Permission> outputPermissions = new ArrayList<>(permissions.length);
+        for (org.wso2.carbon.user.mgt.common.model.Permission backendPermission : permissions) {
             Permission permission = new Permission();
-            permission.setDisplayName(permissions[i].getDisplayName());
-            permission.setResourcePath(permissions[i].getResourcePath());
-            outputPermissions[i] = permission;
+            permission.setDisplayName(backendPermission.getDisplayName());
+            permission.setResourcePath(backendPermission.getResourcePath());
+            outputPermissions.add(permission);
         }
         return outputPermissions;
     }
 
-    private APIError handleException(Exception e, String... data) {
+    private APIError handleException(Exception e) {
 
-        ErrorResponse errorResponse = getErrorBuilder(data)
-                .build(LOG, e, buildErrorDescription(data));
+        Constant.ErrorMessage errorMessage = Constant.ErrorMessage.ERROR_CODE_ERROR_GETTING_PERMISSIONS;
+        ErrorResponse errorResponse = getErrorBuilder(errorMessage)
+                .build(LOG, e, buildErrorDescription(errorMessage));
 
         Response.Status status = Response.Status.INTERNAL_SERVER_ERROR;
         return new APIError(status, errorResponse);
     }
 
-    private ErrorResponse.Builder getErrorBuilder(String... data) {
+    private APIError handleClientError(Response.Status status, Constant.ErrorMessage errorMessage, String... data) {
+
+        ErrorResponse errorResponse = getErrorBuilder(errorMessage, data)
+                .build(LOG, buildErrorDescription(errorMessage, data));
+        return new APIError(status, errorResponse);
+    }
+
+    private ErrorResponse.Builder getErrorBuilder(Constant.ErrorMessage errorMessage, String... data) {
 
         return new ErrorResponse.Builder()
-                .withCode(Constant.ErrorMessage.ERROR_CODE_ERROR_GETTING_PERMISSIONS.getCode())
-                .withMessage(Constant.ErrorMessage.ERROR_CODE_ERROR_GETTING_PERMISSIONS.getMessage())
-                .withDescription(buildErrorDescription(data));
+                .withCode(errorMessage.getCode())
+                .withMessage(errorMessage.getMessage())
+                .withDescription(buildErrorDescription(errorMessage, data));
     }
 
-    private String buildErrorDescription(String... data) {
+    private String buildErrorDescription(Constant.ErrorMessage errorMessage, String... data) {
 
         String errorDescription;
         if (!ArrayUtils.isEmpty(data)) {
-            errorDescription = String.format(Constant.ErrorMessage
-                    .ERROR_CODE_ERROR_GETTING_PERMISSIONS.getDescription(), (Object) data);
+            errorDescription = String.format(errorMessage.getDescription(), (Object[]) data);
         } else {
-            errorDescription = Constant.ErrorMessage.ERROR_CODE_ERROR_GETTING_PERMISSIONS.getDescription();
+            errorDescription = errorMessage.getDescription();
         }
         return errorDescription;
     }
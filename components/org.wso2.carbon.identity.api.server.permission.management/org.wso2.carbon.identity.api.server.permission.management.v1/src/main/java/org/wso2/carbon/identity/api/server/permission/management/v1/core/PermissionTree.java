@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.permission.management.v1.core;
+
+import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.identity.api.server.common.cache.CachedResponse;
+import org.wso2.carbon.identity.api.server.permission.management.v1.model.Permission;
+import org.wso2.carbon.identity.api.server.permission.management.v1.model.PermissionNode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Snapshot of the UI permission tree of a tenant, shared between the permission listing requests of the tenant.
+ *
+ * <p>Each permission is nested under the closest permission whose resource path is an ancestor of its own resource
+ * path. The serialized responses of the requested views of the tree are kept along with the snapshot, up to a limit,
+ * hence the repeated requests neither rebuild nor serialize the same view again.</p>
+ */
+public class PermissionTree {
+
+    private static final String PATH_SEPARATOR = "/";
+    private static final int MAX_CACHED_RESPONSES = 50;
+
+    private final List<Permission> permissions;
+    private final List<Node> roots = new ArrayList<>();
+    private final Map<String, Node> nodesByPath = new HashMap<>();
+    private final Map<String, CachedResponse> responses = new ConcurrentHashMap<>();
+
+    /**
+     * Build the permission tree.
+     *
+     * @param permissions Permissions in the order returned by the permission management service.
+     */
+    public PermissionTree(List<Permission> permissions) {
+
+        this.permissions = Collections.unmodifiableList(permissions);
+        for (Permission permission : permissions) {
+            nodesByPath.putIfAbsent(normalizePath(permission.getResourcePath()), new Node(permission));
+        }
+        // Children are attached in the order of the permissions, skipping the duplicates of a resource path.
+        for (Permission permission : permissions) {
+            String path = normalizePath(permission.getResourcePath());
+            Node node = nodesByPath.get(path);
+            if (node.permission != permission) {
+                continue;
+            }
+            Node parent = findParent(path);
+            if (parent != null) {
+                parent.children.add(node);
+            } else {
+                roots.add(node);
+            }
+        }
+    }
+
+    /**
+     * Check whether a permission with the given resource path exists.
+     *
+     * @param resourcePath Resource path of the permission.
+     * @return True if the permission exists.
+     */
+    public boolean contains(String resourcePath) {
+
+        return nodesByPath.containsKey(normalizePath(resourcePath));
+    }
+
+    /**
+     * Get the permissions as a flat list. The permissions of a subtree or a depth limited tree are listed with each
+     * permission followed by its descendants.
+     *
+     * @param root  Resource path of the permission to which the list is limited, along with its descendants. If null,
+     *              all the permissions are listed.
+     * @param depth Maximum number of levels of descendants to be listed, below the root permissions. If null, all the
+     *              descendants are listed.
+     * @return Permissions. The list should not be modified.
+     */
+    public List<Permission> getPermissions(String root, Integer depth) {
+
+        if (root == null && depth == null) {
+            return permissions;
+        }
+        List<Permission> selectedPermissions = new ArrayList<>();
+        for (Node node : selectRoots(root)) {
+            addPermissions(node, depth, selectedPermissions);
+        }
+        return selectedPermissions;
+    }
+
+    /**
+     * Get the permissions as a tree.
+     *
+     * @param root  Resource path of the permission to which the tree is limited, along with its descendants. If null,
+     *              the whole tree is returned.
+     * @param depth Maximum number of levels of descendants to be included, below the root permissions. If null, all
+     *              the descendants are included.
+     * @return Root permissions of the tree.
+     */
+    public List<PermissionNode> getPermissionNodes(String root, Integer depth) {
+
+        List<Node> selectedRoots = selectRoots(root);
+        List<PermissionNode> permissionNodes = new ArrayList<>(selectedRoots.size());
+        for (Node node : selectedRoots) {
+            permissionNodes.add(buildPermissionNode(node, depth));
+        }
+        return permissionNodes;
+    }
+
+    /**
+     * Get the cached response of the given view of the tree.
+     *
+     * @param key Key of the view.
+     * @return Cached response, or null if the view is not cached.
+     */
+    public CachedResponse getResponse(String key) {
+
+        return responses.get(key);
+    }
+
+    /**
+     * Cache the response of the given view of the tree, unless the maximum number of views are already cached.
+     *
+     * @param key      Key of the view.
+     * @param response Response of the view.
+     * @return Cached response of the view, which is the response cached by a concurrent request if any.
+     */
+    public CachedResponse addResponse(String key, CachedResponse response) {
+
+        if (responses.size() >= MAX_CACHED_RESPONSES) {
+            return response;
+        }
+        CachedResponse existingResponse = responses.putIfAbsent(key, response);
+        return existingResponse != null ? existingResponse : response;
+    }
+
+    private List<Node> selectRoots(String root) {
+
+        if (root == null) {
+            return roots;
+        }
+        Node node = nodesByPath.get(normalizePath(root));
+        return node != null ? Collections.singletonList(node) : Collections.emptyList();
+    }
+
+    private void addPermissions(Node node, Integer depth, List<Permission> selectedPermissions) {
+
+        selectedPermissions.add(node.permission);
+        if (depth != null && depth <= 0) {
+            return;
+        }
+        Integer childDepth = depth != null ? depth - 1 : null;
+        for (Node child : node.children) {
+            addPermissions(child, childDepth, selectedPermissions);
+        }
+    }
+
+    private PermissionNode buildPermissionNode(Node node, Integer depth) {
+
+        PermissionNode permissionNode = new PermissionNode()
+                .displayName(node.permission.getDisplayName())
+                .resourcePath(node.permission.getResourcePath());
+        if (node.children.isEmpty() || (depth != null && depth <= 0)) {
+            return permissionNode;
+        }
+        Integer childDepth = depth != null ? depth - 1 : null;
+        List<PermissionNode> children = new ArrayList<>(node.children.size());
+        for (Node child : node.children) {
+            children.add(buildPermissionNode(child, childDepth));
+        }
+        return permissionNode.children(children);
+    }
+
+    private Node findParent(String path) {
+
+        String parentPath = path;
+        int separatorIndex;
+        while ((separatorIndex = parentPath.lastIndexOf(PATH_SEPARATOR)) > 0) {
+            parentPath = parentPath.substring(0, separatorIndex);
+            Node parent = nodesByPath.get(parentPath);
+            if (parent != null) {
+                return parent;
+            }
+        }
+        return null;
+    }
+
+    private static String normalizePath(String resourcePath) {
+
+        return StringUtils.removeEnd(StringUtils.defaultString(resourcePath).trim(), PATH_SEPARATOR);
+    }
+
+    /**
+     * Permission along with its child permissions.
+     */
+    private static class Node {
+
+        private final Permission permission;
+        private final List<Node> children = new ArrayList<>();
+
+        Node(Permission permission) {
+
+            this.permission = permission;
+        }
+    }
+}
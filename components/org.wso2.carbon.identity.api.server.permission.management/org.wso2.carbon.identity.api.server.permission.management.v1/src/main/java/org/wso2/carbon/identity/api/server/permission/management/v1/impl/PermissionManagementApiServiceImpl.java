@@ -29,6 +29,9 @@ import javax.ws.rs.core.Response;
  */
 public class PermissionManagementApiServiceImpl implements PermissionManagementApiService {
 
+    // Clients revalidate the permissions on each use, with the entity tag of the representation they hold.
+    private static final int PERMISSIONS_RESPONSE_MAX_AGE = 0;
+
     private final PermissionManagementService permissionManagementService;
 
     public PermissionManagementApiServiceImpl() {
@@ -41,8 +44,9 @@ public class PermissionManagementApiServiceImpl implements PermissionManagementA
     }
 
     @Override
-    public Response permissionManagementPermissionsGet() {
+    public Response permissionManagementPermissionsGet(String view, String root, Integer depth, String ifNoneMatch) {
 
-        return Response.ok().entity(permissionManagementService.getAllPermissions()).build();
+        return permissionManagementService.getPermissionsResponse(view, root, depth)
+                .toResponse(ifNoneMatch, PERMISSIONS_RESPONSE_MAX_AGE);
     }
 }
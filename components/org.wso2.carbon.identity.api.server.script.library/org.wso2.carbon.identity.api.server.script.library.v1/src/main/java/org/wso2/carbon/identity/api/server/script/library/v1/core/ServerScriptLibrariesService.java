@@ -292,9 +292,9 @@ public class ServerScriptLibrariesService {
         try {
             String displayName =
                     URLEncoder.encode(scriptLibrary.getFunctionLibraryName(), StandardCharsets.UTF_8.name());
-            scriptLibraryResponse.setContentRef(ContextLoader.buildURIForBody(String.format(
+            scriptLibraryResponse.setContentRef(ContextLoader.buildURLForBody(String.format(
                     V1_API_PATH_COMPONENT + SCRIPT_LIBRARY_PATH_COMPONENT + "/%s" + SCRIPT_LIBRARY_CONTENT_PATH,
-                    displayName)).toString().replace("+", "%20"));
+                    displayName)).replace("+", "%20"));
             return scriptLibraryResponse;
         } catch (UnsupportedEncodingException e) {
             FunctionLibraryManagementException error = new FunctionLibraryManagementException(
@@ -355,9 +355,9 @@ public class ServerScriptLibrariesService {
                 scriptLibrary.setName(functionLibrary.getFunctionLibraryName());
                 scriptLibrary.setDescription(functionLibrary.getDescription());
                 scriptLibrary.setSelf(
-                        ContextLoader.buildURIForBody(
+                        ContextLoader.buildURLForBody(
                                 String.format(V1_API_PATH_COMPONENT + SCRIPT_LIBRARY_PATH_COMPONENT + "/%s",
-                                        functionLibrary.getFunctionLibraryName())).toString());
+                                        functionLibrary.getFunctionLibraryName())));
                 scriptLibraryItem.add(scriptLibrary);
             }
             scriptLibraryListResponse.setScriptLibraries(scriptLibraryItem.subList(
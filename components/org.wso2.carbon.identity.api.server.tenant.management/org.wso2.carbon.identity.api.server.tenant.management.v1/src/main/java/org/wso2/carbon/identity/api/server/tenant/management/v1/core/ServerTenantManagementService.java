@@ -19,12 +19,15 @@
 package org.wso2.carbon.identity.api.server.tenant.management.v1.core;
 
 import org.apache.commons.collections.CollectionUtils;
+import org.apache.commons.lang.ArrayUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
+import org.wso2.carbon.identity.api.server.common.report.ReportFormat;
+import org.wso2.carbon.identity.api.server.common.report.ReportWriter;
 import org.wso2.carbon.identity.api.server.tenant.management.common.TenantManagementConstants;
 import org.wso2.carbon.identity.api.server.tenant.management.v1.model.AdditionalClaims;
 import org.wso2.carbon.identity.api.server.tenant.management.v1.model.ChannelVerifiedTenantModel;
@@ -46,9 +49,11 @@ import org.wso2.carbon.stratos.common.constants.TenantConstants;
 import org.wso2.carbon.stratos.common.exception.TenantManagementClientException;
 import org.wso2.carbon.stratos.common.exception.TenantManagementServerException;
 import org.wso2.carbon.stratos.common.exception.TenantMgtException;
-import org.wso2.carbon.stratos.common.util.ClaimsMgtUtil;
 import org.wso2.carbon.tenant.mgt.services.TenantMgtService;
+import org.wso2.carbon.user.api.UserRealm;
 import org.wso2.carbon.user.api.UserStoreException;
+import org.wso2.carbon.user.api.UserStoreManager;
+import org.wso2.carbon.user.core.UserCoreConstants;
 import org.wso2.carbon.user.core.common.User;
 import org.wso2.carbon.user.core.service.RealmService;
 import org.wso2.carbon.user.core.tenant.Tenant;
@@ -60,12 +65,18 @@ import java.nio.charset.StandardCharsets;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
 
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 
 import static org.wso2.carbon.identity.api.server.common.Constants.ERROR_CODE_RESOURCE_LIMIT_REACHED;
 import static org.wso2.carbon.identity.api.server.common.Constants.V1_API_PATH_COMPONENT;
@@ -89,6 +100,7 @@ public class ServerTenantManagementService {
     private static final String INLINE_PASSWORD = "inline-password";
     private static final String CODE = "code";
     private static final String PURPOSE = "purpose";
+    private static final int TENANT_STREAM_PAGE_SIZE = 500;
 
     public ServerTenantManagementService(TenantMgtService tenantMgtService, RealmService realmService) {
 
@@ -128,14 +140,24 @@ public class ServerTenantManagementService {
     public TenantsListResponse listTenants(Integer limit, Integer offset, String sortOrder, String sortBy,
                                            String filter) {
 
-        try {
-            TenantSearchResult tenantSearchResult = tenantMgtService.listTenants(limit, offset, sortOrder, sortBy,
-                    filter);
-            return createTenantListResponse(tenantSearchResult);
-        } catch (TenantMgtException e) {
-            throw handleTenantManagementException(e, TenantManagementConstants.ErrorMessage
-                    .ERROR_CODE_ERROR_LISTING_TENANTS, null);
-        }
+        return createTenantListResponse(searchTenants(limit, offset, sortOrder, sortBy, filter));
+    }
+
+    /**
+     * Stream all the tenants matching the filter as newline delimited JSON. The tenants are retrieved page by page
+     * while the response is written, hence the whole tenant list is never held in memory.
+     *
+     * @param sortOrder Order in which tenants should be sorted. Can be either ASC or DESC.
+     * @param sortBy    Attribute to sort the tenants by. E.g. domainName
+     * @param filter    Filter string. E.g. filter="domainName" sw "wso2.com"
+     * @return Streaming output writing the tenants.
+     */
+    public StreamingOutput streamTenants(String sortOrder, String sortBy, String filter) {
+
+        // The first page is retrieved before the response is committed, so that invalid requests get an error status.
+        TenantSearchResult firstPage = searchTenants(TENANT_STREAM_PAGE_SIZE, 0, sortOrder, sortBy, filter);
+        return ReportWriter.stream(() -> new TenantPageIterator(firstPage, sortOrder, sortBy, filter),
+                this::createTenantListItem, ReportFormat.NDJSON, null);
     }
 
     /**
@@ -318,37 +340,104 @@ public class ServerTenantManagementService {
         ownerInfoResponse.setUsername(tenant.getAdminName());
         ownerInfoResponse.setEmail(tenant.getEmail());
 
+        // The name claims and the additional claims are retrieved from the user store in a single call.
+        Set<String> claimURIs = new LinkedHashSet<>();
+        claimURIs.add(UserCoreConstants.ClaimTypeURIs.GIVEN_NAME);
+        claimURIs.add(UserCoreConstants.ClaimTypeURIs.SURNAME);
+        if (claimsList != null) {
+            Collections.addAll(claimURIs, claimsList);
+        }
+        Map<String, String> claimValues;
         try {
-            ownerInfoResponse.setFirstname(ClaimsMgtUtil.getFirstNamefromUserStoreManager(
-                    realmService, tenant.getId()));
-            ownerInfoResponse.setLastname(ClaimsMgtUtil.getLastNamefromUserStoreManager(
-                    realmService, tenant.getId()));
+            claimValues = getOwnerClaimValues(tenant, claimURIs.toArray(new String[0]));
         } catch (UserStoreException e) {
-            if (e.getMessage().startsWith(TenantManagementConstants.NON_EXISTING_USER_CODE)) {
-                throw handleException(Response.Status.NOT_FOUND, TenantManagementConstants.ErrorMessage.
-                        ERROR_CODE_OWNER_NOT_FOUND, tenant.getTenantUniqueID());
+            if (ArrayUtils.isEmpty(claimsList) || isNonExistingUserError(e)) {
+                throw handleOwnerClaimsError(tenant, e);
+            }
+            // An invalid additional claim fails the whole call, hence the additional claims are retrieved one by one.
+            if (log.isDebugEnabled()) {
+                log.debug("Error while retrieving the owner claims of tenant: " + tenant.getId() +
+                        ". Retrieving the additional claims one by one.", e);
             }
-            throw new TenantMgtException(e.getMessage());
+            claimValues = getOwnerClaimValuesOneByOne(tenant, claimsList);
         }
 
+        ownerInfoResponse.setFirstname(claimValues.get(UserCoreConstants.ClaimTypeURIs.GIVEN_NAME));
+        ownerInfoResponse.setLastname(claimValues.get(UserCoreConstants.ClaimTypeURIs.SURNAME));
         if (claimsList != null) {
             for (String claim : claimsList) {
-                try {
-                    String claimValue = ClaimsMgtUtil.getClaimfromUserStoreManager(realmService, tenant.getId(), claim);
-                    if (StringUtils.isNotBlank(claimValue)) {
-                        ownerInfoResponse.addAdditionalClaimsItem(
-                                new AdditionalClaims().claim(claim).value(claimValue));
-                    }
-                } catch (org.wso2.carbon.user.core.UserStoreException e) {
-                    if (log.isDebugEnabled()) {
-                        log.debug("Error while retrieving claim: " + claim + " for tenant: " + tenant.getId(), e);
-                    }
+                String claimValue = claimValues.get(claim);
+                if (StringUtils.isNotBlank(claimValue)) {
+                    ownerInfoResponse.addAdditionalClaimsItem(new AdditionalClaims().claim(claim).value(claimValue));
                 }
             }
         }
         return ownerInfoResponse;
     }
 
+    /**
+     * Retrieve the given claims of the tenant owner in a single user store call.
+     *
+     * @param tenant    Tenant.
+     * @param claimURIs Claim URIs to be retrieved.
+     * @return Claim values, keyed by the claim URI. Claims without a value are not included.
+     * @throws UserStoreException If an error occurred while retrieving the claims.
+     */
+    private Map<String, String> getOwnerClaimValues(Tenant tenant, String[] claimURIs) throws UserStoreException {
+
+        UserRealm userRealm = realmService.getTenantUserRealm(tenant.getId());
+        UserStoreManager userStoreManager = userRealm.getUserStoreManager();
+        String ownerName = userRealm.getRealmConfiguration().getAdminUserName();
+        Map<String, String> claimValues = userStoreManager.getUserClaimValues(ownerName, claimURIs,
+                UserCoreConstants.DEFAULT_PROFILE);
+        return claimValues != null ? claimValues : new HashMap<>();
+    }
+
+    /**
+     * Retrieve the name claims of the tenant owner, and then the given additional claims one by one, skipping the
+     * additional claims which cannot be retrieved.
+     *
+     * @param tenant     Tenant.
+     * @param claimsList Additional claim URIs.
+     * @return Claim values, keyed by the claim URI.
+     * @throws TenantMgtException If an error occurred while retrieving the name claims.
+     */
+    private Map<String, String> getOwnerClaimValuesOneByOne(Tenant tenant, String[] claimsList)
+            throws TenantMgtException {
+
+        Map<String, String> claimValues;
+        try {
+            claimValues = getOwnerClaimValues(tenant, new String[]{UserCoreConstants.ClaimTypeURIs.GIVEN_NAME,
+                    UserCoreConstants.ClaimTypeURIs.SURNAME});
+        } catch (UserStoreException e) {
+            throw handleOwnerClaimsError(tenant, e);
+        }
+        for (String claim : claimsList) {
+            try {
+                claimValues.putAll(getOwnerClaimValues(tenant, new String[]{claim}));
+            } catch (UserStoreException e) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Error while retrieving claim: " + claim + " for tenant: " + tenant.getId(), e);
+                }
+            }
+        }
+        return claimValues;
+    }
+
+    private boolean isNonExistingUserError(UserStoreException e) {
+
+        return e.getMessage() != null && e.getMessage().startsWith(TenantManagementConstants.NON_EXISTING_USER_CODE);
+    }
+
+    private TenantMgtException handleOwnerClaimsError(Tenant tenant, UserStoreException e) {
+
+        if (isNonExistingUserError(e)) {
+            throw handleException(Response.Status.NOT_FOUND, TenantManagementConstants.ErrorMessage.
+                    ERROR_CODE_OWNER_NOT_FOUND, tenant.getTenantUniqueID());
+        }
+        return new TenantMgtException(e.getMessage());
+    }
+
     private TenantResponseModel createTenantResponse(Tenant tenant) {
 
         TenantResponseModel tenantResponseModel = new TenantResponseModel();
@@ -428,19 +517,34 @@ public class ServerTenantManagementService {
 
         List<TenantListItem> tenantListItems = new ArrayList<>();
         for (Tenant tenant : tenants) {
-            TenantListItem listItem = new TenantListItem();
-            listItem.setLifecycleStatus(getLifeCycleStatus(tenant.isActive()));
-            listItem.setCreatedDate(getISOFormatDate(tenant.getCreatedDate()));
-            listItem.setDomain(tenant.getDomain());
-            listItem.setName(tenant.getName());
-            listItem.setId(tenant.getTenantUniqueID());
-            listItem.setOwners(getOwnerResponses(tenant));
-
-            tenantListItems.add(listItem);
+            tenantListItems.add(createTenantListItem(tenant));
         }
         return tenantListItems;
     }
 
+    private TenantListItem createTenantListItem(Tenant tenant) {
+
+        TenantListItem listItem = new TenantListItem();
+        listItem.setLifecycleStatus(getLifeCycleStatus(tenant.isActive()));
+        listItem.setCreatedDate(getISOFormatDate(tenant.getCreatedDate()));
+        listItem.setDomain(tenant.getDomain());
+        listItem.setName(tenant.getName());
+        listItem.setId(tenant.getTenantUniqueID());
+        listItem.setOwners(getOwnerResponses(tenant));
+        return listItem;
+    }
+
+    private TenantSearchResult searchTenants(Integer limit, Integer offset, String sortOrder, String sortBy,
+                                             String filter) {
+
+        try {
+            return tenantMgtService.listTenants(limit, offset, sortOrder, sortBy, filter);
+        } catch (TenantMgtException e) {
+            throw handleTenantManagementException(e, TenantManagementConstants.ErrorMessage
+                    .ERROR_CODE_ERROR_LISTING_TENANTS, null);
+        }
+    }
+
     private LifeCycleStatus getLifeCycleStatus(boolean isActive) {
 
         LifeCycleStatus lifeCycleStatus = new LifeCycleStatus();
@@ -496,7 +600,7 @@ public class ServerTenantManagementService {
         } else {
             url.append(String.format(TenantManagementConstants.PAGINATION_LINK_FORMAT, offset, limit));
         }
-        return new Link().rel(rel).href(ContextLoader.buildURIForBody((url.toString())).toString());
+        return new Link().rel(rel).href(ContextLoader.buildURLForBody((url.toString())));
     }
 
     private int calculateOffsetForPreviousLink(int offset, int limit, int total) {
@@ -724,4 +828,53 @@ public class ServerTenantManagementService {
                                                    .withZoneSameInstant(ZoneId.of("UTC"));
         return ISO_OFFSET_DATE_TIME.format(zonedDateTime);
     }
+
+    /**
+     * Iterates over the tenants matching a filter, retrieving the next page of tenants once the current page is
+     * consumed.
+     */
+    private class TenantPageIterator implements Iterator<Tenant> {
+
+        private final String sortOrder;
+        private final String sortBy;
+        private final String filter;
+        private Iterator<Tenant> page;
+        private int nextOffset;
+        private boolean lastPage;
+
+        TenantPageIterator(TenantSearchResult firstPage, String sortOrder, String sortBy, String filter) {
+
+            this.sortOrder = sortOrder;
+            this.sortBy = sortBy;
+            this.filter = filter;
+            setPage(firstPage, 0);
+        }
+
+        @Override
+        public boolean hasNext() {
+
+            while (!page.hasNext() && !lastPage) {
+                setPage(searchTenants(TENANT_STREAM_PAGE_SIZE, nextOffset, sortOrder, sortBy, filter), nextOffset);
+            }
+            return page.hasNext();
+        }
+
+        @Override
+        public Tenant next() {
+
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return page.next();
+        }
+
+        private void setPage(TenantSearchResult searchResult, int offset) {
+
+            List<Tenant> tenants = searchResult.getTenantList() != null ? searchResult.getTenantList() :
+                    Collections.emptyList();
+            page = tenants.iterator();
+            nextOffset = offset + tenants.size();
+            lastPage = tenants.size() < TENANT_STREAM_PAGE_SIZE || nextOffset >= searchResult.getTotalTenantCount();
+        }
+    }
 }
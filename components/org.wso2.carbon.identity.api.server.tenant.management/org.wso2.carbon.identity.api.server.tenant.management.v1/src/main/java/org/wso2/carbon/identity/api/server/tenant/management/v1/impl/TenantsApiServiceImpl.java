@@ -20,6 +20,7 @@ package org.wso2.carbon.identity.api.server.tenant.management.v1.impl;
 
 import org.wso2.carbon.identity.api.server.common.Constants;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.report.ReportFormat;
 import org.wso2.carbon.identity.api.server.tenant.management.common.TenantManagementConstants;
 import org.wso2.carbon.identity.api.server.tenant.management.v1.TenantsApiService;
 import org.wso2.carbon.identity.api.server.tenant.management.v1.core.ServerTenantManagementService;
@@ -80,8 +81,13 @@ public class TenantsApiServiceImpl implements TenantsApiService {
     }
 
     @Override
-    public Response retrieveTenants(Integer limit, Integer offset, String sortOrder, String sortBy, String filter) {
+    public Response retrieveTenants(Integer limit, Integer offset, String sortOrder, String sortBy, String filter,
+                                    String accept) {
 
+        if (ReportFormat.fromAcceptHeader(accept) == ReportFormat.NDJSON) {
+            return Response.ok(tenantManagementService.streamTenants(sortOrder, sortBy, filter),
+                    ReportFormat.NDJSON.getMediaType()).build();
+        }
         return Response.ok().entity(tenantManagementService.listTenants(limit, offset, sortOrder, sortBy, filter)).
                 build();
     }
@@ -30,6 +30,26 @@ public class UserStoreConstants {
     public static final String USER_STORE_PROPERTIES = "/properties/";
     public static final String USER_STORE_PROPERTY_MASK = "************";
     public static final String CLAIM_MANAGEMENT_PREFIX = "CMT-";
+    public static final String LIMIT = "limit";
+    public static final String OFFSET = "offset";
+
+    // User store list filter.
+    public static final String FILTER_ATTRIBUTE_NAME = "name";
+    public static final String FILTER_ATTRIBUTE_TYPE_NAME = "typeName";
+    public static final String FILTER_ATTRIBUTE_ENABLED = "enabled";
+    public static final String FILTER_EQ = "eq";
+    public static final String FILTER_SW = "sw";
+    public static final String FILTER_EW = "ew";
+    public static final String FILTER_CO = "co";
+    public static final String FILTER_AND = "and";
+    public static final String FILTER_OR = "or";
+
+    // RDBMS connection test jobs.
+    public static final String CONNECTION_TEST_JOB_PATH_COMPONENT = "/test-connection/jobs/";
+    public static final String CONNECTION_TEST_POOL_SIZE = "ServerAPI.UserStore.ConnectionTest.PoolSize";
+    public static final String CONNECTION_TEST_TIMEOUT = "ServerAPI.UserStore.ConnectionTest.Timeout";
+    public static final String CONNECTION_TEST_RESULT_EXPIRY_TIME =
+            "ServerAPI.UserStore.ConnectionTest.ResultExpiryTime";
 
     /**
      * Enum for user store related errors in the format of
@@ -126,7 +146,17 @@ public class UserStoreConstants {
         ERROR_CODE_EMPTY_ATTRIBUTE_MAPPINGS("60014", "Attribute mapping not specified.",
                 "Attribute mapping cannot be empty."),
         ERROR_CODE_INVALID_USERSTORE_TYPE("60015", "UserStore type is not allowed",
-                "Requested UserStore type is not allowed", Response.Status.BAD_REQUEST);
+                "Requested UserStore type is not allowed", Response.Status.BAD_REQUEST),
+        ERROR_CODE_INVALID_FILTER("60016", "Invalid filter",
+                "Filter: %s is not supported. Supported attributes are name, typeName and enabled, with the " +
+                        "eq, sw, ew and co operations.", Response.Status.BAD_REQUEST),
+        ERROR_CODE_INVALID_PAGINATION_PARAMETER("60017", "Invalid pagination parameter",
+                "Pagination parameter: %s cannot be negative.", Response.Status.BAD_REQUEST),
+        ERROR_CODE_CONNECTION_TEST_JOB_NOT_FOUND("60018", "Resource not found.",
+                "Unable to find a connection test job with the id: %s", Response.Status.NOT_FOUND),
+        ERROR_CODE_CONNECTION_TEST_LIMIT_REACHED("60019", "Too many connection tests.",
+                "Maximum number of pending connection tests has been reached. Retry once the pending tests " +
+                        "complete.", Response.Status.TOO_MANY_REQUESTS);
 
         private final String code;
         private final String message;
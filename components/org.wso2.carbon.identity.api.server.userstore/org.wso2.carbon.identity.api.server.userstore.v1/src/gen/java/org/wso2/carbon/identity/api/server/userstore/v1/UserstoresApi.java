@@ -27,6 +27,7 @@ import org.wso2.carbon.identity.api.server.userstore.v1.factories.UserstoresApiS
 import org.wso2.carbon.identity.api.server.userstore.v1.model.AvailableUserStoreClassesRes;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.ClaimAttributeMapping;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.ConnectionEstablishedResponse;
+import org.wso2.carbon.identity.api.server.userstore.v1.model.ConnectionTestJobResponse;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.Error;
 import java.io.File;
 import java.util.List;
@@ -335,6 +336,52 @@ public class UserstoresApi  {
         return delegate.testRDBMSConnection(rdBMSConnectionReq );
     }
 
+    @Valid
+    @POST
+    @Path("/test-connection/jobs")
+    @Consumes({ "application/json" })
+    @Produces({ "application/json" })
+    @ApiOperation(value = "Start a test of the connection to the datasource used by a JDBC user store manager.", notes = "This API starts an asynchronous test of the connection to the datasource used by a JDBC user store manager. The result can be retrieved with the returned job id. Jobs are kept in the memory of the node which runs them, hence in a cluster the job has to be polled from the same node, e.g. with session affinity. <b>Permission required:</b> <br>     * /permission/admin/manage/identity/userstore/config/view <br> <b>Scope required:</b> <br>     * internal_userstore_view ", response = ConnectionTestJobResponse.class, authorizations = {
+        @Authorization(value = "BasicAuth"),
+        @Authorization(value = "OAuth2", scopes = {
+            
+        })
+    }, tags={ "User Store", })
+    @ApiResponses(value = { 
+        @ApiResponse(code = 202, message = "Accepted.", response = ConnectionTestJobResponse.class),
+        @ApiResponse(code = 400, message = "Invalid input request.", response = Error.class),
+        @ApiResponse(code = 401, message = "Unauthorized.", response = Void.class),
+        @ApiResponse(code = 429, message = "Too Many Requests.", response = Error.class),
+        @ApiResponse(code = 500, message = "Internal Server Error.", response = Error.class)
+    })
+    public Response submitRDBMSConnectionTest(@ApiParam(value = "RDBMS connection properties used to connect to the datasource used by a JDBC user store manager." ) @Valid RDBMSConnectionReq rdBMSConnectionReq) {
+
+        return delegate.submitRDBMSConnectionTest(rdBMSConnectionReq );
+    }
+
+    @Valid
+    @GET
+    @Path("/test-connection/jobs/{job-id}")
+    
+    @Produces({ "application/json" })
+    @ApiOperation(value = "Retrieve the result of a connection test job.", notes = "This API retrieves the status and the result of a test of the connection to the datasource used by a JDBC user store manager. Jobs are kept in the memory of the node which runs them, hence in a cluster the job has to be polled from the same node, e.g. with session affinity. <b>Permission required:</b> <br>     * /permission/admin/manage/identity/userstore/config/view <br> <b>Scope required:</b> <br>     * internal_userstore_view ", response = ConnectionTestJobResponse.class, authorizations = {
+        @Authorization(value = "BasicAuth"),
+        @Authorization(value = "OAuth2", scopes = {
+            
+        })
+    }, tags={ "User Store", })
+    @ApiResponses(value = { 
+        @ApiResponse(code = 200, message = "Successful response.", response = ConnectionTestJobResponse.class),
+        @ApiResponse(code = 400, message = "Invalid input request.", response = Error.class),
+        @ApiResponse(code = 401, message = "Unauthorized.", response = Void.class),
+        @ApiResponse(code = 404, message = "The specified resource is not found.", response = Error.class),
+        @ApiResponse(code = 500, message = "Internal Server Error.", response = Error.class)
+    })
+    public Response getRDBMSConnectionTest(@ApiParam(value = "Identifier of the connection test job.",required=true) @PathParam("job-id") String jobId,     @Valid @Min(0)@ApiParam(value = "Maximum number of seconds to wait for the job to complete before responding.")  @QueryParam("wait") Integer wait) {
+
+        return delegate.getRDBMSConnectionTest(jobId,  wait );
+    }
+
     @Valid
     @PATCH
     @Path("/{userstore-domain-id}/attribute-mappings")
@@ -25,6 +25,7 @@ import java.util.List;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.AvailableUserStoreClassesRes;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.ClaimAttributeMapping;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.ConnectionEstablishedResponse;
+import org.wso2.carbon.identity.api.server.userstore.v1.model.ConnectionTestJobResponse;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.Error;
 import java.io.File;
 import java.util.List;
@@ -65,6 +66,10 @@ public interface UserstoresApiService {
 
       public Response testRDBMSConnection(RDBMSConnectionReq rdBMSConnectionReq);
 
+      public Response submitRDBMSConnectionTest(RDBMSConnectionReq rdBMSConnectionReq);
+
+      public Response getRDBMSConnectionTest(String jobId, Integer wait);
+
       public Response updateAttributeMappings(String userstoreDomainId, List<ClaimAttributeMapping> claimAttributeMapping);
 
       public Response updateUserStore(String userstoreDomainId, UserStoreReq userStoreReq);
@@ -0,0 +1,383 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.userstore.v1.core;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.Util;
+import org.wso2.carbon.identity.api.server.common.concurrent.TenantAwareExecutor;
+import org.wso2.carbon.identity.api.server.userstore.common.UserStoreConstants;
+import org.wso2.carbon.identity.api.server.userstore.v1.model.ConnectionTestJobResponse;
+import org.wso2.carbon.identity.api.server.userstore.v1.model.RDBMSConnectionReq;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.DriverManager;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the tests of the connections to the datasources of JDBC user stores as background jobs.
+ *
+ * <p>The tests run on a dedicated bounded executor, hence an unreachable database holds one of its threads instead of
+ * a request thread, and the submissions are rejected once the executor is saturated. The timeout of a test starts
+ * when the test starts running. It is applied as the JDBC login timeout of the test, and the test is interrupted once
+ * it runs longer than the timeout. Concurrent tests of identical connection parameters within a tenant share a single
+ * job, and the result of a job is kept for a short period so that it can be polled and reused by the identical tests
+ * submitted during that period.</p>
+ *
+ * <p>The jobs are held in the memory of the node which runs them. Hence, in a cluster, a job can be polled only from
+ * the node it was submitted to, and the other nodes report it as not found. The load balancer has to route the polls
+ * of a job to the same node, e.g. with session affinity.</p>
+ */
+public class RDBMSConnectionTestJobManager {
+
+    private static final Log LOG = LogFactory.getLog(RDBMSConnectionTestJobManager.class);
+
+    private static final String THREAD_NAME_PREFIX = "userstore-connection-test-";
+    private static final String TIMEOUT_THREAD_NAME = "userstore-connection-test-timeout";
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final int DEFAULT_POOL_SIZE = 4;
+    private static final int DEFAULT_TIMEOUT_SECONDS = 30;
+    private static final int DEFAULT_RESULT_EXPIRY_SECONDS = 60;
+    private static final int QUEUE_CAPACITY = 50;
+    private static final Object LOGIN_TIMEOUT_LOCK = new Object();
+
+    // The JDBC login timeout is global, hence it is held at the test timeout only while tests are running.
+    private static int runningTests;
+    private static int previousLoginTimeout;
+
+    private final ConnectionTester connectionTester;
+    private final ThreadPoolExecutor executor;
+    private final ScheduledExecutorService timeoutScheduler;
+    private final long timeoutMillis;
+    private final long resultExpiryMillis;
+
+    // Jobs by their ids, and the jobs which are pending or hold a reusable result by their connection parameters.
+    private final Map<String, ConnectionTestJob> jobs = new ConcurrentHashMap<>();
+    private final Map<List<String>, ConnectionTestJob> jobsByConnection = new ConcurrentHashMap<>();
+
+    /**
+     * Tests the connection to the datasource of a JDBC user store.
+     */
+    @FunctionalInterface
+    public interface ConnectionTester {
+
+        /**
+         * Test the connection described by the given request.
+         *
+         * @param rdBMSConnectionReq Connection parameters.
+         * @return True if the connection was established.
+         * @throws Exception If an error occurred while testing the connection.
+         */
+        boolean test(RDBMSConnectionReq rdBMSConnectionReq) throws Exception;
+    }
+
+    /**
+     * Create a job manager configured through the identity configuration.
+     *
+     * @param connectionTester Tester which establishes the connections.
+     */
+    public RDBMSConnectionTestJobManager(ConnectionTester connectionTester) {
+
+        this(connectionTester,
+                Util.getPositiveIntProperty(UserStoreConstants.CONNECTION_TEST_POOL_SIZE, DEFAULT_POOL_SIZE),
+                TimeUnit.SECONDS.toMillis(Util.getPositiveIntProperty(UserStoreConstants.CONNECTION_TEST_TIMEOUT,
+                        DEFAULT_TIMEOUT_SECONDS)),
+                TimeUnit.SECONDS.toMillis(Util.getPositiveIntProperty(
+                        UserStoreConstants.CONNECTION_TEST_RESULT_EXPIRY_TIME, DEFAULT_RESULT_EXPIRY_SECONDS)));
+    }
+
+    /**
+     * Create a job manager.
+     *
+     * @param connectionTester   Tester which establishes the connections.
+     * @param poolSize           Maximum number of tests running at once.
+     * @param timeoutMillis      Maximum time a test is allowed to run.
+     * @param resultExpiryMillis Time the result of a test is kept once the test completes.
+     */
+    public RDBMSConnectionTestJobManager(ConnectionTester connectionTester, int poolSize, long timeoutMillis,
+                                         long resultExpiryMillis) {
+
+        this.connectionTester = connectionTester;
+        this.timeoutMillis = timeoutMillis;
+        this.resultExpiryMillis = resultExpiryMillis;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(QUEUE_CAPACITY), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, TIMEOUT_THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.setRemoveOnCancelPolicy(true);
+        this.timeoutScheduler = scheduler;
+    }
+
+    /**
+     * Submit a test of the given connection for the tenant of the current request. If a test of the same connection
+     * is pending or its result has not expired yet, that job is returned instead of starting a new test.
+     *
+     * @param rdBMSConnectionReq Connection parameters.
+     * @return Status of the job.
+     * @throws RejectedExecutionException If the maximum number of pending tests has been reached.
+     */
+    public ConnectionTestJobResponse submit(RDBMSConnectionReq rdBMSConnectionReq) {
+
+        purgeExpiredJobs();
+
+        String tenantDomain = ContextLoader.getTenantDomainFromContext();
+        List<String> connectionKey = buildConnectionKey(tenantDomain, rdBMSConnectionReq);
+        ConnectionTestJob job = jobsByConnection.compute(connectionKey, (key, existingJob) -> {
+            if (existingJob != null && !existingJob.isExpired(System.currentTimeMillis())) {
+                return existingJob;
+            }
+            if (existingJob != null) {
+                jobs.remove(existingJob.id, existingJob);
+            }
+            ConnectionTestJob newJob = new ConnectionTestJob(tenantDomain, key, rdBMSConnectionReq);
+            // Throws RejectedExecutionException, which leaves the map unchanged, once the executor is saturated.
+            executor.execute(newJob);
+            jobs.put(newJob.id, newJob);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Submitted the connection test job: " + newJob.id + " of the user store domain: " +
+                        rdBMSConnectionReq.getDomain() + " in tenant: " + tenantDomain);
+            }
+            return newJob;
+        });
+        return job.toResponse();
+    }
+
+    /**
+     * Get the status of a job of the tenant of the current request, waiting up to the given time for the job to
+     * complete.
+     *
+     * @param jobId      Id of the job.
+     * @param waitMillis Maximum time to wait for a pending job to complete. The wait never exceeds the timeout of
+     *                   a running job.
+     * @return Status of the job, or null if there is no such job for the tenant or its result has expired.
+     */
+    public ConnectionTestJobResponse getJob(String jobId, long waitMillis) {
+
+        ConnectionTestJob job = jobs.get(jobId);
+        if (job == null || !job.tenantDomain.equals(ContextLoader.getTenantDomainFromContext()) ||
+                job.isExpired(System.currentTimeMillis())) {
+            return null;
+        }
+
+        // A job waiting for a thread has not started its timeout yet, hence it is waited for up to the given time.
+        long remainingMillis = job.deadline - System.currentTimeMillis();
+        if (waitMillis > 0 && remainingMillis > 0 && !job.isDone()) {
+            try {
+                job.get(Math.min(waitMillis, remainingMillis), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException | ExecutionException | CancellationException e) {
+                // The outcome is resolved from the state of the job.
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return job.toResponse();
+    }
+
+    /**
+     * Get the maximum time a test is allowed to run.
+     *
+     * @return Timeout in milliseconds.
+     */
+    public long getTimeoutMillis() {
+
+        return timeoutMillis;
+    }
+
+    /**
+     * Stop the executors of the job manager, interrupting the running tests.
+     */
+    public void shutdown() {
+
+        executor.shutdownNow();
+        timeoutScheduler.shutdownNow();
+    }
+
+    /**
+     * Test the given connection, with the JDBC login timeout held at the test timeout while the test runs. A login
+     * timeout configured for the server is kept if it is shorter.
+     */
+    private boolean testConnection(RDBMSConnectionReq rdBMSConnectionReq) throws Exception {
+
+        int loginTimeoutSeconds = (int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(timeoutMillis));
+        synchronized (LOGIN_TIMEOUT_LOCK) {
+            if (runningTests++ == 0) {
+                previousLoginTimeout = DriverManager.getLoginTimeout();
+                if (previousLoginTimeout <= 0 || previousLoginTimeout > loginTimeoutSeconds) {
+                    DriverManager.setLoginTimeout(loginTimeoutSeconds);
+                }
+            }
+        }
+        try {
+            return connectionTester.test(rdBMSConnectionReq);
+        } finally {
+            synchronized (LOGIN_TIMEOUT_LOCK) {
+                if (--runningTests == 0) {
+                    DriverManager.setLoginTimeout(previousLoginTimeout);
+                }
+            }
+        }
+    }
+
+    private void purgeExpiredJobs() {
+
+        long now = System.currentTimeMillis();
+        for (ConnectionTestJob job : jobs.values()) {
+            if (job.isExpired(now)) {
+                jobs.remove(job.id, job);
+                jobsByConnection.remove(job.connectionKey, job);
+            }
+        }
+    }
+
+    /**
+     * Build the key identifying identical tests. The password is kept only as a digest.
+     */
+    private static List<String> buildConnectionKey(String tenantDomain, RDBMSConnectionReq rdBMSConnectionReq) {
+
+        return Arrays.asList(tenantDomain, rdBMSConnectionReq.getDomain(), rdBMSConnectionReq.getDriverName(),
+                rdBMSConnectionReq.getConnectionURL(), rdBMSConnectionReq.getUsername(),
+                digest(rdBMSConnectionReq.getConnectionPassword()));
+    }
+
+    private static String digest(String value) {
+
+        if (value == null) {
+            return null;
+        }
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance(HASH_ALGORITHM);
+            return Base64.getEncoder().encodeToString(messageDigest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Hash algorithm: " + HASH_ALGORITHM + " is not available.", e);
+        }
+    }
+
+    /**
+     * Connection test running with the context of the tenant which submitted it. The job is cancelled only when it
+     * exceeds the timeout, hence a cancelled job is reported as timed out.
+     */
+    private final class ConnectionTestJob extends FutureTask<Boolean> {
+
+        private final String id = UUID.randomUUID().toString();
+        private final String tenantDomain;
+        private final List<String> connectionKey;
+        private volatile long deadline = Long.MAX_VALUE;
+        private volatile long completedTime;
+        private volatile ScheduledFuture<?> timeoutTask;
+
+        ConnectionTestJob(String tenantDomain, List<String> connectionKey, RDBMSConnectionReq rdBMSConnectionReq) {
+
+            super(TenantAwareExecutor.wrap(() -> testConnection(rdBMSConnectionReq)));
+            this.tenantDomain = tenantDomain;
+            this.connectionKey = connectionKey;
+        }
+
+        @Override
+        public void run() {
+
+            // The timeout starts once the job gets a thread, not while it waits in the queue.
+            if (!isDone()) {
+                deadline = System.currentTimeMillis() + timeoutMillis;
+                try {
+                    timeoutTask = timeoutScheduler.schedule(() -> cancel(true), timeoutMillis,
+                            TimeUnit.MILLISECONDS);
+                } catch (RejectedExecutionException e) {
+                    // The job manager is shutting down. The deadline is still enforced when the job is polled.
+                }
+            }
+            super.run();
+        }
+
+        @Override
+        protected void done() {
+
+            completedTime = System.currentTimeMillis();
+            ScheduledFuture<?> scheduledTimeout = timeoutTask;
+            if (scheduledTimeout != null) {
+                scheduledTimeout.cancel(false);
+            }
+        }
+
+        boolean isExpired(long now) {
+
+            return isDone() && now - completedTime > resultExpiryMillis;
+        }
+
+        ConnectionTestJobResponse toResponse() {
+
+            // Enforce the deadline even if the timeout task has not run yet.
+            if (!isDone() && System.currentTimeMillis() >= deadline) {
+                cancel(true);
+            }
+
+            ConnectionTestJobResponse response = new ConnectionTestJobResponse().id(id);
+            if (!isDone()) {
+                return response.status(ConnectionTestJobResponse.StatusEnum.PENDING);
+            }
+            if (isCancelled()) {
+                return response.status(ConnectionTestJobResponse.StatusEnum.TIMED_OUT).connection(false);
+            }
+
+            boolean connectionEstablished = false;
+            try {
+                connectionEstablished = Boolean.TRUE.equals(get());
+            } catch (ExecutionException e) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Connection test job: " + id + " failed.", e.getCause());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return response.status(ConnectionTestJobResponse.StatusEnum.COMPLETED).connection(connectionEstablished);
+        }
+    }
+}
@@ -18,9 +18,7 @@
 
 package org.wso2.carbon.identity.api.server.userstore.v1.core;
 
-import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.MapUtils;
 import org.apache.commons.io.IOUtils;
@@ -34,6 +32,7 @@ import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
 import org.wso2.carbon.identity.api.server.common.FileContent;
 import org.wso2.carbon.identity.api.server.common.Util;
+import org.wso2.carbon.identity.api.server.common.codec.CodecRegistry;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
 import org.wso2.carbon.identity.api.server.userstore.common.UserStoreConstants;
@@ -43,6 +42,7 @@ import org.wso2.carbon.identity.api.server.userstore.v1.model.Attribute;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.AvailableUserStoreClassesRes;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.ClaimAttributeMapping;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.ConnectionEstablishedResponse;
+import org.wso2.carbon.identity.api.server.userstore.v1.model.ConnectionTestJobResponse;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.MetaUserStoreType;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.PatchDocument;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.PropertiesRes;
@@ -54,11 +54,16 @@ import org.wso2.carbon.identity.api.server.userstore.v1.model.UserStoreListRespo
 import org.wso2.carbon.identity.api.server.userstore.v1.model.UserStorePropertiesRes;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.UserStoreReq;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.UserStoreResponse;
+import org.wso2.carbon.identity.base.IdentityException;
 import org.wso2.carbon.identity.claim.metadata.mgt.ClaimMetadataManagementService;
 import org.wso2.carbon.identity.claim.metadata.mgt.exception.ClaimMetadataClientException;
 import org.wso2.carbon.identity.claim.metadata.mgt.exception.ClaimMetadataException;
 import org.wso2.carbon.identity.claim.metadata.mgt.model.AttributeMapping;
 import org.wso2.carbon.identity.claim.metadata.mgt.model.LocalClaim;
+import org.wso2.carbon.identity.core.model.ExpressionNode;
+import org.wso2.carbon.identity.core.model.FilterTreeBuilder;
+import org.wso2.carbon.identity.core.model.Node;
+import org.wso2.carbon.identity.core.model.OperationNode;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.user.store.configuration.UserStoreConfigService;
 import org.wso2.carbon.identity.user.store.configuration.dto.PropertyDTO;
@@ -77,33 +82,29 @@ import org.wso2.carbon.user.core.UserStoreConfigConstants;
 import org.wso2.carbon.user.core.UserStoreManager;
 import org.wso2.carbon.user.core.service.RealmService;
 import org.wso2.carbon.user.core.tracker.UserStoreManagerRegistry;
-import org.yaml.snakeyaml.LoaderOptions;
 import org.yaml.snakeyaml.Yaml;
-import org.yaml.snakeyaml.constructor.Constructor;
 import org.yaml.snakeyaml.error.YAMLException;
-import org.yaml.snakeyaml.inspector.TagInspector;
-import org.yaml.snakeyaml.inspector.TrustedPrefixesTagInspector;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.StringReader;
-import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import javax.ws.rs.core.Response;
-import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
-import javax.xml.bind.Marshaller;
-import javax.xml.bind.Unmarshaller;
 
 import static org.wso2.carbon.identity.api.server.common.Constants.ERROR_CODE_RESOURCE_LIMIT_REACHED;
 import static org.wso2.carbon.identity.api.server.common.Constants.JSON_FILE_EXTENSION;
@@ -128,6 +129,8 @@ public class ServerUserStoreService {
 
     private final ClaimMetadataManagementService claimMetadataManagementService;
 
+    private final RDBMSConnectionTestJobManager connectionTestJobManager;
+
     private static final Log LOG = LogFactory.getLog(ServerUserStoreService.class);
 
     private static final String DUMMY_MESSAGE_ID = "DUMMY-MESSAGE-ID";
@@ -136,6 +139,8 @@ public class ServerUserStoreService {
 
     private static final String PASSWORD = "password";
 
+    private static final String USER_STORE_YAML_DUMPER_KEY = "UserStoreDumper";
+
     private static boolean isAvailableUserStoreTypes(List<AvailableUserStoreClassesRes> userStoreList, String typeID) {
 
         for (AvailableUserStoreClassesRes userStore : userStoreList) {
@@ -152,6 +157,7 @@ public class ServerUserStoreService {
         this.userStoreConfigService = userStoreConfigService;
         this.realmService = realmService;
         this.claimMetadataManagementService = claimMetadataManagementService;
+        this.connectionTestJobManager = new RDBMSConnectionTestJobManager(this::establishRDBMSConnection);
     }
 
     /**
@@ -370,14 +376,14 @@ public class ServerUserStoreService {
             Map<String, Boolean> userStoreManagersType = UserStoreManagerRegistry.getUserStoreManagersType();
             for (String className : classNames) {
                 AvailableUserStoreClassesRes availableUserStoreClassesResDTO = new AvailableUserStoreClassesRes();
-                String typeId = base64URLEncodeId(Objects.
-                        requireNonNull(getUserStoreTypeName(className)));
+                String typeName = Objects.requireNonNull(getUserStoreTypeName(className));
+                String typeId = base64URLEncodeId(typeName);
                 availableUserStoreClassesResDTO.setClassName(className);
-                availableUserStoreClassesResDTO.setTypeName(getUserStoreTypeName(className));
+                availableUserStoreClassesResDTO.setTypeName(typeName);
                 availableUserStoreClassesResDTO.setTypeId(typeId);
                 availableUserStoreClassesResDTO.setSelf(
-                        ContextLoader.buildURIForBody(String.format(V1_API_PATH_COMPONENT +
-                                UserStoreConstants.USER_STORE_PATH_COMPONENT + "/meta/types/%s", typeId)).toString());
+                        ContextLoader.buildURLForBody(String.format(V1_API_PATH_COMPONENT +
+                                UserStoreConstants.USER_STORE_PATH_COMPONENT + "/meta/types/%s", typeId)));
 
                 if (userStoreManagersType.containsKey(className)) {
                     availableUserStoreClassesResDTO
@@ -399,18 +405,22 @@ public class ServerUserStoreService {
      *
      * @param limit  items per page.
      * @param offset 0 based index to get the results starting from this index + 1.
-     * @param filter to specify the filtering capabilities.
+     * @param filter to specify the filtering capabilities. E.g. name sw JDBC and enabled eq true
      * @param sort   to specify the sorting order.
      * @return List<UserStoreListResponse>.
      */
     public List<UserStoreListResponse> getUserStoreList(Integer limit, Integer offset, String filter, String sort,
                                                         String requiredAttributes) {
 
-        handleNotImplementedBehaviour(limit, offset, filter, sort);
+        handleNotImplementedBehaviour(sort);
+        validatePaginationParameter(UserStoreConstants.LIMIT, limit);
+        validatePaginationParameter(UserStoreConstants.OFFSET, offset);
+        Predicate<UserStoreDTO> userStoreFilter = StringUtils.isBlank(filter) ? null : buildUserStoreFilter(filter);
 
         try {
             UserStoreDTO[] userStoreDTOS = userStoreConfigService.getUserStores();
-            return buildUserStoreListResponse(userStoreDTOS, requiredAttributes);
+            return buildUserStoreListResponse(userStoreDTOS, requiredAttributes, userStoreFilter,
+                    offset == null ? 0 : offset, limit);
 
         } catch (IdentityUserStoreMgtException e) {
             UserStoreConstants.ErrorMessage errorEnum =
@@ -554,27 +564,73 @@ public class ServerUserStoreService {
     }
 
     /**
-     * Check the connection heath for JDBC userstores.
+     * Check the connection heath for JDBC userstores. The test runs as a connection test job, and the connection is
+     * reported as not established if the test does not complete within the connection test timeout.
      *
      * @param rdBMSConnectionReq {@link RDBMSConnectionReq}.
      * @return ConnectionEstablishedResponse.
      */
     public ConnectionEstablishedResponse testRDBMSConnection(RDBMSConnectionReq rdBMSConnectionReq) {
 
+        ConnectionTestJobResponse job = submitRDBMSConnectionTest(rdBMSConnectionReq);
+        job = connectionTestJobManager.getJob(job.getId(), connectionTestJobManager.getTimeoutMillis());
+
         ConnectionEstablishedResponse connectionEstablishedResponse = new ConnectionEstablishedResponse();
-        boolean isConnectionEstablished;
-        connectionEstablishedResponse.setConnection(false);
+        connectionEstablishedResponse.setConnection(job != null &&
+                job.getStatus() == ConnectionTestJobResponse.StatusEnum.COMPLETED &&
+                Boolean.TRUE.equals(job.getConnection()));
+        return connectionEstablishedResponse;
+    }
+
+    /**
+     * Start a test of the connection to the datasource of a JDBC userstore. Tests of identical connection
+     * parameters submitted while a test is pending, or shortly after it completed, share the same job.
+     *
+     * @param rdBMSConnectionReq {@link RDBMSConnectionReq}.
+     * @return ConnectionTestJobResponse.
+     */
+    public ConnectionTestJobResponse submitRDBMSConnectionTest(RDBMSConnectionReq rdBMSConnectionReq) {
+
         try {
-            isConnectionEstablished = userStoreConfigService.testRDBMSConnection(rdBMSConnectionReq.getDomain(),
-                    rdBMSConnectionReq.getDriverName(), rdBMSConnectionReq.getConnectionURL(),
-                    rdBMSConnectionReq.getUsername(), rdBMSConnectionReq.getConnectionPassword(), DUMMY_MESSAGE_ID);
-            if (isConnectionEstablished) {
-                connectionEstablishedResponse.setConnection(true);
-            }
-        } catch (IdentityUserStoreMgtException e) {
-            connectionEstablishedResponse.setConnection(false);
+            return connectionTestJobManager.submit(rdBMSConnectionReq);
+        } catch (RejectedExecutionException e) {
+            throw handleException(Response.Status.TOO_MANY_REQUESTS,
+                    UserStoreConstants.ErrorMessage.ERROR_CODE_CONNECTION_TEST_LIMIT_REACHED);
         }
-        return connectionEstablishedResponse;
+    }
+
+    /**
+     * Get the status of a connection test job, waiting up to the given number of seconds for the test to complete.
+     *
+     * @param jobId Id of the connection test job.
+     * @param wait  Maximum number of seconds to wait for the test to complete.
+     * @return ConnectionTestJobResponse.
+     */
+    public ConnectionTestJobResponse getRDBMSConnectionTest(String jobId, Integer wait) {
+
+        long waitMillis = wait == null ? 0 : TimeUnit.SECONDS.toMillis(wait);
+        ConnectionTestJobResponse job = connectionTestJobManager.getJob(jobId, waitMillis);
+        if (job == null) {
+            throw handleException(Response.Status.NOT_FOUND,
+                    UserStoreConstants.ErrorMessage.ERROR_CODE_CONNECTION_TEST_JOB_NOT_FOUND, jobId);
+        }
+        return job;
+    }
+
+    /**
+     * Release the resources of the service, stopping the pending connection tests.
+     */
+    public void shutdown() {
+
+        connectionTestJobManager.shutdown();
+    }
+
+    private boolean establishRDBMSConnection(RDBMSConnectionReq rdBMSConnectionReq)
+            throws IdentityUserStoreMgtException {
+
+        return userStoreConfigService.testRDBMSConnection(rdBMSConnectionReq.getDomain(),
+                rdBMSConnectionReq.getDriverName(), rdBMSConnectionReq.getConnectionURL(),
+                rdBMSConnectionReq.getUsername(), rdBMSConnectionReq.getConnectionPassword(), DUMMY_MESSAGE_ID);
     }
 
     /**
@@ -905,55 +961,162 @@ public class ServerUserStoreService {
     }
 
     /**
-     * Construct response list with configured user stores details.
+     * Construct response list with configured user stores details, in a single pass over the user stores. Only the
+     * user stores of the requested page are converted to the response model.
      *
-     * @param userStoreDTOS array of UserStoreDTO object.
+     * @param userStoreDTOS      array of UserStoreDTO object.
+     * @param requiredAttributes comma separated names of the user store properties to be returned.
+     * @param userStoreFilter    filter of the user stores. Null to return all the user stores.
+     * @param offset             number of matching user stores to be skipped.
+     * @param limit              maximum number of user stores to be returned. Null to return all the user stores.
      * @return List<UserStoreListResponse>.
      */
     private List<UserStoreListResponse> buildUserStoreListResponse(UserStoreDTO[] userStoreDTOS,
-                                                                   String requiredAttributes) {
+                                                                   String requiredAttributes,
+                                                                   Predicate<UserStoreDTO> userStoreFilter,
+                                                                   int offset, Integer limit) {
 
         List<UserStoreListResponse> userStoreListResponseToAdd = new ArrayList<>();
+        if (ArrayUtils.isEmpty(userStoreDTOS)) {
+            return userStoreListResponseToAdd;
+        }
+
         Map<String, Boolean> userStoreManagersType = UserStoreManagerRegistry.getUserStoreManagersType();
-        if (ArrayUtils.isNotEmpty(userStoreDTOS)) {
-            for (UserStoreDTO jsonObject : userStoreDTOS) {
-                UserStoreListResponse userStoreList = new UserStoreListResponse();
-                userStoreList.setDescription(jsonObject.getDescription());
-                userStoreList.setName(jsonObject.getDomainId());
-                userStoreList.setId(base64URLEncodeId(jsonObject.getDomainId()));
-                userStoreList.setSelf(ContextLoader.buildURIForBody(String.format(V1_API_PATH_COMPONENT +
-                                UserStoreConstants.USER_STORE_PATH_COMPONENT + "/%s",
-                        base64URLEncodeId(jsonObject.getDomainId()))).toString());
-                userStoreList.setEnabled(jsonObject.getDisabled() != null && !jsonObject.getDisabled());
-                userStoreList.setTypeName(getUserStoreTypeName(jsonObject.getClassName()));
-
-                if (StringUtils.isNotBlank(requiredAttributes)) {
-                    String[] requiredAttributesArray = requiredAttributes.split(REGEX_COMMA);
-                    addUserstoreProperties(jsonObject, userStoreList, Arrays.asList(requiredAttributesArray));
-                }
+        Set<String> requiredAttributeSet = new HashSet<>();
+        if (StringUtils.isNotBlank(requiredAttributes)) {
+            requiredAttributeSet.addAll(Arrays.asList(requiredAttributes.split(REGEX_COMMA)));
+        }
+        String userStoresURL = ContextLoader.buildURLForBody(V1_API_PATH_COMPONENT +
+                UserStoreConstants.USER_STORE_PATH_COMPONENT);
+        Map<String, String> typeNames = new HashMap<>();
+
+        int skipped = 0;
+        for (UserStoreDTO jsonObject : userStoreDTOS) {
+            if (limit != null && userStoreListResponseToAdd.size() >= limit) {
+                break;
+            }
+            if (userStoreFilter != null && !userStoreFilter.test(jsonObject)) {
+                continue;
+            }
+            if (skipped < offset) {
+                skipped++;
+                continue;
+            }
 
-                if (userStoreManagersType.containsKey(jsonObject.getClassName())) {
-                    userStoreList.setIsLocal(userStoreManagersType.get(jsonObject.getClassName()));
-                }
+            String userStoreId = base64URLEncodeId(jsonObject.getDomainId());
+            UserStoreListResponse userStoreList = new UserStoreListResponse();
+            userStoreList.setDescription(jsonObject.getDescription());
+            userStoreList.setName(jsonObject.getDomainId());
+            userStoreList.setId(userStoreId);
+            userStoreList.setSelf(userStoresURL + "/" + userStoreId);
+            userStoreList.setEnabled(jsonObject.getDisabled() != null && !jsonObject.getDisabled());
+            userStoreList.setTypeName(typeNames.computeIfAbsent(jsonObject.getClassName(),
+                    this::getUserStoreTypeName));
+
+            if (!requiredAttributeSet.isEmpty()) {
+                addUserstoreProperties(jsonObject, userStoreList, requiredAttributeSet);
+            }
 
-                userStoreListResponseToAdd.add(userStoreList);
+            if (userStoreManagersType.containsKey(jsonObject.getClassName())) {
+                userStoreList.setIsLocal(userStoreManagersType.get(jsonObject.getClassName()));
             }
+
+            userStoreListResponseToAdd.add(userStoreList);
         }
         return userStoreListResponseToAdd;
     }
 
+    /**
+     * Build the filter of the user stores from the given filter string. Filters on the name, typeName and enabled
+     * attributes, combined with the and and or operations, are supported.
+     *
+     * @param filter Filter string. E.g. name sw JDBC and enabled eq true
+     * @return Filter of the user stores.
+     */
+    private Predicate<UserStoreDTO> buildUserStoreFilter(String filter) {
+
+        try {
+            Node rootNode = new FilterTreeBuilder(filter).buildTree();
+            return buildUserStoreFilter(rootNode, filter);
+        } catch (IOException | IdentityException e) {
+            throw handleException(Response.Status.BAD_REQUEST,
+                    UserStoreConstants.ErrorMessage.ERROR_CODE_INVALID_FILTER, filter);
+        }
+    }
+
+    private Predicate<UserStoreDTO> buildUserStoreFilter(Node node, String filter) {
+
+        if (node instanceof OperationNode) {
+            String operation = ((OperationNode) node).getOperation();
+            Predicate<UserStoreDTO> leftFilter = buildUserStoreFilter(node.getLeftNode(), filter);
+            Predicate<UserStoreDTO> rightFilter = buildUserStoreFilter(node.getRightNode(), filter);
+            if (UserStoreConstants.FILTER_AND.equalsIgnoreCase(operation)) {
+                return leftFilter.and(rightFilter);
+            } else if (UserStoreConstants.FILTER_OR.equalsIgnoreCase(operation)) {
+                return leftFilter.or(rightFilter);
+            }
+        } else if (node instanceof ExpressionNode) {
+            ExpressionNode expressionNode = (ExpressionNode) node;
+            Function<UserStoreDTO, String> attribute = getFilterAttribute(expressionNode.getAttributeValue());
+            String value = StringUtils.lowerCase(expressionNode.getValue());
+            String operation = StringUtils.lowerCase(expressionNode.getOperation());
+            if (attribute != null && value != null && operation != null) {
+                switch (operation) {
+                    case UserStoreConstants.FILTER_EQ:
+                        return userStore -> value.equals(StringUtils.lowerCase(attribute.apply(userStore)));
+                    case UserStoreConstants.FILTER_SW:
+                        return userStore -> StringUtils.startsWith(StringUtils.lowerCase(attribute.apply(userStore)),
+                                value);
+                    case UserStoreConstants.FILTER_EW:
+                        return userStore -> StringUtils.endsWith(StringUtils.lowerCase(attribute.apply(userStore)),
+                                value);
+                    case UserStoreConstants.FILTER_CO:
+                        return userStore -> StringUtils.contains(StringUtils.lowerCase(attribute.apply(userStore)),
+                                value);
+                    default:
+                        break;
+                }
+            }
+        }
+        throw handleException(Response.Status.BAD_REQUEST, UserStoreConstants.ErrorMessage.ERROR_CODE_INVALID_FILTER,
+                filter);
+    }
+
+    private Function<UserStoreDTO, String> getFilterAttribute(String attributeName) {
+
+        if (UserStoreConstants.FILTER_ATTRIBUTE_NAME.equals(attributeName)) {
+            return UserStoreDTO::getDomainId;
+        } else if (UserStoreConstants.FILTER_ATTRIBUTE_TYPE_NAME.equals(attributeName)) {
+            return userStore -> getUserStoreTypeName(userStore.getClassName());
+        } else if (UserStoreConstants.FILTER_ATTRIBUTE_ENABLED.equals(attributeName)) {
+            return userStore -> String.valueOf(userStore.getDisabled() != null && !userStore.getDisabled());
+        }
+        return null;
+    }
+
+    private void validatePaginationParameter(String name, Integer value) {
+
+        if (value != null && value < 0) {
+            throw handleException(Response.Status.BAD_REQUEST,
+                    UserStoreConstants.ErrorMessage.ERROR_CODE_INVALID_PAGINATION_PARAMETER, name);
+        }
+    }
+
     /**
      * Add requested user store properties to the response.
      *
-     * @param userStoreDTO            userStoreDTO object.
-     * @param userStoreListResponse   userStoreListResponse object.
-     * @param requestedAttributesList Requested user store properties name list.
+     * @param userStoreDTO           userStoreDTO object.
+     * @param userStoreListResponse  userStoreListResponse object.
+     * @param requestedAttributesSet Requested user store property names.
      */
     private void addUserstoreProperties(UserStoreDTO userStoreDTO, UserStoreListResponse userStoreListResponse,
-                                        List<String> requestedAttributesList) {
+                                        Set<String> requestedAttributesSet) {
 
+        if (userStoreDTO.getProperties() == null) {
+            return;
+        }
         for (PropertyDTO propertyDTO : userStoreDTO.getProperties()) {
-            if (requestedAttributesList.contains(propertyDTO.getName()) &&
+            if (requestedAttributesSet.contains(propertyDTO.getName()) &&
                     StringUtils.isNotBlank(propertyDTO.getValue())) {
                 AddUserStorePropertiesRes addUserStorePropertiesRes = new AddUserStorePropertiesRes();
                 addUserStorePropertiesRes.setName(propertyDTO.getName());
@@ -1063,13 +1226,10 @@ public class ServerUserStoreService {
      */
     private String getUserStoreTypeName(String className) {
 
-        HashMap<String, String> userStoreMap = getHashMap();
-        for (Map.Entry<String, String> stringEntry : userStoreMap.entrySet()) {
-            if (className.equals(((Map.Entry) stringEntry).getKey())) {
-                return (String) ((Map.Entry) stringEntry).getValue();
-            }
+        if (className == null || !UserStoreManagerRegistry.getUserStoreManagerClasses().contains(className)) {
+            return null;
         }
-        return null;
+        return className.substring(className.lastIndexOf('.') + 1);
     }
 
     /**
@@ -1216,7 +1376,7 @@ public class ServerUserStoreService {
 
         if (ArrayUtils.isNotEmpty(data)) {
             if (data.length == 1) {
-                errorDescription = String.format(errorEnum.getDescription(), (Object) data);
+                errorDescription = String.format(errorEnum.getDescription(), data[0]);
             } else {
                 errorDescription = String.format(errorEnum.getDescription(), (Object[]) data);
             }
@@ -1229,22 +1389,13 @@ public class ServerUserStoreService {
     /**
      * To return error responses for the input params for the get request which are not yet supported by the server.
      *
-     * @param limit  items per page.
-     * @param offset to specify the offset param.
-     * @param filter to specify the filtering capabilities.
-     * @param sort   to specify the sorting order.
+     * @param sort to specify the sorting order.
      */
-    private void handleNotImplementedBehaviour(Integer limit, Integer offset, String filter, String sort) {
+    private void handleNotImplementedBehaviour(String sort) {
 
         UserStoreConstants.ErrorMessage errorEnum = null;
 
-        if (limit != null) {
-            errorEnum = UserStoreConstants.ErrorMessage.ERROR_CODE_PAGINATION_NOT_IMPLEMENTED;
-        } else if (offset != null) {
-            errorEnum = UserStoreConstants.ErrorMessage.ERROR_CODE_PAGINATION_NOT_IMPLEMENTED;
-        } else if (filter != null) {
-            errorEnum = UserStoreConstants.ErrorMessage.ERROR_CODE_FILTERING_NOT_IMPLEMENTED;
-        } else if (sort != null) {
+        if (sort != null) {
             errorEnum = UserStoreConstants.ErrorMessage.ERROR_CODE_SORTING_NOT_IMPLEMENTED;
         }
 
@@ -1577,9 +1728,9 @@ public class ServerUserStoreService {
 
         StringBuilder fileNameSB = new StringBuilder(userStoreConfigs.getName());
         fileNameSB.append(YAML_FILE_EXTENSION);
-        Yaml yaml = new Yaml();
         try {
-            return new FileContent(fileNameSB.toString(), MEDIA_TYPE_YAML, yaml.dump(userStoreConfigs));
+            return new FileContent(fileNameSB.toString(), MEDIA_TYPE_YAML,
+                    CodecRegistry.dumpYaml(USER_STORE_YAML_DUMPER_KEY, Yaml::new, userStoreConfigs));
         } catch (YAMLException e) {
             throw new UserStoreException("Error when parsing userstore to YAML file.", e);
         }
@@ -1591,14 +1742,9 @@ public class ServerUserStoreService {
         StringBuilder fileNameSB = new StringBuilder(userStoreConfigs.getName());
         fileNameSB.append(XML_FILE_EXTENSION);
 
-        JAXBContext jaxbContext;
         try {
-            jaxbContext = JAXBContext.newInstance(UserStoreConfigurations.class);
-            Marshaller marshaller = jaxbContext.createMarshaller();
-            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
-            StringWriter stringWriter = new StringWriter();
-            marshaller.marshal(userStoreConfigs, stringWriter);
-            return new FileContent(fileNameSB.toString(), MEDIA_TYPE_XML, stringWriter.toString());
+            return new FileContent(fileNameSB.toString(), MEDIA_TYPE_XML,
+                    CodecRegistry.marshalToXml(userStoreConfigs, UserStoreConfigurations.class));
         } catch (JAXBException e) {
             throw new UserStoreException("Error when parsing userstore to XML file.", e);
         }
@@ -1609,10 +1755,9 @@ public class ServerUserStoreService {
 
         StringBuilder fileNameSB = new StringBuilder(userStoreConfigs.getName());
         fileNameSB.append(JSON_FILE_EXTENSION);
-        ObjectMapper objectMapper = new ObjectMapper(new JsonFactory());
         try {
             return new FileContent(fileNameSB.toString(), MEDIA_TYPE_JSON,
-                    objectMapper.writeValueAsString(userStoreConfigs));
+                    CodecRegistry.getObjectMapper().writeValueAsString(userStoreConfigs));
         } catch (JsonProcessingException e) {
             throw new UserStoreException("Error when parsing userstore to JSON file.", e);
         }
@@ -1678,9 +1823,7 @@ public class ServerUserStoreService {
     private UserStoreConfigurations parseUserStoreFromXml(FileContent fileContent) throws UserStoreException {
 
         try {
-            JAXBContext jaxbContext = JAXBContext.newInstance(UserStoreConfigurations.class);
-            Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
-            return (UserStoreConfigurations) unmarshaller.unmarshal(new StringReader(fileContent.getContent()));
+            return CodecRegistry.unmarshalFromXml(fileContent.getContent(), UserStoreConfigurations.class);
         } catch (JAXBException e) {
             throw new UserStoreException(String.format("Error in reading " +
                     "XML file configuration for the userstore: %s.", fileContent.getFileName()), e);
@@ -1690,15 +1833,8 @@ public class ServerUserStoreService {
     private UserStoreConfigurations parseUserStoreFromYaml(FileContent fileContent) throws UserStoreException {
 
         try {
-            // Add trusted tags included in the Userstore YAML files.
-            List<String> trustedTagList = new ArrayList<>();
-            trustedTagList.add(UserStoreConfigurations.class.getName());
-
-            LoaderOptions loaderOptions = new LoaderOptions();
-            TagInspector tagInspector = new TrustedPrefixesTagInspector(trustedTagList);
-            loaderOptions.setTagInspector(tagInspector);
-            Yaml yaml = new Yaml(new Constructor(UserStoreConfigurations.class, loaderOptions));
-            return yaml.loadAs(fileContent.getContent(), UserStoreConfigurations.class);
+            // Trust the tags included in the Userstore YAML files.
+            return CodecRegistry.loadYaml(fileContent.getContent(), UserStoreConfigurations.class);
         } catch (YAMLException e) {
             throw new UserStoreException(String.format("Error in reading YAML file " +
                     "configuration for the userstore: %s.", fileContent.getFileName()), e);
@@ -1708,7 +1844,8 @@ public class ServerUserStoreService {
     private UserStoreConfigurations parseUserStoreFromJson(FileContent fileContent) throws UserStoreException {
 
         try {
-            return new ObjectMapper().readValue(fileContent.getContent(), UserStoreConfigurations.class);
+            return CodecRegistry.getObjectMapper().readValue(fileContent.getContent(),
+                    UserStoreConfigurations.class);
         } catch (JsonProcessingException e) {
             throw new UserStoreException(String.format("Error in reading JSON " +
                     "file configuration for the userstore: %s.", fileContent.getFileName()), e);
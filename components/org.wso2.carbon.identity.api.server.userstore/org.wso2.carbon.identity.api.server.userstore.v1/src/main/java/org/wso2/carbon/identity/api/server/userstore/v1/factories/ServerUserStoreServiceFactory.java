@@ -18,6 +18,7 @@
 
 package org.wso2.carbon.identity.api.server.userstore.v1.factories;
 
+import org.wso2.carbon.identity.api.server.common.lifecycle.ShutdownHooks;
 import org.wso2.carbon.identity.api.server.userstore.common.UserStoreConfigServiceHolder;
 import org.wso2.carbon.identity.api.server.userstore.v1.core.ServerUserStoreService;
 import org.wso2.carbon.identity.claim.metadata.mgt.ClaimMetadataManagementService;
@@ -50,6 +51,7 @@ public class ServerUserStoreServiceFactory {
         }
 
         SERVICE = new ServerUserStoreService(userStoreConfigService, realmService, claimMetadataManagementService);
+        ShutdownHooks.register(SERVICE::shutdown);
     }
 
     /**
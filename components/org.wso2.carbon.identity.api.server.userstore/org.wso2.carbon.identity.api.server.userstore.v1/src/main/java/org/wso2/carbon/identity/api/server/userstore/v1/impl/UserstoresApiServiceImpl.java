@@ -26,6 +26,7 @@ import org.wso2.carbon.identity.api.server.userstore.v1.UserstoresApiService;
 import org.wso2.carbon.identity.api.server.userstore.v1.core.ServerUserStoreService;
 import org.wso2.carbon.identity.api.server.userstore.v1.factories.ServerUserStoreServiceFactory;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.ClaimAttributeMapping;
+import org.wso2.carbon.identity.api.server.userstore.v1.model.ConnectionTestJobResponse;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.PatchDocument;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.RDBMSConnectionReq;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.UserStoreReq;
@@ -39,6 +40,7 @@ import javax.ws.rs.core.Response;
 
 import static org.wso2.carbon.identity.api.server.common.Constants.V1_API_PATH_COMPONENT;
 import static org.wso2.carbon.identity.api.server.common.ContextLoader.buildURIForHeader;
+import static org.wso2.carbon.identity.api.server.userstore.common.UserStoreConstants.CONNECTION_TEST_JOB_PATH_COMPONENT;
 import static org.wso2.carbon.identity.api.server.userstore.common.UserStoreConstants.USER_STORE_PATH_COMPONENT;
 
 /**
@@ -161,6 +163,21 @@ public class UserstoresApiServiceImpl implements UserstoresApiService {
         return Response.ok().entity(serverUserStoreService.testRDBMSConnection(rdBMSConnectionReq)).build();
     }
 
+    @Override
+    public Response submitRDBMSConnectionTest(RDBMSConnectionReq rdBMSConnectionReq) {
+
+        ConnectionTestJobResponse job = serverUserStoreService.submitRDBMSConnectionTest(rdBMSConnectionReq);
+        URI location = buildURIForHeader(V1_API_PATH_COMPONENT + USER_STORE_PATH_COMPONENT +
+                CONNECTION_TEST_JOB_PATH_COMPONENT + job.getId());
+        return Response.accepted().location(location).entity(job).build();
+    }
+
+    @Override
+    public Response getRDBMSConnectionTest(String jobId, Integer wait) {
+
+        return Response.ok().entity(serverUserStoreService.getRDBMSConnectionTest(jobId, wait)).build();
+    }
+
     @Override
     public Response updateUserStore(String userstoreDomainId, UserStoreReq userStoreReq) {
 
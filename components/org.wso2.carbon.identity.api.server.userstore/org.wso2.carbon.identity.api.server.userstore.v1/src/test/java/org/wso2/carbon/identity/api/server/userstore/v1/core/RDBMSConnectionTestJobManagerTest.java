@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.userstore.v1.core;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.carbon.base.CarbonBaseConstants;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.api.server.userstore.v1.model.ConnectionTestJobResponse;
+import org.wso2.carbon.identity.api.server.userstore.v1.model.RDBMSConnectionReq;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
+
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test for RDBMSConnectionTestJobManager, testing the connections to an in-memory H2 database.
+ */
+public class RDBMSConnectionTestJobManagerTest {
+
+    private static final String H2_DRIVER = "org.h2.Driver";
+    private static final String H2_URL = "jdbc:h2:mem:userstore_connection_test;DB_CLOSE_DELAY=-1";
+    private static final String UNKNOWN_DATABASE_URL = "jdbc:h2:mem:unknown_database;IFEXISTS=TRUE";
+    private static final String USERNAME = "sa";
+    private static final String PASSWORD = "";
+    private static final long WAIT_MILLIS = 10000;
+
+    private RDBMSConnectionTestJobManager jobManager;
+
+    @BeforeClass
+    public void setUp() {
+
+        String carbonHome = Paths.get(System.getProperty("user.dir"), "target", "test-classes").toString();
+        System.setProperty(CarbonBaseConstants.CARBON_HOME, carbonHome);
+        System.setProperty(CarbonBaseConstants.CARBON_CONFIG_DIR_PATH, Paths.get(carbonHome,
+                "repository/conf").toString());
+        PrivilegedCarbonContext.getThreadLocalCarbonContext()
+                .setTenantDomain(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+        PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantId(MultitenantConstants.SUPER_TENANT_ID);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        if (jobManager != null) {
+            jobManager.shutdown();
+            jobManager = null;
+        }
+    }
+
+    @Test
+    public void testEstablishedConnection() {
+
+        jobManager = new RDBMSConnectionTestJobManager(RDBMSConnectionTestJobManagerTest::connect, 2, 5000, 60000);
+
+        ConnectionTestJobResponse job = jobManager.getJob(jobManager.submit(buildRequest(H2_URL)).getId(),
+                WAIT_MILLIS);
+
+        assertEquals(job.getStatus(), ConnectionTestJobResponse.StatusEnum.COMPLETED);
+        assertTrue(job.getConnection());
+    }
+
+    @Test
+    public void testFailedConnection() {
+
+        jobManager = new RDBMSConnectionTestJobManager(RDBMSConnectionTestJobManagerTest::connect, 2, 5000, 60000);
+
+        ConnectionTestJobResponse job = jobManager.getJob(
+                jobManager.submit(buildRequest(UNKNOWN_DATABASE_URL)).getId(), WAIT_MILLIS);
+
+        assertEquals(job.getStatus(), ConnectionTestJobResponse.StatusEnum.COMPLETED);
+        assertFalse(job.getConnection());
+    }
+
+    @Test
+    public void testIdenticalTestsShareJob() {
+
+        AtomicInteger testCount = new AtomicInteger();
+        jobManager = new RDBMSConnectionTestJobManager(request -> {
+            testCount.incrementAndGet();
+            return connect(request);
+        }, 2, 5000, 60000);
+
+        String jobId = jobManager.submit(buildRequest(H2_URL)).getId();
+        jobManager.getJob(jobId, WAIT_MILLIS);
+        String reusedJobId = jobManager.submit(buildRequest(H2_URL)).getId();
+        String otherJobId = jobManager.submit(buildRequest(UNKNOWN_DATABASE_URL)).getId();
+        jobManager.getJob(otherJobId, WAIT_MILLIS);
+
+        assertEquals(reusedJobId, jobId);
+        assertNotEquals(otherJobId, jobId);
+        assertEquals(testCount.get(), 2);
+    }
+
+    @Test
+    public void testTimedOutConnection() {
+
+        jobManager = new RDBMSConnectionTestJobManager(request -> {
+            Thread.sleep(WAIT_MILLIS);
+            return connect(request);
+        }, 2, 200, 60000);
+
+        ConnectionTestJobResponse job = jobManager.getJob(jobManager.submit(buildRequest(H2_URL)).getId(),
+                WAIT_MILLIS);
+
+        assertEquals(job.getStatus(), ConnectionTestJobResponse.StatusEnum.TIMED_OUT);
+        assertFalse(job.getConnection());
+    }
+
+    @Test
+    public void testTimeoutStartsWhenTestRuns() {
+
+        // A single thread, hence the second test waits for the first one, which takes most of the timeout.
+        jobManager = new RDBMSConnectionTestJobManager(request -> {
+            Thread.sleep(700);
+            return connect(request);
+        }, 1, 1000, 60000);
+
+        String firstJobId = jobManager.submit(buildRequest(H2_URL)).getId();
+        String secondJobId = jobManager.submit(buildRequest(H2_URL + ";MODE=MySQL")).getId();
+
+        assertEquals(jobManager.getJob(firstJobId, WAIT_MILLIS).getStatus(),
+                ConnectionTestJobResponse.StatusEnum.COMPLETED);
+        ConnectionTestJobResponse secondJob = jobManager.getJob(secondJobId, WAIT_MILLIS);
+        assertEquals(secondJob.getStatus(), ConnectionTestJobResponse.StatusEnum.COMPLETED);
+        assertTrue(secondJob.getConnection());
+    }
+
+    @Test
+    public void testLoginTimeoutAppliedWhileTesting() {
+
+        int loginTimeout = DriverManager.getLoginTimeout();
+        jobManager = new RDBMSConnectionTestJobManager(request -> DriverManager.getLoginTimeout() == 3 &&
+                connect(request), 2, 3000, 60000);
+
+        ConnectionTestJobResponse job = jobManager.getJob(jobManager.submit(buildRequest(H2_URL)).getId(),
+                WAIT_MILLIS);
+
+        assertTrue(job.getConnection());
+        assertEquals(DriverManager.getLoginTimeout(), loginTimeout);
+    }
+
+    @Test
+    public void testUnknownJob() {
+
+        jobManager = new RDBMSConnectionTestJobManager(RDBMSConnectionTestJobManagerTest::connect, 2, 5000, 60000);
+
+        assertNull(jobManager.getJob("unknown-job", 0));
+    }
+
+    private static boolean connect(RDBMSConnectionReq request) throws Exception {
+
+        Class.forName(request.getDriverName());
+        try (Connection connection = DriverManager.getConnection(request.getConnectionURL(), request.getUsername(),
+                request.getConnectionPassword())) {
+            return connection.isValid(1);
+        }
+    }
+
+    private static RDBMSConnectionReq buildRequest(String connectionURL) {
+
+        return new RDBMSConnectionReq()
+                .domain("JDBC")
+                .driverName(H2_DRIVER)
+                .connectionURL(connectionURL)
+                .username(USERNAME)
+                .connectionPassword(PASSWORD);
+    }
+}
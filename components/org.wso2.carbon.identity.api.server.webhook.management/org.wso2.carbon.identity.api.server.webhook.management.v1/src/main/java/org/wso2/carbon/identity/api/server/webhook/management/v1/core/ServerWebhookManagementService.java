@@ -237,9 +237,9 @@ public class ServerWebhookManagementService {
         }
 
         response.setSelf(
-                ContextLoader.buildURIForBody(
+                ContextLoader.buildURLForBody(
                         String.format(V1_API_PATH_COMPONENT + WEBHOOK_PATH_COMPONENT + "/%s",
-                                webhook.getId())).toString());
+                                webhook.getId())));
 
         return response;
     }
@@ -156,9 +156,9 @@ public class ServerWebhookMetadataService {
         mappedMetadata.setName(eventProfile.getProfile());
         mappedMetadata.setUri(eventProfile.getUri());
         mappedMetadata.setSelf(
-                ContextLoader.buildURIForBody(
+                ContextLoader.buildURLForBody(
                         String.format(V1_API_PATH_COMPONENT + WEBHOOK_METADATA_PATH_COMPONENT +
-                                EVENT_PROFILE_PATH_COMPONENT + "/%s", eventProfile.getProfile())).toString());
+                                EVENT_PROFILE_PATH_COMPONENT + "/%s", eventProfile.getProfile())));
         return mappedMetadata;
     }
 